@@ -0,0 +1,9 @@
+package com.devsu.transaction.application.command;
+
+import java.math.BigDecimal;
+
+public record CreateTransferCommand(
+        String sourceAccountNumber,
+        String targetAccountNumber,
+        BigDecimal amount
+) {}
@@ -0,0 +1,6 @@
+package com.devsu.transaction.application.exception;
+
+/** Se lanza cuando se solicita una verificación del libro mayor mientras otra sigue en curso. */
+public class LedgerVerificationInProgressException extends RuntimeException {
+    public LedgerVerificationInProgressException(String message) { super(message); }
+}
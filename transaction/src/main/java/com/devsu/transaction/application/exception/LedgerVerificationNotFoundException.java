@@ -0,0 +1,6 @@
+package com.devsu.transaction.application.exception;
+
+/** Se lanza cuando aún no se ha ejecutado ninguna verificación del libro mayor. */
+public class LedgerVerificationNotFoundException extends RuntimeException {
+    public LedgerVerificationNotFoundException(String message) { super(message); }
+}
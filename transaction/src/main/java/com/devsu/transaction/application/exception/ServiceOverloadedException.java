@@ -0,0 +1,17 @@
+package com.devsu.transaction.application.exception;
+
+/**
+ * Se lanza cuando el control de admisión descarta la solicitud por falta de capacidad.
+ * Lleva el tiempo sugerido (segundos) para reintentar.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
@@ -0,0 +1,66 @@
+package com.devsu.transaction.application.jfr;
+
+import com.devsu.transaction.domain.model.account.Account;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.List;
+
+/**
+ * Evento JFR de la generación del estado de cuenta (/reportes).
+ * Separa el tiempo de la consulta al user-service (remoteCallDuration, incluida la revalidación de la caché)
+ * del tiempo de la consulta de cuentas y movimientos (queryDuration).
+ */
+@Name(AccountStatementReportEvent.NAME)
+@Label("Account Statement Report")
+@Category({"Devsu", "Transaction"})
+@Description("Estado de cuenta con número de cuentas y movimientos, tiempo remoto y de consulta")
+@StackTrace(false)
+public class AccountStatementReportEvent extends Event {
+
+    public static final String NAME = "com.devsu.transaction.AccountStatementReport";
+
+    @Label("Client Id")
+    String clientId;
+
+    @Label("Account Count")
+    int accountCount;
+
+    @Label("Movement Count")
+    int movementCount;
+
+    @Label("Remote Call Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long remoteCallDuration;
+
+    @Label("Query Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long queryDuration;
+
+    public void clientId(String clientId) {
+        this.clientId = clientId;
+    }
+
+    /** Marca de tiempo para medir un tramo; 0 si el evento no está habilitado. */
+    public long now() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    public void remoteCalled(long since) {
+        if (since != 0L) remoteCallDuration = System.nanoTime() - since;
+    }
+
+    public void loaded(long since, List<Account> accounts) {
+        if (since == 0L) return;
+        queryDuration = System.nanoTime() - since;
+        accountCount = accounts.size();
+        int movements = 0;
+        for (Account account : accounts) movements += account.getMovements().size();
+        movementCount = movements;
+    }
+}
@@ -0,0 +1,81 @@
+package com.devsu.transaction.application.jfr;
+
+import com.devsu.transaction.application.exception.AccountNotFoundException;
+import com.devsu.transaction.domain.exception.InactiveAccountException;
+import com.devsu.transaction.domain.exception.InsufficientFundsException;
+import com.devsu.transaction.domain.exception.InvalidAmountException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.math.BigDecimal;
+
+/**
+ * Evento JFR del registro de un movimiento (depósito o retiro).
+ * La duración del evento cubre el caso de uso sin el commit; persistenceDuration, el tramo de escritura
+ * (save + lectura del movimiento, o incrementos sobre los fragmentos del saldo).
+ * Sin una grabación activa begin/commit no hacen nada y now() no lee el reloj.
+ */
+@Name(MovementRegistrationEvent.NAME)
+@Label("Movement Registration")
+@Category({"Devsu", "Transaction"})
+@Description("Registro de un movimiento con cuenta, signo del monto, validación de saldo y tiempo de persistencia")
+@StackTrace(false)
+public class MovementRegistrationEvent extends Event {
+
+    public static final String NAME = "com.devsu.transaction.MovementRegistration";
+
+    public static final String PASSED = "PASSED";
+    public static final String INSUFFICIENT_FUNDS = "INSUFFICIENT_FUNDS";
+    public static final String REJECTED = "REJECTED";
+    public static final String FAILED = "FAILED";
+
+    @Label("Account Id")
+    long accountId;
+
+    @Label("Amount Sign")
+    @Description("1 depósito, -1 retiro")
+    int amountSign;
+
+    @Label("Sharded Balance")
+    boolean sharded;
+
+    @Label("Balance Check")
+    @Description("PASSED, INSUFFICIENT_FUNDS, REJECTED (cuenta inexistente/inactiva o monto inválido) o FAILED")
+    String balanceCheck;
+
+    @Label("Persistence Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long persistenceDuration;
+
+    public void account(Long accountId, BigDecimal amount, boolean sharded) {
+        this.accountId = accountId == null ? 0L : accountId;
+        this.amountSign = amount == null ? 0 : amount.signum();
+        this.sharded = sharded;
+    }
+
+    /** Marca de tiempo para medir la persistencia; 0 si el evento no está habilitado. */
+    public long now() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    public void persisted(long since) {
+        if (since != 0L) persistenceDuration = System.nanoTime() - since;
+    }
+
+    public void passed() {
+        balanceCheck = PASSED;
+    }
+
+    public void failed(RuntimeException e) {
+        if (e instanceof InsufficientFundsException) balanceCheck = INSUFFICIENT_FUNDS;
+        else if (e instanceof AccountNotFoundException
+                || e instanceof InactiveAccountException
+                || e instanceof InvalidAmountException) balanceCheck = REJECTED;
+        else balanceCheck = FAILED;
+    }
+}
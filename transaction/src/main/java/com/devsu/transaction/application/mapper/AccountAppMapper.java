@@ -23,7 +23,8 @@ public final class AccountAppMapper {
                 a.getClientId(),
                 currentBalance,
                 initialBalance,
-                a.isActive()
+                a.isActive(),
+                a.getBalanceShards()
         );
     }
 }
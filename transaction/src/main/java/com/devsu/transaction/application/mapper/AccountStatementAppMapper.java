@@ -0,0 +1,71 @@
+package com.devsu.transaction.application.mapper;
+
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.result.AccountStatementReport;
+import com.devsu.transaction.application.result.AccountStatementSummary;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.model.account.Movement;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Mapeos entre dominio y el reporte de estado de cuenta.
+ * No contiene lógica de negocio.
+ */
+public final class AccountStatementAppMapper {
+
+    private AccountStatementAppMapper() {}
+
+    // Se arma el reporte con el cliente, el rango [from, toExclusive) y las cuentas con sus movimientos en rango
+    public static AccountStatementReport toReport(ClientResponse client, Instant from, Instant toExclusive,
+                                                  List<Account> accounts) {
+        var clientInfo = toClient(client);
+
+        var accountItems = accounts.stream()
+                .map(a -> new AccountStatementReport.AccountItem(
+                        a.getAccountNumber(),
+                        a.getType().name(),
+                        new BigDecimal(a.getInitialBalance().toString()),
+                        new BigDecimal(a.getCurrentBalance().toString()),
+                        a.isActive(),
+                        a.getMovements().stream()
+                                .map(AccountStatementAppMapper::toMovementItem)
+                                .toList()
+                ))
+                .toList();
+
+        return new AccountStatementReport(
+                clientInfo,
+                from,
+                toExclusive.minusMillis(1),
+                accountItems
+        );
+    }
+
+    // Se arma el resumen con el cliente, el rango [from, toExclusive) y los agregados ya calculados por cuenta
+    public static AccountStatementSummary toSummary(ClientResponse client, Instant from, Instant toExclusive,
+                                                    List<AccountStatementSummary.AccountSummary> accounts) {
+        return new AccountStatementSummary(toClient(client), from, toExclusive.minusMillis(1), accounts);
+    }
+
+    private static AccountStatementReport.Client toClient(ClientResponse client) {
+        return new AccountStatementReport.Client(
+                client.firstName(),
+                client.lastName(),
+                client.identificationType(),
+                client.identificationNumber(),
+                client.status()
+        );
+    }
+
+    private static AccountStatementReport.MovementItem toMovementItem(Movement m) {
+        return new AccountStatementReport.MovementItem(
+                m.getHappenedAt(),
+                m.getType().name(),
+                new BigDecimal(m.getAmount().toString()),
+                new BigDecimal(m.getBalanceAfter().toString())
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.devsu.transaction.application.mapper;
+
+import com.devsu.transaction.application.result.LedgerVerificationResult;
+import com.devsu.transaction.domain.model.ledger.LedgerMismatch;
+import com.devsu.transaction.domain.model.ledger.LedgerVerificationRun;
+
+import java.util.List;
+
+/**
+ * Mapeos entre capa de aplicación y dominio para la verificación del libro mayor.
+ * No contiene lógica de negocio.
+ */
+public final class LedgerVerificationAppMapper {
+    private LedgerVerificationAppMapper() {}
+
+    public static LedgerVerificationResult toResult(LedgerVerificationRun run, List<LedgerMismatch> mismatches) {
+        return new LedgerVerificationResult(
+                run.id(),
+                run.status().name(),
+                run.lastAccountId(),
+                run.maxAccountId(),
+                run.accountsChecked(),
+                run.movementsChecked(),
+                run.mismatches(),
+                run.accountsPerSecond(),
+                run.movementsPerSecond(),
+                run.startedAt(),
+                run.finishedAt(),
+                run.error(),
+                mismatches.stream()
+                        .map(m -> new LedgerVerificationResult.Mismatch(
+                                m.accountId(), m.movementId(), m.kind().name(), m.expected(), m.actual()))
+                        .toList()
+        );
+    }
+}
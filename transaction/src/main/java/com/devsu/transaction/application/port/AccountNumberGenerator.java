@@ -1,5 +1,16 @@
 package com.devsu.transaction.application.port;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 public interface AccountNumberGenerator {
     String generate();
+
+    // Se generan varios números distintos entre sí (la unicidad global la garantiza la BD)
+    default List<String> generate(int count) {
+        Set<String> numbers = new LinkedHashSet<>(count);
+        while (numbers.size() < count) numbers.add(generate());
+        return List.copyOf(numbers);
+    }
 }
@@ -0,0 +1,11 @@
+package com.devsu.transaction.application.port;
+
+import com.devsu.transaction.application.result.AccountStatementSummary;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface AccountStatementQueryPort {
+    // Se retornan los agregados de movimientos en [from, to) y los saldos de apertura/cierre de cada cuenta del cliente
+    List<AccountStatementSummary.AccountSummary> summarizeByClientId(String clientId, Instant from, Instant to);
+}
@@ -0,0 +1,10 @@
+package com.devsu.transaction.application.port;
+
+import java.util.Optional;
+
+public interface ClientFeedCursorStore {
+    // Se obtiene el último cursor aplicado del feed de clientes (vacío: desde el inicio)
+    Optional<String> load();
+    // Se registra el cursor aplicado; debe ejecutarse dentro de la transacción que aplicó la página
+    void save(String cursor);
+}
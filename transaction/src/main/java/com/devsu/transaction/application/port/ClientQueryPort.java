@@ -2,6 +2,12 @@ package com.devsu.transaction.application.port;
 
 import com.devsu.transaction.application.dto.ClientResponse;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface ClientQueryPort {
     ClientResponse assertExists(String clientId);
+
+    // Se retorna el subconjunto de clientIds que existen en el servicio de clientes
+    Set<String> findExistingClientIds(Collection<String> clientIds);
 }
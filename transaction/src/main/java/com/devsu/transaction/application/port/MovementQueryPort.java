@@ -0,0 +1,12 @@
+package com.devsu.transaction.application.port;
+
+import com.devsu.transaction.application.result.MovementResult;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface MovementQueryPort {
+    // Se retornan los movimientos de la cuenta en [from, to) en orden cronológico; vacío si la cuenta no existe
+    Optional<List<MovementResult>> findByAccountNumberAndDateRange(String accountNumber, Instant from, Instant to);
+}
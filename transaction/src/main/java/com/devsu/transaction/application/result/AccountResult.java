@@ -9,5 +9,6 @@ public record AccountResult(
         String clientId,
         BigDecimal currentBalance,
         BigDecimal initialBalance,
-        boolean active
+        boolean active,
+        int balanceShards
 ) {}
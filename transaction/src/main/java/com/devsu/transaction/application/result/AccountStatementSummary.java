@@ -0,0 +1,29 @@
+package com.devsu.transaction.application.result;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Estado de cuenta resumido: agregados por cuenta en el rango, sin movimientos.
+ * Los retiros se reportan con signo negativo, como en los movimientos: netChange = depositTotal + withdrawalTotal.
+ */
+public record AccountStatementSummary(
+        AccountStatementReport.Client client,
+        Instant from,
+        Instant to,
+        List<AccountSummary> accounts
+) {
+    public record AccountSummary(
+            String accountNumber,
+            String accountType,
+            boolean active,
+            BigDecimal openingBalance,
+            BigDecimal closingBalance,
+            BigDecimal depositTotal,
+            long depositCount,
+            BigDecimal withdrawalTotal,
+            long withdrawalCount,
+            BigDecimal netChange
+    ) {}
+}
@@ -0,0 +1,22 @@
+package com.devsu.transaction.application.result;
+
+import java.util.List;
+
+/**
+ * Resultado de la creación masiva de cuentas: un ítem por cada cuenta solicitada, en el mismo orden.
+ */
+public record BatchCreateAccountsResult(
+        int created,
+        int failed,
+        List<Item> items
+) {
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    public record Item(
+            int index,
+            String status,
+            AccountResult account,
+            String error
+    ) {}
+}
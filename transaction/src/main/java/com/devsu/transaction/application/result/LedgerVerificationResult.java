@@ -0,0 +1,32 @@
+package com.devsu.transaction.application.result;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Estado de una corrida de verificación del libro mayor, con su throughput y una muestra de inconsistencias.
+ */
+public record LedgerVerificationResult(
+        Long runId,
+        String status,
+        long lastAccountId,
+        long maxAccountId,
+        long accountsChecked,
+        long movementsChecked,
+        long mismatches,
+        double accountsPerSecond,
+        double movementsPerSecond,
+        Instant startedAt,
+        Instant finishedAt,
+        String error,
+        List<Mismatch> sampleMismatches
+) {
+    public record Mismatch(
+            long accountId,
+            Long movementId,
+            String kind,
+            BigDecimal expected,
+            BigDecimal actual
+    ) {}
+}
@@ -0,0 +1,12 @@
+package com.devsu.transaction.application.result;
+
+import java.math.BigDecimal;
+
+/** Resultado de una transferencia: un movimiento de débito y uno de crédito. */
+public record TransferResult(
+        String sourceAccountNumber,
+        String targetAccountNumber,
+        BigDecimal amount,
+        MovementResult debit,
+        MovementResult credit
+) {}
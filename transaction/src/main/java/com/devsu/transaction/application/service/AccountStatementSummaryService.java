@@ -0,0 +1,37 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.exception.DateReportException;
+import com.devsu.transaction.application.mapper.AccountStatementAppMapper;
+import com.devsu.transaction.application.port.AccountStatementQueryPort;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.result.AccountStatementSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+@Service
+@RequiredArgsConstructor
+public class AccountStatementSummaryService {
+
+    private final AccountStatementQueryPort accountStatementQueryPort;
+    private final ClientQueryPort clientQueryPort; // caché local revalidada con ETag
+
+    @Transactional(readOnly = true)
+    public AccountStatementSummary execute(String clientId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) throw new DateReportException("la fecha 'Desde' no puede ser posterior a 'Hasta'");
+
+        Instant fromTs = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant toExclusive = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        var clientDto = clientQueryPort.assertExists(clientId);
+
+        // Se agregan los movimientos en la BD: el costo no depende de cuántos haya en el rango para la respuesta
+        var accounts = accountStatementQueryPort.summarizeByClientId(clientId, fromTs, toExclusive);
+
+        return AccountStatementAppMapper.toSummary(clientDto, fromTs, toExclusive, accounts);
+    }
+}
@@ -0,0 +1,113 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.command.CreateAccountCommand;
+import com.devsu.transaction.application.mapper.AccountAppMapper;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.result.BatchCreateAccountsResult;
+import com.devsu.transaction.application.result.BatchCreateAccountsResult.Item;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.model.account.AccountType;
+import com.devsu.transaction.domain.model.money.Money;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Servicio de aplicación para crear muchas cuentas en una sola solicitud.
+ * - Se verifican los clientIds distintos con una sola consulta al servicio de clientes.
+ * - Se asignan los números de cuenta en bloque y se insertan en lote.
+ * - Los errores se reportan por ítem sin abortar el resto del lote.
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchCreateAccountsService {
+
+    // Reintentos ante colisión de número de cuenta con cuentas existentes
+    private static final int MAX_NUMBER_ATTEMPTS = 3;
+
+    private final AccountRepository accountRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final ClientQueryPort clientQueryPort;
+
+    @Transactional
+    public BatchCreateAccountsResult execute(List<CreateAccountCommand> commands) {
+        Item[] items = new Item[commands.size()];
+
+        Set<String> clientIds = new LinkedHashSet<>();
+        for (CreateAccountCommand cmd : commands) {
+            if (cmd != null && cmd.clientId() != null && !cmd.clientId().isBlank()) clientIds.add(cmd.clientId());
+        }
+        Set<String> existingClients = clientIds.isEmpty() ? Set.of() : clientQueryPort.findExistingClientIds(clientIds);
+
+        // Se validan los ítems; los válidos quedan pendientes de número e inserción
+        Map<Integer, CreateAccountCommand> pending = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            String error = validate(commands.get(i), existingClients);
+            if (error != null) items[i] = failed(i, error);
+            else pending.put(i, commands.get(i));
+        }
+
+        for (int attempt = 0; attempt < MAX_NUMBER_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            Iterator<String> numbers = accountNumberGenerator.generate(pending.size()).iterator();
+            Map<String, Integer> indexByNumber = new HashMap<>();
+            List<Account> toSave = new ArrayList<>(pending.size());
+            for (Map.Entry<Integer, CreateAccountCommand> e : pending.entrySet()) {
+                Account account = toAccount(numbers.next(), e.getValue());
+                indexByNumber.put(account.getAccountNumber(), e.getKey());
+                toSave.add(account);
+            }
+
+            // Las que colisionan por número no se insertan y se reintentan con otro número
+            for (Account saved : accountRepository.saveAllNew(toSave)) {
+                int index = indexByNumber.get(saved.getAccountNumber());
+                items[index] = new Item(index, BatchCreateAccountsResult.CREATED, AccountAppMapper.toResult(saved), null);
+                pending.remove(index);
+            }
+        }
+        pending.keySet().forEach(i -> items[i] = failed(i, "Could not allocate a unique account number"));
+
+        List<Item> result = Arrays.asList(items);
+        int created = (int) result.stream().filter(it -> BatchCreateAccountsResult.CREATED.equals(it.status())).count();
+        return new BatchCreateAccountsResult(created, result.size() - created, result);
+    }
+
+    // Se aplican las mismas reglas que en la creación individual; retorna null si el ítem es válido
+    private static String validate(CreateAccountCommand cmd, Set<String> existingClients) {
+        if (cmd == null) return "Account is required";
+        if (cmd.clientId() == null || cmd.clientId().isBlank()) return "clientId es obligatorio";
+        if (!existingClients.contains(cmd.clientId())) return "Client not found: " + cmd.clientId();
+        if (cmd.initialBalance() == null) return "Balance inicial es obligatorio";
+        try {
+            toAccount("0", cmd);
+            return null;
+        } catch (RuntimeException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private static Account toAccount(String accountNumber, CreateAccountCommand cmd) {
+        return Account.create(
+                accountNumber,
+                toType(cmd.accountType()),
+                Money.of(cmd.initialBalance()),
+                cmd.clientId()
+        );
+    }
+
+    private static AccountType toType(String accountType) {
+        if (accountType == null) throw new IllegalArgumentException("Tipo de cuenta es obligatorio");
+        try {
+            return AccountType.valueOf(accountType.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Tipo de cuenta no válido. Valores: AHORROS o CORRIENTE");
+        }
+    }
+
+    private static Item failed(int index, String error) {
+        return new Item(index, BatchCreateAccountsResult.FAILED, null, error);
+    }
+}
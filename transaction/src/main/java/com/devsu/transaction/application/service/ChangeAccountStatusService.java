@@ -9,12 +9,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-
 /**
  * Servicio de aplicación para cambiar el estado (activo/inactivo) de una cuenta.
  * - Busca la cuenta por número.
  * - Aplica activación/desactivación de forma idempotente.
+ * - Solo se escribe la columna active: un movimiento concurrente no pierde su saldo.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,9 +28,9 @@ public class ChangeAccountStatusService {
 
         // Idempotencia: solo cambia si es necesario
         if (account.isActive() != active) {
+            accountRepository.updateActive(account.getId(), active);
             if (active) account.activate();
             else account.deactivate();
-            account = accountRepository.save(account);
         }
 
         return AccountAppMapper.toResult(account);
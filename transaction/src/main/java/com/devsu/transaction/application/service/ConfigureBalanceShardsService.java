@@ -0,0 +1,38 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.exception.AccountNotFoundException;
+import com.devsu.transaction.application.mapper.AccountAppMapper;
+import com.devsu.transaction.application.result.AccountResult;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.repository.AccountBalanceShardRepository;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio de aplicación para activar/ajustar el saldo fragmentado de una cuenta.
+ * - shards = 0 devuelve el saldo a la fila de la cuenta.
+ * - shards = N consolida el saldo y lo reparte en N fragmentos.
+ * Es idempotente: si la cuenta ya tiene N fragmentos no se modifica.
+ */
+@Service
+@RequiredArgsConstructor
+public class ConfigureBalanceShardsService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceShardRepository balanceShardRepository;
+
+    @Transactional
+    public AccountResult execute(String accountNumber, int shards) {
+        if (shards < 0 || shards > Account.MAX_BALANCE_SHARDS)
+            throw new IllegalArgumentException("shards must be between 0 and " + Account.MAX_BALANCE_SHARDS);
+
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+
+        if (account.getBalanceShards() == shards) return AccountAppMapper.toResult(account);
+
+        return AccountAppMapper.toResult(balanceShardRepository.reshard(account.getId(), shards));
+    }
+}
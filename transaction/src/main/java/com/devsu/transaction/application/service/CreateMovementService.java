@@ -2,9 +2,10 @@ package com.devsu.transaction.application.service;
 
 import com.devsu.transaction.application.command.CreateMovementCommand;
 import com.devsu.transaction.application.exception.AccountNotFoundException;
-import com.devsu.transaction.application.exception.MovementNotFoundException;
+import com.devsu.transaction.application.jfr.MovementRegistrationEvent;
 import com.devsu.transaction.application.mapper.MovementAppMapper;
 import com.devsu.transaction.application.result.MovementResult;
+import com.devsu.transaction.domain.exception.BalanceShardsChangedException;
 import com.devsu.transaction.domain.model.account.Account;
 import com.devsu.transaction.domain.model.account.Movement;
 import com.devsu.transaction.domain.repository.AccountRepository;
@@ -12,30 +13,63 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * Servicio de aplicación para registrar movimientos (depósito/retiro).
+ * - Saldo en la cuenta: se bloquea la fila (como en las transferencias) y se persisten el saldo y el
+ *   movimiento en un solo round trip, sin reescribir el resto de la cuenta (estado, fragmentos).
+ * - Saldo fragmentado: se lee la cuenta sin bloquear y el registro lo resuelven los fragmentos.
  */
 @Service
 @RequiredArgsConstructor
 public class CreateMovementService {
 
     private final AccountRepository accountRepository;
+    private final ShardedMovementService shardedMovementService;
 
     @Transactional
     public MovementResult execute(CreateMovementCommand cmd) {
-        // Se localiza la cuenta; si no existe se lanza excepción técnica
-        Account account = accountRepository.findByAccountNumber(cmd.accountNumber())
-                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + cmd.accountNumber()));
+        // Evento JFR con el contexto del movimiento; sin grabación activa no tiene costo
+        MovementRegistrationEvent event = new MovementRegistrationEvent();
+        event.begin();
+        try {
+            Optional<Account> locked = accountRepository.lockUnshardedByAccountNumber(cmd.accountNumber());
+            if (locked.isPresent()) {
+                Account account = locked.get();
+                event.account(account.getId(), cmd.amount(), false);
+
+                // La validación de fondos y de estado se hace sobre la versión vigente y bloqueada
+                String uuid = account.registerMovement(cmd.amount());
 
-        String uuid = account.registerMovement(cmd.amount());
+                long started = event.now();
+                Movement movement = accountRepository.saveMovementLeg(account, uuid);
+                event.persisted(started);
+                event.passed();
+                return MovementAppMapper.toResult(account, movement);
+            }
 
-        // Se persiste el agregado completo; JPA insertará los movimientos nuevos
-        Account persisted = accountRepository.save(account);
+            // No hay cuenta sin fragmentar con ese número: no existe o su saldo está fragmentado
+            Account account = accountRepository.findByAccountNumber(cmd.accountNumber())
+                    .orElseThrow(() -> new AccountNotFoundException("Account not found: " + cmd.accountNumber()));
+            event.account(account.getId(), cmd.amount(), account.isBalanceSharded());
 
-        // Se toma el último movimiento (por orden cronológico) ya con ID asignado
-        Movement last = accountRepository.findMovementByAccountIdAndUuid(persisted.getId(), uuid)
-                .orElseThrow(() -> new MovementNotFoundException("Movement not found: " + uuid));
+            // Se des-fragmentó entre las dos lecturas: el cliente reintenta
+            if (!account.isBalanceSharded())
+                throw new BalanceShardsChangedException("Balance shards changed concurrently, retry the movement");
 
-        return MovementAppMapper.toResult(persisted, last);
+            // Cuentas de alta concurrencia: el saldo vive en fragmentos y no se reescribe la cuenta.
+            // La validación de fondos la resuelven los fragmentos, dentro del tramo de persistencia.
+            long started = event.now();
+            MovementResult result = shardedMovementService.execute(account, cmd.amount());
+            event.persisted(started);
+            event.passed();
+            return result;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.commit();
+        }
     }
 }
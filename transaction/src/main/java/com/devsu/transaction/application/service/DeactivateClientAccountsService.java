@@ -0,0 +1,36 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.port.ClientFeedCursorStore;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Servicio de aplicación que inactiva las cuentas de los clientes dados de baja en el user-service.
+ * - Una sola sentencia UPDATE por página del feed (sin leer ni guardar cuenta por cuenta).
+ * - Idempotente: solo toca cuentas aún activas, así que reprocesar una página no tiene efecto.
+ * - El cursor del feed se registra en la misma transacción que la inactivación.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeactivateClientAccountsService {
+
+    private final AccountRepository accountRepository;
+    private final ClientFeedCursorStore cursorStore;
+
+    @Transactional
+    public int execute(Collection<String> clientIds, String feedCursor) {
+        int deactivated = clientIds.isEmpty() ? 0 : accountRepository.deactivateAllByClientIds(clientIds);
+        if (feedCursor != null) cursorStore.save(feedCursor);
+        return deactivated;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> lastFeedCursor() {
+        return cursorStore.load();
+    }
+}
@@ -0,0 +1,30 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.exception.LedgerVerificationNotFoundException;
+import com.devsu.transaction.application.mapper.LedgerVerificationAppMapper;
+import com.devsu.transaction.application.result.LedgerVerificationResult;
+import com.devsu.transaction.domain.model.ledger.LedgerVerificationRun;
+import com.devsu.transaction.domain.repository.LedgerVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio de aplicación para consultar el estado de la última verificación del libro mayor.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetLedgerVerificationService {
+
+    // Se limita la muestra de inconsistencias incluida en la respuesta
+    private static final int SAMPLE_MISMATCHES = 100;
+
+    private final LedgerVerificationRepository repository;
+
+    @Transactional(readOnly = true)
+    public LedgerVerificationResult execute() {
+        LedgerVerificationRun run = repository.findLatestRun()
+                .orElseThrow(() -> new LedgerVerificationNotFoundException("No ledger verification has been run yet"));
+        return LedgerVerificationAppMapper.toResult(run, repository.findMismatches(run.id(), SAMPLE_MISMATCHES));
+    }
+}
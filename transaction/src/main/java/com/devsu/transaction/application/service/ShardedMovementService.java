@@ -0,0 +1,60 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.mapper.MovementAppMapper;
+import com.devsu.transaction.application.result.MovementResult;
+import com.devsu.transaction.domain.exception.BalanceShardsChangedException;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.model.account.Movement;
+import com.devsu.transaction.domain.model.account.ShardedBalance;
+import com.devsu.transaction.domain.model.money.Money;
+import com.devsu.transaction.domain.repository.AccountBalanceShardRepository;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Servicio de aplicación que registra movimientos sobre cuentas con saldo fragmentado.
+ * - Depósitos: se suman a un fragmento aleatorio sin bloquear la fila de la cuenta.
+ * - Retiros: se intenta descontar de un fragmento; si no alcanza, se bloquean todos los
+ *   fragmentos y se toma prestado de los demás validando el saldo agregado.
+ */
+@Service
+@RequiredArgsConstructor
+public class ShardedMovementService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceShardRepository balanceShardRepository;
+
+    @Transactional
+    public MovementResult execute(Account account, BigDecimal amount) {
+        Money delta = account.prepareShardedMovement(amount);
+        int shardNo = ThreadLocalRandom.current().nextInt(account.getBalanceShards());
+
+        // Camino rápido: un solo fragmento y un solo round trip
+        Money balanceAfter = balanceShardRepository.applyToShard(account.getId(), shardNo, delta)
+                .orElseGet(() -> borrowAcrossShards(account.getId(), delta, shardNo));
+
+        String uuid = account.recordShardedMovement(delta, balanceAfter);
+
+        // Solo se inserta el movimiento; la fila de la cuenta no se toca
+        Movement movement = accountRepository.appendMovement(account, uuid);
+        return MovementAppMapper.toResult(account, movement);
+    }
+
+    private Money borrowAcrossShards(Long accountId, Money delta, int startShard) {
+        // Un depósito solo falla si el fragmento dejó de existir (re-fragmentación concurrente)
+        if (!delta.isNegative())
+            throw new BalanceShardsChangedException("Balance shards changed concurrently, retry the movement");
+
+        Money amount = delta.negate();
+        ShardedBalance shards = balanceShardRepository.lockShards(accountId);
+        List<Money> debits = shards.planWithdrawal(amount, startShard);
+        balanceShardRepository.debitShards(accountId, debits);
+        return shards.total().subtract(amount);
+    }
+}
@@ -0,0 +1,146 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.exception.LedgerVerificationInProgressException;
+import com.devsu.transaction.application.mapper.LedgerVerificationAppMapper;
+import com.devsu.transaction.application.result.LedgerVerificationResult;
+import com.devsu.transaction.domain.model.ledger.LedgerRangeReport;
+import com.devsu.transaction.domain.model.ledger.LedgerVerificationRun;
+import com.devsu.transaction.domain.repository.LedgerVerificationRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Servicio de aplicación que lanza la verificación de integridad del libro mayor en segundo plano.
+ * - Se recorren las cuentas por rangos de id; cada tanda verifica {@code parallelism} rangos en hilos virtuales.
+ * - Tras cada tanda se persiste el checkpoint, de modo que una corrida interrumpida se reanuda donde quedó.
+ * - Se limita el ritmo a {@code max-accounts-per-second} para convivir con el tráfico de producción.
+ */
+@Service
+public class StartLedgerVerificationService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final LedgerVerificationRepository repository;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxAccountsPerSecond;
+
+    // Una sola corrida a la vez por instancia
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Thread coordinator;
+
+    public StartLedgerVerificationService(
+            LedgerVerificationRepository repository,
+            @Value("${ledger.verification.chunk-size:1000}") int chunkSize,
+            @Value("${ledger.verification.parallelism:4}") int parallelism,
+            @Value("${ledger.verification.max-accounts-per-second:20000}") int maxAccountsPerSecond) {
+        if (chunkSize <= 0 || parallelism <= 0 || maxAccountsPerSecond <= 0)
+            throw new IllegalArgumentException("ledger.verification.* must be > 0");
+        this.repository = repository;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxAccountsPerSecond = maxAccountsPerSecond;
+    }
+
+    /**
+     * Inicia la verificación. Si la última corrida quedó sin terminar se reanuda desde su checkpoint,
+     * salvo que se pida reiniciar.
+     */
+    public LedgerVerificationResult execute(boolean restart) {
+        if (!running.compareAndSet(false, true))
+            throw new LedgerVerificationInProgressException("Ya hay una verificación del libro mayor en curso");
+        try {
+            LedgerVerificationRun run = restart ? newRun() : repository.findLatestRun()
+                    .filter(r -> !r.isFinished())
+                    .map(r -> repository.resumeRun(r.id()))
+                    .orElseGet(this::newRun);
+
+            coordinator = Thread.ofVirtual().name("ledger-verifier-" + run.id()).start(() -> {
+                try {
+                    verify(run);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return LedgerVerificationAppMapper.toResult(run, List.of());
+        } catch (RuntimeException ex) {
+            running.set(false);
+            throw ex;
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // Se interrumpe la corrida en curso al apagar la aplicación; queda INTERRUPTED y reanudable
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        Thread current = coordinator;
+        if (current != null && current.isAlive()) {
+            current.interrupt();
+            current.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private LedgerVerificationRun newRun() {
+        return repository.createRun(repository.findMaxAccountId());
+    }
+
+    void verify(LedgerVerificationRun run) {
+        long cursor = run.lastAccountId();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (cursor < run.maxAccountId()) {
+                long waveStart = System.nanoTime();
+
+                // Se reparte la tanda en rangos contiguos (from, to] que se verifican en paralelo
+                List<Future<LedgerRangeReport>> ranges = new ArrayList<>(parallelism);
+                long from = cursor;
+                for (int i = 0; i < parallelism && from < run.maxAccountId(); i++) {
+                    long lo = from;
+                    long hi = Math.min(from + chunkSize, run.maxAccountId());
+                    ranges.add(pool.submit(() -> repository.verifyRange(lo, hi)));
+                    from = hi;
+                }
+
+                LedgerRangeReport wave = LedgerRangeReport.EMPTY;
+                for (Future<LedgerRangeReport> range : ranges) wave = wave.merge(range.get());
+
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waveStart);
+                repository.saveProgress(run.id(), from, wave, elapsedMillis);
+                cursor = from;
+
+                throttle(wave.accounts(), elapsedMillis);
+            }
+            repository.finishRun(run.id(), LedgerVerificationRun.Status.COMPLETED, null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            repository.finishRun(run.id(), LedgerVerificationRun.Status.INTERRUPTED, null);
+        } catch (ExecutionException ex) {
+            repository.finishRun(run.id(), LedgerVerificationRun.Status.FAILED, errorMessage(ex.getCause()));
+        } catch (RuntimeException ex) {
+            repository.finishRun(run.id(), LedgerVerificationRun.Status.FAILED, errorMessage(ex));
+        }
+    }
+
+    // Se pausa lo necesario para no superar el ritmo máximo de cuentas por segundo
+    private void throttle(long accounts, long elapsedMillis) throws InterruptedException {
+        long minMillis = accounts * 1000 / maxAccountsPerSecond;
+        if (elapsedMillis < minMillis) Thread.sleep(minMillis - elapsedMillis);
+    }
+
+    private static String errorMessage(Throwable ex) {
+        String message = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,72 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.command.CreateTransferCommand;
+import com.devsu.transaction.application.exception.AccountNotFoundException;
+import com.devsu.transaction.application.mapper.MovementAppMapper;
+import com.devsu.transaction.application.result.MovementResult;
+import com.devsu.transaction.application.result.TransferResult;
+import com.devsu.transaction.domain.exception.InvalidAmountException;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.model.account.Movement;
+import com.devsu.transaction.domain.model.money.Money;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de aplicación para transferir dinero entre dos cuentas en una sola transacción.
+ * - Ambas cuentas se bloquean en una consulta, siempre en orden de id, por lo que
+ *   transferencias cruzadas (A->B y B->A) no pueden generar deadlock.
+ * - Cada pata (débito/crédito) se persiste en un solo round trip.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransferService {
+
+    private final AccountRepository accountRepository;
+    private final ShardedMovementService shardedMovementService;
+
+    @Transactional
+    public TransferResult execute(CreateTransferCommand cmd) {
+        if (cmd.sourceAccountNumber().equals(cmd.targetAccountNumber()))
+            throw new IllegalArgumentException("Source and target accounts must be different");
+        if (cmd.amount() == null || cmd.amount().signum() <= 0)
+            throw new InvalidAmountException("El monto de la transferencia debe ser mayor que cero");
+
+        Map<String, Account> locked = accountRepository
+                .lockByAccountNumbers(List.of(cmd.sourceAccountNumber(), cmd.targetAccountNumber()))
+                .stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        Account source = require(locked, cmd.sourceAccountNumber());
+        Account target = require(locked, cmd.targetAccountNumber());
+        BigDecimal amount = Money.of(cmd.amount()).value();
+
+        // Cualquier rechazo del dominio (fondos, cuenta inactiva) revierte ambas patas
+        MovementResult debit = registerLeg(source, amount.negate());
+        MovementResult credit = registerLeg(target, amount);
+
+        return new TransferResult(source.getAccountNumber(), target.getAccountNumber(), amount, debit, credit);
+    }
+
+    private MovementResult registerLeg(Account account, BigDecimal delta) {
+        if (account.isBalanceSharded()) return shardedMovementService.execute(account, delta);
+
+        String uuid = account.registerMovement(delta);
+        Movement movement = accountRepository.saveMovementLeg(account, uuid);
+        return MovementAppMapper.toResult(account, movement);
+    }
+
+    private static Account require(Map<String, Account> accounts, String accountNumber) {
+        Account account = accounts.get(accountNumber);
+        if (account == null) throw new AccountNotFoundException("Account not found: " + accountNumber);
+        return account;
+    }
+}
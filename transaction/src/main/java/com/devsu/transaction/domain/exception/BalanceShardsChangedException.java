@@ -0,0 +1,6 @@
+package com.devsu.transaction.domain.exception;
+
+/** Se lanza cuando la cuenta se re-fragmenta mientras se registra un movimiento; el cliente debe reintentar. */
+public class BalanceShardsChangedException extends RuntimeException {
+    public BalanceShardsChangedException(String message) { super(message); }
+}
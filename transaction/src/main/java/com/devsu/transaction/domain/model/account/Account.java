@@ -18,6 +18,9 @@ import java.util.Objects;
  * Mantiene el saldo actual y referencia al cliente propietario.
  */
 public class Account {
+    // Se limita la cantidad de fragmentos de saldo por cuenta
+    public static final int MAX_BALANCE_SHARDS = 64;
+
     private final Long id;
     private final String accountNumber;
     private final AccountType type;
@@ -26,11 +29,14 @@ public class Account {
     private final String clientId;
     private Money currentBalance;
     private final Instant createdAt;
+    // 0 = saldo en la fila de la cuenta; N > 0 = saldo repartido en N fragmentos
+    private final int balanceShards;
 
     private final List<Movement> movements;
 
     private Account(Long id, String accountNumber, AccountType type, Money initialBalance,
-                    boolean active, String clientId, Instant createdAt, List<Movement> movements, Money currentBalance) {
+                    boolean active, String clientId, Instant createdAt, List<Movement> movements,
+                    Money currentBalance, int balanceShards) {
         this.id = id;
         this.type = Objects.requireNonNull(type, "type");
         this.active = active;
@@ -49,6 +55,10 @@ public class Account {
         this.currentBalance = Objects.requireNonNull(currentBalance, "currentBalance");
         if (this.currentBalance.isNegative())
             throw new InvalidAmountException("currentBalance must be >= 0");
+
+        if (balanceShards < 0 || balanceShards > MAX_BALANCE_SHARDS)
+            throw new IllegalArgumentException("balanceShards must be between 0 and " + MAX_BALANCE_SHARDS);
+        this.balanceShards = balanceShards;
     }
 
     // ===== Fábricas =====
@@ -56,15 +66,25 @@ public class Account {
     public static Account create(String accountNumber, AccountType type,
                                  Money initialBalance, String clientId) {
         return new Account(null, accountNumber, type, initialBalance, true,
-                clientId, Instant.now(), List.of(), initialBalance);
+                clientId, Instant.now(), List.of(), initialBalance, 0);
     }
 
     //Account obtenido desde BD
     public static Account fromPersistence(Long id, String accountNumber, AccountType type,
                                           Money initialBalance, String clientId, Instant createdAt,
                                           boolean active, List<Movement> movements, Money currentBalance) {
+        return fromPersistence(id, accountNumber, type, initialBalance, clientId, createdAt,
+                active, movements, currentBalance, 0);
+    }
+
+    //Account obtenido desde BD indicando la cantidad de fragmentos de saldo
+    public static Account fromPersistence(Long id, String accountNumber, AccountType type,
+                                          Money initialBalance, String clientId, Instant createdAt,
+                                          boolean active, List<Movement> movements, Money currentBalance,
+                                          int balanceShards) {
         if (id == null) throw new IllegalArgumentException("id is required");
-        return new Account(id, accountNumber, type, initialBalance, active, clientId, createdAt, movements, currentBalance);
+        return new Account(id, accountNumber, type, initialBalance, active, clientId, createdAt,
+                movements, currentBalance, balanceShards);
     }
 
     // ===== Lógica de Negocio =====
@@ -72,12 +92,9 @@ public class Account {
      * Registra movimientos
      */
     public String registerMovement(BigDecimal amount) {
-        if (this.id == null)
-            throw new AccountNotPersistedException("No se pueden registrar movimientos en una cuenta sin ID");
-        requireActive();
-
-        Money delta = Money.of(amount);
-        if (delta.isZero()) throw new InvalidAmountException("El monto del movimiento debe ser diferente de cero");
+        if (isBalanceSharded())
+            throw new IllegalStateException("La cuenta tiene saldo fragmentado; el movimiento debe registrarse por fragmentos");
+        Money delta = validatedDelta(amount);
 
         MovementType type;
         Money newBalance;
@@ -99,6 +116,44 @@ public class Account {
         return movement.getUuid();
     }
 
+    /**
+     * Valida un movimiento sobre una cuenta con saldo fragmentado y retorna el delta normalizado.
+     * La verificación de fondos la resuelven los fragmentos (ver ShardedBalance).
+     */
+    public Money prepareShardedMovement(BigDecimal amount) {
+        requireSharded();
+        return validatedDelta(amount);
+    }
+
+    /**
+     * Registra el movimiento ya aplicado sobre los fragmentos.
+     * El saldo resultante es el agregado observado tras aplicar el delta.
+     */
+    public String recordShardedMovement(Money delta, Money balanceAfter) {
+        requireSharded();
+        MovementType type = delta.isNegative() ? MovementType.WITHDRAWAL : MovementType.DEPOSIT;
+        this.currentBalance = balanceAfter;
+
+        Movement movement = Movement.create(type, delta, balanceAfter);
+        this.movements.add(movement);
+        return movement.getUuid();
+    }
+
+    // Se aplican las reglas comunes a cualquier movimiento y se normaliza el monto
+    private Money validatedDelta(BigDecimal amount) {
+        if (this.id == null)
+            throw new AccountNotPersistedException("No se pueden registrar movimientos en una cuenta sin ID");
+        requireActive();
+
+        Money delta = Money.of(amount);
+        if (delta.isZero()) throw new InvalidAmountException("El monto del movimiento debe ser diferente de cero");
+        return delta;
+    }
+
+    private void requireSharded() {
+        if (!isBalanceSharded()) throw new IllegalStateException("La cuenta no tiene saldo fragmentado");
+    }
+
     private void requireActive() {
         if (!this.active) throw new InactiveAccountException("La cuenta está inactiva");
     }
@@ -117,6 +172,8 @@ public class Account {
     public String getClientId() { return clientId; }
     public Money getCurrentBalance() { return currentBalance; }
     public Instant getCreatedAt() { return createdAt; }
+    public int getBalanceShards() { return balanceShards; }
+    public boolean isBalanceSharded() { return balanceShards > 0; }
     //Se expone una vista inmutable del historial para lectura.
     public List<Movement> getMovements() {
         return Collections.unmodifiableList(movements);
@@ -0,0 +1,70 @@
+package com.devsu.transaction.domain.model.account;
+
+import com.devsu.transaction.domain.exception.InsufficientFundsException;
+import com.devsu.transaction.domain.model.money.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Value Object con los saldos parciales (fragmentos) de una cuenta de alta concurrencia.
+ * El saldo de la cuenta es siempre la suma de sus fragmentos.
+ */
+public final class ShardedBalance {
+
+    private static final Money ZERO = Money.of(BigDecimal.ZERO);
+
+    // Saldos ordenados por número de fragmento
+    private final List<Money> shards;
+
+    private ShardedBalance(List<Money> shards) {
+        this.shards = shards;
+    }
+
+    // Se crea el VO a partir de los saldos ordenados por número de fragmento
+    public static ShardedBalance of(List<Money> shards) {
+        Objects.requireNonNull(shards, "shards");
+        if (shards.isEmpty()) throw new IllegalArgumentException("shards must not be empty");
+        if (shards.stream().anyMatch(Money::isNegative))
+            throw new IllegalArgumentException("shard balances must be >= 0");
+        return new ShardedBalance(List.copyOf(shards));
+    }
+
+    // Se retorna el saldo agregado
+    public Money total() {
+        Money total = ZERO;
+        for (Money shard : shards) total = total.add(shard);
+        return total;
+    }
+
+    public int size() { return shards.size(); }
+
+    public Money shard(int shardNo) { return shards.get(shardNo); }
+
+    /**
+     * Se reparte un retiro entre fragmentos: se empieza por startShard y se toma prestado
+     * de los siguientes hasta cubrir el monto. Retorna el débito (positivo o cero) por fragmento.
+     */
+    public List<Money> planWithdrawal(Money amount, int startShard) {
+        if (!amount.isPositive()) throw new IllegalArgumentException("amount must be > 0");
+        if (!total().gte(amount)) throw new InsufficientFundsException("Fondos insuficientes");
+
+        int n = shards.size();
+        List<Money> debits = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) debits.add(ZERO);
+
+        Money pending = amount;
+        for (int i = 0; i < n && pending.isPositive(); i++) {
+            int shardNo = Math.floorMod(startShard + i, n);
+            Money available = shards.get(shardNo);
+            if (!available.isPositive()) continue;
+
+            Money debit = available.gte(pending) ? pending : available;
+            debits.set(shardNo, debit);
+            pending = pending.subtract(debit);
+        }
+        return List.copyOf(debits);
+    }
+}
@@ -0,0 +1,18 @@
+package com.devsu.transaction.domain.model.ledger;
+
+import java.math.BigDecimal;
+
+/**
+ * Inconsistencia detectada en el libro mayor de una cuenta.
+ * - BALANCE: initial_balance + Σamount no coincide con el saldo vigente (movementId nulo).
+ * - CHAIN: el primer movimiento cuyo balance_after no coincide con el saldo acumulado.
+ */
+public record LedgerMismatch(
+        long accountId,
+        Long movementId,
+        Kind kind,
+        BigDecimal expected,
+        BigDecimal actual
+) {
+    public enum Kind { BALANCE, CHAIN }
+}
@@ -0,0 +1,27 @@
+package com.devsu.transaction.domain.model.ledger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de verificar un rango de cuentas: cantidades verificadas e inconsistencias encontradas.
+ */
+public record LedgerRangeReport(
+        long accounts,
+        long movements,
+        List<LedgerMismatch> mismatches
+) {
+    public static final LedgerRangeReport EMPTY = new LedgerRangeReport(0, 0, List.of());
+
+    public LedgerRangeReport {
+        mismatches = List.copyOf(mismatches);
+    }
+
+    // Se combinan los reportes de rangos verificados en paralelo
+    public LedgerRangeReport merge(LedgerRangeReport other) {
+        List<LedgerMismatch> all = new ArrayList<>(mismatches.size() + other.mismatches.size());
+        all.addAll(mismatches);
+        all.addAll(other.mismatches);
+        return new LedgerRangeReport(accounts + other.accounts, movements + other.movements, all);
+    }
+}
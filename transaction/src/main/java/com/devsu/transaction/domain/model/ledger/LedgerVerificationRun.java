@@ -0,0 +1,40 @@
+package com.devsu.transaction.domain.model.ledger;
+
+import java.time.Instant;
+
+/**
+ * Estado persistido de una corrida de verificación del libro mayor.
+ * El throughput se calcula sobre el tiempo efectivo de verificación (sin pausas de throttling
+ * ni el tiempo en que la corrida estuvo detenida).
+ */
+public record LedgerVerificationRun(
+        Long id,
+        Status status,
+        long lastAccountId,
+        long maxAccountId,
+        long accountsChecked,
+        long movementsChecked,
+        long mismatches,
+        long activeMillis,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+    public enum Status { RUNNING, COMPLETED, FAILED, INTERRUPTED }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED;
+    }
+
+    public double accountsPerSecond() {
+        return perSecond(accountsChecked);
+    }
+
+    public double movementsPerSecond() {
+        return perSecond(movementsChecked);
+    }
+
+    private double perSecond(long count) {
+        return activeMillis == 0 ? 0d : count * 1000d / activeMillis;
+    }
+}
@@ -33,6 +33,11 @@ public final class Money {
         return of(this.amount.subtract(other.amount));
     }
 
+    // Se invierte el signo y se retorna nuevo VO
+    public Money negate() {
+        return of(this.amount.negate());
+    }
+
     // compara si es mayor o igual a otra cantidad
     public boolean gte(Money other) {
         return this.amount.compareTo(other.amount) >= 0;
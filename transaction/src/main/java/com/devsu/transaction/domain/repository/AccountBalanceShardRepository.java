@@ -0,0 +1,22 @@
+package com.devsu.transaction.domain.repository;
+
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.model.account.ShardedBalance;
+import com.devsu.transaction.domain.model.money.Money;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de dominio para el saldo fragmentado de cuentas de alta concurrencia.
+ */
+public interface AccountBalanceShardRepository {
+    // Se aplica el delta a un fragmento solo si no queda negativo; retorna el saldo agregado resultante
+    Optional<Money> applyToShard(Long accountId, int shardNo, Money delta);
+    // Se bloquean todos los fragmentos (en orden de número) y se retornan sus saldos
+    ShardedBalance lockShards(Long accountId);
+    // Se descuentan los débitos por fragmento (los fragmentos deben estar bloqueados)
+    void debitShards(Long accountId, List<Money> debits);
+    // Se redistribuye el saldo en N fragmentos; 0 devuelve el saldo a la fila de la cuenta
+    Account reshard(Long accountId, int shards);
+}
@@ -4,18 +4,30 @@ import com.devsu.transaction.domain.model.account.Account;
 import com.devsu.transaction.domain.model.account.Movement;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository {
     // Se busca una cuenta por su número único
     Optional<Account> findByAccountNumber(String accountNumber);
+    // Se bloquean (FOR UPDATE) las cuentas indicadas, siempre en orden de id
+    List<Account> lockByAccountNumbers(Collection<String> accountNumbers);
+    // Se bloquea (FOR UPDATE) la cuenta solo si su saldo no está fragmentado; vacío si no existe o está fragmentada
+    Optional<Account> lockUnshardedByAccountNumber(String accountNumber);
     // Se persiste la cuenta (crear/actualizar)
     Account save(Account account);
-    // consultar movimientos por ID de cuenta y rango de fechas
-    List<Movement> findMovementsByAccountIdAndDateRange(Long accountId, Instant from, Instant to);
-    // consultar el movimiento por cuenta y uuid
-    Optional<Movement> findMovementByAccountIdAndUuid(Long accountId, String uuid);
+    // Se cambia solo el estado de la cuenta (UPDATE dirigido: no reescribe saldo ni fragmentos)
+    void updateActive(Long accountId, boolean active);
+    // Se inactivan en bloque las cuentas activas de los clientes indicados; devuelve cuántas cambiaron
+    int deactivateAllByClientIds(Collection<String> clientIds);
+    // Se insertan cuentas nuevas en lote; las que colisionan por número se omiten del resultado
+    List<Account> saveAllNew(List<Account> accounts);
+    // Se persiste solo el movimiento indicado, sin reescribir la fila de la cuenta
+    // (si la cuenta tiene saldo fragmentado, el movimiento queda marcado como tal)
+    Movement appendMovement(Account account, String movementUuid);
+    // Se persiste el saldo de la cuenta y el movimiento indicado en un solo round trip
+    Movement saveMovementLeg(Account account, String movementUuid);
     // para reportes
     List<Account> findByClientIdWithMovementsBetween(String clientId, Instant from, Instant to);
 }
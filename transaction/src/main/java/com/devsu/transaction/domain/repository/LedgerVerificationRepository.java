@@ -0,0 +1,30 @@
+package com.devsu.transaction.domain.repository;
+
+import com.devsu.transaction.domain.model.ledger.LedgerMismatch;
+import com.devsu.transaction.domain.model.ledger.LedgerRangeReport;
+import com.devsu.transaction.domain.model.ledger.LedgerVerificationRun;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de dominio para verificar el libro mayor y persistir el avance (checkpoint) de cada corrida.
+ */
+public interface LedgerVerificationRepository {
+    // Se obtiene el mayor id de cuenta existente (límite superior de una corrida nueva)
+    long findMaxAccountId();
+    // Se verifican las cuentas con id en (fromExclusive, toInclusive] sobre un mismo snapshot
+    LedgerRangeReport verifyRange(long fromExclusive, long toInclusive);
+    // Se crea una corrida nueva en estado RUNNING
+    LedgerVerificationRun createRun(long maxAccountId);
+    // Se marca una corrida existente como RUNNING para reanudarla desde su checkpoint
+    LedgerVerificationRun resumeRun(Long runId);
+    // Se consulta la última corrida
+    Optional<LedgerVerificationRun> findLatestRun();
+    // Se acumula el avance de una tanda y se mueve el checkpoint en la misma transacción
+    void saveProgress(Long runId, long lastAccountId, LedgerRangeReport report, long elapsedMillis);
+    // Se cierra la corrida con el estado final
+    void finishRun(Long runId, LedgerVerificationRun.Status status, String error);
+    // Se consultan las primeras inconsistencias de una corrida
+    List<LedgerMismatch> findMismatches(Long runId, int limit);
+}
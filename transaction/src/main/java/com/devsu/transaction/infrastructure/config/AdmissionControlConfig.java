@@ -0,0 +1,79 @@
+package com.devsu.transaction.infrastructure.config;
+
+import com.devsu.transaction.infrastructure.web.admission.AdmissionControlInterceptor;
+import com.devsu.transaction.infrastructure.web.admission.AdmissionControlInterceptor.Budget;
+import com.devsu.transaction.infrastructure.web.admission.AimdConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Registro del control de admisión (admission.*) y de sus métricas por presupuesto:
+ * admission.limit, admission.inflight y admission.rejected (tag budget=write|list|report).
+ */
+@Configuration
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final Environment env;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public AdmissionControlConfig(Environment env, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.env = env;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!env.getProperty("admission.enabled", Boolean.class, true)) return;
+
+        Map<Budget, AimdConcurrencyLimiter> limiters = new EnumMap<>(Budget.class);
+        limiters.put(Budget.WRITE, limiter(Budget.WRITE, 50, 200, Duration.ofMillis(250)));
+        limiters.put(Budget.LIST, limiter(Budget.LIST, 20, 100, Duration.ofMillis(500)));
+        limiters.put(Budget.REPORT, limiter(Budget.REPORT, 8, 32, Duration.ofSeconds(2)));
+        limiters.values().forEach(this::bindMetrics);
+
+        Duration retryAfter = env.getProperty("admission.retry-after", Duration.class, Duration.ofSeconds(1));
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        registry.addInterceptor(new AdmissionControlInterceptor(limiters, retryAfterSeconds));
+    }
+
+    // Se leen admission.<budget>.* con los valores por defecto del presupuesto
+    private AimdConcurrencyLimiter limiter(Budget budget, int initialLimit, int maxLimit, Duration latencyThreshold) {
+        String name = budget.name().toLowerCase(Locale.ROOT);
+        String prefix = "admission." + name + ".";
+        return new AimdConcurrencyLimiter(
+                name,
+                env.getProperty(prefix + "initial-limit", Integer.class, initialLimit),
+                env.getProperty(prefix + "min-limit", Integer.class, 1),
+                env.getProperty(prefix + "max-limit", Integer.class, maxLimit),
+                env.getProperty(prefix + "latency-threshold", Duration.class, latencyThreshold),
+                env.getProperty(prefix + "backoff-ratio", Double.class, 0.9));
+    }
+
+    private void bindMetrics(AimdConcurrencyLimiter limiter) {
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("admission.limit", limiter, AimdConcurrencyLimiter::limit)
+                    .tag("budget", limiter.name())
+                    .description("Límite de concurrencia vigente")
+                    .register(registry);
+            Gauge.builder("admission.inflight", limiter, AimdConcurrencyLimiter::inFlight)
+                    .tag("budget", limiter.name())
+                    .description("Solicitudes admitidas en curso")
+                    .register(registry);
+            FunctionCounter.builder("admission.rejected", limiter, AimdConcurrencyLimiter::rejected)
+                    .tag("budget", limiter.name())
+                    .description("Solicitudes rechazadas con 503")
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.devsu.transaction.infrastructure.config;
+
+import com.devsu.transaction.infrastructure.jfr.JfrRecordingEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Grabaciones JFR bajo demanda (/actuator/jfr). El endpoint solo se crea si está expuesto
+ * (management.endpoints.web.exposure.include) y Actuator escucha en un puerto de gestión propio
+ * (management.server.port, perfil "jfr"): nunca en el puerto público del API. Los eventos de dominio existen siempre.
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    @ConditionalOnAvailableEndpoint(endpoint = JfrRecordingEndpoint.class)
+    @ConditionalOnProperty(name = "management.server.port")
+    JfrRecordingEndpoint jfrRecordingEndpoint(@Value("${jfr.directory:recordings}") Path directory,
+                                              @Value("${jfr.max-size:250MB}") DataSize maxSize,
+                                              @Value("${jfr.default-duration:PT5M}") Duration defaultDuration) {
+        return new JfrRecordingEndpoint(directory, maxSize.toBytes(), defaultDuration);
+    }
+}
@@ -0,0 +1,12 @@
+package com.devsu.transaction.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (p.ej., la lectura del feed de cambios de clientes).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
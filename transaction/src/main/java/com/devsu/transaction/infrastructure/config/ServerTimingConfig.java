@@ -0,0 +1,55 @@
+package com.devsu.transaction.infrastructure.config;
+
+import com.devsu.transaction.infrastructure.timing.ServerTimingFilter;
+import com.devsu.transaction.infrastructure.timing.TimedDataSource;
+import com.devsu.transaction.infrastructure.timing.TimedJacksonHttpMessageConverter;
+import com.devsu.transaction.infrastructure.timing.TimedFeignCapability;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Header Server-Timing (db, remote, json, app, total) en cada respuesta y métricas http.server.timing.
+ * Con server-timing.enabled=false no se registra nada: ni filtro, ni proxies JDBC/Feign, ni conversor propio.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    // El filtro va primero para que total incluya toda la cadena
+    @Bean
+    FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(new ServerTimingFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // Reemplaza al conversor Jackson autoconfigurado (mismo ObjectMapper)
+    @Bean
+    TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    // Se aplica a los clientes Feign (UserClient)
+    @Bean
+    TimedFeignCapability timedFeignCapability() {
+        return new TimedFeignCapability();
+    }
+
+    @Bean
+    static BeanPostProcessor timedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return (bean instanceof DataSource ds && !(bean instanceof TimedDataSource)) ? new TimedDataSource(ds) : bean;
+            }
+        };
+    }
+}
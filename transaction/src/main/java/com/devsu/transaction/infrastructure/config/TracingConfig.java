@@ -0,0 +1,27 @@
+package com.devsu.transaction.infrastructure.config;
+
+import com.devsu.transaction.infrastructure.tracing.JsonFileSpanExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Exportación local de trazas. Spring Boot agrega cada SpanExporter del contexto al BatchSpanProcessor
+ * de OpenTelemetry, así que basta con declarar el bean; el muestreo lo define management.tracing.sampling.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tracing.export.enabled", havingValue = "true")
+public class TracingConfig {
+
+    @Bean
+    JsonFileSpanExporter jsonFileSpanExporter(@Value("${tracing.export.file}") Path file,
+                                              @Value("${tracing.export.max-file-size:50MB}") DataSize maxFileSize,
+                                              ObjectMapper objectMapper) {
+        return new JsonFileSpanExporter(file, maxFileSize.toBytes(), objectMapper);
+    }
+}
@@ -0,0 +1,81 @@
+package com.devsu.transaction.infrastructure.http.clients;
+
+import com.devsu.transaction.application.service.DeactivateClientAccountsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Consumidor del feed de cambios de clientes del user-service (GET /clientes/changes).
+ * Cada poll lee páginas desde el último cursor hasta vaciar el feed e invalida en la caché
+ * local los clientes modificados o dados de baja; las bajas además inactivan en bloque las cuentas
+ * del cliente. El cursor se persiste junto con la inactivación y solo avanza después de aplicar cada
+ * página, así que ante un error o un reinicio se retoma desde el último punto aplicado.
+ * Se desactiva con clients.changes.enabled=false (la caché queda en modo revalidación).
+ */
+@Component
+@ConditionalOnProperty(name = "clients.changes.enabled", havingValue = "true", matchIfMissing = true)
+public class ClientChangeFeedPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientChangeFeedPoller.class);
+    private static final String DEACTIVATED = "DEACTIVATED";
+
+    private final UserClient userClient;
+    private final ClientResponseCache cache;
+    private final DeactivateClientAccountsService deactivateClientAccountsService;
+    private final int pageSize;
+    private volatile String cursor; // null: desde el inicio del feed
+    private volatile boolean resumed;
+
+    public ClientChangeFeedPoller(UserClient userClient,
+                                  ClientResponseCache cache,
+                                  DeactivateClientAccountsService deactivateClientAccountsService,
+                                  @Value("${clients.changes.page-size:500}") int pageSize) {
+        this.userClient = userClient;
+        this.cache = cache;
+        this.deactivateClientAccountsService = deactivateClientAccountsService;
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(fixedDelayString = "${clients.changes.poll-interval:PT1S}")
+    public void poll() {
+        try {
+            if (!resumed) {
+                // Se retoma desde el cursor persistido en el último poll aplicado
+                cursor = deactivateClientAccountsService.lastFeedCursor().orElse(null);
+                resumed = true;
+            }
+            while (true) {
+                ClientChangesResponse page = userClient.changes(cursor, pageSize);
+                if (!page.items().isEmpty()) {
+                    deactivateClientAccountsService.execute(deactivatedClientIds(page), page.nextCursor());
+                }
+                page.items().forEach(change -> cache.evict(change.clientId()));
+                cursor = page.nextCursor();
+                if (page.items().size() < pageSize) break;
+            }
+            cache.markSynced();
+        } catch (RuntimeException e) {
+            // La caché vuelve a revalidar con If-None-Match cuando el feed supera max-staleness
+            log.warn("Client change feed poll failed (cursor={}): {}", cursor, e.getMessage());
+        }
+    }
+
+    private static Set<String> deactivatedClientIds(ClientChangesResponse page) {
+        return page.items().stream()
+                .filter(change -> DEACTIVATED.equals(change.type()))
+                .map(ClientChangesResponse.Item::clientId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public String cursor() {
+        return cursor;
+    }
+}
@@ -0,0 +1,14 @@
+package com.devsu.transaction.infrastructure.http.clients;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Página del feed de cambios de clientes del user-service (GET /clientes/changes).
+ * nextCursor se envía como since en la siguiente consulta.
+ */
+public record ClientChangesResponse(List<Item> items, String nextCursor) {
+
+    // type: UPDATED o DEACTIVATED
+    public record Item(String cursor, String clientId, String type, Instant changedAt) {}
+}
@@ -0,0 +1,12 @@
+package com.devsu.transaction.infrastructure.http.clients;
+
+import java.util.List;
+
+/**
+ * Cuerpo de la consulta por lote de clientes en el user-service.
+ */
+public record ClientLookupRequest(List<String> clientIds) {
+
+    // Se respeta el máximo de clientIds que acepta el user-service por llamada
+    public static final int MAX_CLIENT_IDS = 5000;
+}
@@ -0,0 +1,80 @@
+package com.devsu.transaction.infrastructure.http.clients;
+
+import com.devsu.transaction.application.dto.ClientResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché local de la última respuesta del user-service por clientId, junto con su ETag.
+ * - Se mantiene al día con el feed de cambios (ClientChangeFeedPoller): cada cambio invalida su entrada.
+ * - Mientras el feed esté al día (última lectura hace menos de max-staleness), una entrada confiable
+ *   se sirve sin llamar al user-service; si no, se revalida con If-None-Match (304 sin cuerpo).
+ * - Se acota por cantidad de entradas y se descarta la menos usada (LRU).
+ */
+@Component
+public class ClientResponseCache {
+
+    /**
+     * trusted indica que ninguna invalidación ocurrió mientras se consultaba el cliente;
+     * si ocurrió, la respuesta pudo ser anterior al cambio y la entrada solo sirve para revalidar.
+     */
+    public record Entry(String etag, ClientResponse client, boolean trusted) {}
+
+    private final Map<String, Entry> entries;
+    private final long maxStalenessNanos;
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile long syncedAtNanos;
+    private volatile boolean synced;
+
+    public ClientResponseCache(@Value("${clients.cache.max-entries:10000}") int maxEntries,
+                               @Value("${clients.changes.max-staleness:PT10S}") Duration maxStaleness) {
+        if (maxEntries < 1) throw new IllegalArgumentException("clients.cache.max-entries must be >= 1");
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Optional<Entry> get(String clientId) {
+        return Optional.ofNullable(entries.get(clientId));
+    }
+
+    // Se obtiene la marca a comparar en put (se toma antes de llamar al user-service)
+    public long stamp() {
+        return evictions.get();
+    }
+
+    public void put(String clientId, String etag, ClientResponse client, long stamp) {
+        entries.put(clientId, new Entry(etag, client, evictions.get() == stamp));
+    }
+
+    public void evict(String clientId) {
+        evictions.incrementAndGet();
+        entries.remove(clientId);
+    }
+
+    // El poller marca cada lectura completa del feed (hasta no tener cambios pendientes)
+    public void markSynced() {
+        syncedAtNanos = System.nanoTime();
+        synced = true;
+    }
+
+    // Se indica si las invalidaciones están al día; si no, toda entrada se revalida
+    public boolean isSynced() {
+        return synced && System.nanoTime() - syncedAtNanos < maxStalenessNanos;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
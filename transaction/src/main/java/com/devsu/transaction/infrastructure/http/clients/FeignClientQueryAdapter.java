@@ -1,19 +1,90 @@
 package com.devsu.transaction.infrastructure.http.clients;
 
+import com.devsu.transaction.application.exception.ClientNotFoundException;
 import com.devsu.transaction.application.port.ClientQueryPort;
 import com.devsu.transaction.application.dto.ClientResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Response;
+import feign.codec.DecodeException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 public class FeignClientQueryAdapter implements ClientQueryPort {
 
     private final UserClient userClient;
+    private final ClientResponseCache cache;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * Se consulta el cliente desde la caché local mantenida por el feed de cambios.
+     * - Entrada confiable y feed al día: se retorna sin llamar al user-service.
+     * - Si no, se revalida con If-None-Match: 304 reutiliza la copia local, 200 la reemplaza
+     *   y 404 la descarta y lanza ClientNotFoundException.
+     */
     @Override
     public ClientResponse assertExists(String clientId) {
-        return userClient.getClient(clientId);
+        var cached = cache.get(clientId);
+        if (cached.isPresent() && cached.get().trusted() && cache.isSynced()) {
+            return cached.get().client();
+        }
+        long stamp = cache.stamp();
+        try (Response response = userClient.getClientIfNoneMatch(clientId,
+                cached.map(ClientResponseCache.Entry::etag).orElse(null))) {
+            if (response.status() == 304 && cached.isPresent()) {
+                cache.put(clientId, cached.get().etag(), cached.get().client(), stamp);
+                return cached.get().client();
+            }
+            if (response.status() == 200) {
+                ClientResponse client = decode(response);
+                etag(response).ifPresentOrElse(
+                        etag -> cache.put(clientId, etag, client, stamp),
+                        () -> cache.evict(clientId));
+                return client;
+            }
+            cache.evict(clientId);
+            if (response.status() == 404) {
+                throw new ClientNotFoundException("Client not found in user-service");
+            }
+            throw FeignException.errorStatus("UserClient#getClientIfNoneMatch(String,String)", response);
+        }
+    }
+
+    @Override
+    public Set<String> findExistingClientIds(Collection<String> clientIds) {
+        // Se consulta por lote (una llamada por cada bloque de MAX_CLIENT_IDS clientIds distintos)
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(clientIds));
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += ClientLookupRequest.MAX_CLIENT_IDS) {
+            int to = Math.min(from + ClientLookupRequest.MAX_CLIENT_IDS, distinct.size());
+            userClient.lookupClients(new ClientLookupRequest(distinct.subList(from, to)))
+                    .forEach(client -> existing.add(client.clientId()));
+        }
+        return existing;
     }
-}
 
+    private ClientResponse decode(Response response) {
+        try {
+            return objectMapper.readValue(response.body().asInputStream(), ClientResponse.class);
+        } catch (IOException e) {
+            throw new DecodeException(response.status(), "Invalid client response from user-service",
+                    response.request(), e);
+        }
+    }
+
+    // Los headers de feign.Response no distinguen mayúsculas/minúsculas
+    private static Optional<String> etag(Response response) {
+        return response.headers().getOrDefault(HttpHeaders.ETAG, List.of()).stream().findFirst();
+    }
+}
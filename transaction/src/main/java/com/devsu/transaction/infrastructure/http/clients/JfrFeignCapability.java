@@ -0,0 +1,46 @@
+package com.devsu.transaction.infrastructure.http.clients;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Capability de Feign que emite un UserClientCallEvent por llamada.
+ * Sin una grabación JFR activa solo se crea el evento (begin/commit no hacen nada) y no se leen atributos.
+ */
+class JfrFeignCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            UserClientCallEvent event = new UserClientCallEvent();
+            event.begin();
+            try {
+                Response response = client.execute(request, options);
+                event.status = response.status();
+                return response;
+            } catch (IOException | RuntimeException e) {
+                event.status = -1;
+                event.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                throw e;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    describe(event, request);
+                    event.commit();
+                }
+            }
+        };
+    }
+
+    private static void describe(UserClientCallEvent event, Request request) {
+        event.method = request.httpMethod().name();
+        event.url = request.url();
+        if (request.requestTemplate() != null && request.requestTemplate().methodMetadata() != null) {
+            event.operation = request.requestTemplate().methodMetadata().configKey();
+        }
+    }
+}
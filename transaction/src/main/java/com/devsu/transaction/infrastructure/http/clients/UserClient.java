@@ -1,9 +1,17 @@
 package com.devsu.transaction.infrastructure.http.clients;
 
 import com.devsu.transaction.application.dto.ClientResponse;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(
         name = "userClient",
@@ -11,6 +19,18 @@ import org.springframework.web.bind.annotation.PathVariable;
         configuration = UserClientConfig.class
 )
 public interface UserClient {
+    // Consulta condicional: se retorna la respuesta cruda (sin decoder ni ErrorDecoder)
+    // para leer el ETag y distinguir 200, 304 y 404. Sin ETag previo se omite el header.
     @GetMapping("/clientId/{clientId}")
-    ClientResponse getClient(@PathVariable("clientId") String clientId);
-}
\ No newline at end of file
+    Response getClientIfNoneMatch(@PathVariable("clientId") String clientId,
+                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String etag);
+
+    // Feed de cambios de clientes a partir del cursor since (sin since se lee desde el inicio)
+    @GetMapping("/changes")
+    ClientChangesResponse changes(@RequestParam(value = "since", required = false) String since,
+                                  @RequestParam("limit") int limit);
+
+    // Consulta por lote: los clientIds inexistentes no aparecen en la respuesta
+    @PostMapping("/lookup")
+    List<ClientResponse> lookupClients(@RequestBody ClientLookupRequest request);
+}
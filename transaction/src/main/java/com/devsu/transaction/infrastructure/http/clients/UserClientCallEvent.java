@@ -0,0 +1,38 @@
+package com.devsu.transaction.infrastructure.http.clients;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de cada llamada HTTP del UserClient (conexión, envío y recepción de la respuesta).
+ * status es -1 cuando la llamada falla sin respuesta (timeout, conexión rechazada).
+ */
+@Name(UserClientCallEvent.NAME)
+@Label("User Client Call")
+@Category({"Devsu", "Transaction", "Remote"})
+@Description("Llamada al user-service por Feign")
+@StackTrace(false)
+class UserClientCallEvent extends Event {
+
+    static final String NAME = "com.devsu.transaction.UserClientCall";
+
+    @Label("Operation")
+    @Description("Método del UserClient, p. ej. UserClient#changes(String,int)")
+    String operation;
+
+    @Label("HTTP Method")
+    String method;
+
+    @Label("URL")
+    String url;
+
+    @Label("Status")
+    int status;
+
+    @Label("Error")
+    String error;
+}
@@ -23,4 +23,10 @@ class UserClientConfig {
             }
         };
     }
+
+    // Evento JFR por llamada al user-service (UserClientCallEvent)
+    @Bean
+    JfrFeignCapability userClientJfrCapability() {
+        return new JfrFeignCapability();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.devsu.transaction.infrastructure.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Endpoint /actuator/jfr para grabar con JDK Flight Recorder bajo demanda.
+ * - GET: grabaciones iniciadas por el endpoint. POST {settings, duration}: inicia una (solo una a la vez).
+ * - DELETE /{id}: la detiene y escribe el archivo. GET /{id}: descarga el .jfr (si sigue en curso, una copia).
+ * Los eventos com.devsu.transaction.* están habilitados por defecto, así que entran con cualquier settings.
+ * Fuera de una grabación los eventos de dominio no tienen costo: JFR no está ni inicializado.
+ * Se conserva solo la última grabación terminada: al iniciar otra se borran sus archivos.
+ */
+@Slf4j
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final String NAME_PREFIX = "devsu-";
+
+    // Variables de entorno, propiedades y argumentos de la JVM: pueden llevar credenciales (SPRING_DATASOURCE_PASSWORD)
+    static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final Duration defaultDuration;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    public JfrRecordingEndpoint(Path directory, long maxSizeBytes, Duration defaultDuration) {
+        this.directory = directory.toAbsolutePath();
+        this.maxSizeBytes = maxSizeBytes;
+        this.defaultDuration = defaultDuration;
+    }
+
+    public record RecordingDescriptor(long id, String name, String state, Instant startTime,
+                                      Duration duration, String file, Long fileSize) {
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        return recordings.values().stream()
+                .sorted(Comparator.comparingLong(Recording::getId))
+                .map(this::describe)
+                .toList();
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Object> start(@Nullable String settings, @Nullable Duration duration) {
+        boolean running = recordings.values().stream().anyMatch(r -> r.getState() == RecordingState.RUNNING);
+        if (running) {
+            return new WebEndpointResponse<>(Map.of("error", "Ya hay una grabación en curso"), HttpStatus.CONFLICT.value());
+        }
+
+        Configuration configuration;
+        try {
+            // Configuraciones del JDK: "default" (~1% de overhead) o "profile" (más detalle, ~2%)
+            configuration = Configuration.getConfiguration(settings == null ? "profile" : settings);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(Map.of("error", "Configuración JFR inválida: " + settings), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        // La grabación anterior ya se pudo descargar: se cierra y se borran sus archivos para acotar el disco
+        recordings.values().forEach(this::discard);
+        recordings.clear();
+
+        try {
+            Files.createDirectories(directory);
+            Recording recording = new Recording(configuration);
+            SENSITIVE_EVENTS.forEach(recording::disable);
+            recording.setName(NAME_PREFIX + recording.getId());
+            recording.setToDisk(true);
+            recording.setMaxSize(maxSizeBytes);
+            // Se detiene sola al cumplir la duración; el archivo queda en destination
+            recording.setDuration(duration == null ? defaultDuration : duration);
+            recording.setDestination(file(recording.getId()));
+            recording.start();
+            recordings.put(recording.getId(), recording);
+            log.info("Grabación JFR {} iniciada ({}, {})", recording.getId(), configuration.getName(), recording.getDuration());
+            return new WebEndpointResponse<>(describe(recording));
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo iniciar la grabación JFR", e);
+        }
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Object> stop(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Grabación JFR {} detenida: {}", id, recording.getDestination());
+        }
+        // El archivo final ya está escrito (también si terminó por duración): se liberan el repositorio y la copia parcial
+        recording.close();
+        deleteQuietly(snapshot(id));
+        return new WebEndpointResponse<>(describe(recording));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path file = recording.getDestination();
+            if (recording.getState() == RecordingState.RUNNING) {
+                // Copia de lo grabado hasta ahora; la grabación sigue
+                file = snapshot(id);
+                recording.dump(file);
+            }
+            if (file == null || !Files.exists(file)) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            return new WebEndpointResponse<>(new FileSystemResource(file));
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo leer la grabación JFR " + id, e);
+        }
+    }
+
+    private Path file(long id) {
+        return directory.resolve("recording-" + id + ".jfr");
+    }
+
+    private Path snapshot(long id) {
+        return directory.resolve("recording-" + id + "-snapshot.jfr");
+    }
+
+    private void discard(Recording recording) {
+        recording.close();
+        deleteQuietly(file(recording.getId()));
+        deleteQuietly(snapshot(recording.getId()));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar {}: {}", file, e.getMessage());
+        }
+    }
+
+    private RecordingDescriptor describe(Recording recording) {
+        Path file = recording.getDestination();
+        Long size = null;
+        try {
+            if (file != null && Files.exists(file)) size = Files.size(file);
+        } catch (IOException ignored) {
+            // El archivo puede estar escribiéndose al detener la grabación
+        }
+        return new RecordingDescriptor(
+                recording.getId(),
+                recording.getName(),
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getDuration(),
+                file == null ? null : file.toString(),
+                size
+        );
+    }
+}
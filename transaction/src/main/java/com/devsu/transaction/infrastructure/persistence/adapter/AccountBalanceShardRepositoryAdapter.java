@@ -0,0 +1,81 @@
+package com.devsu.transaction.infrastructure.persistence.adapter;
+
+import com.devsu.transaction.domain.exception.BalanceShardsChangedException;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.model.account.ShardedBalance;
+import com.devsu.transaction.domain.model.money.Money;
+import com.devsu.transaction.domain.repository.AccountBalanceShardRepository;
+import com.devsu.transaction.infrastructure.persistence.entity.AccountEntity;
+import com.devsu.transaction.infrastructure.persistence.mappers.AccountPersistenceMapper;
+import com.devsu.transaction.infrastructure.persistence.repository.AccountBalanceShardJpaRepository;
+import com.devsu.transaction.infrastructure.persistence.repository.AccountJpaRepository;
+import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter de persistencia del saldo fragmentado.
+ * Los fragmentos se modifican con incrementos atómicos en SQL para no serializar
+ * los depósitos sobre la fila de la cuenta.
+ */
+@Observed(name = "repository")
+@Repository
+@RequiredArgsConstructor
+public class AccountBalanceShardRepositoryAdapter implements AccountBalanceShardRepository {
+
+    private final AccountBalanceShardJpaRepository balanceShardJpaRepository;
+    private final AccountJpaRepository accountJpaRepository;
+
+    @Override
+    @Transactional
+    public Optional<Money> applyToShard(Long accountId, int shardNo, Money delta) {
+        return Optional.ofNullable(balanceShardJpaRepository.applyDelta(accountId, shardNo, delta.value()))
+                .map(Money::of);
+    }
+
+    @Override
+    @Transactional
+    public ShardedBalance lockShards(Long accountId) {
+        List<Money> balances = balanceShardJpaRepository.lockBalances(accountId).stream()
+                .map(Money::of)
+                .toList();
+        if (balances.isEmpty())
+            throw new BalanceShardsChangedException("Balance shards changed concurrently, retry the movement");
+        return ShardedBalance.of(balances);
+    }
+
+    @Override
+    @Transactional
+    public void debitShards(Long accountId, List<Money> debits) {
+        for (int shardNo = 0; shardNo < debits.size(); shardNo++) {
+            Money debit = debits.get(shardNo);
+            if (debit.isPositive()) balanceShardJpaRepository.debit(accountId, shardNo, debit.value());
+        }
+    }
+
+    @Override
+    @Transactional
+    public Account reshard(Long accountId, int shards) {
+        // Se bloquea la cuenta y luego sus fragmentos (mismo orden que los retiros) para consolidar el saldo
+        AccountEntity account = accountJpaRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new EntityNotFoundException("Account not found id=" + accountId));
+
+        BigDecimal total = account.getBalanceShards() == 0
+                ? account.getCurrentBalance()
+                : balanceShardJpaRepository.lockBalances(accountId).stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        balanceShardJpaRepository.deleteByAccountId(accountId);
+        if (shards > 0) balanceShardJpaRepository.createShards(accountId, shards, total);
+
+        // La entidad está gestionada: el UPDATE se emite al hacer flush
+        account.setBalanceShards(shards);
+        account.setCurrentBalance(total);
+        return AccountPersistenceMapper.toDomainShallow(account, Money.of(total));
+    }
+}
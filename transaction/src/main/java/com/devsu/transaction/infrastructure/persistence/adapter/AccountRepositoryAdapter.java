@@ -8,15 +8,28 @@ import com.devsu.transaction.infrastructure.persistence.entity.AccountEntity;
 import com.devsu.transaction.infrastructure.persistence.entity.AccountTypeEntity;
 import com.devsu.transaction.infrastructure.persistence.entity.MovementEntity;
 import com.devsu.transaction.infrastructure.persistence.mappers.AccountPersistenceMapper;
+import com.devsu.transaction.infrastructure.persistence.repository.AccountBalanceShardJpaRepository;
 import com.devsu.transaction.infrastructure.persistence.repository.AccountJpaRepository;
 import com.devsu.transaction.infrastructure.persistence.repository.AccountTypeJpaRepository;
 import com.devsu.transaction.infrastructure.persistence.repository.MovementJpaRepository;
 import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,18 +38,56 @@ import java.util.stream.Collectors;
 /**
  * Adapter de persistencia del Account.
  */
+@Observed(name = "repository")
 @Repository
 @RequiredArgsConstructor
 public class AccountRepositoryAdapter implements AccountRepository {
 
+    // Inserción en lote; ON CONFLICT omite (sin abortar el lote) los números de cuenta ya existentes
+    private static final String INSERT_ACCOUNT_SQL = """
+            INSERT INTO accounts (account_number, account_type_id, client_id, initial_balance,
+                                  current_balance, active, created_at, balance_shards)
+            VALUES (:accountNumber, :accountTypeId, :clientId, :initialBalance,
+                    :currentBalance, :active, :createdAt, :balanceShards)
+            ON CONFLICT (account_number) DO NOTHING
+            """;
+
+    // Cambio de estado de una cuenta: espera el bloqueo de la fila y solo escribe active
+    private static final String UPDATE_ACTIVE_SQL = """
+            UPDATE accounts SET active = :active WHERE id = :id
+            """;
+
+    // Inactivación por cliente (usa idx_accounts_client_id); las cuentas ya inactivas no se reescriben
+    private static final String DEACTIVATE_BY_CLIENT_SQL = """
+            UPDATE accounts SET active = FALSE
+            WHERE client_id IN (:clientIds) AND active
+            """;
+
     private final AccountJpaRepository accountJpaRepository;
     private final AccountTypeJpaRepository accountTypeJpaRepository;
     private final MovementJpaRepository movementJpaRepository;
+    private final AccountBalanceShardJpaRepository balanceShardJpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Account> findByAccountNumber(String accountNumber) {
         return accountJpaRepository.findByAccountNumber(accountNumber)
+                .map(this::toDomainShallow);
+    }
+
+    @Override
+    @Transactional
+    public List<Account> lockByAccountNumbers(Collection<String> accountNumbers) {
+        return accountJpaRepository.findByAccountNumberInForUpdate(accountNumbers).stream()
+                .map(this::toDomainShallow)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Account> lockUnshardedByAccountNumber(String accountNumber) {
+        return accountJpaRepository.findUnshardedByAccountNumberForUpdate(accountNumber)
                 .map(AccountPersistenceMapper::toDomainShallow);
     }
 
@@ -61,21 +112,92 @@ public class AccountRepositoryAdapter implements AccountRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<Movement> findMovementsByAccountIdAndDateRange(Long accountId, Instant from, Instant to) {
-        return movementJpaRepository
-                .findByAccount_IdAndHappenedAtBetweenOrderByHappenedAtAsc(accountId, from, to)
-                .stream()
-                .map(AccountPersistenceMapper::toDomain) // ya tienes este método: MovementEntity -> Movement
-                .toList();
+    @Transactional
+    public void updateActive(Long accountId, boolean active) {
+        int updated = jdbcTemplate.update(UPDATE_ACTIVE_SQL, new MapSqlParameterSource()
+                .addValue("id", accountId)
+                .addValue("active", active));
+        if (updated == 0) throw new EntityNotFoundException("Account not found id=" + accountId);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Optional<Movement> findMovementByAccountIdAndUuid(Long accountId, String uuid) {
-        return movementJpaRepository
-                .findByAccount_IdAndUuid(accountId, uuid)
-                .map(AccountPersistenceMapper::toDomain);
+    @Transactional
+    public int deactivateAllByClientIds(Collection<String> clientIds) {
+        if (clientIds.isEmpty()) return 0;
+        return jdbcTemplate.update(DEACTIVATE_BY_CLIENT_SQL, new MapSqlParameterSource("clientIds", clientIds));
+    }
+
+    @Override
+    @Transactional
+    public List<Account> saveAllNew(List<Account> accounts) {
+        if (accounts.isEmpty()) return List.of();
+
+        // Se resuelve el catálogo de tipos una sola vez para todo el lote
+        Map<String, Long> typeIds = accountTypeJpaRepository.findAll().stream()
+                .collect(Collectors.toMap(AccountTypeEntity::getCode, AccountTypeEntity::getId));
+
+        SqlParameterSource[] batch = new SqlParameterSource[accounts.size()];
+        for (int i = 0; i < accounts.size(); i++) {
+            Account a = accounts.get(i);
+            String typeCode = AccountPersistenceMapper.toEntityTypeCode(a.getType());
+            Long typeId = typeIds.get(typeCode);
+            if (typeId == null) throw new EntityNotFoundException("AccountType code not found: " + typeCode);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("accountNumber", a.getAccountNumber())
+                    .addValue("accountTypeId", typeId)
+                    .addValue("clientId", a.getClientId())
+                    .addValue("initialBalance", a.getInitialBalance().value())
+                    .addValue("currentBalance", a.getCurrentBalance().value())
+                    .addValue("active", a.isActive())
+                    .addValue("createdAt", OffsetDateTime.ofInstant(a.getCreatedAt(), ZoneOffset.UTC))
+                    .addValue("balanceShards", a.getBalanceShards());
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, batch, keyHolder, new String[]{"id", "account_number"});
+
+        // Solo las filas insertadas devuelven clave; las que colisionaron quedan fuera del resultado
+        Map<String, Long> idsByNumber = new HashMap<>();
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            idsByNumber.put((String) keys.get("account_number"), ((Number) keys.get("id")).longValue());
+        }
+
+        List<Account> inserted = new ArrayList<>(idsByNumber.size());
+        for (Account a : accounts) {
+            Long id = idsByNumber.get(a.getAccountNumber());
+            if (id == null) continue;
+            inserted.add(Account.fromPersistence(id, a.getAccountNumber(), a.getType(), a.getInitialBalance(),
+                    a.getClientId(), a.getCreatedAt(), a.isActive(), List.of(), a.getCurrentBalance(),
+                    a.getBalanceShards()));
+        }
+        return inserted;
+    }
+
+    @Override
+    @Transactional
+    public Movement appendMovement(Account account, String movementUuid) {
+        Movement movement = registeredMovement(account, movementUuid);
+
+        // Se referencia la cuenta sin cargarla ni reescribirla; solo se inserta el movimiento
+        AccountEntity parent = accountJpaRepository.getReferenceById(account.getId());
+        MovementEntity entity = AccountPersistenceMapper.toMovementEntityAttached(movement, parent);
+        entity.setSharded(account.isBalanceSharded());
+        MovementEntity persisted = movementJpaRepository.save(entity);
+        return AccountPersistenceMapper.toDomain(persisted);
+    }
+
+    @Override
+    @Transactional
+    public Movement saveMovementLeg(Account account, String movementUuid) {
+        Movement m = registeredMovement(account, movementUuid);
+        Long id = movementJpaRepository.insertWithAccountBalance(
+                account.getId(),
+                m.getType().name(),
+                m.getAmount().value(),
+                m.getBalanceAfter().value(),
+                m.getUuid(),
+                m.getHappenedAt());
+        return Movement.fromPersistence(id, m.getType(), m.getAmount(), m.getBalanceAfter(), m.getHappenedAt(), m.getUuid());
     }
 
     @Override
@@ -93,10 +215,41 @@ public class AccountRepositoryAdapter implements AccountRepository {
         Map<Long, List<MovementEntity>> byAccount = movementEntities.stream()
                 .collect(Collectors.groupingBy(me -> me.getAccount().getId()));
 
+        // Saldo agregado de las cuentas con saldo fragmentado (una sola consulta)
+        Map<Long, BigDecimal> shardedBalances = sumShardedBalances(accountEntities);
+
         // Mapear a dominio inyectando SOLO movimientos en rango
         return accountEntities.stream()
                 .map(ae -> AccountPersistenceMapper.toDomain(ae,
-                        byAccount.getOrDefault(ae.getId(), List.of())))
+                        byAccount.getOrDefault(ae.getId(), List.of()),
+                        Money.of(shardedBalances.getOrDefault(ae.getId(), ae.getCurrentBalance()))))
                 .toList();
     }
+
+    // Se toma el movimiento recién registrado en el agregado (aún sin id)
+    private static Movement registeredMovement(Account account, String movementUuid) {
+        return account.getMovements().stream()
+                .filter(m -> m.getUuid().equals(movementUuid))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Movement not registered in aggregate: " + movementUuid));
+    }
+
+    // Se resuelve el saldo vigente: fila de la cuenta o suma de sus fragmentos
+    private Account toDomainShallow(AccountEntity e) {
+        if (e.getBalanceShards() == 0) return AccountPersistenceMapper.toDomainShallow(e);
+        return AccountPersistenceMapper.toDomainShallow(e, Money.of(balanceShardJpaRepository.sumBalance(e.getId())));
+    }
+
+    private Map<Long, BigDecimal> sumShardedBalances(List<AccountEntity> accounts) {
+        List<Long> shardedIds = accounts.stream()
+                .filter(a -> a.getBalanceShards() > 0)
+                .map(AccountEntity::getId)
+                .toList();
+        if (shardedIds.isEmpty()) return Map.of();
+
+        return balanceShardJpaRepository.sumBalances(shardedIds).stream()
+                .collect(Collectors.toMap(
+                        row -> ((Number) row[0]).longValue(),
+                        row -> (BigDecimal) row[1]));
+    }
 }
@@ -0,0 +1,96 @@
+package com.devsu.transaction.infrastructure.persistence.adapter;
+
+import com.devsu.transaction.application.port.AccountStatementQueryPort;
+import com.devsu.transaction.application.result.AccountStatementSummary.AccountSummary;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Adapter JDBC del estado de cuenta resumido.
+ * Los totales y los saldos se resuelven en una sola sentencia: no se trae ningún movimiento a memoria.
+ */
+@Observed(name = "repository")
+@Repository
+@RequiredArgsConstructor
+public class JdbcAccountStatementQueryAdapter implements AccountStatementQueryPort {
+
+    // - Totales: un GROUP BY sobre el rango (idx_movements_account_happened_at por cuenta del cliente).
+    // - Apertura: balance_after del último movimiento exacto (no sharded) anterior a :from, o el saldo inicial,
+    //   más los movimientos registrados con saldo fragmentado entre ese y :from (su balance_after es el agregado
+    //   observado y no sirve como saldo). Se decide por movimiento, no por el estado actual de la cuenta.
+    // - Cuesta una fila de idx_movements_account_happened_at más los movimientos fragmentados entre el último
+    //   exacto y :from (idx_movements_account_sharded_happened_at, sin filas si la cuenta nunca se fragmentó):
+    //   no crece con la antigüedad de :from ni con el largo del rango, solo con el tramo fragmentado previo.
+    private static final String SUMMARY_SQL = """
+            SELECT a.account_number, t.code AS account_type, a.active,
+                   COALESCE(prev.balance_after, a.initial_balance) + COALESCE(gap.total, 0) AS opening_balance,
+                   COALESCE(r.deposit_total, 0)    AS deposit_total,
+                   COALESCE(r.deposit_count, 0)    AS deposit_count,
+                   COALESCE(r.withdrawal_total, 0) AS withdrawal_total,
+                   COALESCE(r.withdrawal_count, 0) AS withdrawal_count
+            FROM accounts a
+            JOIN account_types t ON t.id = a.account_type_id
+            LEFT JOIN (SELECT m.account_id,
+                              SUM(m.amount) FILTER (WHERE m.type = 'DEPOSIT')    AS deposit_total,
+                              COUNT(*)      FILTER (WHERE m.type = 'DEPOSIT')    AS deposit_count,
+                              SUM(m.amount) FILTER (WHERE m.type = 'WITHDRAWAL') AS withdrawal_total,
+                              COUNT(*)      FILTER (WHERE m.type = 'WITHDRAWAL') AS withdrawal_count
+                       FROM movements m
+                       WHERE m.account_id IN (SELECT id FROM accounts WHERE client_id = :clientId)
+                         AND m.happened_at >= :from AND m.happened_at < :to
+                       GROUP BY m.account_id) r ON r.account_id = a.id
+            LEFT JOIN LATERAL (SELECT m.id, m.happened_at, m.balance_after
+                               FROM movements m
+                               WHERE m.account_id = a.id AND m.happened_at < :from AND NOT m.sharded
+                               ORDER BY m.happened_at DESC, m.id DESC
+                               LIMIT 1) prev ON true
+            LEFT JOIN LATERAL (SELECT SUM(m.amount) AS total
+                               FROM movements m
+                               WHERE m.account_id = a.id AND m.happened_at < :from AND m.sharded
+                                 AND (prev.id IS NULL
+                                      OR (m.happened_at, m.id) > (prev.happened_at, prev.id))) gap ON true
+            WHERE a.client_id = :clientId
+            ORDER BY a.id
+            """;
+
+    private static final RowMapper<AccountSummary> SUMMARY_MAPPER = (rs, i) -> {
+        BigDecimal opening = rs.getBigDecimal("opening_balance");
+        BigDecimal deposits = rs.getBigDecimal("deposit_total");
+        BigDecimal withdrawals = rs.getBigDecimal("withdrawal_total");
+        BigDecimal net = deposits.add(withdrawals);
+        return new AccountSummary(
+                rs.getString("account_number"),
+                rs.getString("account_type"),
+                rs.getBoolean("active"),
+                opening,
+                opening.add(net),
+                deposits,
+                rs.getLong("deposit_count"),
+                withdrawals,
+                rs.getLong("withdrawal_count"),
+                net);
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountSummary> summarizeByClientId(String clientId, Instant from, Instant to) {
+        var params = new MapSqlParameterSource()
+                .addValue("clientId", clientId)
+                .addValue("from", OffsetDateTime.ofInstant(from, ZoneOffset.UTC))
+                .addValue("to", OffsetDateTime.ofInstant(to, ZoneOffset.UTC));
+        return jdbcTemplate.query(SUMMARY_SQL, params, SUMMARY_MAPPER);
+    }
+}
@@ -0,0 +1,51 @@
+package com.devsu.transaction.infrastructure.persistence.adapter;
+
+import com.devsu.transaction.application.port.ClientFeedCursorStore;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Adapter JDBC del cursor del feed de cambios de clientes (una fila por feed).
+ */
+@Observed(name = "repository")
+@Repository
+@RequiredArgsConstructor
+public class JdbcClientFeedCursorAdapter implements ClientFeedCursorStore {
+
+    private static final String FEED = "clients";
+
+    private static final String LOAD_SQL = """
+            SELECT position FROM client_feed_cursor WHERE feed = :feed
+            """;
+
+    private static final String SAVE_SQL = """
+            INSERT INTO client_feed_cursor (feed, position, updated_at)
+            VALUES (:feed, :position, NOW())
+            ON CONFLICT (feed) DO UPDATE SET position = EXCLUDED.position, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> load() {
+        return jdbcTemplate.queryForList(LOAD_SQL, new MapSqlParameterSource("feed", FEED), String.class)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void save(String cursor) {
+        jdbcTemplate.update(SAVE_SQL, new MapSqlParameterSource()
+                .addValue("feed", FEED)
+                .addValue("position", cursor));
+    }
+}
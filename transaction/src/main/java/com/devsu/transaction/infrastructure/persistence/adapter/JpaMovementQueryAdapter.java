@@ -0,0 +1,44 @@
+package com.devsu.transaction.infrastructure.persistence.adapter;
+
+import com.devsu.transaction.application.port.MovementQueryPort;
+import com.devsu.transaction.application.result.MovementResult;
+import com.devsu.transaction.infrastructure.persistence.repository.MovementJpaRepository;
+import com.devsu.transaction.infrastructure.persistence.repository.MovementJpaRepository.AccountMovementRow;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter de lectura de movimientos: proyecciones directas sin materializar entidades ni el agregado Account.
+ */
+@Observed(name = "repository")
+@Repository
+@RequiredArgsConstructor
+public class JpaMovementQueryAdapter implements MovementQueryPort {
+
+    private final MovementJpaRepository movementJpaRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<List<MovementResult>> findByAccountNumberAndDateRange(String accountNumber, Instant from, Instant to) {
+        List<AccountMovementRow> rows = movementJpaRepository.findStatementRows(accountNumber, from, to);
+        if (rows.isEmpty()) return Optional.empty();
+
+        return Optional.of(rows.stream()
+                .filter(row -> row.getId() != null)
+                .map(row -> new MovementResult(
+                        row.getId(),
+                        row.getAccountId(),
+                        row.getHappenedAt(),
+                        row.getAmount(),
+                        row.getBalanceAfter(),
+                        row.getUuid()
+                ))
+                .toList());
+    }
+}
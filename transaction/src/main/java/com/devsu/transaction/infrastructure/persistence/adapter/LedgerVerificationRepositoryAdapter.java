@@ -0,0 +1,225 @@
+package com.devsu.transaction.infrastructure.persistence.adapter;
+
+import com.devsu.transaction.domain.model.ledger.LedgerMismatch;
+import com.devsu.transaction.domain.model.ledger.LedgerRangeReport;
+import com.devsu.transaction.domain.model.ledger.LedgerVerificationRun;
+import com.devsu.transaction.domain.repository.LedgerVerificationRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter JDBC de la verificación del libro mayor.
+ * Las comprobaciones se resuelven en SQL (agregados y funciones de ventana) para no traer movimientos a memoria.
+ */
+@Observed(name = "repository")
+@Repository
+@RequiredArgsConstructor
+public class LedgerVerificationRepositoryAdapter implements LedgerVerificationRepository {
+
+    // initial + Σamount vs saldo vigente (la suma de fragmentos si la cuenta tiene saldo fragmentado)
+    private static final String BALANCE_SQL = """
+            SELECT a.id,
+                   a.initial_balance + COALESCE(m.total, 0) AS expected,
+                   CASE WHEN a.balance_shards > 0 THEN COALESCE(s.total, 0) ELSE a.current_balance END AS actual,
+                   COALESCE(m.cnt, 0) AS movements
+            FROM accounts a
+            LEFT JOIN (SELECT account_id, SUM(amount) AS total, COUNT(*) AS cnt
+                       FROM movements
+                       WHERE account_id > :from AND account_id <= :to
+                       GROUP BY account_id) m ON m.account_id = a.id
+            LEFT JOIN (SELECT account_id, SUM(balance) AS total
+                       FROM account_balance_shards
+                       WHERE account_id > :from AND account_id <= :to
+                       GROUP BY account_id) s ON s.account_id = a.id
+            WHERE a.id > :from AND a.id <= :to
+            """;
+
+    // Primer eslabón roto de la cadena de balance_after por cuenta. Los movimientos registrados con saldo
+    // fragmentado (sharded) suman al acumulado pero no se comparan: su balance_after es el agregado observado.
+    // Se decide por movimiento, no por el estado actual de la cuenta, que pudo des-fragmentarse después.
+    private static final String CHAIN_SQL = """
+            SELECT DISTINCT ON (c.account_id) c.account_id, c.id, c.expected, c.balance_after
+            FROM (SELECT m.account_id, m.id, m.balance_after, m.sharded,
+                         a.initial_balance + SUM(m.amount) OVER (PARTITION BY m.account_id ORDER BY m.id) AS expected
+                  FROM movements m
+                  JOIN accounts a ON a.id = m.account_id
+                  WHERE m.account_id > :from AND m.account_id <= :to) c
+            WHERE NOT c.sharded AND c.balance_after <> c.expected
+            ORDER BY c.account_id, c.id
+            """;
+
+    private static final String RUN_COLUMNS = """
+            id, status, last_account_id, max_account_id, accounts_checked, movements_checked,
+            mismatches, active_millis, started_at, finished_at, error
+            """;
+
+    private static final RowMapper<LedgerVerificationRun> RUN_MAPPER = (rs, i) -> new LedgerVerificationRun(
+            rs.getLong("id"),
+            LedgerVerificationRun.Status.valueOf(rs.getString("status")),
+            rs.getLong("last_account_id"),
+            rs.getLong("max_account_id"),
+            rs.getLong("accounts_checked"),
+            rs.getLong("movements_checked"),
+            rs.getLong("mismatches"),
+            rs.getLong("active_millis"),
+            rs.getObject("started_at", OffsetDateTime.class).toInstant(),
+            toInstant(rs, "finished_at"),
+            rs.getString("error"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long findMaxAccountId() {
+        Long max = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT MAX(id) FROM accounts", Long.class);
+        return max == null ? 0L : max;
+    }
+
+    @Override
+    // REPEATABLE READ: ambas consultas ven el mismo snapshot aunque haya tráfico concurrente
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public LedgerRangeReport verifyRange(long fromExclusive, long toInclusive) {
+        var params = new MapSqlParameterSource()
+                .addValue("from", fromExclusive)
+                .addValue("to", toInclusive);
+
+        List<LedgerMismatch> mismatches = new ArrayList<>();
+        long[] counts = new long[2];
+        jdbcTemplate.query(BALANCE_SQL, params, rs -> {
+            counts[0]++;
+            counts[1] += rs.getLong("movements");
+            BigDecimal expected = rs.getBigDecimal("expected");
+            BigDecimal actual = rs.getBigDecimal("actual");
+            if (expected.compareTo(actual) != 0) {
+                mismatches.add(new LedgerMismatch(rs.getLong("id"), null,
+                        LedgerMismatch.Kind.BALANCE, expected, actual));
+            }
+        });
+        jdbcTemplate.query(CHAIN_SQL, params, rs -> {
+            mismatches.add(new LedgerMismatch(rs.getLong("account_id"), rs.getLong("id"),
+                    LedgerMismatch.Kind.CHAIN, rs.getBigDecimal("expected"), rs.getBigDecimal("balance_after")));
+        });
+        return new LedgerRangeReport(counts[0], counts[1], mismatches);
+    }
+
+    @Override
+    @Transactional
+    public LedgerVerificationRun createRun(long maxAccountId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO ledger_verification_runs (status, max_account_id) VALUES ('RUNNING', :max) RETURNING "
+                        + RUN_COLUMNS,
+                new MapSqlParameterSource("max", maxAccountId),
+                RUN_MAPPER);
+    }
+
+    @Override
+    @Transactional
+    public LedgerVerificationRun resumeRun(Long runId) {
+        return jdbcTemplate.queryForObject("""
+                        UPDATE ledger_verification_runs
+                        SET status = 'RUNNING', finished_at = NULL, error = NULL, updated_at = NOW()
+                        WHERE id = :id
+                        """ + "RETURNING " + RUN_COLUMNS,
+                new MapSqlParameterSource("id", runId),
+                RUN_MAPPER);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LedgerVerificationRun> findLatestRun() {
+        return jdbcTemplate.query(
+                "SELECT " + RUN_COLUMNS + " FROM ledger_verification_runs ORDER BY id DESC LIMIT 1",
+                RUN_MAPPER).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public void saveProgress(Long runId, long lastAccountId, LedgerRangeReport report, long elapsedMillis) {
+        jdbcTemplate.update("""
+                        UPDATE ledger_verification_runs
+                        SET last_account_id   = :last,
+                            accounts_checked  = accounts_checked + :accounts,
+                            movements_checked = movements_checked + :movements,
+                            mismatches        = mismatches + :mismatches,
+                            active_millis     = active_millis + :elapsed,
+                            updated_at        = NOW()
+                        WHERE id = :id
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", runId)
+                        .addValue("last", lastAccountId)
+                        .addValue("accounts", report.accounts())
+                        .addValue("movements", report.movements())
+                        .addValue("mismatches", report.mismatches().size())
+                        .addValue("elapsed", elapsedMillis));
+
+        if (report.mismatches().isEmpty()) return;
+        SqlParameterSource[] batch = report.mismatches().stream()
+                .map(m -> new MapSqlParameterSource()
+                        .addValue("runId", runId)
+                        .addValue("accountId", m.accountId())
+                        .addValue("movementId", m.movementId())
+                        .addValue("kind", m.kind().name())
+                        .addValue("expected", m.expected())
+                        .addValue("actual", m.actual()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO ledger_verification_mismatches (run_id, account_id, movement_id, kind, expected, actual)
+                VALUES (:runId, :accountId, :movementId, :kind, :expected, :actual)
+                """, batch);
+    }
+
+    @Override
+    @Transactional
+    public void finishRun(Long runId, LedgerVerificationRun.Status status, String error) {
+        jdbcTemplate.update("""
+                        UPDATE ledger_verification_runs
+                        SET status = :status, error = :error, finished_at = NOW(), updated_at = NOW()
+                        WHERE id = :id
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", runId)
+                        .addValue("status", status.name())
+                        .addValue("error", error));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerMismatch> findMismatches(Long runId, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT account_id, movement_id, kind, expected, actual
+                        FROM ledger_verification_mismatches
+                        WHERE run_id = :runId
+                        ORDER BY account_id, id
+                        LIMIT :limit
+                        """,
+                new MapSqlParameterSource().addValue("runId", runId).addValue("limit", limit),
+                (rs, i) -> new LedgerMismatch(
+                        rs.getLong("account_id"),
+                        rs.getObject("movement_id", Long.class),
+                        LedgerMismatch.Kind.valueOf(rs.getString("kind")),
+                        rs.getBigDecimal("expected"),
+                        rs.getBigDecimal("actual")));
+    }
+
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+}
@@ -0,0 +1,24 @@
+package com.devsu.transaction.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Fragmento de saldo de una cuenta. Se actualiza con sentencias nativas (incrementos atómicos),
+ * nunca por merge del agregado.
+ */
+@Entity
+@Table(name = "account_balance_shards")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceShardEntity {
+
+    @EmbeddedId
+    private AccountBalanceShardId id;
+
+    @Column(name = "balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+}
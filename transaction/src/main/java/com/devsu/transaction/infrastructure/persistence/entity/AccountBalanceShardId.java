@@ -0,0 +1,22 @@
+package com.devsu.transaction.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+/** Clave compuesta (cuenta, número de fragmento). */
+@Embeddable
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AccountBalanceShardId implements Serializable {
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+}
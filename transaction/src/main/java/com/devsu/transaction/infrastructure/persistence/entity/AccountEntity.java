@@ -2,13 +2,17 @@ package com.devsu.transaction.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+// Solo las columnas modificadas de la entidad gestionada (re-fragmentación): no reescribe el estado ajeno.
+// Un merge de una entidad separada copia todos sus valores, así que los cambios puntuales van por UPDATE dirigido.
 @Entity
+@DynamicUpdate
 @Table(name = "accounts")
 @Getter @Setter
 @NoArgsConstructor
@@ -42,6 +46,10 @@ public class AccountEntity {
     @Column(name = "created_at", updatable = false, nullable = false)
     private Instant createdAt;
 
+    // 0 = saldo en current_balance; N > 0 = saldo repartido en account_balance_shards
+    @Column(name = "balance_shards", nullable = false)
+    private int balanceShards;
+
     @OneToMany(
             mappedBy = "account",
             fetch = FetchType.LAZY,
@@ -41,6 +41,10 @@ public class MovementEntity {
     @Column(name = "happened_at", nullable = false, updatable = false)
     private Instant happenedAt;
 
+    // Registrado con el saldo fragmentado: balance_after es el agregado observado, no un saldo exacto
+    @Column(name = "sharded", nullable = false, updatable = false)
+    private boolean sharded;
+
     @PrePersist
     void onCreate() {
         happenedAt = Instant.now();
@@ -22,6 +22,11 @@ public final class AccountPersistenceMapper {
 
     /* ===================== Entity -> Domain ===================== */
     public static Account toDomain(AccountEntity e, List<MovementEntity> movementEntities) {
+        return toDomain(e, movementEntities, Money.of(e.getCurrentBalance()));
+    }
+
+    /** Igual que toDomain, con el saldo vigente ya resuelto (p.ej. suma de fragmentos). */
+    public static Account toDomain(AccountEntity e, List<MovementEntity> movementEntities, Money currentBalance) {
         List<Movement> movements = movementEntities.stream()
                 .map(AccountPersistenceMapper::toDomain)
                 .toList();
@@ -35,12 +40,18 @@ public final class AccountPersistenceMapper {
                 e.getCreatedAt(),
                 e.isActive(),
                 movements,
-                Money.of(e.getCurrentBalance())
+                currentBalance,
+                e.getBalanceShards()
         );
     }
 
     /** Mapea AccountEntity a dominio sin historial (carga ligera). */
     public static Account toDomainShallow(AccountEntity e) {
+        return toDomainShallow(e, Money.of(e.getCurrentBalance()));
+    }
+
+    /** Carga ligera con el saldo vigente ya resuelto (p.ej. suma de fragmentos). */
+    public static Account toDomainShallow(AccountEntity e, Money currentBalance) {
         return Account.fromPersistence(
                 e.getId(),
                 e.getAccountNumber(),
@@ -50,7 +61,8 @@ public final class AccountPersistenceMapper {
                 e.getCreatedAt(),
                 e.isActive(),
                 List.of(),
-                Money.of(e.getCurrentBalance())
+                currentBalance,
+                e.getBalanceShards()
         );
     }
 
@@ -69,7 +81,8 @@ public final class AccountPersistenceMapper {
                 e.getCreatedAt(),
                 e.isActive(),
                 history,
-                Money.of(e.getCurrentBalance())
+                Money.of(e.getCurrentBalance()),
+                e.getBalanceShards()
         );
     }
 
@@ -100,6 +113,7 @@ public final class AccountPersistenceMapper {
         e.setActive(account.isActive());
         e.setClientId(account.getClientId());
         e.setCreatedAt(account.getCreatedAt());
+        e.setBalanceShards(account.getBalanceShards());
         return e;
     }
 
@@ -130,7 +144,7 @@ public final class AccountPersistenceMapper {
     }
 
     /** Convierte un Movement del dominio a MovementEntity y lo enlaza al parent. */
-    private static MovementEntity toMovementEntityAttached(Movement m, AccountEntity parent) {
+    public static MovementEntity toMovementEntityAttached(Movement m, AccountEntity parent) {
         MovementEntity e = new MovementEntity();
         e.setId(m.getId());
         e.setType(m.getType());
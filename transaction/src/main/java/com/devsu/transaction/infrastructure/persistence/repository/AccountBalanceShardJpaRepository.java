@@ -0,0 +1,90 @@
+package com.devsu.transaction.infrastructure.persistence.repository;
+
+import com.devsu.transaction.infrastructure.persistence.entity.AccountBalanceShardEntity;
+import com.devsu.transaction.infrastructure.persistence.entity.AccountBalanceShardId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+public interface AccountBalanceShardJpaRepository extends JpaRepository<AccountBalanceShardEntity, AccountBalanceShardId> {
+
+    /**
+     * Incremento atómico de un fragmento en un solo round trip.
+     * Solo aplica si el fragmento no queda negativo y retorna el saldo agregado resultante
+     * (null si el fragmento no existe o no alcanza).
+     */
+    @Query(value = """
+           WITH upd AS (
+               UPDATE account_balance_shards
+                  SET balance = balance + :delta
+                WHERE account_id = :accountId
+                  AND shard_no = :shardNo
+                  AND balance + :delta >= 0
+            RETURNING account_id, shard_no, balance
+           )
+           SELECT upd.balance + COALESCE((SELECT SUM(s.balance)
+                                            FROM account_balance_shards s
+                                           WHERE s.account_id = upd.account_id
+                                             AND s.shard_no <> upd.shard_no), 0)
+             FROM upd
+           """, nativeQuery = true)
+    BigDecimal applyDelta(@Param("accountId") Long accountId,
+                          @Param("shardNo") int shardNo,
+                          @Param("delta") BigDecimal delta);
+
+    @Query(value = """
+           SELECT balance
+             FROM account_balance_shards
+            WHERE account_id = :accountId
+            ORDER BY shard_no
+              FOR UPDATE
+           """, nativeQuery = true)
+    List<BigDecimal> lockBalances(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query(value = """
+           UPDATE account_balance_shards
+              SET balance = balance - :debit
+            WHERE account_id = :accountId
+              AND shard_no = :shardNo
+           """, nativeQuery = true)
+    int debit(@Param("accountId") Long accountId,
+              @Param("shardNo") int shardNo,
+              @Param("debit") BigDecimal debit);
+
+    @Query(value = """
+           SELECT COALESCE(SUM(balance), 0)
+             FROM account_balance_shards
+            WHERE account_id = :accountId
+           """, nativeQuery = true)
+    BigDecimal sumBalance(@Param("accountId") Long accountId);
+
+    // Se agregan los fragmentos de varias cuentas: [account_id, saldo]
+    @Query(value = """
+           SELECT account_id, SUM(balance)
+             FROM account_balance_shards
+            WHERE account_id IN (:accountIds)
+            GROUP BY account_id
+           """, nativeQuery = true)
+    List<Object[]> sumBalances(@Param("accountIds") Collection<Long> accountIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM account_balance_shards WHERE account_id = :accountId", nativeQuery = true)
+    int deleteByAccountId(@Param("accountId") Long accountId);
+
+    // Se crean N fragmentos: el primero con el saldo completo y el resto en cero
+    @Modifying
+    @Query(value = """
+           INSERT INTO account_balance_shards (account_id, shard_no, balance)
+           SELECT :accountId, g, CASE WHEN g = 0 THEN :total ELSE 0 END
+             FROM generate_series(0, :shards - 1) AS g
+           """, nativeQuery = true)
+    int createShards(@Param("accountId") Long accountId,
+                     @Param("shards") int shards,
+                     @Param("total") BigDecimal total);
+}
@@ -1,11 +1,14 @@
 package com.devsu.transaction.infrastructure.persistence.repository;
 
 import com.devsu.transaction.infrastructure.persistence.entity.AccountEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +26,19 @@ public interface AccountJpaRepository extends JpaRepository<AccountEntity, Long>
     Optional<AccountEntity> findByIdWithMovements(@Param("id") Long id);
 
     List<AccountEntity> findByClientId(String clientId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountEntity a where a.id = :id")
+    Optional<AccountEntity> findByIdForUpdate(@Param("id") Long id);
+
+    // Solo bloquea si el saldo no está fragmentado: tras esperar un bloqueo, PostgreSQL reevalúa el filtro
+    // sobre la versión vigente, así que una re-fragmentación concurrente deja la fila fuera del resultado
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountEntity a where a.accountNumber = :accountNumber and a.balanceShards = 0")
+    Optional<AccountEntity> findUnshardedByAccountNumberForUpdate(@Param("accountNumber") String accountNumber);
+
+    // PostgreSQL bloquea las filas en el orden del ORDER BY: orden global por id
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountEntity a where a.accountNumber in :accountNumbers order by a.id")
+    List<AccountEntity> findByAccountNumberInForUpdate(@Param("accountNumbers") Collection<String> accountNumbers);
 }
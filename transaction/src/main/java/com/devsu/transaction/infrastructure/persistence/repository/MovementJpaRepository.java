@@ -2,21 +2,60 @@ package com.devsu.transaction.infrastructure.persistence.repository;
 
 import com.devsu.transaction.infrastructure.persistence.entity.MovementEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 
 public interface MovementJpaRepository extends JpaRepository<MovementEntity, Long> {
-    List<MovementEntity> findByAccount_IdAndHappenedAtBetweenOrderByHappenedAtAsc(
-            Long accountId, Instant from, Instant to);
+    /** Fila del extracto por número de cuenta: los campos del movimiento son null si la cuenta no tiene movimientos en el rango. */
+    interface AccountMovementRow {
+        Long getAccountId();
+        Long getId();
+        Instant getHappenedAt();
+        BigDecimal getAmount();
+        BigDecimal getBalanceAfter();
+        String getUuid();
+    }
 
-    List<MovementEntity> findByAccount_AccountNumberAndHappenedAtBetweenOrderByHappenedAtAsc(
-            String accountNumber, Instant from, Instant to
-    );
+    /**
+     * Movimientos de la cuenta en [from, to) resueltos por número de cuenta en una sola consulta.
+     * El left join conserva la fila de la cuenta: sin filas la cuenta no existe; una fila con id null
+     * es una cuenta sin movimientos en el rango.
+     */
+    @Query("""
+           select a.id as accountId, m.id as id, m.happenedAt as happenedAt, m.amount as amount,
+                  m.balanceAfter as balanceAfter, m.uuid as uuid
+           from AccountEntity a
+           left join a.movements m on m.happenedAt >= :from and m.happenedAt < :to
+           where a.accountNumber = :accountNumber
+           order by m.happenedAt asc, m.id asc
+           """)
+    List<AccountMovementRow> findStatementRows(@Param("accountNumber") String accountNumber,
+                                               @Param("from") Instant from,
+                                               @Param("to") Instant to);
 
     List<MovementEntity> findByAccount_IdInAndHappenedAtBetweenOrderByHappenedAtDesc(
             List<Long> accountIds, Instant from, Instant to);
 
-    Optional<MovementEntity> findByAccount_IdAndUuid(Long accountId, String uuid);
+    /**
+     * Actualiza el saldo de la cuenta e inserta el movimiento en una sola sentencia (CTE).
+     * La cuenta debe estar bloqueada por la transacción en curso. Retorna el id del movimiento.
+     */
+    @Query(value = """
+           WITH upd AS (
+               UPDATE accounts SET current_balance = :balanceAfter WHERE id = :accountId
+           )
+           INSERT INTO movements (account_id, type, amount, balance_after, uuid, happened_at)
+           VALUES (:accountId, :type, :amount, :balanceAfter, :uuid, :happenedAt)
+           RETURNING id
+           """, nativeQuery = true)
+    Long insertWithAccountBalance(@Param("accountId") Long accountId,
+                                  @Param("type") String type,
+                                  @Param("amount") BigDecimal amount,
+                                  @Param("balanceAfter") BigDecimal balanceAfter,
+                                  @Param("uuid") String uuid,
+                                  @Param("happenedAt") Instant happenedAt);
 }
@@ -0,0 +1,23 @@
+package com.devsu.transaction.infrastructure.timing;
+
+import feign.Capability;
+import feign.Client;
+
+/**
+ * Capability de Feign que suma al acumulador de la solicitud el tiempo de cada llamada remota
+ * (conexión, envío y recepción de la respuesta).
+ */
+public class TimedFeignCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            long started = System.nanoTime();
+            try {
+                return client.execute(request, options);
+            } finally {
+                RequestTiming.addRemote(System.nanoTime() - started);
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.devsu.transaction.infrastructure.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor Jackson que mide la serialización de la respuesta. El cuerpo se serializa primero en memoria
+ * para poder agregar el header Server-Timing (con el tiempo de json incluido) antes de enviar la respuesta.
+ * Fuera de una solicitud (p. ej. cuerpos de peticiones salientes) se comporta como el conversor estándar.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null || !(outputMessage instanceof ServerHttpResponse)) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long started = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        super.writeInternal(object, type, new BufferedOutputMessage(outputMessage.getHeaders(), buffer));
+        timing.addJson(System.nanoTime() - started);
+
+        outputMessage.getHeaders().set(RequestTiming.HEADER, timing.headerValue());
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    private record BufferedOutputMessage(HttpHeaders headers, OutputStream body) implements HttpOutputMessage {
+        @Override
+        public OutputStream getBody() { return body; }
+
+        @Override
+        public HttpHeaders getHeaders() { return headers; }
+    }
+}
@@ -0,0 +1,179 @@
+package com.devsu.transaction.infrastructure.warmup;
+
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.mapper.AccountStatementAppMapper;
+import com.devsu.transaction.application.mapper.MovementAppMapper;
+import com.devsu.transaction.application.result.AccountStatementReport;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.model.account.AccountType;
+import com.devsu.transaction.domain.model.money.Money;
+import com.devsu.transaction.infrastructure.web.dto.CreateMovementRequest;
+import com.devsu.transaction.infrastructure.web.dto.MovementResponse;
+import com.devsu.transaction.infrastructure.web.mappers.MovementWebMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calentamiento del JIT antes de que el readiness pase a UP (los ApplicationRunner corren antes de
+ * ApplicationReadyEvent). Se recorren en memoria los caminos calientes de POST /movimientos y GET /reportes:
+ * deserialización y validación del request, MapStruct, Account.registerMovement, mapeo a resultado/reporte
+ * y serialización Jackson. No toca la BD ni el user-service.
+ * Termina al completar warmup.iterations o al agotar warmup.max-duration, lo que ocurra primero.
+ * Métricas: warmup.completed (0/1), warmup.iterations y warmup.duration.
+ */
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class JitWarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JitWarmUpRunner.class);
+
+    private static final byte[] VALID_REQUEST =
+            "{\"accountNumber\":\"WARMUP-0001\",\"amount\":125.50}".getBytes();
+    private static final byte[] INVALID_REQUEST =
+            "{\"accountNumber\":\"\",\"amount\":0.001}".getBytes();
+    private static final ClientResponse CLIENT = new ClientResponse(0L, "Warm", "Up", "MALE",
+            LocalDate.of(1990, 1, 1), "CC", "0000000000", "-", "-", "WARMUP", true);
+    private static final int REPORT_ACCOUNTS = 2;
+    private static final int REPORT_MOVEMENTS = 8;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MovementWebMapper movementWebMapper;
+    private final Timer duration;
+    private final int iterations;
+    private final Duration maxDuration;
+    private final AtomicLong completedIterations = new AtomicLong();
+    private volatile int completed;
+    private volatile long sink; // evita que el JIT descarte el trabajo como código muerto
+
+    public JitWarmUpRunner(ObjectMapper objectMapper,
+                           Validator validator,
+                           MovementWebMapper movementWebMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${warmup.iterations:20000}") int iterations,
+                           @Value("${warmup.max-duration:PT15S}") Duration maxDuration) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.movementWebMapper = movementWebMapper;
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+        this.duration = Timer.builder("warmup.duration")
+                .description("Tiempo de calentamiento del JIT antes del readiness")
+                .register(meterRegistry);
+        Gauge.builder("warmup.completed", this, r -> r.completed)
+                .description("1 cuando el calentamiento terminó")
+                .register(meterRegistry);
+        Gauge.builder("warmup.iterations", completedIterations, AtomicLong::get)
+                .description("Iteraciones de calentamiento ejecutadas")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        long deadline = started + maxDuration.toNanos();
+        long bytes = 0;
+        try {
+            for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                bytes += movementRoundTrip(i);
+                bytes += reportRoundTrip(i);
+                completedIterations.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            // Un fallo del calentamiento no debe impedir el arranque
+            log.warn("JIT warm-up aborted after {} iterations: {}", completedIterations.get(), e.toString());
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            duration.record(Duration.ofNanos(elapsed));
+            sink = bytes;
+            completed = 1;
+            log.info("JIT warm-up finished: {} iterations in {} ms",
+                    completedIterations.get(), Duration.ofNanos(elapsed).toMillis());
+        }
+    }
+
+    // POST /movimientos: request -> validación -> comando -> dominio -> resultado -> response JSON
+    private long movementRoundTrip(int i) {
+        CreateMovementRequest request = read(i % 8 == 0 ? INVALID_REQUEST : VALID_REQUEST, CreateMovementRequest.class);
+        if (!validator.validate(request).isEmpty()) return 1;
+
+        var command = movementWebMapper.toCommand(request);
+        Account account = account(command.accountNumber());
+        String uuid = account.registerMovement(command.amount());
+        account.registerMovement(command.amount().negate());
+
+        var movement = account.getMovements().stream()
+                .filter(m -> m.getUuid().equals(uuid))
+                .findFirst()
+                .orElseThrow();
+        MovementResponse response = movementWebMapper.toResponse(MovementAppMapper.toResult(account, movement));
+        return write(response).length;
+    }
+
+    // GET /reportes: cuentas con movimientos -> reporte -> JSON
+    private long reportRoundTrip(int i) {
+        Instant from = LocalDate.of(2025, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant toExclusive = from.plus(Duration.ofDays(30 + i % 7));
+        List<Account> accounts = new ArrayList<>(REPORT_ACCOUNTS);
+        for (int a = 0; a < REPORT_ACCOUNTS; a++) {
+            Account account = account("WARMUP-R" + a);
+            for (int m = 0; m < REPORT_MOVEMENTS; m++) {
+                account.registerMovement(BigDecimal.valueOf(m % 2 == 0 ? 40 + m : -(20 + m)));
+            }
+            accounts.add(account);
+        }
+        AccountStatementReport report = AccountStatementAppMapper.toReport(CLIENT, from, toExclusive, accounts);
+        return write(report).length;
+    }
+
+    private static Account account(String accountNumber) {
+        Money balance = Money.of(new BigDecimal("1000.00"));
+        return Account.fromPersistence(1L, accountNumber, AccountType.AHORROS, balance, CLIENT.clientId(),
+                Instant.EPOCH, true, List.of(), balance);
+    }
+
+    private <T> T read(byte[] json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isCompleted() {
+        return completed == 1;
+    }
+
+    public long completedIterations() {
+        return completedIterations.get();
+    }
+}
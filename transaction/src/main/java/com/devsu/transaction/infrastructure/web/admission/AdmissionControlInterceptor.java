@@ -0,0 +1,71 @@
+package com.devsu.transaction.infrastructure.web.admission;
+
+import com.devsu.transaction.application.exception.ServiceOverloadedException;
+import com.devsu.transaction.infrastructure.web.controllers.MovementsController;
+import com.devsu.transaction.infrastructure.web.controllers.ReportsController;
+import com.devsu.transaction.infrastructure.web.controllers.TransfersController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Control de admisión delante de los controllers de movimientos, transferencias y reportes.
+ * Cada tipo de solicitud tiene su propio presupuesto (límite AIMD), de modo que los reportes lentos
+ * no consumen la capacidad de la ruta de escritura. Sin lugar se lanza ServiceOverloadedException
+ * (503 + Retry-After) antes de tocar la BD. El resto de endpoints no pasa por el limitador.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    public enum Budget { WRITE, LIST, REPORT }
+
+    private static final String LIMITER_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".limiter";
+    private static final String STARTED_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".started";
+
+    private final Map<Budget, AimdConcurrencyLimiter> limiters;
+    private final long retryAfterSeconds;
+
+    public AdmissionControlInterceptor(Map<Budget, AimdConcurrencyLimiter> limiters, long retryAfterSeconds) {
+        this.limiters = new EnumMap<>(limiters);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Budget budget = budgetOf(request, handler);
+        if (budget == null) return true;
+
+        AimdConcurrencyLimiter limiter = limiters.get(budget);
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException("Service overloaded (" + limiter.name() + "), retry later",
+                    retryAfterSeconds);
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(STARTED_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(LIMITER_ATTRIBUTE) instanceof AimdConcurrencyLimiter limiter)) return;
+        long elapsed = System.nanoTime() - (long) request.getAttribute(STARTED_ATTRIBUTE);
+        // Los 4xx son errores del cliente; solo los 5xx (p. ej. timeouts de BD) indican congestión
+        limiter.release(elapsed, ex != null || response.getStatus() >= 500);
+    }
+
+    // Se clasifica la solicitud según el controller y el método HTTP
+    static Budget budgetOf(HttpServletRequest request, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) return null;
+        Class<?> controller = method.getBeanType();
+        boolean get = HttpMethod.GET.matches(request.getMethod());
+        if (ReportsController.class.isAssignableFrom(controller)) return Budget.REPORT;
+        if (MovementsController.class.isAssignableFrom(controller)) return get ? Budget.LIST : Budget.WRITE;
+        if (TransfersController.class.isAssignableFrom(controller) && !get) return Budget.WRITE;
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.devsu.transaction.infrastructure.web.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Límite adaptativo de concurrencia AIMD (additive increase / multiplicative decrease).
+ * - Cada solicitud admitida ocupa un lugar hasta que termina; sin lugar se rechaza de inmediato.
+ * - Si la solicitud terminó con error o tardó más que latency-threshold, el límite se reduce (x backoff-ratio).
+ * - Si terminó bien y el límite se estaba usando (en vuelo >= la mitad), crece en uno.
+ * Así la concurrencia admitida sigue la capacidad real de la BD en lugar de acumular colas en Tomcat.
+ */
+public class AimdConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    public AimdConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                  Duration latencyThreshold, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit)
+            throw new IllegalArgumentException("Invalid limits for " + name + ": min=" + minLimit + ", max=" + maxLimit);
+        if (backoffRatio <= 0 || backoffRatio >= 1)
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1): " + backoffRatio);
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    // Se reserva un lugar si hay capacidad; no bloquea
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    // Se libera el lugar y se ajusta el límite con la latencia observada
+    public void release(long elapsedNanos, boolean failed) {
+        int wasInFlight = inFlight.getAndDecrement();
+        if (failed || elapsedNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (wasInFlight * 2 >= limit) {
+            increase();
+        }
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, (int) (limit * backoffRatio));
+    }
+
+    private synchronized void increase() {
+        if (limit < maxLimit) limit++;
+    }
+
+    public String name() { return name; }
+    public int limit() { return limit; }
+    public int inFlight() { return inFlight.get(); }
+    public long rejected() { return rejected.sum(); }
+}
@@ -2,12 +2,17 @@ package com.devsu.transaction.infrastructure.web.controllers;
 
 import com.devsu.transaction.application.command.CreateAccountCommand;
 import com.devsu.transaction.application.result.AccountResult;
+import com.devsu.transaction.application.service.BatchCreateAccountsService;
 import com.devsu.transaction.application.service.ChangeAccountStatusService;
+import com.devsu.transaction.application.service.ConfigureBalanceShardsService;
 import com.devsu.transaction.application.service.CreateAccountService;
 import com.devsu.transaction.application.service.GetAccountByNumberService;
 import com.devsu.transaction.infrastructure.web.dto.AccountResponse;
+import com.devsu.transaction.infrastructure.web.dto.BatchCreateAccountsResponse;
 import com.devsu.transaction.infrastructure.web.dto.ChangeAccountStatusRequest;
+import com.devsu.transaction.infrastructure.web.dto.ChangeBalanceShardsRequest;
 import com.devsu.transaction.infrastructure.web.dto.CreateAccountRequest;
+import com.devsu.transaction.infrastructure.web.dto.CreateAccountsBatchRequest;
 import com.devsu.transaction.infrastructure.web.mappers.AccountWebMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -23,8 +28,10 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public class AccountsController {
 
     private final CreateAccountService createAccountService;
+    private final BatchCreateAccountsService batchCreateAccountsService;
     private final ChangeAccountStatusService changeAccountStatusService;
     private final GetAccountByNumberService getAccountService;
+    private final ConfigureBalanceShardsService configureBalanceShardsService;
     private final AccountWebMapper webMapper;
 
     /** Crea una cuenta (número generado en servidor, estado siempre activo, saldo inicial ≥ 0). */
@@ -41,6 +48,13 @@ public class AccountsController {
         return ResponseEntity.created(location).body(webMapper.toResponse(result));
     }
 
+    /** Crea varias cuentas en lote; cada ítem informa su resultado sin abortar el resto. */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateAccountsResponse> createBatch(@Valid @RequestBody CreateAccountsBatchRequest request) {
+        var result = batchCreateAccountsService.execute(webMapper.toCommands(request.accounts()));
+        return ResponseEntity.ok(webMapper.toBatchResponse(result));
+    }
+
     /** Modifica el estado de la cuenta (activar/desactivar). */
     @PatchMapping("/{accountNumber}/estado")
     public ResponseEntity<AccountResponse> changeStatus(@PathVariable String accountNumber,
@@ -49,6 +63,14 @@ public class AccountsController {
         return ResponseEntity.ok(webMapper.toResponse(result));
     }
 
+    /** Activa/ajusta el saldo fragmentado para cuentas con muchos depósitos concurrentes (0 = desactivar). */
+    @PatchMapping("/{accountNumber}/fragmentos")
+    public ResponseEntity<AccountResponse> changeBalanceShards(@PathVariable String accountNumber,
+                                                               @Valid @RequestBody ChangeBalanceShardsRequest req) {
+        AccountResult result = configureBalanceShardsService.execute(accountNumber, req.shards());
+        return ResponseEntity.ok(webMapper.toResponse(result));
+    }
+
     /** GET /cuentas/{accountNumber} -> detalle de la cuenta. */
     @GetMapping("/{accountNumber}")
     public ResponseEntity<AccountResponse> getByAccountNumber(
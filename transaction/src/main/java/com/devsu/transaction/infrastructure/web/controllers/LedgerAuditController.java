@@ -0,0 +1,30 @@
+package com.devsu.transaction.infrastructure.web.controllers;
+
+import com.devsu.transaction.application.result.LedgerVerificationResult;
+import com.devsu.transaction.application.service.GetLedgerVerificationService;
+import com.devsu.transaction.application.service.StartLedgerVerificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/auditorias/libro-mayor")
+@RequiredArgsConstructor
+public class LedgerAuditController {
+
+    private final StartLedgerVerificationService startService;
+    private final GetLedgerVerificationService getService;
+
+    /** Lanza (o reanuda desde el checkpoint) la verificación del libro mayor en segundo plano. */
+    @PostMapping
+    public ResponseEntity<LedgerVerificationResult> start(
+            @RequestParam(name = "restart", defaultValue = "false") boolean restart) {
+        return ResponseEntity.accepted().body(startService.execute(restart));
+    }
+
+    /** Estado de la última verificación: avance, throughput e inconsistencias encontradas. */
+    @GetMapping
+    public LedgerVerificationResult status() {
+        return getService.execute();
+    }
+}
@@ -1,7 +1,9 @@
 package com.devsu.transaction.infrastructure.web.controllers;
 
 import com.devsu.transaction.application.result.AccountStatementReport;
+import com.devsu.transaction.application.result.AccountStatementSummary;
 import com.devsu.transaction.application.service.AccountStatementReportService;
+import com.devsu.transaction.application.service.AccountStatementSummaryService;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
@@ -13,9 +15,12 @@ import java.time.LocalDate;
 public class ReportsController {
 
     private final AccountStatementReportService reportService;
+    private final AccountStatementSummaryService summaryService;
 
-    public ReportsController(AccountStatementReportService reportService) {
+    public ReportsController(AccountStatementReportService reportService,
+                             AccountStatementSummaryService summaryService) {
         this.reportService = reportService;
+        this.summaryService = summaryService;
     }
 
     @GetMapping
@@ -26,4 +31,14 @@ public class ReportsController {
     ) {
         return reportService.execute(clientId, from, to);
     }
+
+    // mode=summary: totales y saldos por cuenta calculados en la BD, sin movimientos
+    @GetMapping(params = "mode=summary")
+    public AccountStatementSummary getAccountStatementSummary(
+            @RequestParam("clientId") @NotNull String clientId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return summaryService.execute(clientId, from, to);
+    }
 }
@@ -0,0 +1,34 @@
+package com.devsu.transaction.infrastructure.web.controllers;
+
+import com.devsu.transaction.application.result.TransferResult;
+import com.devsu.transaction.application.service.TransferService;
+import com.devsu.transaction.infrastructure.web.dto.CreateTransferRequest;
+import com.devsu.transaction.infrastructure.web.dto.TransferResponse;
+import com.devsu.transaction.infrastructure.web.mappers.TransferWebMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST para transferencias entre cuentas.
+ * - POST /transferencias: debita la cuenta origen y acredita la destino de forma atómica.
+ */
+@RestController
+@RequestMapping("/transferencias")
+@RequiredArgsConstructor
+public class TransfersController {
+
+    private final TransferService transferService;
+    private final TransferWebMapper mapper;
+
+    @PostMapping
+    public ResponseEntity<TransferResponse> create(@Valid @RequestBody CreateTransferRequest request) {
+        TransferResult result = transferService.execute(mapper.toCommand(request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(result));
+    }
+}
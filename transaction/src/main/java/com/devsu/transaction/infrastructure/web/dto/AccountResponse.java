@@ -9,5 +9,6 @@ public record AccountResponse(
         String clientId,
         BigDecimal currentBalance,
         BigDecimal initialBalance,
-        boolean active
+        boolean active,
+        int balanceShards
 ) {}
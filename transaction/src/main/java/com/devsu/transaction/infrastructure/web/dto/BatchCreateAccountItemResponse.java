@@ -0,0 +1,8 @@
+package com.devsu.transaction.infrastructure.web.dto;
+
+public record BatchCreateAccountItemResponse(
+        int index,
+        String status,
+        AccountResponse account,
+        String error
+) {}
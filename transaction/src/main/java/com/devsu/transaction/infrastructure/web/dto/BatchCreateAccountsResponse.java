@@ -0,0 +1,9 @@
+package com.devsu.transaction.infrastructure.web.dto;
+
+import java.util.List;
+
+public record BatchCreateAccountsResponse(
+        int created,
+        int failed,
+        List<BatchCreateAccountItemResponse> items
+) {}
@@ -0,0 +1,13 @@
+package com.devsu.transaction.infrastructure.web.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/** Request para fragmentar el saldo de una cuenta (0 desactiva la fragmentación). */
+public record ChangeBalanceShardsRequest(
+        @NotNull(message = "La cantidad de fragmentos 'shards' es obligatoria")
+        @Min(value = 0, message = "shards debe ser >= 0")
+        @Max(value = 64, message = "shards debe ser <= 64")
+        Integer shards
+) {}
@@ -0,0 +1,16 @@
+package com.devsu.transaction.infrastructure.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO de entrada para crear cuentas en lote.
+ * Los ítems no se validan aquí: cada error se reporta por ítem sin rechazar el lote completo.
+ */
+public record CreateAccountsBatchRequest(
+        @NotEmpty(message = "accounts es obligatorio")
+        @Size(max = 1000, message = "accounts admite como máximo 1000 cuentas")
+        List<CreateAccountRequest> accounts
+) {}
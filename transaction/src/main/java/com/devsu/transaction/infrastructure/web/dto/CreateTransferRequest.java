@@ -0,0 +1,24 @@
+package com.devsu.transaction.infrastructure.web.dto;
+
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO de entrada para transferir entre dos cuentas.
+ * El monto siempre es positivo: se debita de la cuenta origen y se acredita en la destino.
+ */
+public record CreateTransferRequest(
+        @NotBlank(message = "sourceAccountNumber es obligatorio")
+        @Size(max = 32, message = "sourceAccountNumber supera la longitud permitida")
+        String sourceAccountNumber,
+
+        @NotBlank(message = "targetAccountNumber es obligatorio")
+        @Size(max = 32, message = "targetAccountNumber supera la longitud permitida")
+        String targetAccountNumber,
+
+        @NotNull(message = "amount es obligatorio")
+        @DecimalMin(value = "0.01", message = "amount debe ser mayor que cero")
+        @Digits(integer = 17, fraction = 2, message = "amount debe tener hasta 2 decimales")
+        BigDecimal amount
+) {}
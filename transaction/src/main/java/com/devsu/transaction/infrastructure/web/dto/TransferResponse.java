@@ -0,0 +1,14 @@
+package com.devsu.transaction.infrastructure.web.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO de salida de una transferencia con sus dos movimientos.
+ */
+public record TransferResponse(
+        String sourceAccountNumber,
+        String targetAccountNumber,
+        BigDecimal amount,
+        MovementResponse debit,
+        MovementResponse credit
+) {}
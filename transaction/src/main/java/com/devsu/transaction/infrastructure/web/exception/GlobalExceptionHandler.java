@@ -3,8 +3,12 @@ package com.devsu.transaction.infrastructure.web.exception;
 import com.devsu.transaction.application.exception.AccountNotFoundException;
 import com.devsu.transaction.application.exception.ClientNotFoundException;
 import com.devsu.transaction.application.exception.DateReportException;
+import com.devsu.transaction.application.exception.LedgerVerificationInProgressException;
+import com.devsu.transaction.application.exception.LedgerVerificationNotFoundException;
 import com.devsu.transaction.application.exception.MovementNotFoundException;
+import com.devsu.transaction.application.exception.ServiceOverloadedException;
 import com.devsu.transaction.domain.exception.AccountNotPersistedException;
+import com.devsu.transaction.domain.exception.BalanceShardsChangedException;
 import com.devsu.transaction.domain.exception.InactiveAccountException;
 import com.devsu.transaction.domain.exception.InsufficientFundsException;
 import com.devsu.transaction.domain.exception.InvalidAmountException;
@@ -13,6 +17,7 @@ import com.devsu.transaction.infrastructure.web.dto.FieldViolation;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -189,6 +194,40 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.CONFLICT, ex.getMessage(), request);
     }
 
+    // Verificación del libro mayor ya en curso -> 409
+    @ExceptionHandler(LedgerVerificationInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleLedgerVerificationInProgress(LedgerVerificationInProgressException ex,
+                                                                            HttpServletRequest request) {
+        return build(HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    // Sin verificaciones del libro mayor -> 404
+    @ExceptionHandler(LedgerVerificationNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleLedgerVerificationNotFound(LedgerVerificationNotFoundException ex,
+                                                                          HttpServletRequest request) {
+        return build(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    // Control de admisión sin capacidad -> 503 con Retry-After para que el cliente reintente
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(ServiceOverloadedException ex,
+                                                          HttpServletRequest request) {
+        ResponseEntity<ErrorResponse> response = build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    // Re-fragmentación concurrente del saldo -> 409 con Retry-After: la solicitud es válida y puede reintentarse
+    @ExceptionHandler(BalanceShardsChangedException.class)
+    public ResponseEntity<ErrorResponse> handleBalanceShardsChanged(BalanceShardsChangedException ex,
+                                                                    HttpServletRequest request) {
+        ResponseEntity<ErrorResponse> response = build(HttpStatus.CONFLICT, ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
     // Helpers
     private ResponseEntity<ErrorResponse> badRequest(String msg, HttpServletRequest req) {
         return build(HttpStatus.BAD_REQUEST, msg, req);
@@ -2,10 +2,15 @@ package com.devsu.transaction.infrastructure.web.mappers;
 
 import com.devsu.transaction.application.command.CreateAccountCommand;
 import com.devsu.transaction.application.result.AccountResult;
+import com.devsu.transaction.application.result.BatchCreateAccountsResult;
 import com.devsu.transaction.infrastructure.web.dto.AccountResponse;
+import com.devsu.transaction.infrastructure.web.dto.BatchCreateAccountItemResponse;
+import com.devsu.transaction.infrastructure.web.dto.BatchCreateAccountsResponse;
 import com.devsu.transaction.infrastructure.web.dto.CreateAccountRequest;
 import org.mapstruct.Mapper;
 
+import java.util.List;
+
 /**
  * Mapper de la capa web. Interfaz de MapStruct.
  * Se mantiene sin lógica, solo proyecciones entre DTOs.
@@ -17,4 +22,10 @@ public interface AccountWebMapper {
 
     // Se mapea el result de aplicación al response web
     AccountResponse toResponse(AccountResult result);
+
+    List<CreateAccountCommand> toCommands(List<CreateAccountRequest> requests);
+
+    BatchCreateAccountsResponse toBatchResponse(BatchCreateAccountsResult result);
+
+    BatchCreateAccountItemResponse toItemResponse(BatchCreateAccountsResult.Item item);
 }
@@ -0,0 +1,15 @@
+package com.devsu.transaction.infrastructure.web.mappers;
+
+import com.devsu.transaction.application.command.CreateTransferCommand;
+import com.devsu.transaction.application.result.TransferResult;
+import com.devsu.transaction.infrastructure.web.dto.CreateTransferRequest;
+import com.devsu.transaction.infrastructure.web.dto.TransferResponse;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", uses = MovementWebMapper.class)
+public interface TransferWebMapper {
+
+    CreateTransferCommand toCommand(CreateTransferRequest request);
+
+    TransferResponse toResponse(TransferResult result);
+}
@@ -0,0 +1,19 @@
+-- V4__create_account_balance_shards.sql
+-- Saldo fragmentado (opcional) para cuentas con alta concurrencia de depósitos.
+-- balance_shards = 0 -> el saldo vive en accounts.current_balance (modo por defecto)
+-- balance_shards = N -> el saldo es la suma de N filas en account_balance_shards
+ALTER TABLE accounts
+    ADD COLUMN IF NOT EXISTS balance_shards INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE accounts
+    ADD CONSTRAINT ck_accounts_balance_shards_range CHECK (balance_shards BETWEEN 0 AND 64);
+
+CREATE TABLE IF NOT EXISTS account_balance_shards (
+    account_id  BIGINT        NOT NULL,
+    shard_no    INTEGER       NOT NULL,
+    balance     NUMERIC(19,2) NOT NULL,
+    CONSTRAINT pk_account_balance_shards PRIMARY KEY (account_id, shard_no),
+    CONSTRAINT fk_account_balance_shards_account
+        FOREIGN KEY (account_id) REFERENCES accounts (id) ON DELETE RESTRICT,
+    CONSTRAINT ck_account_balance_shards_non_negative CHECK (balance >= 0)
+);
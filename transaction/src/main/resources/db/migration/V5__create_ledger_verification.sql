@@ -0,0 +1,37 @@
+-- V5__create_ledger_verification.sql
+-- Verificación de integridad del libro mayor (initial + Σamount = current y cadena de balance_after).
+-- last_account_id es el checkpoint: todas las cuentas con id <= last_account_id ya fueron verificadas.
+CREATE TABLE IF NOT EXISTS ledger_verification_runs (
+    id                 BIGSERIAL    PRIMARY KEY,
+    status             VARCHAR(20)  NOT NULL,
+    last_account_id    BIGINT       NOT NULL DEFAULT 0,
+    max_account_id     BIGINT       NOT NULL,
+    accounts_checked   BIGINT       NOT NULL DEFAULT 0,
+    movements_checked  BIGINT       NOT NULL DEFAULT 0,
+    mismatches         BIGINT       NOT NULL DEFAULT 0,
+    active_millis      BIGINT       NOT NULL DEFAULT 0,
+    started_at         TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    updated_at         TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    finished_at        TIMESTAMPTZ,
+    error              VARCHAR(500),
+    CONSTRAINT ck_ledger_verification_runs_status
+        CHECK (status IN ('RUNNING','COMPLETED','FAILED','INTERRUPTED'))
+);
+
+-- Inconsistencias detectadas (a lo sumo una de cada tipo por cuenta y corrida)
+CREATE TABLE IF NOT EXISTS ledger_verification_mismatches (
+    id           BIGSERIAL     PRIMARY KEY,
+    run_id       BIGINT        NOT NULL,
+    account_id   BIGINT        NOT NULL,
+    movement_id  BIGINT,
+    kind         VARCHAR(20)   NOT NULL,
+    expected     NUMERIC(19,2) NOT NULL,
+    actual       NUMERIC(19,2) NOT NULL,
+    detected_at  TIMESTAMPTZ   NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_ledger_verification_mismatches_run
+        FOREIGN KEY (run_id) REFERENCES ledger_verification_runs (id) ON DELETE CASCADE,
+    CONSTRAINT ck_ledger_verification_mismatches_kind CHECK (kind IN ('BALANCE','CHAIN'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_verification_mismatches_run
+    ON ledger_verification_mismatches (run_id, account_id);
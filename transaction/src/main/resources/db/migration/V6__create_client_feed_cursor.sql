@@ -0,0 +1,8 @@
+-- V6__create_client_feed_cursor.sql
+-- Posición del consumidor del feed de cambios de clientes (GET /clientes/changes del user-service).
+-- Se guarda en la misma transacción que aplica la página, así un reinicio retoma sin reprocesar el historial.
+CREATE TABLE IF NOT EXISTS client_feed_cursor (
+    feed        VARCHAR(40)  PRIMARY KEY,
+    position    VARCHAR(60)  NOT NULL,
+    updated_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
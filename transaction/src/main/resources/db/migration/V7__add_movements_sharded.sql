@@ -0,0 +1,13 @@
+-- V7__add_movements_sharded.sql
+-- Marca los movimientos registrados con el saldo fragmentado: su balance_after es el agregado observado
+-- (puede ir atrás de depósitos concurrentes), así que verificador y reportes no lo toman como saldo exacto.
+ALTER TABLE movements
+    ADD COLUMN IF NOT EXISTS sharded BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Historial previo: no se sabe cuáles se registraron fragmentados. Se marcan los de las cuentas que hoy
+-- tienen saldo fragmentado (lo mismo que omitía el verificador); las que ya se des-fragmentaron no se distinguen.
+UPDATE movements m
+SET sharded = TRUE
+FROM accounts a
+WHERE a.id = m.account_id
+  AND a.balance_shards > 0;
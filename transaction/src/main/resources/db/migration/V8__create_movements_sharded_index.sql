@@ -0,0 +1,7 @@
+-- V8__create_movements_sharded_index.sql
+-- Movimientos registrados con saldo fragmentado, por cuenta y fecha. El saldo de apertura del resumen
+-- suma los que hay entre el último movimiento exacto y el inicio del rango; en las cuentas que nunca se
+-- fragmentaron el índice no tiene filas y la búsqueda es inmediata.
+CREATE INDEX IF NOT EXISTS idx_movements_account_sharded_happened_at
+    ON movements (account_id, happened_at)
+    WHERE sharded;
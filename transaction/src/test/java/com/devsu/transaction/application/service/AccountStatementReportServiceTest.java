@@ -1,6 +1,7 @@
 package com.devsu.transaction.application.service;
 
 import com.devsu.transaction.application.exception.DateReportException;
+import com.devsu.transaction.application.port.ClientQueryPort;
 import com.devsu.transaction.application.result.AccountStatementReport;
 import com.devsu.transaction.domain.model.account.Account;
 import com.devsu.transaction.domain.model.account.AccountType;
@@ -8,7 +9,6 @@ import com.devsu.transaction.domain.model.account.Movement;
 import com.devsu.transaction.domain.model.account.MovementType;
 import com.devsu.transaction.domain.model.money.Money;
 import com.devsu.transaction.domain.repository.AccountRepository;
-import com.devsu.transaction.infrastructure.http.clients.UserClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,13 +39,13 @@ class AccountStatementReportServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
-    // Se usa deep stubs para encadenar userClient.getClient(...).firstName(), etc.
+    // Se usa deep stubs para encadenar clientQueryPort.assertExists(...).firstName(), etc.
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
-    private UserClient userClient;
+    private ClientQueryPort clientQueryPort;
 
     @BeforeEach
     void setUp() {
-        service = new AccountStatementReportService(accountRepository, userClient);
+        service = new AccountStatementReportService(accountRepository, clientQueryPort);
     }
 
     @Test
@@ -60,12 +60,12 @@ class AccountStatementReportServiceTest {
         Instant expectedFrom = from.atStartOfDay(ZoneOffset.UTC).toInstant();
         Instant expectedToExclusive = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
 
-        // Se stubbean campos del cliente devuelto por Feign (deep stubs)
-        given(userClient.getClient(clientId).firstName()).willReturn("Ana");
-        given(userClient.getClient(clientId).lastName()).willReturn("Pérez");
-        given(userClient.getClient(clientId).identificationType()).willReturn("CC");
-        given(userClient.getClient(clientId).identificationNumber()).willReturn("1234567890");
-        given(userClient.getClient(clientId).status()).willReturn(true);
+        // Se stubbean campos del cliente devuelto por el puerto (deep stubs)
+        given(clientQueryPort.assertExists(clientId).firstName()).willReturn("Ana");
+        given(clientQueryPort.assertExists(clientId).lastName()).willReturn("Pérez");
+        given(clientQueryPort.assertExists(clientId).identificationType()).willReturn("CC");
+        given(clientQueryPort.assertExists(clientId).identificationNumber()).willReturn("1234567890");
+        given(clientQueryPort.assertExists(clientId).status()).willReturn(true);
 
         // Se arma una cuenta persistida con movimientos (ya filtrados por el repo)
         Account account = Account.fromPersistence(
@@ -130,7 +130,7 @@ class AccountStatementReportServiceTest {
         assertEquals(new BigDecimal("1200.00"), acc.movements().getFirst().balanceAfter());
 
         // Verificaciones de interacción
-        verify(userClient, atLeastOnce()).getClient(clientId);
+        verify(clientQueryPort, atLeastOnce()).assertExists(clientId);
         verify(accountRepository, times(1))
                 .findByClientIdWithMovementsBetween(clientId, expectedFrom, expectedToExclusive);
     }
@@ -143,7 +143,7 @@ class AccountStatementReportServiceTest {
         LocalDate to = LocalDate.of(2025, 1, 31);
 
         assertThrows(DateReportException.class, () -> service.execute(clientId, from, to));
-        verifyNoInteractions(userClient, accountRepository);
+        verifyNoInteractions(clientQueryPort, accountRepository);
     }
 
     @Test
@@ -157,11 +157,11 @@ class AccountStatementReportServiceTest {
         Instant expectedToExclusive = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
 
         // Se simula cliente existente
-        given(userClient.getClient(clientId).firstName()).willReturn("Luis");
-        given(userClient.getClient(clientId).lastName()).willReturn("Gómez");
-        given(userClient.getClient(clientId).identificationType()).willReturn("CE");
-        given(userClient.getClient(clientId).identificationNumber()).willReturn("ABC123");
-        given(userClient.getClient(clientId).status()).willReturn(true);
+        given(clientQueryPort.assertExists(clientId).firstName()).willReturn("Luis");
+        given(clientQueryPort.assertExists(clientId).lastName()).willReturn("Gómez");
+        given(clientQueryPort.assertExists(clientId).identificationType()).willReturn("CE");
+        given(clientQueryPort.assertExists(clientId).identificationNumber()).willReturn("ABC123");
+        given(clientQueryPort.assertExists(clientId).status()).willReturn(true);
 
         // Repo sin cuentas
         given(accountRepository.findByClientIdWithMovementsBetween(clientId, expectedFrom, expectedToExclusive))
@@ -171,7 +171,7 @@ class AccountStatementReportServiceTest {
 
         assertNotNull(report);
         assertTrue(report.accounts().isEmpty());
-        verify(userClient, atLeastOnce()).getClient(clientId);
+        verify(clientQueryPort, atLeastOnce()).assertExists(clientId);
         verify(accountRepository, times(1))
                 .findByClientIdWithMovementsBetween(clientId, expectedFrom, expectedToExclusive);
     }
@@ -0,0 +1,89 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.exception.DateReportException;
+import com.devsu.transaction.application.port.AccountStatementQueryPort;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.result.AccountStatementSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias de AccountStatementSummaryService.
+ * Se valida la conversión de fechas, el armado del resumen y que los agregados se pidan al puerto en una sola llamada.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountStatementSummaryServiceTest {
+
+    private AccountStatementSummaryService service;
+
+    @Mock
+    private AccountStatementQueryPort accountStatementQueryPort;
+
+    // Se usa deep stubs para encadenar clientQueryPort.assertExists(...).firstName(), etc.
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ClientQueryPort clientQueryPort;
+
+    @BeforeEach
+    void setUp() {
+        service = new AccountStatementSummaryService(accountStatementQueryPort, clientQueryPort);
+    }
+
+    @Test
+    @DisplayName("Debe construir el resumen con los agregados por cuenta del puerto")
+    void shouldBuildSummary() {
+        String clientId = "CL-123";
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+
+        Instant expectedFrom = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant expectedToExclusive = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        given(clientQueryPort.assertExists(clientId).firstName()).willReturn("Ana");
+        given(clientQueryPort.assertExists(clientId).status()).willReturn(true);
+
+        var account = new AccountStatementSummary.AccountSummary(
+                "001-ABC", "AHORROS", true,
+                new BigDecimal("1000.00"), new BigDecimal("1100.00"),
+                new BigDecimal("200.00"), 1,
+                new BigDecimal("-100.00"), 1,
+                new BigDecimal("100.00"));
+        given(accountStatementQueryPort.summarizeByClientId(clientId, expectedFrom, expectedToExclusive))
+                .willReturn(List.of(account));
+
+        AccountStatementSummary summary = service.execute(clientId, from, to);
+
+        assertEquals(expectedFrom, summary.from());
+        assertEquals(expectedToExclusive.minusMillis(1), summary.to());
+        assertEquals("Ana", summary.client().firstName());
+        assertTrue(summary.client().active());
+        assertEquals(List.of(account), summary.accounts());
+
+        verify(accountStatementQueryPort, times(1)).summarizeByClientId(clientId, expectedFrom, expectedToExclusive);
+        verifyNoMoreInteractions(accountStatementQueryPort);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar DateReportException si 'from' es posterior a 'to'")
+    void shouldThrowIfFromAfterTo() {
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+
+        assertThrows(DateReportException.class, () -> service.execute("CL-X", from, to));
+        verifyNoInteractions(clientQueryPort, accountStatementQueryPort);
+    }
+}
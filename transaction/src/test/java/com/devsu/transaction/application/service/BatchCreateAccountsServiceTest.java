@@ -0,0 +1,114 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.command.CreateAccountCommand;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.result.BatchCreateAccountsResult;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchCreateAccountsServiceTest {
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private AccountNumberGenerator accountNumberGenerator;
+    @Mock private ClientQueryPort clientQueryPort;
+
+    @InjectMocks
+    private BatchCreateAccountsService service;
+
+    // Se simula la BD: asigna ids y omite los números indicados como ya existentes
+    private void persistAllExcept(String... taken) {
+        AtomicLong ids = new AtomicLong(1);
+        Set<String> existing = Set.of(taken);
+        when(accountRepository.saveAllNew(anyList())).thenAnswer(inv -> {
+            List<Account> accounts = inv.getArgument(0);
+            return accounts.stream()
+                    .filter(a -> !existing.contains(a.getAccountNumber()))
+                    .map(a -> Account.fromPersistence(ids.getAndIncrement(), a.getAccountNumber(), a.getType(),
+                            a.getInitialBalance(), a.getClientId(), a.getCreatedAt(), true, List.of(),
+                            a.getCurrentBalance()))
+                    .toList();
+        });
+    }
+
+    @Test
+    void shouldVerifyDistinctClientsOnceAndReportErrorsPerItem() {
+        List<CreateAccountCommand> commands = List.of(
+                new CreateAccountCommand("AHORROS", "cli-1", new BigDecimal("100.00")),
+                new CreateAccountCommand("corriente", "cli-1", new BigDecimal("0.00")),
+                new CreateAccountCommand("AHORROS", "missing", new BigDecimal("10.00")),
+                new CreateAccountCommand("PLAZO", "cli-2", new BigDecimal("10.00")),
+                new CreateAccountCommand("AHORROS", "cli-2", new BigDecimal("-1.00"))
+        );
+        when(clientQueryPort.findExistingClientIds(Set.of("cli-1", "missing", "cli-2")))
+                .thenReturn(Set.of("cli-1", "cli-2"));
+        when(accountNumberGenerator.generate(2)).thenReturn(List.of("ACC-1", "ACC-2"));
+        persistAllExcept();
+
+        BatchCreateAccountsResult out = service.execute(commands);
+
+        assertThat(out.created()).isEqualTo(2);
+        assertThat(out.failed()).isEqualTo(3);
+        assertThat(out.items()).extracting(BatchCreateAccountsResult.Item::index).containsExactly(0, 1, 2, 3, 4);
+        assertThat(out.items()).extracting(BatchCreateAccountsResult.Item::status).containsExactly(
+                BatchCreateAccountsResult.CREATED, BatchCreateAccountsResult.CREATED,
+                BatchCreateAccountsResult.FAILED, BatchCreateAccountsResult.FAILED, BatchCreateAccountsResult.FAILED);
+        assertThat(out.items().get(0).account().accountNumber()).isEqualTo("ACC-1");
+        assertThat(out.items().get(1).account().accountType()).isEqualTo("CORRIENTE");
+        assertThat(out.items().get(2).error()).contains("missing");
+
+        verify(clientQueryPort).findExistingClientIds(Set.of("cli-1", "missing", "cli-2"));
+        verify(accountNumberGenerator).generate(2);
+        verify(accountRepository).saveAllNew(anyList());
+        verifyNoMoreInteractions(accountRepository, accountNumberGenerator, clientQueryPort);
+    }
+
+    @Test
+    void shouldRetryOnlyCollidingAccountNumbers() {
+        List<CreateAccountCommand> commands = List.of(
+                new CreateAccountCommand("AHORROS", "cli-1", new BigDecimal("1.00")),
+                new CreateAccountCommand("AHORROS", "cli-1", new BigDecimal("2.00"))
+        );
+        when(clientQueryPort.findExistingClientIds(Set.of("cli-1"))).thenReturn(Set.of("cli-1"));
+        when(accountNumberGenerator.generate(2)).thenReturn(List.of("TAKEN", "ACC-2"));
+        when(accountNumberGenerator.generate(1)).thenReturn(List.of("ACC-3"));
+        persistAllExcept("TAKEN");
+
+        BatchCreateAccountsResult out = service.execute(commands);
+
+        assertThat(out.created()).isEqualTo(2);
+        assertThat(out.items().get(0).account().accountNumber()).isEqualTo("ACC-3");
+        assertThat(out.items().get(1).account().accountNumber()).isEqualTo("ACC-2");
+        verify(accountRepository, times(2)).saveAllNew(anyList());
+    }
+
+    @Test
+    void shouldFailItemWhenNumberKeepsColliding() {
+        List<CreateAccountCommand> commands = List.of(
+                new CreateAccountCommand("AHORROS", "cli-1", new BigDecimal("1.00")));
+        when(clientQueryPort.findExistingClientIds(Set.of("cli-1"))).thenReturn(Set.of("cli-1"));
+        when(accountNumberGenerator.generate(1)).thenReturn(List.of("TAKEN"));
+        persistAllExcept("TAKEN");
+
+        BatchCreateAccountsResult out = service.execute(commands);
+
+        assertThat(out.created()).isZero();
+        assertThat(out.items().get(0).status()).isEqualTo(BatchCreateAccountsResult.FAILED);
+        verify(accountRepository, times(3)).saveAllNew(anyList());
+    }
+}
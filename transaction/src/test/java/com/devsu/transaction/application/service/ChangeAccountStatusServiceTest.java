@@ -53,16 +53,13 @@ class ChangeAccountStatusServiceTest {
         when(accountRepository.findByAccountNumber("ACC-777"))
                 .thenReturn(Optional.of(loaded));
 
-        // Se simula guardado devolviendo la misma cuenta pero activa
-        Account saved = persisted("ACC-777", true, "0.00", "0.00");
-        when(accountRepository.save(any(Account.class))).thenReturn(saved);
-
         // Se ejecuta la activación
         AccountResult result = service.execute("ACC-777", true);
 
-        // Se verifica interacción con repositorio
+        // Se verifica que solo se actualiza el estado (sin reescribir la cuenta completa)
         verify(accountRepository).findByAccountNumber("ACC-777");
-        verify(accountRepository).save(any(Account.class));
+        verify(accountRepository).updateActive(7L, true);
+        verify(accountRepository, never()).save(any(Account.class));
 
         // Se valida respuesta
         assertThat(result).isNotNull();
@@ -80,8 +77,9 @@ class ChangeAccountStatusServiceTest {
         // Se ejecuta activación idempotente
         AccountResult result = service.execute("ACC-888", true);
 
-        // Se verifica que no se llamara a save
+        // Se verifica que no se escribiera nada
         verify(accountRepository).findByAccountNumber("ACC-888");
+        verify(accountRepository, never()).updateActive(anyLong(), anyBoolean());
         verify(accountRepository, never()).save(any(Account.class));
 
         // Se valida que conserve estado
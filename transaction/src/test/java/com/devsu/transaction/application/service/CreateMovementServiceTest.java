@@ -1,19 +1,27 @@
 package com.devsu.transaction.application.service;
 
 import com.devsu.transaction.application.command.CreateMovementCommand;
+import com.devsu.transaction.application.exception.AccountNotFoundException;
+import com.devsu.transaction.application.jfr.MovementRegistrationEvent;
 import com.devsu.transaction.application.result.MovementResult;
+import com.devsu.transaction.domain.exception.BalanceShardsChangedException;
 import com.devsu.transaction.domain.exception.InsufficientFundsException;
 import com.devsu.transaction.domain.model.account.*;
 import com.devsu.transaction.domain.model.money.Money;
 import com.devsu.transaction.domain.repository.AccountRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +41,9 @@ class CreateMovementServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private ShardedMovementService shardedMovementService;
+
     @InjectMocks
     private CreateMovementService service;
 
@@ -52,52 +63,36 @@ class CreateMovementServiceTest {
 
     @BeforeEach
     void resetMocks() {
-        reset(accountRepository);
+        reset(accountRepository, shardedMovementService);
     }
 
     @Test
-    void shouldRegisterDepositAndReturnPersistedMovement() {
-        // Se prepara la cuenta encontrada por número
-        Account loaded = persistedActive("ACC-100", "100.00");
-        when(accountRepository.findByAccountNumber("ACC-100"))
-                .thenReturn(Optional.of(loaded));
-
-        // Se simula el estado que devolvería la persistencia al guardar la cuenta
-        Account returnedBySave = Account.fromPersistence(
-                1L,
-                "ACC-100",
-                AccountType.AHORROS,
-                Money.of(new BigDecimal("100.00")),
-                "1001L",
-                loaded.getCreatedAt(),
-                true,
-                List.of(), // no es necesario poblar movimientos aquí
-                Money.of(new BigDecimal("150.00"))
-        );
-        when(accountRepository.save(any(Account.class))).thenReturn(returnedBySave);
+    void shouldRegisterDepositOnLockedAccountAndReturnPersistedMovement() {
+        // Se prepara la cuenta sin fragmentar, bloqueada por número
+        Account locked = persistedActive("ACC-100", "100.00");
+        when(accountRepository.lockUnshardedByAccountNumber("ACC-100"))
+                .thenReturn(Optional.of(locked));
 
-        // Se simula la búsqueda por (accountId, uuid) utilizada por el servicio tras registrar el movimiento
+        // Se simula el movimiento que devuelve la persistencia del saldo + movimiento en un solo round trip
         Instant now = Instant.now();
-        when(accountRepository.findMovementByAccountIdAndUuid(eq(1L), anyString()))
-                .thenReturn(Optional.of(
-                        Movement.fromPersistence(
-                                10L,
-                                MovementType.DEPOSIT,
-                                Money.of(new BigDecimal("50.00")),
-                                Money.of(new BigDecimal("150.00")),
-                                now,
-                                "UUID-1"
-                        )
+        when(accountRepository.saveMovementLeg(eq(locked), anyString()))
+                .thenAnswer(inv -> Movement.fromPersistence(
+                        10L,
+                        MovementType.DEPOSIT,
+                        Money.of(new BigDecimal("50.00")),
+                        Money.of(new BigDecimal("150.00")),
+                        now,
+                        inv.getArgument(1)
                 ));
 
         // Se ejecuta el caso de uso con un depósito de 50.00
         MovementResult result = service.execute(new CreateMovementCommand("ACC-100", new BigDecimal("50.00")));
 
-        // Se verifica interacción con repositorio
-        verify(accountRepository).findByAccountNumber("ACC-100");
-        verify(accountRepository).save(any(Account.class));
-        verify(accountRepository).findMovementByAccountIdAndUuid(eq(1L), anyString());
+        // Se verifica que no se lee sin bloqueo ni se reescribe la cuenta completa
+        verify(accountRepository).lockUnshardedByAccountNumber("ACC-100");
+        verify(accountRepository).saveMovementLeg(eq(locked), anyString());
         verifyNoMoreInteractions(accountRepository);
+        verifyNoInteractions(shardedMovementService);
 
         // Se valida el DTO de salida
         assertThat(result).isNotNull();
@@ -106,24 +101,106 @@ class CreateMovementServiceTest {
         assertThat(result.amount().toString()).isEqualTo("50.00");
         assertThat(result.balanceAfter().toString()).isEqualTo("150.00");
         assertThat(result.happenedAt()).isEqualTo(now);
+        assertThat(locked.getCurrentBalance().value()).isEqualByComparingTo("150.00");
     }
 
     @Test
     void shouldFailWithdrawalWhenInsufficientFunds() {
         // Se prepara la cuenta con saldo 30.00
-        Account loaded = persistedActive("ACC-200", "30.00");
-        when(accountRepository.findByAccountNumber("ACC-200"))
-                .thenReturn(Optional.of(loaded));
+        Account locked = persistedActive("ACC-200", "30.00");
+        when(accountRepository.lockUnshardedByAccountNumber("ACC-200"))
+                .thenReturn(Optional.of(locked));
 
         // Se intenta retirar 50.00 con monto negativo
         assertThrows(InsufficientFundsException.class, () ->
                 service.execute(new CreateMovementCommand("ACC-200", new BigDecimal("-50.00")))
         );
 
-        // Se verifica que no se persiste ni se consulta el movimiento cuando el dominio rechaza la operación
-        verify(accountRepository).findByAccountNumber("ACC-200");
-        verify(accountRepository, never()).save(any(Account.class));
-        verify(accountRepository, never()).findMovementByAccountIdAndUuid(anyLong(), anyString());
+        // Se verifica que no se persiste nada cuando el dominio rechaza la operación
+        verify(accountRepository).lockUnshardedByAccountNumber("ACC-200");
+        verify(accountRepository, never()).saveMovementLeg(any(Account.class), anyString());
         verifyNoMoreInteractions(accountRepository);
     }
+
+    @Test
+    void shouldFailWhenAccountDoesNotExist() {
+        when(accountRepository.lockUnshardedByAccountNumber("NOPE")).thenReturn(Optional.empty());
+        when(accountRepository.findByAccountNumber("NOPE")).thenReturn(Optional.empty());
+
+        assertThrows(AccountNotFoundException.class, () ->
+                service.execute(new CreateMovementCommand("NOPE", new BigDecimal("10.00"))));
+        verifyNoInteractions(shardedMovementService);
+    }
+
+    @Test
+    void shouldAskToRetryWhenBalanceIsUnshardedBetweenReads() {
+        // El bloqueo no la encontró fragmentada... pero la lectura posterior ya la ve sin fragmentos
+        when(accountRepository.lockUnshardedByAccountNumber("ACC-200")).thenReturn(Optional.empty());
+        when(accountRepository.findByAccountNumber("ACC-200"))
+                .thenReturn(Optional.of(persistedActive("ACC-200", "100.00")));
+
+        assertThrows(BalanceShardsChangedException.class, () ->
+                service.execute(new CreateMovementCommand("ACC-200", new BigDecimal("10.00"))));
+        verify(accountRepository, never()).saveMovementLeg(any(Account.class), anyString());
+        verifyNoInteractions(shardedMovementService);
+    }
+
+    @Test
+    void shouldDelegateToShardedServiceWhenBalanceIsSharded() {
+        // Se prepara una cuenta con saldo repartido en 4 fragmentos
+        Account sharded = Account.fromPersistence(
+                1L,
+                "ACC-300",
+                AccountType.AHORROS,
+                Money.of(new BigDecimal("100.00")),
+                "1001L",
+                Instant.now(),
+                true,
+                new ArrayList<>(),
+                Money.of(new BigDecimal("100.00")),
+                4
+        );
+        when(accountRepository.lockUnshardedByAccountNumber("ACC-300")).thenReturn(Optional.empty());
+        when(accountRepository.findByAccountNumber("ACC-300")).thenReturn(Optional.of(sharded));
+        MovementResult expected = mock(MovementResult.class);
+        when(shardedMovementService.execute(sharded, new BigDecimal("25.00"))).thenReturn(expected);
+
+        MovementResult result = service.execute(new CreateMovementCommand("ACC-300", new BigDecimal("25.00")));
+
+        // Se verifica que el agregado no se guarda completo: el registro lo hace el servicio fragmentado
+        assertThat(result).isSameAs(expected);
+        verify(accountRepository).lockUnshardedByAccountNumber("ACC-300");
+        verify(accountRepository).findByAccountNumber("ACC-300");
+        verify(shardedMovementService).execute(sharded, new BigDecimal("25.00"));
+        verifyNoMoreInteractions(accountRepository, shardedMovementService);
+    }
+
+    @Test
+    void shouldRecordJfrEventWithBalanceCheckResult(@TempDir Path dir) throws Exception {
+        // Se prepara la cuenta con saldo 30.00 y se graba el intento de retiro de 50.00
+        when(accountRepository.lockUnshardedByAccountNumber("ACC-400"))
+                .thenReturn(Optional.of(persistedActive("ACC-400", "30.00")));
+
+        Path file = dir.resolve("movement.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MovementRegistrationEvent.NAME);
+            recording.start();
+            assertThrows(InsufficientFundsException.class, () ->
+                    service.execute(new CreateMovementCommand("ACC-400", new BigDecimal("-50.00"))));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Se valida el contexto de dominio del evento
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(MovementRegistrationEvent.NAME))
+                .toList();
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getLong("accountId")).isEqualTo(1L);
+        assertThat(event.getInt("amountSign")).isEqualTo(-1);
+        assertThat(event.getBoolean("sharded")).isFalse();
+        assertThat(event.getString("balanceCheck")).isEqualTo(MovementRegistrationEvent.INSUFFICIENT_FUNDS);
+        assertThat(event.getLong("persistenceDuration")).isZero();
+    }
 }
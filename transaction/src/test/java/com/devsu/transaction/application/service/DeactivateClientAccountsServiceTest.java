@@ -0,0 +1,60 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.port.ClientFeedCursorStore;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Se valida la inactivación en bloque de cuentas por cliente y el registro del cursor del feed.
+ */
+@ExtendWith(MockitoExtension.class)
+class DeactivateClientAccountsServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private ClientFeedCursorStore cursorStore;
+
+    @InjectMocks
+    private DeactivateClientAccountsService service;
+
+    @Test
+    void execute_deactivatesAllClientsInOneCall_andSavesCursor() {
+        when(accountRepository.deactivateAllByClientIds(List.of("ANA-001", "LUIS-002"))).thenReturn(3);
+
+        int deactivated = service.execute(List.of("ANA-001", "LUIS-002"), "10.2");
+
+        assertThat(deactivated).isEqualTo(3);
+        verify(accountRepository, times(1)).deactivateAllByClientIds(List.of("ANA-001", "LUIS-002"));
+        verify(cursorStore).save("10.2");
+        verifyNoMoreInteractions(accountRepository);
+    }
+
+    @Test
+    void execute_withoutDeactivations_onlySavesCursor() {
+        int deactivated = service.execute(List.of(), "10.5");
+
+        assertThat(deactivated).isZero();
+        verify(accountRepository, never()).deactivateAllByClientIds(anyCollection());
+        verify(cursorStore).save("10.5");
+    }
+
+    @Test
+    void lastFeedCursor_delegatesToStore() {
+        when(cursorStore.load()).thenReturn(Optional.of("10.2"));
+
+        assertThat(service.lastFeedCursor()).contains("10.2");
+    }
+}
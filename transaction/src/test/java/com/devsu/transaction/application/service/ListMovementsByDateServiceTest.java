@@ -1,11 +1,8 @@
 package com.devsu.transaction.application.service;
 
 import com.devsu.transaction.application.exception.AccountNotFoundException;
+import com.devsu.transaction.application.port.MovementQueryPort;
 import com.devsu.transaction.application.result.MovementResult;
-import com.devsu.transaction.domain.model.account.Account;
-import com.devsu.transaction.domain.model.account.Movement;
-import com.devsu.transaction.domain.model.money.Money;
-import com.devsu.transaction.domain.repository.AccountRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -22,69 +19,43 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ListMovementsByDateServiceTest {
 
     @Mock
-    private AccountRepository accountRepository;
+    private MovementQueryPort movementQueryPort;
 
     @InjectMocks
     private ListMovementsByDateService service;
 
     @Test
-    void execute_returnsMappedMovements_andCorrectRange() {
+    void execute_returnsMovements_andCorrectRange() {
         // Arrange
         String accountNumber = "ACC-1";
         LocalDate from = LocalDate.of(2024, 5, 10);
         LocalDate to   = LocalDate.of(2024, 5, 12);
 
-        Long accountId = 42L;
-        Account account = mock(Account.class);
-        when(account.getId()).thenReturn(accountId);
-        when(accountRepository.findByAccountNumber(accountNumber))
-                .thenReturn(Optional.of(account));
-
-        Movement m1 = mock(Movement.class);
-        when(m1.getId()).thenReturn(100L);
-        when(m1.getHappenedAt()).thenReturn(Instant.parse("2024-05-10T10:15:30Z"));
-        when(m1.getAmount()).thenReturn(Money.of(new BigDecimal("50.00")));
-        when(m1.getBalanceAfter()).thenReturn(Money.of(new BigDecimal("150.00")));
-
-        Movement m2 = mock(Movement.class);
-        when(m2.getId()).thenReturn(101L);
-        when(m2.getHappenedAt()).thenReturn(Instant.parse("2024-05-11T08:00:00Z"));
-        when(m2.getAmount()).thenReturn(Money.of(new BigDecimal("25.50")));
-        when(m2.getBalanceAfter()).thenReturn(Money.of(new BigDecimal("124.50")));
-
-        when(accountRepository.findMovementsByAccountIdAndDateRange(eq(accountId), any(), any()))
-                .thenReturn(List.of(m1, m2));
+        MovementResult m1 = new MovementResult(100L, 42L, Instant.parse("2024-05-10T10:15:30Z"),
+                new BigDecimal("50.00"), new BigDecimal("150.00"), "uuid-1");
+        MovementResult m2 = new MovementResult(101L, 42L, Instant.parse("2024-05-11T08:00:00Z"),
+                new BigDecimal("25.50"), new BigDecimal("124.50"), "uuid-2");
+        when(movementQueryPort.findByAccountNumberAndDateRange(eq(accountNumber), any(), any()))
+                .thenReturn(Optional.of(List.of(m1, m2)));
 
         // Act
         List<MovementResult> results = service.execute(accountNumber, from, to);
 
-        // Assert: mapeo
-        assertEquals(2, results.size());
-        MovementResult r1 = results.get(0);
-        MovementResult r2 = results.get(1);
-
-        assertEquals(100L, r1.id());
-        assertEquals(accountId, r1.accountId());
-        assertEquals(Instant.parse("2024-05-10T10:15:30Z"), r1.happenedAt());
-        assertEquals(new BigDecimal("50.00"), r1.amount());
-        assertEquals(new BigDecimal("150.00"), r1.balanceAfter());
-
-        assertEquals(101L, r2.id());
-        assertEquals(accountId, r2.accountId());
-        assertEquals(Instant.parse("2024-05-11T08:00:00Z"), r2.happenedAt());
-        assertEquals(new BigDecimal("25.50"), r2.amount());
-        assertEquals(new BigDecimal("124.50"), r2.balanceAfter());
+        // Assert: se retornan tal cual, en el orden del puerto
+        assertEquals(List.of(m1, m2), results);
 
-        // Assert: rango consultado al repositorio
+        // Assert: rango consultado al puerto, en una sola llamada
         ArgumentCaptor<Instant> fromCap = ArgumentCaptor.forClass(Instant.class);
         ArgumentCaptor<Instant> toCap = ArgumentCaptor.forClass(Instant.class);
-        verify(accountRepository).findMovementsByAccountIdAndDateRange(eq(accountId), fromCap.capture(), toCap.capture());
+        verify(movementQueryPort).findByAccountNumberAndDateRange(eq(accountNumber), fromCap.capture(), toCap.capture());
+        verifyNoMoreInteractions(movementQueryPort);
 
         Instant expectedFrom = from.atStartOfDay(ZoneOffset.UTC).toInstant();               // 2024-05-10T00:00Z
         Instant expectedTo   = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();     // 2024-05-13T00:00Z
@@ -93,11 +64,20 @@ class ListMovementsByDateServiceTest {
         assertEquals(expectedTo, toCap.getValue(), "to Instant (exclusive) incorrecto");
     }
 
+    @Test
+    void execute_returnsEmptyList_ifAccountHasNoMovementsInRange() {
+        when(movementQueryPort.findByAccountNumberAndDateRange(eq("ACC-1"), any(), any()))
+                .thenReturn(Optional.of(List.of()));
+
+        assertTrue(service.execute("ACC-1", LocalDate.now(), LocalDate.now()).isEmpty());
+    }
+
     @Test
     void execute_throwsAccountNotFound_ifAccountDoesNotExist() {
         // Arrange
         String accountNumber = "NOPE";
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.empty());
+        when(movementQueryPort.findByAccountNumberAndDateRange(eq(accountNumber), any(), any()))
+                .thenReturn(Optional.empty());
 
         // Act + Assert
         AccountNotFoundException ex = assertThrows(
@@ -105,6 +85,6 @@ class ListMovementsByDateServiceTest {
                 () -> service.execute(accountNumber, LocalDate.now(), LocalDate.now())
         );
         assertTrue(ex.getMessage().contains(accountNumber));
-        verify(accountRepository, never()).findMovementsByAccountIdAndDateRange(any(), any(), any());
+        verify(movementQueryPort, times(1)).findByAccountNumberAndDateRange(eq(accountNumber), any(), any());
     }
 }
@@ -0,0 +1,122 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.result.MovementResult;
+import com.devsu.transaction.domain.exception.InsufficientFundsException;
+import com.devsu.transaction.domain.model.account.*;
+import com.devsu.transaction.domain.model.money.Money;
+import com.devsu.transaction.domain.repository.AccountBalanceShardRepository;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Se valida el registro de movimientos sobre cuentas con saldo fragmentado.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShardedMovementServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountBalanceShardRepository balanceShardRepository;
+
+    @InjectMocks
+    private ShardedMovementService service;
+
+    private static Money money(String value) {
+        return Money.of(new BigDecimal(value));
+    }
+
+    private Account shardedAccount(String balance, int shards) {
+        return Account.fromPersistence(
+                1L,
+                "ACC-100",
+                AccountType.AHORROS,
+                money("0.00"),
+                "1001L",
+                Instant.now(),
+                true,
+                new ArrayList<>(),
+                money(balance),
+                shards
+        );
+    }
+
+    private Movement persisted(MovementType type, String amount, String balanceAfter) {
+        return Movement.fromPersistence(10L, type, money(amount), money(balanceAfter), Instant.now(), "UUID-1");
+    }
+
+    @Test
+    void shouldDepositIntoSingleShardWithoutLockingTheOthers() {
+        Account account = shardedAccount("100.00", 4);
+        when(balanceShardRepository.applyToShard(eq(1L), anyInt(), eq(money("25.00"))))
+                .thenReturn(Optional.of(money("125.00")));
+        when(accountRepository.appendMovement(eq(account), anyString()))
+                .thenReturn(persisted(MovementType.DEPOSIT, "25.00", "125.00"));
+
+        MovementResult result = service.execute(account, new BigDecimal("25.00"));
+
+        // Se verifica el saldo agregado y que no se bloquearon los fragmentos
+        assertThat(result.balanceAfter().toString()).isEqualTo("125.00");
+        assertThat(account.getCurrentBalance().toString()).isEqualTo("125.00");
+        verify(balanceShardRepository).applyToShard(eq(1L), anyInt(), eq(money("25.00")));
+        verify(accountRepository).appendMovement(eq(account), anyString());
+        verifyNoMoreInteractions(balanceShardRepository, accountRepository);
+    }
+
+    @Test
+    void shouldBorrowAcrossShardsWhenSelectedShardIsShort() {
+        Account account = shardedAccount("80.00", 2);
+        // El fragmento elegido no alcanza; se bloquean todos y se reparte el retiro
+        when(balanceShardRepository.applyToShard(eq(1L), anyInt(), eq(money("-60.00"))))
+                .thenReturn(Optional.empty());
+        when(balanceShardRepository.lockShards(1L))
+                .thenReturn(ShardedBalance.of(List.of(money("30.00"), money("50.00"))));
+        when(accountRepository.appendMovement(eq(account), anyString()))
+                .thenReturn(persisted(MovementType.WITHDRAWAL, "-60.00", "20.00"));
+
+        MovementResult result = service.execute(account, new BigDecimal("-60.00"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Money>> debits = ArgumentCaptor.forClass(List.class);
+        verify(balanceShardRepository).debitShards(eq(1L), debits.capture());
+        Money debited = debits.getValue().stream().reduce(money("0.00"), Money::add);
+
+        assertThat(debited).isEqualTo(money("60.00"));
+        assertThat(account.getCurrentBalance().toString()).isEqualTo("20.00");
+        assertThat(account.getMovements().getFirst().getType()).isEqualTo(MovementType.WITHDRAWAL);
+        assertThat(result.balanceAfter().toString()).isEqualTo("20.00");
+    }
+
+    @Test
+    void shouldRejectWithdrawalWhenAggregateIsInsufficient() {
+        Account account = shardedAccount("20.00", 2);
+        when(balanceShardRepository.applyToShard(eq(1L), anyInt(), eq(money("-50.00"))))
+                .thenReturn(Optional.empty());
+        when(balanceShardRepository.lockShards(1L))
+                .thenReturn(ShardedBalance.of(List.of(money("10.00"), money("10.00"))));
+
+        assertThrows(InsufficientFundsException.class,
+                () -> service.execute(account, new BigDecimal("-50.00")));
+
+        // Se verifica que no se descuenta ni se inserta el movimiento
+        verify(balanceShardRepository, never()).debitShards(anyLong(), anyList());
+        verifyNoInteractions(accountRepository);
+    }
+}
@@ -0,0 +1,108 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.exception.LedgerVerificationInProgressException;
+import com.devsu.transaction.domain.model.ledger.LedgerMismatch;
+import com.devsu.transaction.domain.model.ledger.LedgerRangeReport;
+import com.devsu.transaction.domain.model.ledger.LedgerVerificationRun;
+import com.devsu.transaction.domain.model.ledger.LedgerVerificationRun.Status;
+import com.devsu.transaction.domain.repository.LedgerVerificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartLedgerVerificationServiceTest {
+
+    @Mock private LedgerVerificationRepository repository;
+
+    private StartLedgerVerificationService service;
+
+    @BeforeEach
+    void setUp() {
+        // Rangos de 10 cuentas, 2 en paralelo por tanda, sin throttling efectivo
+        service = new StartLedgerVerificationService(repository, 10, 2, 1_000_000);
+    }
+
+    private static LedgerVerificationRun run(Status status, long lastAccountId, long maxAccountId) {
+        return new LedgerVerificationRun(7L, status, lastAccountId, maxAccountId, 0, 0, 0, 0,
+                Instant.now(), null, null);
+    }
+
+    @Test
+    void shouldVerifyRangesInWavesAndMoveCheckpoint() {
+        LedgerMismatch mismatch = new LedgerMismatch(12L, null, LedgerMismatch.Kind.BALANCE,
+                new BigDecimal("10.00"), new BigDecimal("9.00"));
+        when(repository.verifyRange(anyLong(), anyLong())).thenReturn(new LedgerRangeReport(10, 30, List.of()));
+        when(repository.verifyRange(10L, 20L)).thenReturn(new LedgerRangeReport(10, 30, List.of(mismatch)));
+
+        service.verify(run(Status.RUNNING, 0, 35));
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).saveProgress(eq(7L), eq(20L),
+                argThat(r -> r.accounts() == 20 && r.movements() == 60 && r.mismatches().equals(List.of(mismatch))),
+                anyLong());
+        inOrder.verify(repository).saveProgress(eq(7L), eq(35L), argThat(r -> r.accounts() == 20), anyLong());
+        inOrder.verify(repository).finishRun(7L, Status.COMPLETED, null);
+        verify(repository).verifyRange(0L, 10L);
+        verify(repository).verifyRange(20L, 30L);
+        verify(repository).verifyRange(30L, 35L);
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint() {
+        when(repository.verifyRange(anyLong(), anyLong())).thenReturn(LedgerRangeReport.EMPTY);
+
+        service.verify(run(Status.RUNNING, 30, 35));
+
+        verify(repository).verifyRange(30L, 35L);
+        verify(repository).saveProgress(eq(7L), eq(35L), any(), anyLong());
+        verify(repository).finishRun(7L, Status.COMPLETED, null);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void shouldMarkRunAsFailedWhenRangeFails() {
+        when(repository.verifyRange(anyLong(), anyLong())).thenThrow(new IllegalStateException("boom"));
+
+        service.verify(run(Status.RUNNING, 0, 5));
+
+        verify(repository, never()).saveProgress(anyLong(), anyLong(), any(), anyLong());
+        verify(repository).finishRun(eq(7L), eq(Status.FAILED), contains("boom"));
+    }
+
+    @Test
+    void shouldResumeUnfinishedRunAndRejectConcurrentStart() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findLatestRun()).thenReturn(Optional.of(run(Status.INTERRUPTED, 0, 5)));
+        when(repository.resumeRun(7L)).thenReturn(run(Status.RUNNING, 0, 5));
+        when(repository.verifyRange(0L, 5L)).thenAnswer(inv -> {
+            release.await();
+            return LedgerRangeReport.EMPTY;
+        });
+
+        var result = service.execute(false);
+
+        assertThat(result.runId()).isEqualTo(7L);
+        assertThat(result.status()).isEqualTo("RUNNING");
+        assertThat(service.isRunning()).isTrue();
+        assertThrows(LedgerVerificationInProgressException.class, () -> service.execute(true));
+
+        release.countDown();
+        verify(repository, timeout(2000)).finishRun(7L, Status.COMPLETED, null);
+        verify(repository, never()).createRun(anyLong());
+    }
+}
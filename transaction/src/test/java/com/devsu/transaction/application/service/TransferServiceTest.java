@@ -0,0 +1,106 @@
+package com.devsu.transaction.application.service;
+
+import com.devsu.transaction.application.command.CreateTransferCommand;
+import com.devsu.transaction.application.exception.AccountNotFoundException;
+import com.devsu.transaction.application.result.TransferResult;
+import com.devsu.transaction.domain.exception.InsufficientFundsException;
+import com.devsu.transaction.domain.model.account.*;
+import com.devsu.transaction.domain.model.money.Money;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Se valida el caso de uso de transferencias entre cuentas.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private ShardedMovementService shardedMovementService;
+
+    @InjectMocks
+    private TransferService service;
+
+    private Account account(long id, String number, String balance) {
+        return Account.fromPersistence(id, number, AccountType.AHORROS, Money.of(new BigDecimal(balance)),
+                "1001L", Instant.now(), true, new ArrayList<>(), Money.of(new BigDecimal(balance)));
+    }
+
+    // Se simula la persistencia de una pata devolviendo el movimiento con id asignado
+    private void stubLegPersistence() {
+        when(accountRepository.saveMovementLeg(any(Account.class), anyString())).thenAnswer(inv -> {
+            Account acc = inv.getArgument(0);
+            Movement m = acc.getMovements().getLast();
+            return Movement.fromPersistence(acc.getId() * 10, m.getType(), m.getAmount(),
+                    m.getBalanceAfter(), m.getHappenedAt(), m.getUuid());
+        });
+    }
+
+    @Test
+    void shouldDebitSourceAndCreditTarget() {
+        Account source = account(1L, "ACC-A", "100.00");
+        Account target = account(2L, "ACC-B", "5.00");
+        when(accountRepository.lockByAccountNumbers(List.of("ACC-A", "ACC-B"))).thenReturn(List.of(source, target));
+        stubLegPersistence();
+
+        TransferResult result = service.execute(new CreateTransferCommand("ACC-A", "ACC-B", new BigDecimal("30")));
+
+        // Se verifica que ambas patas se persistan con su saldo resultante
+        assertThat(result.amount().toString()).isEqualTo("30.00");
+        assertThat(result.debit().amount().toString()).isEqualTo("-30.00");
+        assertThat(result.debit().balanceAfter().toString()).isEqualTo("70.00");
+        assertThat(result.credit().amount().toString()).isEqualTo("30.00");
+        assertThat(result.credit().balanceAfter().toString()).isEqualTo("35.00");
+        verify(accountRepository).lockByAccountNumbers(List.of("ACC-A", "ACC-B"));
+        verify(accountRepository, times(2)).saveMovementLeg(any(Account.class), anyString());
+        verifyNoMoreInteractions(accountRepository);
+        verifyNoInteractions(shardedMovementService);
+    }
+
+    @Test
+    void shouldNotPersistAnyLegWhenFundsAreInsufficient() {
+        Account source = account(1L, "ACC-A", "10.00");
+        Account target = account(2L, "ACC-B", "0.00");
+        when(accountRepository.lockByAccountNumbers(anyList())).thenReturn(List.of(source, target));
+
+        assertThrows(InsufficientFundsException.class,
+                () -> service.execute(new CreateTransferCommand("ACC-A", "ACC-B", new BigDecimal("50.00"))));
+
+        verify(accountRepository, never()).saveMovementLeg(any(Account.class), anyString());
+    }
+
+    @Test
+    void shouldFailWhenAnAccountDoesNotExist() {
+        when(accountRepository.lockByAccountNumbers(anyList())).thenReturn(List.of(account(1L, "ACC-A", "10.00")));
+
+        assertThrows(AccountNotFoundException.class,
+                () -> service.execute(new CreateTransferCommand("ACC-A", "NOPE", new BigDecimal("1.00"))));
+
+        verify(accountRepository, never()).saveMovementLeg(any(Account.class), anyString());
+    }
+
+    @Test
+    void shouldRejectTransferToSameAccount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.execute(new CreateTransferCommand("ACC-A", "ACC-A", new BigDecimal("1.00"))));
+
+        verifyNoInteractions(accountRepository, shardedMovementService);
+    }
+}
@@ -0,0 +1,124 @@
+package com.devsu.transaction.benchmark;
+
+import com.devsu.transaction.TransactionApplication;
+import com.devsu.transaction.application.command.CreateAccountCommand;
+import com.devsu.transaction.application.command.CreateMovementCommand;
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.service.ConfigureBalanceShardsService;
+import com.devsu.transaction.application.service.CreateAccountService;
+import com.devsu.transaction.application.service.CreateMovementService;
+import com.devsu.transaction.application.service.GetAccountByNumberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark de depósitos concurrentes sobre una sola cuenta variando la cantidad de fragmentos de saldo.
+ * - Con 1 fragmento todos los depósitos se serializan sobre la misma fila.
+ * - Con N fragmentos la contención se reparte y el throughput debería crecer casi linealmente
+ *   hasta saturar CPU o el pool de conexiones.
+ * Parámetros: -Dbenchmark.threads (16) y -Dbenchmark.seconds (10).
+ */
+@SpringBootTest(classes = TransactionApplication.class, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=40"
+})
+@ActiveProfiles("it")
+@Testcontainers
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+class BalanceShardingThroughputBenchmarkIT {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 10));
+    private static final BigDecimal DEPOSIT = new BigDecimal("1.00");
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private CreateAccountService createAccountService;
+    @Autowired private ConfigureBalanceShardsService configureBalanceShardsService;
+    @Autowired private CreateMovementService createMovementService;
+    @Autowired private GetAccountByNumberService getAccountByNumberService;
+
+    @MockitoBean private ClientQueryPort clientQueryPort;
+    @MockitoBean private AccountNumberGenerator accountNumberGenerator;
+
+    @Test
+    @DisplayName("Throughput de depósitos por cantidad de fragmentos")
+    void depositThroughputByShardCount() throws Exception {
+        when(clientQueryPort.assertExists(anyString())).thenAnswer(inv -> client(inv.getArgument(0)));
+
+        List<String> rows = new ArrayList<>();
+        double baseline = 0;
+        for (int shards : new int[]{1, 2, 4, 8, 16}) {
+            String accountNumber = "BENCH-SHARDS-" + shards;
+            when(accountNumberGenerator.generate()).thenReturn(accountNumber);
+            createAccountService.execute(new CreateAccountCommand("AHORROS", "bench-client", BigDecimal.ZERO));
+            configureBalanceShardsService.execute(accountNumber, shards);
+
+            long deposits = runDeposits(accountNumber);
+            double perSecond = deposits / (double) DURATION.toSeconds();
+            if (shards == 1) baseline = perSecond;
+
+            // Se verifica que no se pierda ningún depósito al agregar los fragmentos
+            BigDecimal balance = getAccountByNumberService.execute(accountNumber).currentBalance();
+            assertThat(balance).isEqualByComparingTo(DEPOSIT.multiply(BigDecimal.valueOf(deposits)));
+
+            rows.add(String.format("shards=%2d  deposits/s=%9.1f  speedup=x%.2f", shards, perSecond, perSecond / baseline));
+        }
+
+        System.out.printf("%n== Depósitos concurrentes (%d hilos, %ds por escenario) ==%n", THREADS, DURATION.toSeconds());
+        rows.forEach(System.out::println);
+    }
+
+    private long runDeposits(String accountNumber) throws Exception {
+        AtomicLong ok = new AtomicLong();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(pool.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        createMovementService.execute(new CreateMovementCommand(accountNumber, DEPOSIT));
+                        ok.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> w : workers) w.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        return ok.get();
+    }
+
+    private static ClientResponse client(String clientId) {
+        return new ClientResponse(1L, "Bench", "Client", "MALE", LocalDate.of(1990, 1, 1),
+                "CC", "1234567890", "Street", "3000000000", clientId, true);
+    }
+}
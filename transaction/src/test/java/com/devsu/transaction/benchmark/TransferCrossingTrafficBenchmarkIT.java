@@ -0,0 +1,136 @@
+package com.devsu.transaction.benchmark;
+
+import com.devsu.transaction.TransactionApplication;
+import com.devsu.transaction.application.command.CreateAccountCommand;
+import com.devsu.transaction.application.command.CreateTransferCommand;
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.service.CreateAccountService;
+import com.devsu.transaction.application.service.GetAccountByNumberService;
+import com.devsu.transaction.application.service.TransferService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark de transferencias con tráfico cruzado intenso (A->B y B->A simultáneos) entre pocas cuentas.
+ * - Verifica que no haya deadlocks ni errores de bloqueo.
+ * - Verifica que el dinero total se conserve y que cada saldo cuadre con lo transferido.
+ * Parámetros: -Dbenchmark.threads (16), -Dbenchmark.seconds (10) y -Dbenchmark.accounts (4).
+ */
+@SpringBootTest(classes = TransactionApplication.class, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=40"
+})
+@ActiveProfiles("it")
+@Testcontainers
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+class TransferCrossingTrafficBenchmarkIT {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int ACCOUNTS = Integer.getInteger("benchmark.accounts", 4);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 10));
+    private static final BigDecimal INITIAL = new BigDecimal("1000000.00");
+    private static final long AMOUNT_CENTS = 100;
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private CreateAccountService createAccountService;
+    @Autowired private TransferService transferService;
+    @Autowired private GetAccountByNumberService getAccountByNumberService;
+
+    @MockitoBean private ClientQueryPort clientQueryPort;
+    @MockitoBean private AccountNumberGenerator accountNumberGenerator;
+
+    @Test
+    @DisplayName("Transferencias cruzadas concurrentes sin deadlocks y con saldos consistentes")
+    void crossingTransfers() throws Exception {
+        when(clientQueryPort.assertExists(anyString())).thenAnswer(inv -> client(inv.getArgument(0)));
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String number = "BENCH-TRF-" + i;
+            when(accountNumberGenerator.generate()).thenReturn(number);
+            createAccountService.execute(new CreateAccountCommand("AHORROS", "bench-client", INITIAL));
+            numbers.add(number);
+        }
+
+        // Neto por cuenta en centavos (entradas - salidas)
+        AtomicLongArray net = new AtomicLongArray(ACCOUNTS);
+        AtomicLong ok = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        int from = random.nextInt(ACCOUNTS);
+                        int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                        try {
+                            transferService.execute(new CreateTransferCommand(
+                                    numbers.get(from), numbers.get(to), BigDecimal.valueOf(AMOUNT_CENTS, 2)));
+                            net.addAndGet(from, -AMOUNT_CENTS);
+                            net.addAndGet(to, AMOUNT_CENTS);
+                            ok.incrementAndGet();
+                        } catch (RuntimeException ex) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> w : workers) w.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Se verifica que ninguna transferencia fallara por deadlock/bloqueo y que los saldos cuadren
+        assertThat(failed.get()).isZero();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < ACCOUNTS; i++) {
+            BigDecimal balance = getAccountByNumberService.execute(numbers.get(i)).currentBalance();
+            assertThat(balance).isEqualByComparingTo(INITIAL.add(BigDecimal.valueOf(net.get(i), 2)));
+            total = total.add(balance);
+        }
+        assertThat(total).isEqualByComparingTo(INITIAL.multiply(BigDecimal.valueOf(ACCOUNTS)));
+
+        System.out.printf("%n== Transferencias cruzadas (%d hilos, %d cuentas, %ds) ==%n",
+                THREADS, ACCOUNTS, DURATION.toSeconds());
+        System.out.printf("transfers=%d  transfers/s=%.1f  failed=%d%n",
+                ok.get(), ok.get() / (double) DURATION.toSeconds(), failed.get());
+    }
+
+    private static ClientResponse client(String clientId) {
+        return new ClientResponse(1L, "Bench", "Client", "MALE", LocalDate.of(1990, 1, 1),
+                "CC", "1234567890", "Street", "3000000000", clientId, true);
+    }
+}
@@ -125,4 +125,21 @@ class AccountDomainTest {
         assertThat(acc.getCurrentBalance().toString()).isEqualTo("100.00");
         assertThat(acc.getMovements()).isEmpty();
     }
+
+    @Test
+    void shouldRequireShardedPathWhenBalanceIsSharded() {
+        // Se prepara una cuenta con saldo en 2 fragmentos
+        Account acc = Account.fromPersistence(1L, "ACC-900", AccountType.AHORROS,
+                Money.of(new BigDecimal("0.00")), "1001L", Instant.now(), true,
+                new ArrayList<>(), Money.of(new BigDecimal("50.00")), 2);
+
+        // El registro clásico reescribiría current_balance; debe rechazarse
+        assertThrows(IllegalStateException.class, () -> acc.registerMovement(new BigDecimal("10.00")));
+
+        // El registro por fragmentos actualiza el saldo con el agregado informado
+        Money delta = acc.prepareShardedMovement(new BigDecimal("10.00"));
+        acc.recordShardedMovement(delta, Money.of(new BigDecimal("60.00")));
+        assertThat(acc.getCurrentBalance().toString()).isEqualTo("60.00");
+        assertThat(acc.getMovements().getFirst().getType()).isEqualTo(MovementType.DEPOSIT);
+    }
 }
@@ -0,0 +1,56 @@
+package com.devsu.transaction.domain.model.account;
+
+import com.devsu.transaction.domain.exception.InsufficientFundsException;
+import com.devsu.transaction.domain.model.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardedBalanceTest {
+
+    private static Money money(String value) {
+        return Money.of(new BigDecimal(value));
+    }
+
+    @Test
+    void shouldAggregateShards() {
+        // Se verifica que el saldo total sea la suma de los fragmentos
+        ShardedBalance balance = ShardedBalance.of(List.of(money("10.00"), money("20.50"), money("0.00")));
+        assertThat(balance.total()).isEqualTo(money("30.50"));
+    }
+
+    @Test
+    void shouldTakeFromStartShardWhenItCoversTheAmount() {
+        ShardedBalance balance = ShardedBalance.of(List.of(money("10.00"), money("40.00")));
+
+        List<Money> debits = balance.planWithdrawal(money("25.00"), 1);
+
+        assertThat(debits).containsExactly(money("0.00"), money("25.00"));
+    }
+
+    @Test
+    void shouldBorrowFromFollowingShardsWrappingAround() {
+        ShardedBalance balance = ShardedBalance.of(List.of(money("30.00"), money("5.00"), money("20.00")));
+
+        // Se empieza en el fragmento 2 y se continúa en 0 (circular)
+        List<Money> debits = balance.planWithdrawal(money("45.00"), 2);
+
+        assertThat(debits).containsExactly(money("25.00"), money("0.00"), money("20.00"));
+    }
+
+    @Test
+    void shouldFailWhenAggregateIsInsufficient() {
+        ShardedBalance balance = ShardedBalance.of(List.of(money("10.00"), money("10.00")));
+
+        assertThrows(InsufficientFundsException.class, () -> balance.planWithdrawal(money("20.01"), 0));
+    }
+
+    @Test
+    void shouldRejectEmptyShards() {
+        assertThrows(IllegalArgumentException.class, () -> ShardedBalance.of(List.of()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.devsu.transaction.infrastructure.http.clients;
+
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.service.DeactivateClientAccountsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias de ClientChangeFeedPoller.
+ * Se valida la lectura paginada del feed, la invalidación de la caché, la inactivación de cuentas
+ * de los clientes dados de baja y el avance del cursor.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClientChangeFeedPollerTest {
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private DeactivateClientAccountsService deactivateClientAccountsService;
+
+    private ClientResponseCache cache;
+    private ClientChangeFeedPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClientResponseCache(100, Duration.ofSeconds(10));
+        poller = new ClientChangeFeedPoller(userClient, cache, deactivateClientAccountsService, 2);
+        lenient().when(deactivateClientAccountsService.lastFeedCursor()).thenReturn(Optional.empty());
+    }
+
+    private static ClientChangesResponse.Item item(String cursor, String clientId) {
+        return item(cursor, clientId, "UPDATED");
+    }
+
+    private static ClientChangesResponse.Item item(String cursor, String clientId, String type) {
+        return new ClientChangesResponse.Item(cursor, clientId, type, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Lee páginas hasta vaciar el feed, invalida los clientes y marca la caché al día")
+    void shouldDrainFeedAndEvict() {
+        cache.put("ANA-001", "\"1\"", mock(ClientResponse.class), cache.stamp());
+        cache.put("LUIS-002", "\"1\"", mock(ClientResponse.class), cache.stamp());
+        cache.put("EVA-003", "\"1\"", mock(ClientResponse.class), cache.stamp());
+        when(userClient.changes(isNull(), eq(2))).thenReturn(new ClientChangesResponse(
+                List.of(item("10.1", "ANA-001"), item("10.2", "LUIS-002")), "10.2"));
+        when(userClient.changes("10.2", 2)).thenReturn(new ClientChangesResponse(List.of(), "10.2"));
+
+        poller.poll();
+
+        assertThat(cache.get("ANA-001")).isEmpty();
+        assertThat(cache.get("LUIS-002")).isEmpty();
+        assertThat(cache.get("EVA-003")).isPresent();
+        assertThat(poller.cursor()).isEqualTo("10.2");
+        assertThat(cache.isSynced()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Ante un error conserva el último cursor aplicado y no marca la caché al día")
+    void shouldKeepCursor_onFailure() {
+        when(userClient.changes(isNull(), eq(2))).thenReturn(new ClientChangesResponse(
+                List.of(item("10.1", "ANA-001"), item("10.2", "LUIS-002")), "10.2"));
+        when(userClient.changes("10.2", 2)).thenThrow(new IllegalStateException("user-service down"));
+
+        poller.poll();
+
+        assertThat(poller.cursor()).isEqualTo("10.2");
+        assertThat(cache.isSynced()).isFalse();
+
+        // La siguiente ejecución retoma desde el mismo cursor
+        reset(userClient);
+        when(userClient.changes("10.2", 2)).thenReturn(new ClientChangesResponse(List.of(), "10.2"));
+        poller.poll();
+        assertThat(cache.isSynced()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Las bajas inactivan las cuentas del cliente junto con el cursor de la página")
+    void shouldDeactivateAccounts_ofDeactivatedClients() {
+        when(userClient.changes(isNull(), eq(2))).thenReturn(new ClientChangesResponse(
+                List.of(item("10.1", "ANA-001", "DEACTIVATED"), item("10.2", "LUIS-002")), "10.2"));
+        when(userClient.changes("10.2", 2)).thenReturn(new ClientChangesResponse(
+                List.of(item("11.1", "EVA-003", "DEACTIVATED")), "11.1"));
+
+        poller.poll();
+
+        verify(deactivateClientAccountsService).execute(Set.of("ANA-001"), "10.2");
+        verify(deactivateClientAccountsService).execute(Set.of("EVA-003"), "11.1");
+        assertThat(poller.cursor()).isEqualTo("11.1");
+    }
+
+    @Test
+    @DisplayName("Al arrancar retoma desde el cursor persistido y no escribe si el feed está vacío")
+    void shouldResumeFromPersistedCursor() {
+        when(deactivateClientAccountsService.lastFeedCursor()).thenReturn(Optional.of("42.7"));
+        when(userClient.changes("42.7", 2)).thenReturn(new ClientChangesResponse(List.of(), "42.7"));
+
+        poller.poll();
+        poller.poll();
+
+        verify(deactivateClientAccountsService, times(1)).lastFeedCursor();
+        verify(deactivateClientAccountsService, never()).execute(anyCollection(), anyString());
+        assertThat(poller.cursor()).isEqualTo("42.7");
+    }
+}
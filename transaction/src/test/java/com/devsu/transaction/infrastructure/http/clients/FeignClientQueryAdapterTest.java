@@ -0,0 +1,152 @@
+package com.devsu.transaction.infrastructure.http.clients;
+
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.exception.ClientNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias de FeignClientQueryAdapter.assertExists.
+ * Se valida la revalidación con If-None-Match sobre la caché local de clientes y el uso
+ * de la copia local sin llamada HTTP cuando el feed de cambios está al día.
+ */
+@ExtendWith(MockitoExtension.class)
+class FeignClientQueryAdapterTest {
+
+    private static final String CLIENT_JSON = """
+            {"id":10,"firstName":"Ana","lastName":"Gómez","gender":"FEMALE","birthDate":"2000-01-01",
+             "identificationType":"CC","identificationNumber":"1234567890","address":"Calle 1",
+             "phone":"3001234567","clientId":"ANA-001","status":true}
+            """;
+
+    @Mock
+    private UserClient userClient;
+
+    private ClientResponseCache cache;
+    private FeignClientQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClientResponseCache(100, Duration.ofSeconds(10));
+        adapter = new FeignClientQueryAdapter(userClient, cache, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Primera consulta sin If-None-Match: 200 se decodifica y se guarda con su ETag")
+    void shouldFetchAndCache_onFirstCall() {
+        when(userClient.getClientIfNoneMatch(eq("ANA-001"), isNull())).thenReturn(response(200, "\"3\"", CLIENT_JSON));
+
+        ClientResponse client = adapter.assertExists("ANA-001");
+
+        assertThat(client.firstName()).isEqualTo("Ana");
+        assertThat(client.status()).isTrue();
+        assertThat(cache.get("ANA-001")).hasValueSatisfying(entry -> assertThat(entry.etag()).isEqualTo("\"3\""));
+    }
+
+    @Test
+    @DisplayName("Consulta con copia local: se envía el ETag y un 304 reutiliza la copia")
+    void shouldRevalidateWithETag_andReuseCachedOn304() {
+        when(userClient.getClientIfNoneMatch(eq("ANA-001"), isNull())).thenReturn(response(200, "\"3\"", CLIENT_JSON));
+        ClientResponse first = adapter.assertExists("ANA-001");
+
+        when(userClient.getClientIfNoneMatch("ANA-001", "\"3\"")).thenReturn(response(304, "\"3\"", null));
+        ClientResponse second = adapter.assertExists("ANA-001");
+
+        assertThat(second).isSameAs(first);
+        verify(userClient).getClientIfNoneMatch("ANA-001", "\"3\"");
+    }
+
+    @Test
+    @DisplayName("Cliente modificado: 200 con nuevo ETag reemplaza la copia local")
+    void shouldReplaceCachedEntry_whenChanged() {
+        cache.put("ANA-001", "\"3\"", mock(ClientResponse.class), cache.stamp());
+        when(userClient.getClientIfNoneMatch("ANA-001", "\"3\"")).thenReturn(response(200, "\"4\"", CLIENT_JSON));
+
+        ClientResponse client = adapter.assertExists("ANA-001");
+
+        assertThat(client.clientId()).isEqualTo("ANA-001");
+        assertThat(cache.get("ANA-001")).hasValueSatisfying(entry -> assertThat(entry.etag()).isEqualTo("\"4\""));
+    }
+
+    @Test
+    @DisplayName("404: se descarta la copia local y se lanza ClientNotFoundException")
+    void shouldEvictAndThrow_onNotFound() {
+        cache.put("ANA-001", "\"3\"", mock(ClientResponse.class), cache.stamp());
+        when(userClient.getClientIfNoneMatch("ANA-001", "\"3\"")).thenReturn(response(404, null, "{}"));
+
+        assertThatThrownBy(() -> adapter.assertExists("ANA-001")).isInstanceOf(ClientNotFoundException.class);
+        assertThat(cache.get("ANA-001")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Otros estados: se propaga FeignException")
+    void shouldThrowFeignException_onServerError() {
+        when(userClient.getClientIfNoneMatch(eq("ANA-001"), isNull())).thenReturn(response(503, null, "{}"));
+
+        assertThatThrownBy(() -> adapter.assertExists("ANA-001")).isInstanceOf(FeignException.class);
+    }
+
+    @Test
+    @DisplayName("Feed al día y entrada confiable: se responde sin llamar al user-service")
+    void shouldServeFromCache_whenFeedIsSynced() {
+        when(userClient.getClientIfNoneMatch(eq("ANA-001"), isNull())).thenReturn(response(200, "\"3\"", CLIENT_JSON));
+        ClientResponse first = adapter.assertExists("ANA-001");
+        cache.markSynced();
+
+        ClientResponse second = adapter.assertExists("ANA-001");
+
+        assertThat(second).isSameAs(first);
+        verify(userClient, times(1)).getClientIfNoneMatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("Invalidación durante la consulta: la entrada no es confiable y se revalida")
+    void shouldRevalidate_whenEvictedWhileFetching() {
+        when(userClient.getClientIfNoneMatch(eq("ANA-001"), isNull())).thenAnswer(inv -> {
+            cache.evict("ANA-001"); // el feed invalida el cliente mientras llega la respuesta
+            return response(200, "\"3\"", CLIENT_JSON);
+        });
+        adapter.assertExists("ANA-001");
+        cache.markSynced();
+        when(userClient.getClientIfNoneMatch("ANA-001", "\"3\"")).thenReturn(response(200, "\"4\"", CLIENT_JSON));
+
+        adapter.assertExists("ANA-001");
+
+        verify(userClient).getClientIfNoneMatch("ANA-001", "\"3\"");
+        assertThat(cache.get("ANA-001")).hasValueSatisfying(entry -> {
+            assertThat(entry.etag()).isEqualTo("\"4\"");
+            assertThat(entry.trusted()).isTrue();
+        });
+    }
+
+    private static Response response(int status, String etag, String body) {
+        Map<String, Collection<String>> headers = etag == null ? Map.of() : Map.of(HttpHeaders.ETAG, List.of(etag));
+        var builder = Response.builder()
+                .status(status)
+                .headers(headers)
+                .request(Request.create(Request.HttpMethod.GET, "http://user/clientes/clientId/ANA-001",
+                        Map.of(), null, StandardCharsets.UTF_8, null));
+        if (body != null) builder.body(body, StandardCharsets.UTF_8);
+        return builder.build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.devsu.transaction.infrastructure.jfr;
+
+import com.devsu.transaction.application.jfr.MovementRegistrationEvent;
+import com.devsu.transaction.infrastructure.jfr.JfrRecordingEndpoint.RecordingDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas unitarias de /actuator/jfr: inicio, conflicto con una grabación en curso, detención con archivo,
+ * descarga con los eventos de dominio, exclusión de eventos sensibles y limpieza de grabaciones anteriores.
+ */
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path dir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint(dir, 16 * 1024 * 1024, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.recordings().forEach(r -> endpoint.stop(r.id()));
+    }
+
+    @Test
+    @DisplayName("Inicia, detiene y descarga una grabación con el evento de movimiento")
+    void startStopAndDownload() throws Exception {
+        WebEndpointResponse<Object> started = endpoint.start("default", null);
+        assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        RecordingDescriptor running = (RecordingDescriptor) started.getBody();
+        assertThat(running.state()).isEqualTo("RUNNING");
+        assertThat(running.duration()).isEqualTo(Duration.ofMinutes(1));
+
+        // Se emite un evento de dominio mientras la grabación está en curso
+        MovementRegistrationEvent event = new MovementRegistrationEvent();
+        event.begin();
+        event.account(7L, new BigDecimal("25.00"), false);
+        event.passed();
+        event.commit();
+
+        RecordingDescriptor stopped = (RecordingDescriptor) endpoint.stop(running.id()).getBody();
+        assertThat(stopped.state()).isEqualTo("CLOSED");
+        assertThat(stopped.fileSize()).isPositive();
+
+        WebEndpointResponse<Resource> download = endpoint.download(running.id());
+        assertThat(download.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(download.getBody().getFile().toPath()).stream()
+                .filter(e -> e.getEventType().getName().equals(MovementRegistrationEvent.NAME))
+                .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getLong("accountId")).isEqualTo(7L);
+        assertThat(events.get(0).getInt("amountSign")).isEqualTo(1);
+        assertThat(events.get(0).getString("balanceCheck")).isEqualTo(MovementRegistrationEvent.PASSED);
+    }
+
+    @Test
+    @DisplayName("Con una grabación en curso se responde 409; la descarga entrega una copia parcial")
+    void startWhileRunning_conflict() {
+        RecordingDescriptor running = (RecordingDescriptor) endpoint.start("default", Duration.ofSeconds(30)).getBody();
+
+        assertThat(endpoint.start("default", null).getStatus()).isEqualTo(409);
+        WebEndpointResponse<Resource> snapshot = endpoint.download(running.id());
+        assertThat(snapshot.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(snapshot.getBody().getFilename()).isEqualTo("recording-" + running.id() + "-snapshot.jfr");
+    }
+
+    @Test
+    @DisplayName("Configuración inválida responde 400 e id inexistente 404")
+    void invalidSettingsAndUnknownId() {
+        assertThat(endpoint.start("no-existe", null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+        assertThat(endpoint.stop(999_999L).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.download(999_999L).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.recordings()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Con settings profile no se graban variables de entorno, propiedades ni argumentos de la JVM")
+    void sensitiveEventsAreNotRecorded() throws Exception {
+        RecordingDescriptor running = (RecordingDescriptor) endpoint.start("profile", null).getBody();
+        endpoint.stop(running.id());
+
+        Path file = endpoint.download(running.id()).getBody().getFile().toPath();
+        assertThat(RecordingFile.readAllEvents(file))
+                .extracting(e -> e.getEventType().getName())
+                .isNotEmpty()
+                .doesNotContainAnyElementsOf(JfrRecordingEndpoint.SENSITIVE_EVENTS);
+    }
+
+    @Test
+    @DisplayName("Al detener se borra la copia parcial; al iniciar otra se descarta la grabación anterior")
+    void previousRecordingIsPruned() {
+        RecordingDescriptor first = (RecordingDescriptor) endpoint.start("default", null).getBody();
+        Path snapshot = dir.resolve("recording-" + first.id() + "-snapshot.jfr");
+        assertThat(endpoint.download(first.id()).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(snapshot).exists();
+
+        RecordingDescriptor stopped = (RecordingDescriptor) endpoint.stop(first.id()).getBody();
+        assertThat(snapshot).doesNotExist();
+        assertThat(Path.of(stopped.file())).exists();
+
+        RecordingDescriptor second = (RecordingDescriptor) endpoint.start("default", null).getBody();
+        assertThat(endpoint.recordings()).extracting(RecordingDescriptor::id).containsExactly(second.id());
+        assertThat(Path.of(stopped.file())).doesNotExist();
+        assertThat(endpoint.download(first.id()).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
@@ -0,0 +1,95 @@
+package com.devsu.transaction.infrastructure.timing;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas unitarias de Server-Timing: header en respuestas JSON y sin cuerpo, desglose db/remote/json/app
+ * y métricas http.server.timing.
+ */
+class ServerTimingFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ServerTimingFilter filter = new ServerTimingFilter(registry);
+    private final TimedJacksonHttpMessageConverter converter =
+            new TimedJacksonHttpMessageConverter(JsonMapper.builder().build());
+
+    private MockHttpServletResponse run(HttpServlet servlet) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/cuentas/1"), response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    @Test
+    @DisplayName("Respuesta JSON: el header incluye el tiempo de JDBC y se envía antes del cuerpo")
+    void shouldAddHeader_onJsonResponse() throws Exception {
+        MockHttpServletResponse response = run(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                RequestTiming.addDb(TimeUnit.MILLISECONDS.toNanos(5));
+                RequestTiming.addRemote(TimeUnit.MILLISECONDS.toNanos(3));
+                var output = new ServletServerHttpResponse(resp);
+                converter.write(Map.of("accountNumber", "ACC-001"), MediaType.APPLICATION_JSON, output);
+                output.flush();
+            }
+        });
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"accountNumber\":\"ACC-001\"}");
+        String header = response.getHeader(RequestTiming.HEADER);
+        assertThat(header).matches("db;dur=\\d+\\.\\d, remote;dur=\\d+\\.\\d, json;dur=\\d+\\.\\d, app;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d");
+        assertThat(Double.parseDouble(header.substring("db;dur=".length(), header.indexOf(',')))).isGreaterThanOrEqualTo(5.0);
+
+        assertThat(registry.get("http.server.timing").tag("component", "db").timer().count()).isEqualTo(1);
+        assertThat(registry.get("http.server.timing").tag("component", "db").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(5.0);
+        assertThat(registry.get("http.server.timing").tag("component", "remote").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(3.0);
+        assertThat(registry.get("http.server.timing").tag("component", "json").timer().count()).isEqualTo(1);
+        assertThat(registry.get("http.server.timing").tag("component", "app").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Respuesta sin cuerpo: el filtro agrega el header al final")
+    void shouldAddHeader_onBodylessResponse() throws Exception {
+        MockHttpServletResponse response = run(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            }
+        });
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(RequestTiming.HEADER)).startsWith("db;dur=0.0, remote;dur=0.0, json;dur=0.0, app;dur=");
+    }
+
+    @Test
+    @DisplayName("Fuera de una solicitud no hay acumulador y los tiempos se ignoran")
+    void shouldIgnoreTimings_outsideRequest() throws Exception {
+        run(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                assertThat(RequestTiming.current()).isNotNull();
+            }
+        });
+
+        assertThat(RequestTiming.current()).isNull();
+        RequestTiming.addDb(TimeUnit.SECONDS.toNanos(1));
+        assertThat(RequestTiming.current()).isNull();
+    }
+}
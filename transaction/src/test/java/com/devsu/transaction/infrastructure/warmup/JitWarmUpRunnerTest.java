@@ -0,0 +1,72 @@
+package com.devsu.transaction.infrastructure.warmup;
+
+import com.devsu.transaction.infrastructure.web.mappers.MovementWebMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas unitarias de JitWarmUpRunner (Jackson, Validator y MapStruct reales, sin Spring ni BD).
+ * Se valida que recorra los caminos calientes sin fallar y que publique las métricas de finalización.
+ */
+class JitWarmUpRunnerTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    private JitWarmUpRunner runner(SimpleMeterRegistry registry, int iterations, Duration maxDuration) {
+        return new JitWarmUpRunner(JsonMapper.builder().findAndAddModules().build(), validator,
+                Mappers.getMapper(MovementWebMapper.class), registry, iterations, maxDuration);
+    }
+
+    @Test
+    @DisplayName("Completa las iteraciones configuradas y publica warmup.completed=1")
+    void shouldCompleteIterations_andPublishMetrics() {
+        var registry = new SimpleMeterRegistry();
+        var runner = runner(registry, 50, Duration.ofSeconds(30));
+
+        assertThat(registry.get("warmup.completed").gauge().value()).isZero();
+
+        runner.run(null);
+
+        assertThat(runner.isCompleted()).isTrue();
+        assertThat(runner.completedIterations()).isEqualTo(50);
+        assertThat(registry.get("warmup.completed").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("warmup.iterations").gauge().value()).isEqualTo(50.0);
+        assertThat(registry.get("warmup.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Se corta al agotar max-duration aunque falten iteraciones")
+    void shouldStopAtMaxDuration() {
+        var registry = new SimpleMeterRegistry();
+        var runner = runner(registry, Integer.MAX_VALUE, Duration.ZERO);
+
+        runner.run(null);
+
+        assertThat(runner.isCompleted()).isTrue();
+        assertThat(runner.completedIterations()).isZero();
+    }
+}
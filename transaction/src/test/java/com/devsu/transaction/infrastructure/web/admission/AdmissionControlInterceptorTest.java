@@ -0,0 +1,84 @@
+package com.devsu.transaction.infrastructure.web.admission;
+
+import com.devsu.transaction.application.exception.ServiceOverloadedException;
+import com.devsu.transaction.infrastructure.web.admission.AdmissionControlInterceptor.Budget;
+import com.devsu.transaction.infrastructure.web.controllers.AccountsController;
+import com.devsu.transaction.infrastructure.web.controllers.MovementsController;
+import com.devsu.transaction.infrastructure.web.controllers.ReportsController;
+import com.devsu.transaction.infrastructure.web.controllers.TransfersController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Pruebas unitarias del control de admisión: clasificación por presupuesto, rechazo y liberación.
+ */
+class AdmissionControlInterceptorTest {
+
+    private final AimdConcurrencyLimiter write = new AimdConcurrencyLimiter("write", 1, 1, 1, Duration.ofSeconds(1), 0.9);
+    private final AimdConcurrencyLimiter list = new AimdConcurrencyLimiter("list", 1, 1, 1, Duration.ofSeconds(1), 0.9);
+    private final AimdConcurrencyLimiter report = new AimdConcurrencyLimiter("report", 1, 1, 1, Duration.ofSeconds(1), 0.9);
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+            Map.of(Budget.WRITE, write, Budget.LIST, list, Budget.REPORT, report), 3);
+
+    private static HandlerMethod handler(Class<?> controller, String methodName) {
+        Method method = Arrays.stream(controller.getDeclaredMethods())
+                .filter(m -> m.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        return new HandlerMethod(mock(controller), method);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    @Test
+    @DisplayName("Clasifica escrituras, listados y reportes; el resto no pasa por el limitador")
+    void shouldClassifyBudgets() {
+        assertThat(AdmissionControlInterceptor.budgetOf(request("POST", "/movimientos"),
+                handler(MovementsController.class, "create"))).isEqualTo(Budget.WRITE);
+        assertThat(AdmissionControlInterceptor.budgetOf(request("GET", "/movimientos"),
+                handler(MovementsController.class, "listByAccountAndRange"))).isEqualTo(Budget.LIST);
+        assertThat(AdmissionControlInterceptor.budgetOf(request("POST", "/transferencias"),
+                handler(TransfersController.class, "create"))).isEqualTo(Budget.WRITE);
+        assertThat(AdmissionControlInterceptor.budgetOf(request("GET", "/reportes"),
+                handler(ReportsController.class, "getAccountStatement"))).isEqualTo(Budget.REPORT);
+        assertThat(AdmissionControlInterceptor.budgetOf(request("GET", "/cuentas/1"),
+                handler(AccountsController.class, "getByAccountNumber"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Sin capacidad lanza ServiceOverloadedException; al terminar libera el lugar")
+    void shouldRejectWhenFull_andReleaseOnCompletion() {
+        var handler = handler(ReportsController.class, "getAccountStatement");
+        var first = request("GET", "/reportes");
+        var response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(first, response, handler)).isTrue();
+        assertThat(report.inFlight()).isEqualTo(1);
+
+        var ex = assertThrows(ServiceOverloadedException.class,
+                () -> interceptor.preHandle(request("GET", "/reportes"), new MockHttpServletResponse(), handler));
+        assertThat(ex.getRetryAfterSeconds()).isEqualTo(3);
+        assertThat(report.rejected()).isEqualTo(1);
+
+        // Los demás presupuestos no se ven afectados
+        assertThat(interceptor.preHandle(request("POST", "/movimientos"), new MockHttpServletResponse(),
+                handler(MovementsController.class, "create"))).isTrue();
+
+        interceptor.afterCompletion(first, response, handler, null);
+        assertThat(report.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package com.devsu.transaction.infrastructure.web.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas unitarias del límite AIMD: rechazo sin capacidad, crecimiento aditivo y reducción multiplicativa.
+ */
+class AimdConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private AimdConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AimdConcurrencyLimiter("write", initial, min, max, Duration.ofMillis(250), 0.5);
+    }
+
+    @Test
+    @DisplayName("Rechaza sin bloquear cuando se alcanza el límite y cuenta el rechazo")
+    void shouldReject_whenLimitReached() {
+        var limiter = limiter(2, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(limiter.inFlight()).isEqualTo(2);
+        assertThat(limiter.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Crece de a uno con respuestas rápidas mientras el límite está en uso, hasta max-limit")
+    void shouldIncreaseAdditively_upToMax() {
+        var limiter = limiter(2, 1, 3);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(3);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(3);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("No crece si el límite está holgado (en vuelo < la mitad)")
+    void shouldNotIncrease_whenUnderused() {
+        var limiter = limiter(10, 1, 100);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Reduce multiplicativamente ante latencia alta o error, sin bajar de min-limit")
+    void shouldDecreaseMultiplicatively_onSlowOrFailed() {
+        var limiter = limiter(8, 2, 100);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Valida la configuración")
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(5, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> limiter(5, 10, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AimdConcurrencyLimiter("write", 5, 1, 10, Duration.ofMillis(250), 1.0));
+    }
+}
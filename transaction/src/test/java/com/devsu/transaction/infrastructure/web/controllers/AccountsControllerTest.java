@@ -2,7 +2,10 @@ package com.devsu.transaction.infrastructure.web.controllers;
 
 import com.devsu.transaction.application.exception.AccountNotFoundException;
 import com.devsu.transaction.application.result.AccountResult;
+import com.devsu.transaction.application.result.BatchCreateAccountsResult;
+import com.devsu.transaction.application.service.BatchCreateAccountsService;
 import com.devsu.transaction.application.service.ChangeAccountStatusService;
+import com.devsu.transaction.application.service.ConfigureBalanceShardsService;
 import com.devsu.transaction.application.service.CreateAccountService;
 import com.devsu.transaction.application.service.GetAccountByNumberService;
 import com.devsu.transaction.infrastructure.web.exception.GlobalExceptionHandler;
@@ -18,6 +21,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.endsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -38,12 +43,18 @@ class AccountsControllerTest {
     @MockitoBean
     private CreateAccountService createAccountService;
 
+    @MockitoBean
+    private BatchCreateAccountsService batchCreateAccountsService;
+
     @MockitoBean
     private ChangeAccountStatusService changeAccountStatusService;
 
     @MockitoBean
     private GetAccountByNumberService getAccountByNumberService;
 
+    @MockitoBean
+    private ConfigureBalanceShardsService configureBalanceShardsService;
+
     @MockitoBean
     private AccountWebMapper webMapper;
 
@@ -120,4 +131,57 @@ class AccountsControllerTest {
                         .content(invalidPayload))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("PATCH /cuentas/{accountNumber}/fragmentos -> 200 al fragmentar el saldo")
+    void changeBalanceShardsShouldReturn200() throws Exception {
+        AccountResult result = Mockito.mock(AccountResult.class);
+        when(configureBalanceShardsService.execute(eq("ACC-001"), eq(8))).thenReturn(result);
+        when(webMapper.toResponse(any())).thenReturn(null);
+
+        mockMvc.perform(patch("/cuentas/{accountNumber}/fragmentos", "ACC-001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"shards\": 8 }"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("PATCH /cuentas/{accountNumber}/fragmentos -> 400 cuando shards está fuera de rango")
+    void changeBalanceShardsShouldReturn400WhenOutOfRange() throws Exception {
+        mockMvc.perform(patch("/cuentas/{accountNumber}/fragmentos", "ACC-001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"shards\": 65 }"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /cuentas/batch -> 200 con el resultado por ítem")
+    void createBatchShouldReturn200() throws Exception {
+        BatchCreateAccountsResult result = new BatchCreateAccountsResult(1, 1, List.of());
+        when(batchCreateAccountsService.execute(any())).thenReturn(result);
+        when(webMapper.toBatchResponse(result)).thenReturn(null);
+
+        String payload = """
+            {
+              "accounts": [
+                { "clientId": "123", "accountType": "AHORROS", "initialBalance": 10.00 },
+                { "clientId": "",    "accountType": "PLAZO",   "initialBalance": -1 }
+              ]
+            }
+            """;
+
+        mockMvc.perform(post("/cuentas/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /cuentas/batch -> 400 cuando la lista está vacía")
+    void createBatchShouldReturn400WhenEmpty() throws Exception {
+        mockMvc.perform(post("/cuentas/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"accounts\": [] }"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,84 @@
+package com.devsu.transaction.infrastructure.web.controllers;
+
+import com.devsu.transaction.application.exception.LedgerVerificationInProgressException;
+import com.devsu.transaction.application.exception.LedgerVerificationNotFoundException;
+import com.devsu.transaction.application.result.LedgerVerificationResult;
+import com.devsu.transaction.application.service.GetLedgerVerificationService;
+import com.devsu.transaction.application.service.StartLedgerVerificationService;
+import com.devsu.transaction.infrastructure.web.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = LedgerAuditController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class LedgerAuditControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StartLedgerVerificationService startService;
+
+    @MockitoBean
+    private GetLedgerVerificationService getService;
+
+    private static LedgerVerificationResult result(String status) {
+        return new LedgerVerificationResult(1L, status, 2000, 5000, 2000, 9000, 0,
+                4000.0, 18000.0, Instant.now(), null, null, List.of());
+    }
+
+    @Test
+    @DisplayName("POST /auditorias/libro-mayor -> 202 con la corrida iniciada")
+    void startShouldReturn202() throws Exception {
+        when(startService.execute(false)).thenReturn(result("RUNNING"));
+
+        mockMvc.perform(post("/auditorias/libro-mayor"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status", is("RUNNING")));
+    }
+
+    @Test
+    @DisplayName("POST /auditorias/libro-mayor -> 409 si ya hay una corrida en curso")
+    void startShouldReturn409WhenRunning() throws Exception {
+        when(startService.execute(true)).thenThrow(new LedgerVerificationInProgressException("en curso"));
+
+        mockMvc.perform(post("/auditorias/libro-mayor").param("restart", "true"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("GET /auditorias/libro-mayor -> 200 con avance y throughput")
+    void statusShouldReturn200() throws Exception {
+        when(getService.execute()).thenReturn(result("COMPLETED"));
+
+        mockMvc.perform(get("/auditorias/libro-mayor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountsPerSecond", is(4000.0)))
+                .andExpect(jsonPath("$.movementsPerSecond", is(18000.0)));
+    }
+
+    @Test
+    @DisplayName("GET /auditorias/libro-mayor -> 404 si nunca se ha ejecutado")
+    void statusShouldReturn404WhenNoRuns() throws Exception {
+        when(getService.execute()).thenThrow(new LedgerVerificationNotFoundException("none"));
+
+        mockMvc.perform(get("/auditorias/libro-mayor"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -3,6 +3,7 @@ package com.devsu.transaction.infrastructure.web.controllers;
 import com.devsu.transaction.application.result.MovementResult;
 import com.devsu.transaction.application.service.CreateMovementService;
 import com.devsu.transaction.application.service.ListMovementsByDateService;
+import com.devsu.transaction.domain.exception.BalanceShardsChangedException;
 import com.devsu.transaction.domain.exception.InsufficientFundsException;
 import com.devsu.transaction.infrastructure.web.exception.GlobalExceptionHandler;
 import com.devsu.transaction.infrastructure.web.mappers.MovementReadAssembler;
@@ -94,6 +95,28 @@ class MovementsControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
 
+    @Test
+    @DisplayName("POST /movimientos debe responder 409 con Retry-After cuando los fragmentos de saldo cambian en medio")
+    void createShouldReturn409WithRetryAfterWhenBalanceShardsChange() throws Exception {
+        when(createMovementService.execute(any()))
+                .thenThrow(new BalanceShardsChangedException("Balance shards changed concurrently, retry the movement"));
+
+        String payload = """
+            {
+              "accountNumber": "1234567890",
+              "amount": 10.00,
+              "description": "Depósito"
+            }
+            """;
+
+        mockMvc.perform(post("/movimientos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
     @Test
     @DisplayName("POST /movimientos debe responder 400 cuando el payload es inválido")
     void createShouldReturn400WhenPayloadInvalid() throws Exception {
@@ -1,8 +1,11 @@
 package com.devsu.transaction.infrastructure.web.controllers;
 
 import com.devsu.transaction.application.exception.ClientNotFoundException;
+import com.devsu.transaction.application.exception.ServiceOverloadedException;
 import com.devsu.transaction.application.result.AccountStatementReport;
+import com.devsu.transaction.application.result.AccountStatementSummary;
 import com.devsu.transaction.application.service.AccountStatementReportService;
+import com.devsu.transaction.application.service.AccountStatementSummaryService;
 import com.devsu.transaction.infrastructure.web.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,13 +16,20 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.hamcrest.Matchers.is;
 
 @WebMvcTest(controllers = ReportsController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -32,6 +42,9 @@ class ReportsControllerTest {
     @MockitoBean
     private AccountStatementReportService reportService;
 
+    @MockitoBean
+    private AccountStatementSummaryService summaryService;
+
     @Test
     @DisplayName("GET /reportes -> 200 con parámetros válidos")
     void shouldReturn200WithValidParams() throws Exception {
@@ -50,6 +63,38 @@ class ReportsControllerTest {
         verify(reportService).execute("CLI-1", from, to);
     }
 
+    @Test
+    @DisplayName("GET /reportes?mode=summary -> 200 con los agregados por cuenta, sin pasar por el reporte detallado")
+    void shouldReturnSummaryWhenModeIsSummary() throws Exception {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to   = LocalDate.of(2025, 1, 31);
+
+        var summary = new AccountStatementSummary(
+                new AccountStatementReport.Client("Ana", "Pérez", "CC", "123", true),
+                Instant.parse("2025-01-01T00:00:00Z"),
+                Instant.parse("2025-01-31T23:59:59.999Z"),
+                List.of(new AccountStatementSummary.AccountSummary(
+                        "001-ABC", "AHORROS", true,
+                        new BigDecimal("1000.00"), new BigDecimal("1100.00"),
+                        new BigDecimal("200.00"), 1,
+                        new BigDecimal("-100.00"), 1,
+                        new BigDecimal("100.00"))));
+        when(summaryService.execute(eq("CLI-1"), eq(from), eq(to))).thenReturn(summary);
+
+        mockMvc.perform(get("/reportes")
+                        .param("clientId", "CLI-1")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31")
+                        .param("mode", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts[0].accountNumber", is("001-ABC")))
+                .andExpect(jsonPath("$.accounts[0].depositCount", is(1)))
+                .andExpect(jsonPath("$.accounts[0].movements").doesNotExist());
+
+        verify(summaryService).execute("CLI-1", from, to);
+        verifyNoInteractions(reportService);
+    }
+
     @Test
     @DisplayName("GET /reportes -> 404 when clientId does not exist")
     void shouldReturn404WhenClientNotFound() throws Exception {
@@ -63,6 +108,21 @@ class ReportsControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /reportes -> 503 con Retry-After cuando el control de admisión descarta la solicitud")
+    void shouldReturn503WithRetryAfter_whenOverloaded() throws Exception {
+        when(reportService.execute(anyString(), any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new ServiceOverloadedException("Service overloaded (report), retry later", 2));
+
+        mockMvc.perform(get("/reportes")
+                        .param("clientId", "CLI-1")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status", is(503)));
+    }
+
     @Test
     @DisplayName("GET /reportes -> 400 si falta parámetro obligatorio")
     void shouldReturn400WhenParamMissing() throws Exception {
@@ -0,0 +1,82 @@
+package com.devsu.transaction.infrastructure.web.controllers;
+
+import com.devsu.transaction.application.result.TransferResult;
+import com.devsu.transaction.application.service.TransferService;
+import com.devsu.transaction.domain.exception.InsufficientFundsException;
+import com.devsu.transaction.infrastructure.web.exception.GlobalExceptionHandler;
+import com.devsu.transaction.infrastructure.web.mappers.TransferWebMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = TransfersController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class TransfersControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TransferService transferService;
+
+    @MockitoBean
+    private TransferWebMapper mapper;
+
+    private static final String VALID_PAYLOAD = """
+            {
+              "sourceAccountNumber": "ACC-A",
+              "targetAccountNumber": "ACC-B",
+              "amount": 25.00
+            }
+            """;
+
+    @Test
+    @DisplayName("POST /transferencias -> 201 al transferir")
+    void createShouldReturn201() throws Exception {
+        when(transferService.execute(any())).thenReturn(Mockito.mock(TransferResult.class));
+        when(mapper.toResponse(any())).thenReturn(null);
+
+        mockMvc.perform(post("/transferencias")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_PAYLOAD))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("POST /transferencias -> 422 cuando la cuenta origen no tiene fondos")
+    void createShouldReturn422WhenInsufficientFunds() throws Exception {
+        when(transferService.execute(any())).thenThrow(new InsufficientFundsException("Fondos insuficientes"));
+
+        mockMvc.perform(post("/transferencias")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(VALID_PAYLOAD))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Fondos insuficientes"));
+    }
+
+    @Test
+    @DisplayName("POST /transferencias -> 400 cuando el monto no es positivo")
+    void createShouldReturn400WhenAmountIsNotPositive() throws Exception {
+        String payload = """
+            { "sourceAccountNumber": "ACC-A", "targetAccountNumber": "ACC-B", "amount": -5 }
+            """;
+
+        mockMvc.perform(post("/transferencias")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isBadRequest());
+    }
+}
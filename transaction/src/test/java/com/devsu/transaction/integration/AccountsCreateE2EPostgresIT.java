@@ -95,6 +95,8 @@ class AccountsCreateE2EPostgresIT {
                         .content(json))
                 .andExpect(status().isCreated())
                 .andExpect(header().string("Location", endsWith("/cuentas/ACC-E2E-0001")))
+                .andExpect(header().string("Server-Timing", matchesPattern(
+                        "db;dur=\\d+\\.\\d, remote;dur=\\d+\\.\\d, json;dur=\\d+\\.\\d, app;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d")))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", notNullValue()))
                 .andExpect(jsonPath("$.accountNumber", is("ACC-E2E-0001")))
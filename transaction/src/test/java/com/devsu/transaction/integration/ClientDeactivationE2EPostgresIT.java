@@ -0,0 +1,103 @@
+package com.devsu.transaction.integration;
+
+import com.devsu.transaction.TransactionApplication;
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.service.DeactivateClientAccountsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * E2E de la inactivación de cuentas por baja de cliente:
+ * - Crea cuentas de dos clientes vía HTTP y aplica una página del feed con la baja de uno de ellos.
+ * - Verifica que solo se inactivan las cuentas de ese cliente, que reaplicar la página no cambia nada
+ *   y que el cursor del feed queda persistido.
+ */
+@SpringBootTest(classes = TransactionApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("e2e")
+class ClientDeactivationE2EPostgresIT {
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeactivateClientAccountsService deactivateClientAccountsService;
+
+    @MockitoBean
+    private ClientQueryPort clientQueryPort;
+
+    @MockitoBean
+    private AccountNumberGenerator accountNumberGenerator;
+
+    private ClientResponse stubClientOk(String clientId) {
+        return new ClientResponse(1L, "John", "Doe", "MALE", LocalDate.of(1990, 1, 1), "CC",
+                "1234567890", "Some street", "3000000000", clientId, true);
+    }
+
+    private void createAccount(String clientId) throws Exception {
+        mockMvc.perform(post("/cuentas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"accountType": "AHORROS", "clientId": "%s", "initialBalance": 100}
+                            """.formatted(clientId)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Baja de cliente → inactiva todas sus cuentas de forma idempotente y persiste el cursor")
+    void deactivatedClient_deactivatesAllAccounts() throws Exception {
+        when(clientQueryPort.assertExists(anyString()))
+                .thenAnswer(inv -> stubClientOk(inv.getArgument(0)));
+        when(accountNumberGenerator.generate())
+                .thenReturn("ACC-DEA-0001", "ACC-DEA-0002", "ACC-DEA-0003");
+
+        createAccount("cli-baja");
+        createAccount("cli-baja");
+        createAccount("cli-activo");
+
+        int first = deactivateClientAccountsService.execute(List.of("cli-baja"), "100.1");
+        int replay = deactivateClientAccountsService.execute(List.of("cli-baja"), "100.1");
+
+        assertThat(first).isEqualTo(2);
+        assertThat(replay).isZero();
+        assertThat(deactivateClientAccountsService.lastFeedCursor()).contains("100.1");
+
+        mockMvc.perform(get("/cuentas/ACC-DEA-0001")).andExpect(jsonPath("$.active", is(false)));
+        mockMvc.perform(get("/cuentas/ACC-DEA-0002")).andExpect(jsonPath("$.active", is(false)));
+        mockMvc.perform(get("/cuentas/ACC-DEA-0003")).andExpect(jsonPath("$.active", is(true)));
+    }
+}
@@ -0,0 +1,248 @@
+package com.devsu.transaction.integration;
+
+import com.devsu.transaction.TransactionApplication;
+import com.devsu.transaction.application.command.CreateAccountCommand;
+import com.devsu.transaction.application.command.CreateMovementCommand;
+import com.devsu.transaction.application.command.CreateTransferCommand;
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.result.AccountResult;
+import com.devsu.transaction.application.service.ChangeAccountStatusService;
+import com.devsu.transaction.application.service.ConfigureBalanceShardsService;
+import com.devsu.transaction.application.service.CreateAccountService;
+import com.devsu.transaction.application.service.CreateMovementService;
+import com.devsu.transaction.application.service.DeactivateClientAccountsService;
+import com.devsu.transaction.application.service.GetAccountByNumberService;
+import com.devsu.transaction.application.service.TransferService;
+import com.devsu.transaction.domain.exception.InactiveAccountException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * E2E de escrituras concurrentes sobre la misma cuenta.
+ * - Una primera operación se ejecuta en una transacción que queda abierta (con la fila de la cuenta bloqueada).
+ * - La segunda corre en otro hilo; se espera a que PostgreSQL la reporte esperando un bloqueo y luego se
+ *   confirma la primera. Así el entrelazado es determinista y no depende de tiempos.
+ * - Se verifica que ninguna de las dos escrituras se pierda.
+ */
+@SpringBootTest(classes = TransactionApplication.class)
+@ActiveProfiles("it")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("e2e")
+class ConcurrentAccountWritesE2EPostgresIT {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private CreateAccountService createAccount;
+    @Autowired private CreateMovementService createMovement;
+    @Autowired private TransferService transfer;
+    @Autowired private DeactivateClientAccountsService deactivateClientAccounts;
+    @Autowired private ConfigureBalanceShardsService configureBalanceShards;
+    @Autowired private ChangeAccountStatusService changeAccountStatus;
+    @Autowired private GetAccountByNumberService getAccountByNumber;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private ClientQueryPort clientQueryPort;
+    @MockitoBean private AccountNumberGenerator accountNumberGenerator;
+
+    private static final AtomicLong SEQ = new AtomicLong();
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @BeforeEach
+    void setup() {
+        when(clientQueryPort.assertExists(anyString())).thenAnswer(inv -> client(inv.getArgument(0)));
+        when(accountNumberGenerator.generate()).thenAnswer(inv -> "ACC-CONC-" + SEQ.incrementAndGet());
+    }
+
+    @AfterAll
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static ClientResponse client(String clientId) {
+        return new ClientResponse(1L, "John", "Doe", "MALE", LocalDate.of(1990, 1, 1), "CC",
+                "1234567890", "Some street", "3000000000", clientId, true);
+    }
+
+    private AccountResult nuevaCuenta(String clientId, String balance) {
+        return createAccount.execute(new CreateAccountCommand("AHORROS", clientId, new BigDecimal(balance)));
+    }
+
+    private BigDecimal saldo(AccountResult account) {
+        return getAccountByNumber.execute(account.accountNumber()).currentBalance();
+    }
+
+    // Saldo inicial + Σ movimientos, y balance_after del último movimiento (orden de id)
+    private void assertLedgerMatches(AccountResult account, String expectedBalance) {
+        assertThat(saldo(account)).isEqualByComparingTo(expectedBalance);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT a.initial_balance + COALESCE(SUM(m.amount), 0)
+                FROM accounts a LEFT JOIN movements m ON m.account_id = a.id
+                WHERE a.id = ? GROUP BY a.id
+                """, BigDecimal.class, account.id())).isEqualByComparingTo(expectedBalance);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT balance_after FROM movements WHERE account_id = ? ORDER BY id DESC LIMIT 1",
+                BigDecimal.class, account.id())).isEqualByComparingTo(expectedBalance);
+    }
+
+    /**
+     * Se ejecuta 'holder' en una transacción que queda abierta y 'contender' en otro hilo; cuando este queda
+     * esperando un bloqueo se confirma la primera. Retorna el resultado pendiente de 'contender'.
+     */
+    private Future<?> runBlockedBehind(Runnable holder, Runnable contender) throws Exception {
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> first = pool.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            holder.run();
+            held.countDown();
+            try {
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(held.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).as("la primera transacción no avanzó").isTrue();
+
+        Future<?> second = pool.submit(contender);
+        awaitLockWaiter();
+        release.countDown();
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return second;
+    }
+
+    private void awaitLockWaiter() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock' AND datname = current_database()",
+                    Integer.class);
+            if (waiting != null && waiting > 0) return;
+            Thread.sleep(10);
+        }
+        fail("La segunda operación no quedó esperando el bloqueo de la cuenta");
+    }
+
+    @Test
+    @DisplayName("Depósito concurrente con una transferencia sobre la misma cuenta: se aplican ambos")
+    void movementWhileTransferHoldsTheAccount() throws Exception {
+        String clientId = "cli-conc-" + SEQ.incrementAndGet();
+        AccountResult source = nuevaCuenta(clientId, "100");
+        AccountResult target = nuevaCuenta(clientId, "100");
+
+        Future<?> deposit = runBlockedBehind(
+                () -> transfer.execute(new CreateTransferCommand(
+                        source.accountNumber(), target.accountNumber(), new BigDecimal("30"))),
+                () -> createMovement.execute(new CreateMovementCommand(source.accountNumber(), new BigDecimal("10"))));
+        deposit.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertLedgerMatches(source, "80");
+        assertLedgerMatches(target, "130");
+    }
+
+    @Test
+    @DisplayName("Movimiento que espera una inactivación del feed: se rechaza y la cuenta sigue inactiva")
+    void movementWhileDeactivationHoldsTheAccount() throws Exception {
+        String clientId = "cli-conc-" + SEQ.incrementAndGet();
+        AccountResult account = nuevaCuenta(clientId, "100");
+
+        Future<?> deposit = runBlockedBehind(
+                () -> deactivateClientAccounts.execute(List.of(clientId), null),
+                () -> createMovement.execute(new CreateMovementCommand(account.accountNumber(), new BigDecimal("10"))));
+
+        assertThatThrownBy(() -> deposit.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InactiveAccountException.class);
+        assertThat(getAccountByNumber.execute(account.accountNumber()).active()).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM movements WHERE account_id = ?", Integer.class, account.id())).isZero();
+    }
+
+    @Test
+    @DisplayName("Inactivación del feed que espera un movimiento: el movimiento se aplica y la cuenta queda inactiva")
+    void deactivationWhileMovementHoldsTheAccount() throws Exception {
+        String clientId = "cli-conc-" + SEQ.incrementAndGet();
+        AccountResult account = nuevaCuenta(clientId, "100");
+
+        Future<?> deactivation = runBlockedBehind(
+                () -> createMovement.execute(new CreateMovementCommand(account.accountNumber(), new BigDecimal("10"))),
+                () -> deactivateClientAccounts.execute(List.of(clientId), null));
+        deactivation.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(getAccountByNumber.execute(account.accountNumber()).active()).isFalse();
+        assertLedgerMatches(account, "110");
+    }
+
+    @Test
+    @DisplayName("Cambio de estado que espera un movimiento: el movimiento conserva su saldo y la cuenta queda inactiva")
+    void statusChangeWhileMovementHoldsTheAccount() throws Exception {
+        String clientId = "cli-conc-" + SEQ.incrementAndGet();
+        AccountResult account = nuevaCuenta(clientId, "100");
+
+        Future<?> statusChange = runBlockedBehind(
+                () -> createMovement.execute(new CreateMovementCommand(account.accountNumber(), new BigDecimal("10"))),
+                () -> changeAccountStatus.execute(account.accountNumber(), false));
+        statusChange.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(getAccountByNumber.execute(account.accountNumber()).active()).isFalse();
+        assertLedgerMatches(account, "110");
+    }
+
+    @Test
+    @DisplayName("Movimiento que espera una re-fragmentación: se aplica sobre los fragmentos sin perder el saldo")
+    void movementWhileReshardHoldsTheAccount() throws Exception {
+        String clientId = "cli-conc-" + SEQ.incrementAndGet();
+        AccountResult account = nuevaCuenta(clientId, "100");
+
+        Future<?> deposit = runBlockedBehind(
+                () -> configureBalanceShards.execute(account.accountNumber(), 4),
+                () -> createMovement.execute(new CreateMovementCommand(account.accountNumber(), new BigDecimal("10"))));
+        deposit.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // El bloqueo de la cuenta re-evalúa 'balance_shards = 0' tras la espera y el movimiento va por los fragmentos
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT balance_shards FROM accounts WHERE id = ?", Integer.class, account.id())).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(balance) FROM account_balance_shards WHERE account_id = ?", BigDecimal.class, account.id()))
+                .isEqualByComparingTo("110");
+        assertLedgerMatches(account, "110");
+    }
+}
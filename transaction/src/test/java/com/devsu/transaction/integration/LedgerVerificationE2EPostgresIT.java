@@ -0,0 +1,130 @@
+package com.devsu.transaction.integration;
+
+import com.devsu.transaction.TransactionApplication;
+import com.devsu.transaction.application.command.CreateAccountCommand;
+import com.devsu.transaction.application.command.CreateMovementCommand;
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.result.AccountResult;
+import com.devsu.transaction.application.service.ConfigureBalanceShardsService;
+import com.devsu.transaction.application.service.CreateAccountService;
+import com.devsu.transaction.application.service.CreateMovementService;
+import com.devsu.transaction.domain.model.ledger.LedgerMismatch;
+import com.devsu.transaction.domain.model.ledger.LedgerRangeReport;
+import com.devsu.transaction.domain.repository.LedgerVerificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * E2E de la verificación del libro mayor sobre cuentas que pasaron por saldo fragmentado.
+ * - Los movimientos registrados con saldo fragmentado quedan marcados (movements.sharded) y no se comparan
+ *   en la cadena de balance_after, aunque la cuenta ya no esté fragmentada.
+ * - Los movimientos registrados sin fragmentos se siguen verificando.
+ */
+@SpringBootTest(classes = TransactionApplication.class)
+@ActiveProfiles("it")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("e2e")
+class LedgerVerificationE2EPostgresIT {
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private CreateAccountService createAccount;
+    @Autowired private CreateMovementService createMovement;
+    @Autowired private ConfigureBalanceShardsService configureBalanceShards;
+    @Autowired private LedgerVerificationRepository ledgerVerificationRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private ClientQueryPort clientQueryPort;
+    @MockitoBean private AccountNumberGenerator accountNumberGenerator;
+
+    private static final AtomicLong SEQ = new AtomicLong();
+
+    @BeforeEach
+    void setup() {
+        when(clientQueryPort.assertExists(anyString())).thenAnswer(inv -> client(inv.getArgument(0)));
+        when(accountNumberGenerator.generate()).thenAnswer(inv -> "ACC-LEDGER-" + SEQ.incrementAndGet());
+    }
+
+    private static ClientResponse client(String clientId) {
+        return new ClientResponse(1L, "John", "Doe", "MALE", LocalDate.of(1990, 1, 1), "CC",
+                "1234567890", "Some street", "3000000000", clientId, true);
+    }
+
+    private void movimiento(AccountResult account, String amount) {
+        createMovement.execute(new CreateMovementCommand(account.accountNumber(), new BigDecimal(amount)));
+    }
+
+    // Cuenta de 100 con un movimiento antes, dos durante y uno después del saldo fragmentado
+    private AccountResult cuentaFragmentadaYDesfragmentada() {
+        AccountResult account = createAccount.execute(
+                new CreateAccountCommand("AHORROS", "cli-ledger-" + SEQ.incrementAndGet(), new BigDecimal("100")));
+        movimiento(account, "10");
+        configureBalanceShards.execute(account.accountNumber(), 2);
+        movimiento(account, "20");
+        movimiento(account, "-5");
+        configureBalanceShards.execute(account.accountNumber(), 0);
+        movimiento(account, "5");
+        return account;
+    }
+
+    private LedgerRangeReport verify(AccountResult account) {
+        return ledgerVerificationRepository.verifyRange(account.id() - 1, account.id());
+    }
+
+    @Test
+    @DisplayName("Cuenta des-fragmentada: los movimientos fragmentados no se reportan como eslabones rotos")
+    void unshardedAccountSkipsShardedMovements() {
+        AccountResult account = cuentaFragmentadaYDesfragmentada();
+        // Se simula el agregado observado bajo depósitos concurrentes (saldo real 125)
+        jdbcTemplate.update("""
+                UPDATE movements SET balance_after = 60
+                WHERE id = (SELECT max(id) FROM movements WHERE account_id = ? AND sharded)
+                """, account.id());
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT sharded FROM movements WHERE account_id = ? ORDER BY id", Boolean.class, account.id()))
+                .containsExactly(false, true, true, false);
+        LedgerRangeReport report = verify(account);
+        assertThat(report.movements()).isEqualTo(4);
+        assertThat(report.mismatches()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Un balance_after incorrecto en un movimiento sin fragmentos se sigue reportando")
+    void unshardedMovementsAreStillVerified() {
+        AccountResult account = cuentaFragmentadaYDesfragmentada();
+        Long last = jdbcTemplate.queryForObject(
+                "SELECT max(id) FROM movements WHERE account_id = ?", Long.class, account.id());
+        jdbcTemplate.update("UPDATE movements SET balance_after = 999 WHERE id = ?", last);
+
+        assertThat(verify(account).mismatches())
+                .extracting(LedgerMismatch::movementId, LedgerMismatch::kind)
+                .containsExactly(tuple(last, LedgerMismatch.Kind.CHAIN));
+    }
+}
@@ -0,0 +1,199 @@
+package com.devsu.transaction.integration;
+
+import com.devsu.transaction.TransactionApplication;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.infrastructure.persistence.adapter.JdbcAccountStatementQueryAdapter;
+import com.devsu.transaction.infrastructure.persistence.repository.AccountJpaRepository;
+import com.devsu.transaction.infrastructure.persistence.repository.MovementJpaRepository;
+import com.devsu.transaction.support.QueryPlanBaseline;
+import com.devsu.transaction.support.QueryPlans;
+import com.devsu.transaction.support.QueryPlans.QueryPlan;
+import com.devsu.transaction.support.SqlStatementCounter;
+import com.devsu.transaction.support.SqlStatementCounter.Execution;
+import com.devsu.transaction.support.SqlStatementCounterConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regresión de planes de ejecución de las consultas de MovementJpaRepository, AccountJpaRepository y del
+ * resumen del estado de cuenta (JdbcAccountStatementQueryAdapter).
+ * - Se siembra un volumen con sesgo realista: pocas cuentas concentran la mayoría de los movimientos
+ *   (ley de potencia) y los movimientos se insertan en orden cronológico, como en producción.
+ * - Cada método del repositorio se ejecuta una vez para capturar el SQL que genera Hibernate con sus
+ *   parámetros, y luego se repite con EXPLAIN (ANALYZE, BUFFERS) en una transacción que se revierte.
+ * - Se compara contra src/test/resources/query-plans/baseline.json: Seq Scan fuera de la lista permitida,
+ *   sorts de más o en disco, un índice esperado que deja de usarse o un presupuesto excedido fallan la prueba.
+ * Los planes quedan en build/query-plans; un cambio de esquema o de consulta que altere un plan
+ * actualiza el baseline y adjunta esos archivos como evidencia.
+ */
+@SpringBootTest(classes = TransactionApplication.class)
+@Import(SqlStatementCounterConfiguration.class)
+@ActiveProfiles("it")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("e2e")
+class QueryPlanRegressionE2EPostgresIT {
+
+    private static final int ACCOUNTS = 20_000;
+    private static final int CLIENTS = 5_000;
+    private static final int MOVEMENTS = 300_000;
+
+    // Ventana de una semana dentro del año sembrado (2025)
+    private static final Instant FROM = Instant.parse("2025-06-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2025-06-08T00:00:00Z");
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private MovementJpaRepository movementRepo;
+    @Autowired private AccountJpaRepository accountRepo;
+    @Autowired private JdbcAccountStatementQueryAdapter statementQuery;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockitoBean private ClientQueryPort clientQueryPort;
+    @MockitoBean private AccountNumberGenerator accountNumberGenerator;
+
+    private QueryPlanBaseline baseline;
+
+    // Cuenta con más movimientos, su cliente y sus cuentas; cuenta típica de la cola de la distribución
+    private long hotAccountId;
+    private String hotAccountNumber;
+    private String hotClientId;
+    private List<Long> hotClientAccountIds;
+    private long typicalAccountId;
+    private String typicalAccountNumber;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO accounts (account_number, account_type_id, client_id, initial_balance, current_balance, active)
+                SELECT 'PLAN-' || lpad(g::text, 8, '0'),
+                       CASE WHEN g % 2 = 0 THEN (SELECT min(id) FROM account_types) ELSE (SELECT max(id) FROM account_types) END,
+                       'PLAN-CLI-' || (g % ?),
+                       1000, 1000, true
+                FROM generate_series(1, ?) AS g
+                """, CLIENTS, ACCOUNTS);
+        // Cuenta = primera + N * u^3 (u pseudoaleatorio determinista): la primera recibe ~4% de los movimientos
+        jdbcTemplate.update("""
+                INSERT INTO movements (account_id, type, amount, balance_after, uuid, happened_at)
+                SELECT a.first_id + floor(? * power((abs(hashtext(g::text)::bigint) % 1000000) / 1000000.0, 3))::bigint,
+                       CASE WHEN g % 3 = 0 THEN 'WITHDRAWAL' ELSE 'DEPOSIT' END,
+                       1 + g % 500,
+                       1000,
+                       md5('plan-' || g)::uuid::text,
+                       TIMESTAMPTZ '2025-01-01 00:00:00+00' + (g * INTERVAL '365 days') / ?
+                FROM generate_series(1, ?) AS g,
+                     (SELECT min(id) AS first_id FROM accounts WHERE account_number LIKE 'PLAN-%') AS a
+                """, ACCOUNTS, MOVEMENTS, MOVEMENTS);
+        jdbcTemplate.execute("ANALYZE account_types");
+        jdbcTemplate.execute("ANALYZE accounts");
+        jdbcTemplate.execute("ANALYZE movements");
+
+        hotAccountId = jdbcTemplate.queryForObject(
+                "SELECT account_id FROM movements GROUP BY account_id ORDER BY count(*) DESC LIMIT 1", Long.class);
+        hotAccountNumber = jdbcTemplate.queryForObject("SELECT account_number FROM accounts WHERE id = ?", String.class, hotAccountId);
+        hotClientId = jdbcTemplate.queryForObject("SELECT client_id FROM accounts WHERE id = ?", String.class, hotAccountId);
+        hotClientAccountIds = jdbcTemplate.queryForList("SELECT id FROM accounts WHERE client_id = ? ORDER BY id", Long.class, hotClientId);
+        typicalAccountId = jdbcTemplate.queryForObject("""
+                SELECT account_id FROM movements GROUP BY account_id
+                HAVING count(*) BETWEEN 5 AND 50 ORDER BY account_id LIMIT 1
+                """, Long.class);
+        typicalAccountNumber = jdbcTemplate.queryForObject("SELECT account_number FROM accounts WHERE id = ?", String.class, typicalAccountId);
+
+        baseline = QueryPlanBaseline.load("query-plans/baseline.json", Path.of("build", "query-plans"));
+    }
+
+    @AfterAll
+    void writeObserved() {
+        if (baseline != null) baseline.writeObserved();
+    }
+
+    Stream<Arguments> queries() {
+        return Stream.of(
+                query("MovementJpaRepository.findStatementRows",
+                        () -> movementRepo.findStatementRows(hotAccountNumber, FROM, TO)),
+                query("MovementJpaRepository.findByAccount_IdInAndHappenedAtBetweenOrderByHappenedAtDesc",
+                        () -> movementRepo.findByAccount_IdInAndHappenedAtBetweenOrderByHappenedAtDesc(hotClientAccountIds, FROM, TO)),
+                query("MovementJpaRepository.insertWithAccountBalance",
+                        () -> movementRepo.insertWithAccountBalance(typicalAccountId, "DEPOSIT", BigDecimal.TEN,
+                                new BigDecimal("1010.00"), UUID.randomUUID().toString(), Instant.now())),
+                query("AccountJpaRepository.findByAccountNumber",
+                        () -> accountRepo.findByAccountNumber(typicalAccountNumber)),
+                query("AccountJpaRepository.findByIdWithMovements",
+                        () -> accountRepo.findByIdWithMovements(typicalAccountId)),
+                query("AccountJpaRepository.findByClientId",
+                        () -> accountRepo.findByClientId(hotClientId)),
+                query("AccountJpaRepository.findUnshardedByAccountNumberForUpdate",
+                        () -> accountRepo.findUnshardedByAccountNumberForUpdate(typicalAccountNumber)),
+                query("AccountJpaRepository.findByIdForUpdate",
+                        () -> accountRepo.findByIdForUpdate(hotAccountId)),
+                query("AccountJpaRepository.findByAccountNumberInForUpdate",
+                        () -> accountRepo.findByAccountNumberInForUpdate(List.of(hotAccountNumber, typicalAccountNumber))),
+                query("JdbcAccountStatementQueryAdapter.summarizeByClientId",
+                        () -> statementQuery.summarizeByClientId(hotClientId, FROM, TO)));
+    }
+
+    private static Arguments query(String name, Runnable call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void planMatchesBaseline(String name, Runnable call) {
+        List<QueryPlan> plans = explain(capture(call));
+
+        assertThat(baseline.violations(name, plans))
+                .as(() -> plans.stream().map(p -> p.sql() + "\n" + p.shape()).reduce("", String::concat))
+                .isEmpty();
+    }
+
+    // Se ejecuta el método del repositorio solo para capturar sus sentencias; la transacción se revierte
+    private List<Execution> capture(Runnable call) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return SqlStatementCounter.count(call).executions();
+        });
+    }
+
+    // EXPLAIN ANALYZE ejecuta la sentencia (incluidos INSERT y FOR UPDATE): también se revierte
+    private List<QueryPlan> explain(List<Execution> executions) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return jdbcTemplate.execute((ConnectionCallback<List<QueryPlan>>) connection -> {
+                List<QueryPlan> plans = new ArrayList<>();
+                for (Execution execution : executions) plans.add(QueryPlans.explain(connection, execution));
+                return plans;
+            });
+        });
+    }
+}
@@ -0,0 +1,386 @@
+package com.devsu.transaction.integration;
+
+import com.devsu.transaction.TransactionApplication;
+import com.devsu.transaction.application.command.CreateAccountCommand;
+import com.devsu.transaction.application.command.CreateMovementCommand;
+import com.devsu.transaction.application.command.CreateTransferCommand;
+import com.devsu.transaction.application.dto.ClientResponse;
+import com.devsu.transaction.application.port.AccountNumberGenerator;
+import com.devsu.transaction.application.port.ClientQueryPort;
+import com.devsu.transaction.application.result.AccountResult;
+import com.devsu.transaction.application.result.AccountStatementSummary;
+import com.devsu.transaction.application.service.AccountStatementReportService;
+import com.devsu.transaction.application.service.AccountStatementSummaryService;
+import com.devsu.transaction.application.service.BatchCreateAccountsService;
+import com.devsu.transaction.application.service.ChangeAccountStatusService;
+import com.devsu.transaction.application.service.ConfigureBalanceShardsService;
+import com.devsu.transaction.application.service.CreateAccountService;
+import com.devsu.transaction.application.service.CreateMovementService;
+import com.devsu.transaction.application.service.DeactivateClientAccountsService;
+import com.devsu.transaction.application.service.GetAccountByNumberService;
+import com.devsu.transaction.application.service.GetLedgerVerificationService;
+import com.devsu.transaction.application.service.ListMovementsByDateService;
+import com.devsu.transaction.application.service.ShardedMovementService;
+import com.devsu.transaction.application.service.StartLedgerVerificationService;
+import com.devsu.transaction.application.service.TransferService;
+import com.devsu.transaction.domain.exception.InsufficientFundsException;
+import com.devsu.transaction.domain.model.account.Account;
+import com.devsu.transaction.domain.repository.AccountRepository;
+import com.devsu.transaction.support.SqlStatementCounter;
+import com.devsu.transaction.support.SqlStatementCounter.Statements;
+import com.devsu.transaction.support.SqlStatementCounterConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Presupuesto de sentencias JDBC por caso de uso (com.devsu.transaction.application.service).
+ * - Se invoca cada servicio directamente y se fija cuántas sentencias ejecuta y de qué tipo; una relación
+ *   perezosa nueva, un N+1 o un merge que recargue el historial rompen la prueba.
+ * - Los datos previos se crean con los mismos servicios, fuera del conteo.
+ * - Si un cambio mejora o empeora el conteo de forma intencional, se actualiza el número aquí.
+ */
+@SpringBootTest(classes = TransactionApplication.class)
+@Import(SqlStatementCounterConfiguration.class)
+@ActiveProfiles("it")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("e2e")
+class SqlStatementCountE2EPostgresIT {
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private CreateAccountService createAccount;
+    @Autowired private BatchCreateAccountsService batchCreateAccounts;
+    @Autowired private GetAccountByNumberService getAccountByNumber;
+    @Autowired private ChangeAccountStatusService changeAccountStatus;
+    @Autowired private ConfigureBalanceShardsService configureBalanceShards;
+    @Autowired private CreateMovementService createMovement;
+    @Autowired private ShardedMovementService shardedMovement;
+    @Autowired private TransferService transfer;
+    @Autowired private ListMovementsByDateService listMovementsByDate;
+    @Autowired private AccountStatementReportService accountStatementReport;
+    @Autowired private AccountStatementSummaryService accountStatementSummary;
+    @Autowired private DeactivateClientAccountsService deactivateClientAccounts;
+    @Autowired private StartLedgerVerificationService startLedgerVerification;
+    @Autowired private GetLedgerVerificationService getLedgerVerification;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private ClientQueryPort clientQueryPort;
+    @MockitoBean private AccountNumberGenerator accountNumberGenerator;
+
+    private static final AtomicLong SEQ = new AtomicLong(); // números de cuenta y clientes únicos
+
+    @BeforeEach
+    void setup() {
+        when(clientQueryPort.assertExists(anyString())).thenAnswer(inv -> client(inv.getArgument(0)));
+        when(clientQueryPort.findExistingClientIds(anyCollection()))
+                .thenAnswer(inv -> Set.copyOf(inv.<Collection<String>>getArgument(0)));
+        when(accountNumberGenerator.generate()).thenAnswer(inv -> "ACC-SQL-" + SEQ.incrementAndGet());
+        // generate(int) es un método default: el mock no lo delega a generate()
+        when(accountNumberGenerator.generate(anyInt())).thenAnswer(inv -> {
+            List<String> numbers = new ArrayList<>();
+            for (int i = 0; i < inv.<Integer>getArgument(0); i++) numbers.add("ACC-SQL-" + SEQ.incrementAndGet());
+            return numbers;
+        });
+    }
+
+    private static ClientResponse client(String clientId) {
+        return new ClientResponse(1L, "John", "Doe", "MALE", LocalDate.of(1990, 1, 1), "CC",
+                "1234567890", "Some street", "3000000000", clientId, true);
+    }
+
+    private static String nuevoCliente() {
+        return "cli-sql-" + SEQ.incrementAndGet();
+    }
+
+    private AccountResult nuevaCuenta(String clientId, String balance) {
+        return createAccount.execute(new CreateAccountCommand("AHORROS", clientId, new BigDecimal(balance)));
+    }
+
+    private static CreateMovementCommand movimiento(AccountResult account, String amount) {
+        return new CreateMovementCommand(account.accountNumber(), new BigDecimal(amount));
+    }
+
+    private static void assertCount(Statements statements, int total) {
+        assertThat(statements.total()).as(statements.toString()).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("CreateAccountService → SELECT tipo + SELECT cuenta con historial + INSERT")
+    void createAccount() {
+        Statements statements = SqlStatementCounter.count(() -> nuevaCuenta(nuevoCliente(), "100"));
+
+        assertCount(statements, 3);
+        assertThat(statements.inserts()).as(statements.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("BatchCreateAccountsService → catálogo de tipos + un INSERT en lote, sin importar el tamaño")
+    void batchCreateAccounts() {
+        String clientId = nuevoCliente();
+        List<CreateAccountCommand> commands = List.of(
+                new CreateAccountCommand("AHORROS", clientId, new BigDecimal("10")),
+                new CreateAccountCommand("CORRIENTE", clientId, new BigDecimal("20")),
+                new CreateAccountCommand("AHORROS", clientId, new BigDecimal("30")));
+
+        Statements statements = SqlStatementCounter.count(() -> batchCreateAccounts.execute(commands));
+
+        assertCount(statements, 2);
+        assertThat(statements.selects()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.inserts()).as(statements.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GetAccountByNumberService → cuenta + tipo")
+    void getAccountByNumber() {
+        AccountResult account = nuevaCuenta(nuevoCliente(), "100");
+
+        assertCount(SqlStatementCounter.count(() -> getAccountByNumber.execute(account.accountNumber())), 2);
+    }
+
+    @Test
+    @DisplayName("ChangeAccountStatusService → con cambio la lectura + UPDATE de active; sin cambio solo la lectura")
+    void changeAccountStatus() {
+        AccountResult account = nuevaCuenta(nuevoCliente(), "100");
+
+        Statements change = SqlStatementCounter.count(() -> changeAccountStatus.execute(account.accountNumber(), false));
+        Statements noop = SqlStatementCounter.count(() -> changeAccountStatus.execute(account.accountNumber(), false));
+
+        assertCount(change, 3);
+        assertThat(change.updates()).as(change.toString()).isEqualTo(1);
+        assertCount(noop, 2);
+    }
+
+    @Test
+    @DisplayName("CreateMovementService sin fragmentos → bloqueo de la cuenta + tipo + un CTE (saldo y movimiento)")
+    void createMovement_unsharded() {
+        AccountResult account = nuevaCuenta(nuevoCliente(), "100");
+
+        Statements statements = SqlStatementCounter.count(() -> createMovement.execute(movimiento(account, "25")));
+
+        assertCount(statements, 3);
+        assertThat(statements.selects()).as(statements.toString()).isEqualTo(2);
+        assertThat(statements.ctes()).as(statements.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CreateMovementService con fondos insuficientes → solo el bloqueo y la lectura de la cuenta")
+    void createMovement_insufficientFunds() {
+        AccountResult account = nuevaCuenta(nuevoCliente(), "10");
+
+        Statements statements = SqlStatementCounter.count(() -> assertThrows(InsufficientFundsException.class,
+                () -> createMovement.execute(movimiento(account, "-50"))));
+
+        assertCount(statements, 2);
+        assertThat(statements.inserts() + statements.updates()).as(statements.toString()).isZero();
+    }
+
+    @Test
+    @DisplayName("CreateMovementService con fragmentos → intento de bloqueo (sin filas) + lectura + UPDATE del fragmento (CTE) + INSERT, sin tocar accounts")
+    void createMovement_sharded() {
+        AccountResult account = nuevaCuenta(nuevoCliente(), "100");
+        configureBalanceShards.execute(account.accountNumber(), 4);
+
+        Statements statements = SqlStatementCounter.count(() -> createMovement.execute(movimiento(account, "25")));
+
+        assertCount(statements, 6);
+        assertThat(statements.ctes()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.inserts()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.updates()).as(statements.toString()).isZero();
+    }
+
+    @Test
+    @DisplayName("ShardedMovementService con retiro que no cabe en un fragmento → bloqueo + un UPDATE por fragmento debitado")
+    void shardedMovement_borrowAcrossShards() {
+        AccountResult created = nuevaCuenta(nuevoCliente(), "120");
+        configureBalanceShards.execute(created.accountNumber(), 2);
+        // Ningún fragmento cubre el retiro por sí solo
+        jdbcTemplate.update("UPDATE account_balance_shards SET balance = 60 WHERE account_id = ?", created.id());
+        Account account = accountRepository.findByAccountNumber(created.accountNumber()).orElseThrow();
+
+        Statements statements = SqlStatementCounter.count(
+                () -> shardedMovement.execute(account, new BigDecimal("-100")));
+
+        assertCount(statements, 5);
+        assertThat(statements.ctes()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.selects()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.updates()).as(statements.toString()).isEqualTo(2);
+        assertThat(statements.inserts()).as(statements.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ConfigureBalanceShardsService 0 → 4 → lectura + DELETE/INSERT de fragmentos + UPDATE de la cuenta")
+    void configureBalanceShards() {
+        AccountResult account = nuevaCuenta(nuevoCliente(), "100");
+
+        Statements statements = SqlStatementCounter.count(
+                () -> configureBalanceShards.execute(account.accountNumber(), 4));
+
+        assertCount(statements, 6);
+        assertThat(statements.deletes()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.inserts()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.updates()).as(statements.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TransferService entre cuentas sin fragmentos → bloqueo de ambas + tipo + un CTE por pierna")
+    void transfer() {
+        String clientId = nuevoCliente();
+        AccountResult source = nuevaCuenta(clientId, "100");
+        AccountResult target = nuevaCuenta(clientId, "100");
+
+        Statements statements = SqlStatementCounter.count(() -> transfer.execute(new CreateTransferCommand(
+                source.accountNumber(), target.accountNumber(), new BigDecimal("30"))));
+
+        assertCount(statements, 4);
+        assertThat(statements.selects()).as(statements.toString()).isEqualTo(2);
+        assertThat(statements.ctes()).as(statements.toString()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ListMovementsByDateService → 1 SELECT (cuenta y movimientos en un join); AccountStatementReportService → 3 SELECT; sin importar los movimientos")
+    void listMovementsAndReport() {
+        String clientId = nuevoCliente();
+        AccountResult a = nuevaCuenta(clientId, "100");
+        AccountResult b = nuevaCuenta(clientId, "100");
+        for (int i = 0; i < 3; i++) {
+            createMovement.execute(movimiento(a, "10"));
+            createMovement.execute(movimiento(b, "-10"));
+        }
+        LocalDate today = LocalDate.now();
+
+        Statements list = SqlStatementCounter.count(
+                () -> listMovementsByDate.execute(a.accountNumber(), today.minusDays(1), today.plusDays(1)));
+        Statements report = SqlStatementCounter.count(
+                () -> accountStatementReport.execute(clientId, today.minusDays(1), today.plusDays(1)));
+
+        assertCount(list, 1);
+        assertCount(report, 3);
+    }
+
+    @Test
+    @DisplayName("AccountStatementSummaryService → 1 SELECT con GROUP BY y saldos por LATERAL, incluida la cuenta fragmentada")
+    void statementSummary() {
+        String clientId = nuevoCliente();
+        AccountResult a = nuevaCuenta(clientId, "100");
+        AccountResult b = nuevaCuenta(clientId, "100");
+        for (int i = 0; i < 3; i++) {
+            createMovement.execute(movimiento(a, "10"));
+            createMovement.execute(movimiento(b, "-10"));
+        }
+        configureBalanceShards.execute(b.accountNumber(), 2);
+        createMovement.execute(movimiento(b, "5"));
+        LocalDate today = LocalDate.now();
+
+        AccountStatementSummary[] summary = new AccountStatementSummary[1];
+        Statements statements = SqlStatementCounter.count(
+                () -> summary[0] = accountStatementSummary.execute(clientId, today.minusDays(1), today.plusDays(1)));
+
+        assertCount(statements, 1);
+        var accounts = summary[0].accounts();
+        assertThat(accounts).extracting(AccountStatementSummary.AccountSummary::accountNumber)
+                .containsExactly(a.accountNumber(), b.accountNumber());
+        assertThat(accounts.get(0).openingBalance()).isEqualByComparingTo("100");
+        assertThat(accounts.get(0).closingBalance()).isEqualByComparingTo("130");
+        assertThat(accounts.get(0).depositCount()).isEqualTo(3);
+        assertThat(accounts.get(1).openingBalance()).isEqualByComparingTo("100");
+        assertThat(accounts.get(1).closingBalance()).isEqualByComparingTo("75");
+        assertThat(accounts.get(1).withdrawalTotal()).isEqualByComparingTo("-30");
+        assertThat(accounts.get(1).netChange()).isEqualByComparingTo("-25");
+    }
+
+    @Test
+    @DisplayName("AccountStatementSummaryService tras fragmentar y des-fragmentar → 1 SELECT; la apertura no usa el balance_after fragmentado")
+    void statementSummaryAfterUnsharding() {
+        String clientId = nuevoCliente();
+        AccountResult account = nuevaCuenta(clientId, "100");
+        createMovement.execute(movimiento(account, "10"));
+        configureBalanceShards.execute(account.accountNumber(), 2);
+        createMovement.execute(movimiento(account, "20"));
+        createMovement.execute(movimiento(account, "-5"));
+        configureBalanceShards.execute(account.accountNumber(), 0);
+        // Se simula el agregado observado por un movimiento fragmentado con depósitos concurrentes (saldo real 125)
+        // y se llevan los movimientos previos fuera del rango
+        jdbcTemplate.update("""
+                UPDATE movements SET balance_after = 60
+                WHERE id = (SELECT max(id) FROM movements WHERE account_id = ? AND sharded)
+                """, account.id());
+        jdbcTemplate.update("UPDATE movements SET happened_at = happened_at - INTERVAL '2 days' WHERE account_id = ?",
+                account.id());
+        createMovement.execute(movimiento(account, "5"));
+        LocalDate today = LocalDate.now();
+
+        AccountStatementSummary[] summary = new AccountStatementSummary[1];
+        Statements statements = SqlStatementCounter.count(
+                () -> summary[0] = accountStatementSummary.execute(clientId, today.minusDays(1), today.plusDays(1)));
+
+        assertCount(statements, 1);
+        var summarized = summary[0].accounts().get(0);
+        assertThat(summarized.openingBalance()).isEqualByComparingTo("125");
+        assertThat(summarized.closingBalance()).isEqualByComparingTo("130");
+        assertThat(summarized.depositCount()).isEqualTo(1);
+        assertThat(summarized.closingBalance())
+                .isEqualByComparingTo(getAccountByNumber.execute(account.accountNumber()).currentBalance());
+    }
+
+    @Test
+    @DisplayName("DeactivateClientAccountsService → UPDATE masivo + upsert del cursor; lastFeedCursor → 1 SELECT")
+    void deactivateClientAccounts() {
+        String clientId = nuevoCliente();
+        nuevaCuenta(clientId, "100");
+        nuevaCuenta(clientId, "100");
+
+        Statements statements = SqlStatementCounter.count(
+                () -> deactivateClientAccounts.execute(List.of(clientId), "900." + SEQ.incrementAndGet()));
+
+        assertCount(statements, 2);
+        assertThat(statements.updates()).as(statements.toString()).isEqualTo(1);
+        assertCount(SqlStatementCounter.count(deactivateClientAccounts::lastFeedCursor), 1);
+    }
+
+    @Test
+    @DisplayName("StartLedgerVerificationService → MAX(id) + INSERT de la corrida; GetLedgerVerificationService → 2 SELECT")
+    void ledgerVerification() throws InterruptedException {
+        nuevaCuenta(nuevoCliente(), "100");
+
+        // La verificación corre en otros hilos: solo se cuenta lo que ejecuta el hilo que la inicia
+        Statements start = SqlStatementCounter.count(() -> startLedgerVerification.execute(true));
+        for (int i = 0; i < 100 && startLedgerVerification.isRunning(); i++) Thread.sleep(50);
+        Statements get = SqlStatementCounter.count(getLedgerVerification::execute);
+
+        assertCount(start, 2);
+        assertThat(startLedgerVerification.isRunning()).isFalse();
+        assertCount(get, 2);
+    }
+}
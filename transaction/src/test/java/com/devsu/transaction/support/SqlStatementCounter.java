@@ -0,0 +1,199 @@
+package com.devsu.transaction.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Contador de sentencias JDBC para pruebas: cuenta los round trips que ejecuta un caso de uso.
+ * - El DataSource se envuelve con wrap() (ver SqlStatementCounterConfiguration); cubre JPA y JdbcTemplate.
+ * - Solo se registran las sentencias del hilo que llama a count(): el poller, la caché de catálogos
+ *   o los hilos de la verificación del libro mayor no alteran el conteo.
+ * - Cada execute*() es una sentencia; executeBatch() cuenta como una (un solo round trip).
+ * - Se guardan el SQL original y los parámetros enlazados, para repetir la sentencia (p. ej. con EXPLAIN).
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<List<Execution>> CAPTURE = new ThreadLocal<>();
+
+    private SqlStatementCounter() {}
+
+    /** Sentencia ejecutada: SQL tal como se preparó y los set*() de sus parámetros, en orden. */
+    public record Execution(String sql, List<Binding> bindings) {
+
+        public String normalized() {
+            return sql == null ? "?" : sql.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        }
+
+        // Se repiten los set*() sobre otra sentencia preparada (mismos índices y tipos)
+        public void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                try {
+                    binding.method().invoke(statement, binding.args());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("No se pudo enlazar " + binding.method().getName(), e);
+                }
+            }
+        }
+    }
+
+    public record Binding(Method method, Object[] args) {
+    }
+
+    /** Sentencias ejecutadas por el hilo actual durante la acción, en orden. */
+    public record Statements(List<Execution> executions) {
+
+        public List<String> sql() {
+            return executions.stream().map(Execution::normalized).toList();
+        }
+
+        public int total() {
+            return executions.size();
+        }
+
+        public long selects() {
+            return count("select");
+        }
+
+        public long inserts() {
+            return count("insert");
+        }
+
+        public long updates() {
+            return count("update");
+        }
+
+        public long deletes() {
+            return count("delete");
+        }
+
+        // Sentencias con CTE (WITH ... UPDATE/INSERT en un solo round trip)
+        public long ctes() {
+            return count("with");
+        }
+
+        private long count(String keyword) {
+            return sql().stream().filter(s -> s.startsWith(keyword)).count();
+        }
+
+        @Override
+        public String toString() {
+            return total() + " sentencias:\n  " + String.join("\n  ", sql());
+        }
+    }
+
+    public static Statements count(Runnable action) {
+        List<Execution> previous = CAPTURE.get();
+        List<Execution> captured = new ArrayList<>();
+        CAPTURE.set(captured);
+        try {
+            action.run();
+            return new Statements(List.copyOf(captured));
+        } finally {
+            if (previous == null) CAPTURE.remove();
+            else CAPTURE.set(previous);
+        }
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return dataSource instanceof CountingDataSource ? dataSource : new CountingDataSource(dataSource);
+    }
+
+    private static void record(String sql, List<Binding> bindings) {
+        List<Execution> captured = CAPTURE.get();
+        if (captured != null) {
+            captured.add(new Execution(sql, List.copyOf(bindings)));
+        }
+    }
+
+    private static final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection(), null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password), null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, String sql) {
+        InvocationHandler handler = type == Connection.class ? connectionHandler(target) : statementHandler(target, sql);
+        return (T) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static InvocationHandler connectionHandler(Object connection) {
+        return (proxy, method, args) -> {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) return identity;
+            Object result = invoke(connection, method, args);
+            String name = method.getName();
+            if (result instanceof CallableStatement cs && name.equals("prepareCall")) {
+                return proxy(CallableStatement.class, cs, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement ps && name.equals("prepareStatement")) {
+                return proxy(PreparedStatement.class, ps, (String) args[0]);
+            }
+            if (result instanceof Statement st && name.equals("createStatement")) {
+                return proxy(Statement.class, st, null);
+            }
+            return result;
+        };
+    }
+
+    private static InvocationHandler statementHandler(Object statement, String preparedSql) {
+        List<Binding> bindings = new ArrayList<>();
+        return (proxy, method, args) -> {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) return identity;
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                boolean withSql = args != null && args.length > 0 && args[0] instanceof String;
+                // En un batch solo queda el último juego de parámetros: se registra sin ellos
+                boolean batch = name.equals("executeBatch");
+                record(withSql ? (String) args[0] : preparedSql, batch ? List.of() : bindings);
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters") || name.equals("addBatch")) {
+                bindings.clear();
+            }
+            return invoke(statement, method, args);
+        };
+    }
+
+    // equals/hashCode por identidad del proxy (los holders de Spring comparan conexiones)
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
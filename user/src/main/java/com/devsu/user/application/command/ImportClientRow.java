@@ -0,0 +1,20 @@
+package com.devsu.user.application.command;
+
+/**
+ * Fila leída de un archivo de importación de clientes.
+ * Si la fila no se pudo leer o validar, command es null y error describe el motivo.
+ */
+public record ImportClientRow(
+        long line,
+        String identificationNumber,
+        CreateClientCommand command,
+        String error
+) {
+    public static ImportClientRow valid(long line, CreateClientCommand command) {
+        return new ImportClientRow(line, command.identificationNumber(), command, null);
+    }
+
+    public static ImportClientRow invalid(long line, String identificationNumber, String error) {
+        return new ImportClientRow(line, identificationNumber, null, error);
+    }
+}
@@ -0,0 +1,5 @@
+package com.devsu.user.application.exception;
+
+public class InvalidChangeCursorException extends RuntimeException {
+    public InvalidChangeCursorException(String message) { super(message); }
+}
@@ -0,0 +1,5 @@
+package com.devsu.user.application.exception;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) { super(message); }
+}
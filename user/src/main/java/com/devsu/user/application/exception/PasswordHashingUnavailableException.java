@@ -0,0 +1,17 @@
+package com.devsu.user.application.exception;
+
+/**
+ * Se lanza cuando el pool de hashing está saturado y la solicitud se descarta.
+ * Lleva el tiempo sugerido (segundos) para reintentar.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
@@ -1,5 +1,13 @@
 package com.devsu.user.application.port;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 public interface AccountNumberGenerator {
     String generate();
+
+    // Se generan varios números de una vez (cargas masivas)
+    default List<String> generate(int count) {
+        return IntStream.range(0, count).mapToObj(i -> generate()).toList();
+    }
 }
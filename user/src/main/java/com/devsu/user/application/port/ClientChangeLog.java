@@ -0,0 +1,21 @@
+package com.devsu.user.application.port;
+
+import com.devsu.user.application.result.ChangeCursor;
+import com.devsu.user.application.result.ClientChange;
+import com.devsu.user.domain.client.ClientChangeType;
+
+import java.util.List;
+
+/**
+ * Puerto del outbox de cambios de clientes.
+ * record debe ejecutarse dentro de la transacción que modifica al cliente, para que el cambio
+ * y su registro se confirmen (o se descarten) juntos.
+ */
+public interface ClientChangeLog {
+
+    // Se registra un cambio del cliente en la transacción actual
+    void record(String clientId, ClientChangeType type);
+
+    // Se leen los cambios posteriores al cursor, en orden, solo de transacciones ya terminadas
+    List<ClientChange> findAfter(ChangeCursor after, int limit);
+}
@@ -0,0 +1,36 @@
+package com.devsu.user.application.port;
+
+import com.devsu.user.application.result.ClientResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de lectura de clientes (modelo de consulta).
+ * Las implementaciones proyectan directamente a ClientResult, sin hidratar entidades
+ * ni leer el hash de la contraseña.
+ */
+public interface ClientQueryPort {
+
+    /**
+     * Se buscan clientes con id mayor a afterId, ordenados por id (paginación por keyset).
+     * Si query es null se listan todos; si no, se busca por nombre o apellido (prefijo o contenido)
+     * o por número de identificación exacto.
+     */
+    List<ClientResult> search(String query, long afterId, int limit);
+
+    // Se consulta un cliente por id (incluye la versión del agregado)
+    Optional<ClientResult> findById(Long id);
+
+    // Se consulta un cliente por su business key clientId (incluye la versión del agregado)
+    Optional<ClientResult> findByClientId(String clientId);
+
+    // Se consulta solo la versión del agregado (validación de If-None-Match sin leer el cliente)
+    Optional<Long> findVersionById(Long id);
+
+    Optional<Long> findVersionByClientId(String clientId);
+
+    // Se consultan varios clientes por clientId en una sola consulta; los inexistentes se omiten
+    List<ClientResult> findByClientIds(Collection<String> clientIds);
+}
@@ -1,5 +1,7 @@
 package com.devsu.user.application.port;
 
+import java.util.List;
+
 /**
  * Puerto que define la operación de hashing para contraseñas.
  * La implementación concreta se provee en infraestructura.
@@ -7,4 +9,13 @@ package com.devsu.user.application.port;
 public interface PasswordHasher {
     // Se recibe una contraseña en texto y se retorna su hash
     String hash(String raw);
+
+    // Se hashean varias contraseñas (cargas masivas); el resultado conserva el orden de entrada
+    default List<String> hashAll(List<String> raws) {
+        return raws.stream().map(this::hash).toList();
+    }
+
+    // Se indica si un hash fue generado con un costo menor al vigente y conviene regenerarlo
+    // (p. ej. en el próximo cambio de contraseña o inicio de sesión)
+    boolean needsRehash(String hash);
 }
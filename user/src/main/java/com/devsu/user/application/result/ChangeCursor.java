@@ -0,0 +1,33 @@
+package com.devsu.user.application.result;
+
+import com.devsu.user.application.exception.InvalidChangeCursorException;
+
+/**
+ * Posición en el feed de cambios de clientes: id de la transacción que registró el cambio
+ * y id de la fila. Se expone como texto opaco "txid.id".
+ */
+public record ChangeCursor(long txid, long id) {
+
+    // Inicio del feed (antes de cualquier cambio)
+    public static final ChangeCursor START = new ChangeCursor(0L, 0L);
+
+    // Se interpreta el cursor recibido; null o vacío es el inicio del feed
+    public static ChangeCursor parse(String value) {
+        if (value == null || value.isBlank()) return START;
+        int dot = value.indexOf('.');
+        try {
+            if (dot < 1) throw new NumberFormatException();
+            long txid = Long.parseLong(value.substring(0, dot));
+            long id = Long.parseLong(value.substring(dot + 1));
+            if (txid < 0 || id < 0) throw new NumberFormatException();
+            return new ChangeCursor(txid, id);
+        } catch (NumberFormatException e) {
+            throw new InvalidChangeCursorException("Invalid change cursor: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return txid + "." + id;
+    }
+}
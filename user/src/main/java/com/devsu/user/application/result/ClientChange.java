@@ -0,0 +1,15 @@
+package com.devsu.user.application.result;
+
+import com.devsu.user.domain.client.ClientChangeType;
+
+import java.time.Instant;
+
+/**
+ * Cambio de un cliente registrado en el outbox, con su posición en el feed.
+ */
+public record ClientChange(
+        ChangeCursor cursor,
+        String clientId,
+        ClientChangeType type,
+        Instant changedAt
+) {}
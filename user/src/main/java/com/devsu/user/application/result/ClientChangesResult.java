@@ -0,0 +1,12 @@
+package com.devsu.user.application.result;
+
+import java.util.List;
+
+/**
+ * Página del feed de cambios. nextCursor es la posición del último cambio entregado
+ * (o el cursor recibido si no hay cambios nuevos) y se envía como since en la siguiente consulta.
+ */
+public record ClientChangesResult(
+        List<ClientChange> items,
+        String nextCursor
+) {}
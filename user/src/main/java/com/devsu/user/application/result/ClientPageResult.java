@@ -0,0 +1,11 @@
+package com.devsu.user.application.result;
+
+import java.util.List;
+
+/**
+ * Página de clientes con el cursor para pedir la siguiente (null si no hay más).
+ */
+public record ClientPageResult(
+        List<ClientResult> items,
+        Long nextCursor
+) {}
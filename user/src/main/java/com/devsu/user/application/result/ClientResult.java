@@ -2,6 +2,11 @@ package com.devsu.user.application.result;
 
 import java.time.LocalDate;
 
+/**
+ * Resultado de lectura de un cliente.
+ * version es la versión del agregado (clients.version + persons.version) y se usa como ETag;
+ * es null cuando el resultado se arma desde el dominio (create/update).
+ */
 public record ClientResult(
         Long id,
         String firstName,
@@ -13,5 +18,15 @@ public record ClientResult(
         String address,
         String phone,
         String clientId,
-        boolean status
-) {}
+        boolean status,
+        Long version
+) {
+
+    // Se construye un resultado sin versión
+    public ClientResult(Long id, String firstName, String lastName, String gender, LocalDate birthDate,
+                        String identificationType, String identificationNumber, String address,
+                        String phone, String clientId, boolean status) {
+        this(id, firstName, lastName, gender, birthDate, identificationType, identificationNumber,
+                address, phone, clientId, status, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.devsu.user.application.result;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva: totales y reporte de errores por fila.
+ */
+public record ImportClientsResult(
+        long total,
+        long imported,
+        long failed,
+        List<RowError> errors
+) {
+    public record RowError(long line, String identificationNumber, String error) {}
+}
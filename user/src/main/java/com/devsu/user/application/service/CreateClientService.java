@@ -1,7 +1,6 @@
 package com.devsu.user.application.service;
 
 import com.devsu.user.application.command.CreateClientCommand;
-import com.devsu.user.application.exception.DuplicateIdentificationException;
 import com.devsu.user.application.exception.InvalidCatalogCodeException;
 import com.devsu.user.application.mapper.ClientAppMapper;
 import com.devsu.user.application.port.AccountNumberGenerator;
@@ -19,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Servicio de aplicación que orquesta la creación de clientes.
  * Se aplica hashing, mapeo al dominio, reglas y persistencia.
+ * No hay SELECT previo de unicidad: la restricción la hace cumplir el INSERT de persons
+ * (luego se inserta clients, dos INSERT con claves IDENTITY).
  */
 @Service
 @RequiredArgsConstructor
@@ -40,11 +41,8 @@ public class CreateClientService {
         if (!catalogQuery.identificationTypeExists(command.identificationType())) {
             throw new InvalidCatalogCodeException("IdentificationType code not found: " + command.identificationType());
         }
-        // Se valida unicidad por identificación si hay cambio de número
-        if (repository.existsByIdentification(command.identificationNumber())) {
-            throw new DuplicateIdentificationException(
-                    "Identification already registered: " + command.identificationNumber());
-        }
+        // La unicidad por identificación la garantiza el INSERT (uk_persons_identification_number);
+        // el repositorio la traduce a DuplicateIdentificationException, incluso ante creaciones concurrentes
         // Se genera el número de cliente
         String generatedNumber = accountNumberGenerator.generate();
 
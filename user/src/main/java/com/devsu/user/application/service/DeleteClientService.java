@@ -1,7 +1,9 @@
 package com.devsu.user.application.service;
 
 import com.devsu.user.application.exception.ClientNotFoundException;
+import com.devsu.user.application.port.ClientChangeLog;
 import com.devsu.user.domain.client.Client;
+import com.devsu.user.domain.client.ClientChangeType;
 import com.devsu.user.domain.client.ClientRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,12 +13,14 @@ import org.springframework.transaction.annotation.Transactional;
  * Servicio de aplicación que realiza la baja lógica del cliente.
  * Si el cliente no existe, se lanza ClientNotFoundException.
  * Si ya está inactivo, se considera idempotente y no realiza cambios.
+ * La baja se registra en el outbox (feed de cambios) dentro de la misma transacción.
  */
 @Service
 @RequiredArgsConstructor
 public class DeleteClientService {
 
     private final ClientRepository repository;
+    private final ClientChangeLog changeLog;
 
     // Se ejecuta la baja lógica cambiando el estado a INACTIVE
     @Transactional
@@ -27,6 +31,7 @@ public class DeleteClientService {
         if (client.isActive()) {
             client.deactivate();
             repository.save(client);
+            changeLog.record(client.getClientId(), ClientChangeType.DEACTIVATED);
         }
     }
 }
@@ -1,27 +1,34 @@
 package com.devsu.user.application.service;
 
 import com.devsu.user.application.exception.ClientNotFoundException;
-import com.devsu.user.application.mapper.ClientAppMapper;
+import com.devsu.user.application.port.ClientQueryPort;
 import com.devsu.user.application.result.ClientResult;
-import com.devsu.user.domain.client.Client;
-import com.devsu.user.domain.client.ClientRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
- * Servicio de aplicación para consultar un cliente por id.
+ * Servicio de aplicación para consultar un cliente por clientId.
+ * Se usa el modelo de lectura (proyección directa a ClientResult), sin cargar el agregado
+ * ni el hash de la contraseña; el resultado incluye la versión del agregado.
  */
 @Service
 @RequiredArgsConstructor
 public class GetClientByClientIdService {
 
-    private final ClientRepository repository;
+    private final ClientQueryPort clientQuery;
 
     @Transactional(readOnly = true)
     public ClientResult execute(String cliendId) {
-        Client client = repository.findByClientId(cliendId)
+        return clientQuery.findByClientId(cliendId)
                 .orElseThrow(() -> new ClientNotFoundException("Client not found cliendId=" + cliendId));
-        return ClientAppMapper.toResult(client);
+    }
+
+    // Se consulta solo la versión actual (vacío si el cliente no existe)
+    @Transactional(readOnly = true)
+    public Optional<Long> currentVersion(String clientId) {
+        return clientQuery.findVersionByClientId(clientId);
     }
 }
@@ -1,27 +1,33 @@
 package com.devsu.user.application.service;
 
 import com.devsu.user.application.exception.ClientNotFoundException;
-import com.devsu.user.application.mapper.ClientAppMapper;
+import com.devsu.user.application.port.ClientQueryPort;
 import com.devsu.user.application.result.ClientResult;
-import com.devsu.user.domain.client.Client;
-import com.devsu.user.domain.client.ClientRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * Servicio de aplicación para consultar un cliente por id.
+ * Se usa el modelo de lectura (proyección directa a ClientResult con su versión).
  */
 @Service
 @RequiredArgsConstructor
 public class GetClientByIdService {
 
-    private final ClientRepository repository;
+    private final ClientQueryPort clientQuery;
 
     @Transactional(readOnly = true)
     public ClientResult execute(Long id) {
-        Client client = repository.findById(id)
+        return clientQuery.findById(id)
                 .orElseThrow(() -> new ClientNotFoundException("Client not found id=" + id));
-        return ClientAppMapper.toResult(client);
+    }
+
+    // Se consulta solo la versión actual (vacío si el cliente no existe)
+    @Transactional(readOnly = true)
+    public Optional<Long> currentVersion(Long id) {
+        return clientQuery.findVersionById(id);
     }
 }
@@ -0,0 +1,34 @@
+package com.devsu.user.application.service;
+
+import com.devsu.user.application.port.ClientChangeLog;
+import com.devsu.user.application.result.ChangeCursor;
+import com.devsu.user.application.result.ClientChange;
+import com.devsu.user.application.result.ClientChangesResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Servicio de aplicación del feed de cambios de clientes (outbox).
+ * Los consumidores guardan nextCursor y lo envían como since en la siguiente consulta;
+ * el cursor solo avanza, así que cada cambio se entrega una vez y en orden de confirmación.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetClientChangesService {
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 1000;
+
+    private final ClientChangeLog changeLog;
+
+    @Transactional(readOnly = true)
+    public ClientChangesResult execute(String since, int limit) {
+        ChangeCursor cursor = ChangeCursor.parse(since);
+        List<ClientChange> changes = changeLog.findAfter(cursor, Math.min(Math.max(limit, 1), MAX_LIMIT));
+        ChangeCursor next = changes.isEmpty() ? cursor : changes.get(changes.size() - 1).cursor();
+        return new ClientChangesResult(changes, next.toString());
+    }
+}
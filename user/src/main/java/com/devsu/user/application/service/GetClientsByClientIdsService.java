@@ -0,0 +1,30 @@
+package com.devsu.user.application.service;
+
+import com.devsu.user.application.port.ClientQueryPort;
+import com.devsu.user.application.result.ClientResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Servicio de aplicación para consultar varios clientes por clientId en una sola consulta.
+ * Los clientIds inexistentes no generan error: simplemente no aparecen en el resultado.
+ * Se usa el modelo de lectura (proyección directa a ClientResult).
+ */
+@Service
+@RequiredArgsConstructor
+public class GetClientsByClientIdsService {
+
+    private final ClientQueryPort clientQuery;
+
+    @Transactional(readOnly = true)
+    public List<ClientResult> execute(List<String> clientIds) {
+        // Se eliminan duplicados para no inflar la lista de parámetros del IN
+        Set<String> distinct = new LinkedHashSet<>(clientIds);
+        return clientQuery.findByClientIds(distinct);
+    }
+}
@@ -0,0 +1,178 @@
+package com.devsu.user.application.service;
+
+import com.devsu.user.application.command.CreateClientCommand;
+import com.devsu.user.application.command.ImportClientRow;
+import com.devsu.user.application.port.AccountNumberGenerator;
+import com.devsu.user.application.port.CatalogQueryPort;
+import com.devsu.user.application.port.PasswordHasher;
+import com.devsu.user.application.result.ImportClientsResult;
+import com.devsu.user.application.result.ImportClientsResult.RowError;
+import com.devsu.user.domain.client.Client;
+import com.devsu.user.domain.client.ClientRepository;
+import com.devsu.user.domain.person.Gender;
+import com.devsu.user.domain.person.IdentificationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Servicio de aplicación que importa clientes de forma masiva desde un flujo de filas.
+ * Las filas se consumen de a lotes (chunk-size) sin cargar el archivo completo y por lote:
+ * - Se validan catálogos y duplicados dentro del archivo.
+ * - Se verifica la unicidad de identificación con una sola consulta.
+ * - Se hashean las contraseñas en paralelo y se generan los clientId de una vez.
+ * - Se insertan persons y clients en batches JDBC.
+ * Cada fila rechazada queda en el reporte con su número de línea y el motivo.
+ */
+@Service
+public class ImportClientsService {
+
+    // Intentos para asignar un clientId único a una fila (la colisión es muy poco probable)
+    static final int MAX_NUMBER_ATTEMPTS = 3;
+
+    private final ClientRepository repository;
+    private final PasswordHasher passwordHasher;
+    private final CatalogQueryPort catalogQuery;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final int chunkSize;
+
+    public ImportClientsService(ClientRepository repository,
+                                PasswordHasher passwordHasher,
+                                CatalogQueryPort catalogQuery,
+                                AccountNumberGenerator accountNumberGenerator,
+                                @Value("${clients.import.chunk-size:1000}") int chunkSize) {
+        this.repository = repository;
+        this.passwordHasher = passwordHasher;
+        this.catalogQuery = catalogQuery;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.chunkSize = chunkSize;
+    }
+
+    // Sin @Transactional: cada lote se confirma por separado (saveAllNew), de modo que un archivo
+    // grande no mantiene una transacción abierta y un fallo no revierte lo ya importado
+    public ImportClientsResult execute(Iterator<ImportClientRow> rows) {
+        Set<String> seenIdentifications = new HashSet<>();
+        List<RowError> errors = new ArrayList<>();
+        List<ImportClientRow> chunk = new ArrayList<>(chunkSize);
+        long total = 0;
+        long imported = 0;
+
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            total++;
+            if (chunk.size() == chunkSize) {
+                imported += importChunk(chunk, seenIdentifications, errors);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importChunk(chunk, seenIdentifications, errors);
+        }
+        return new ImportClientsResult(total, imported, total - imported, errors);
+    }
+
+    private int importChunk(List<ImportClientRow> chunk, Set<String> seenIdentifications, List<RowError> errors) {
+        // Se descartan filas inválidas, catálogos inexistentes y repetidas dentro del archivo
+        List<ImportClientRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportClientRow row : chunk) {
+            String error = validate(row, seenIdentifications);
+            if (error != null) {
+                errors.add(new RowError(row.line(), row.identificationNumber(), error));
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) return 0;
+
+        // Se verifica la unicidad contra la base con una sola consulta por lote
+        Set<String> existing = repository.findExistingIdentifications(
+                candidates.stream().map(ImportClientRow::identificationNumber).toList());
+        List<ImportClientRow> pending = new ArrayList<>(candidates.size());
+        for (ImportClientRow row : candidates) {
+            if (existing.contains(row.identificationNumber())) {
+                errors.add(duplicate(row));
+            } else {
+                pending.add(row);
+            }
+        }
+        if (pending.isEmpty()) return 0;
+
+        List<String> hashes = passwordHasher.hashAll(
+                pending.stream().map(r -> r.command().password()).toList());
+        Map<ImportClientRow, String> hashByRow = new IdentityHashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            hashByRow.put(pending.get(i), hashes.get(i));
+        }
+
+        // Las filas que no se insertan se reintentan con nuevos clientId, salvo que la identificación
+        // ya exista (otra carga concurrente la registró entre la consulta y el INSERT)
+        int imported = 0;
+        for (int attempt = 1; attempt <= MAX_NUMBER_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            List<String> numbers = accountNumberGenerator.generate(pending.size());
+            List<Client> toSave = new ArrayList<>(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                toSave.add(toDomain(pending.get(i).command(), numbers.get(i), hashByRow.get(pending.get(i))));
+            }
+            Set<String> saved = new HashSet<>();
+            for (Client client : repository.saveAllNew(toSave)) {
+                saved.add(client.getIdentificationNumber());
+            }
+            imported += saved.size();
+
+            List<ImportClientRow> notSaved = pending.stream()
+                    .filter(r -> !saved.contains(r.identificationNumber()))
+                    .toList();
+            if (notSaved.isEmpty()) return imported;
+            Set<String> raced = repository.findExistingIdentifications(
+                    notSaved.stream().map(ImportClientRow::identificationNumber).toList());
+            pending = new ArrayList<>();
+            for (ImportClientRow row : notSaved) {
+                if (raced.contains(row.identificationNumber())) {
+                    errors.add(duplicate(row));
+                } else {
+                    pending.add(row);
+                }
+            }
+        }
+        for (ImportClientRow row : pending) {
+            errors.add(new RowError(row.line(), row.identificationNumber(), "Could not allocate a unique client number"));
+        }
+        return imported;
+    }
+
+    // Se retorna el motivo de rechazo o null si la fila es importable
+    private String validate(ImportClientRow row, Set<String> seenIdentifications) {
+        if (row.error() != null) return row.error();
+        CreateClientCommand command = row.command();
+        if (!catalogQuery.genderExists(command.gender())) {
+            return "Gender code not found: " + command.gender();
+        }
+        if (!catalogQuery.identificationTypeExists(command.identificationType())) {
+            return "IdentificationType code not found: " + command.identificationType();
+        }
+        if (!seenIdentifications.add(command.identificationNumber())) {
+            return "Identification repeated in file: " + command.identificationNumber();
+        }
+        return null;
+    }
+
+    private static RowError duplicate(ImportClientRow row) {
+        return new RowError(row.line(), row.identificationNumber(),
+                "Identification already registered: " + row.identificationNumber());
+    }
+
+    private static Client toDomain(CreateClientCommand command, String clientNumber, String hashed) {
+        return Client.create(
+                command.firstName(),
+                command.lastName(),
+                Gender.valueOf(command.gender().toUpperCase()),
+                command.birthDate(),
+                IdentificationType.valueOf(command.identificationType().toUpperCase()),
+                command.identificationNumber(),
+                command.address(),
+                command.phone(),
+                clientNumber,
+                hashed);
+    }
+}
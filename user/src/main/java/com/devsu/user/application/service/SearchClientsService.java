@@ -0,0 +1,39 @@
+package com.devsu.user.application.service;
+
+import com.devsu.user.application.port.ClientQueryPort;
+import com.devsu.user.application.result.ClientPageResult;
+import com.devsu.user.application.result.ClientResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Servicio de aplicación para listar y buscar clientes con paginación por keyset.
+ * El cursor es el id del último cliente entregado: cada página cuesta lo mismo sin importar
+ * qué tan adelante esté (a diferencia de OFFSET).
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchClientsService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ClientQueryPort clientQuery;
+
+    @Transactional(readOnly = true)
+    public ClientPageResult execute(String query, Long cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String normalized = query == null || query.isBlank() ? null : query.trim();
+
+        // Se pide una fila extra para saber si hay una página siguiente
+        List<ClientResult> rows = clientQuery.search(normalized, cursor == null ? 0L : cursor, limit + 1);
+        if (rows.size() <= limit) {
+            return new ClientPageResult(rows, null);
+        }
+        List<ClientResult> page = rows.subList(0, limit);
+        return new ClientPageResult(List.copyOf(page), page.get(limit - 1).id());
+    }
+}
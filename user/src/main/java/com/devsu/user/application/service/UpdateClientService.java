@@ -6,9 +6,11 @@ import com.devsu.user.application.exception.DuplicateIdentificationException;
 import com.devsu.user.application.exception.InvalidCatalogCodeException;
 import com.devsu.user.application.mapper.ClientAppMapper;
 import com.devsu.user.application.port.CatalogQueryPort;
+import com.devsu.user.application.port.ClientChangeLog;
 import com.devsu.user.application.port.PasswordHasher;
 import com.devsu.user.application.result.ClientResult;
 import com.devsu.user.domain.client.Client;
+import com.devsu.user.domain.client.ClientChangeType;
 import com.devsu.user.domain.client.ClientRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Servicio de aplicación que orquesta la actualización de clientes.
  * Se validan catálogos, unicidad de identificación, hashing condicional y persistencia.
+ * El cambio se registra en el outbox (feed de cambios) dentro de la misma transacción.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,6 +31,8 @@ public class UpdateClientService {
     private final PasswordHasher passwordHasher;
     // Se mantiene el puerto de consulta de catálogos
     private final CatalogQueryPort catalogQuery;
+    // Se mantiene el outbox de cambios
+    private final ClientChangeLog changeLog;
 
     // Se ejecuta el flujo completo de actualización de cliente
     @Transactional
@@ -63,6 +68,7 @@ public class UpdateClientService {
 
         // Se persiste y se retorna el resultado
         Client saved = repository.save(existing);
+        changeLog.record(saved.getClientId(), ClientChangeType.UPDATED);
         return ClientAppMapper.toResult(saved);
     }
 }
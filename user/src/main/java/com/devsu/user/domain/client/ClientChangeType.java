@@ -0,0 +1,4 @@
+package com.devsu.user.domain.client;
+
+/** Se define el tipo de cambio de un cliente publicado en el feed de cambios. */
+public enum ClientChangeType { UPDATED, DEACTIVATED }
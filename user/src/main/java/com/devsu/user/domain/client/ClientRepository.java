@@ -1,6 +1,9 @@
 package com.devsu.user.domain.client;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Puerto de dominio para persistencia/búsqueda de clientes.
@@ -15,4 +18,9 @@ public interface ClientRepository {
     Client save(Client client);
     // Se valida existencia por número de identificación
     boolean existsByIdentification( String identificationNumber );
+    // Se retornan, de los números recibidos, los que ya están registrados (una sola consulta)
+    Set<String> findExistingIdentifications(Collection<String> identificationNumbers);
+    // Se insertan clientes nuevos en lote; se omiten (y no se retornan) los que chocan por
+    // identificación o clientId, para que el llamador los reporte o reintente
+    List<Client> saveAllNew(List<Client> clients);
 }
@@ -0,0 +1,12 @@
+package com.devsu.user.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (p.ej., el refresco de la caché de catálogos).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
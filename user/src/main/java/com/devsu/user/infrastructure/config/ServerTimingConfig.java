@@ -0,0 +1,48 @@
+package com.devsu.user.infrastructure.config;
+
+import com.devsu.user.infrastructure.timing.ServerTimingFilter;
+import com.devsu.user.infrastructure.timing.TimedDataSource;
+import com.devsu.user.infrastructure.timing.TimedJacksonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Header Server-Timing (db, json, app, total) en cada respuesta y métricas http.server.timing.
+ * Con server-timing.enabled=false no se registra nada: ni filtro, ni proxies JDBC, ni conversor propio.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    // El filtro va primero para que total incluya toda la cadena
+    @Bean
+    FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(new ServerTimingFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // Reemplaza al conversor Jackson autoconfigurado (mismo ObjectMapper)
+    @Bean
+    TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    static BeanPostProcessor timedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return (bean instanceof DataSource ds && !(bean instanceof TimedDataSource)) ? new TimedDataSource(ds) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.devsu.user.infrastructure.persistence.adapter;
+
+import com.devsu.user.infrastructure.persistence.entity.GenderJpaEntity;
+import com.devsu.user.infrastructure.persistence.entity.IdentificationTypeJpaEntity;
+import com.devsu.user.infrastructure.persistence.repository.GenderJpaRepository;
+import com.devsu.user.infrastructure.persistence.repository.IdentificationTypeJpaRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caché en memoria de los catálogos de géneros y tipos de identificación (sembrados por V1/V2).
+ * - Se carga al iniciar en mapas inmutables (código -> id e id -> código) que se reemplazan atómicamente.
+ * - Se refresca periódicamente y también ante un código desconocido (a lo sumo una vez por intervalo),
+ *   de modo que un cambio en el catálogo no requiere reiniciar.
+ */
+@Component
+public class CatalogCache {
+
+    private final GenderJpaRepository genderRepo;
+    private final IdentificationTypeJpaRepository idTypeRepo;
+    private final long missRefreshIntervalNanos;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final AtomicLong lastRefreshNanos = new AtomicLong();
+
+    public CatalogCache(GenderJpaRepository genderRepo,
+                        IdentificationTypeJpaRepository idTypeRepo,
+                        @Value("${catalog.cache.miss-refresh-interval:PT10S}") Duration missRefreshInterval) {
+        this.genderRepo = genderRepo;
+        this.idTypeRepo = idTypeRepo;
+        this.missRefreshIntervalNanos = missRefreshInterval.toNanos();
+    }
+
+    // Se recarga el catálogo completo (dos consultas) y se publica el nuevo snapshot
+    @PostConstruct
+    @Scheduled(initialDelayString = "${catalog.cache.refresh-interval:PT5M}",
+               fixedDelayString = "${catalog.cache.refresh-interval:PT5M}")
+    public void refresh() {
+        List<GenderJpaEntity> genders = genderRepo.findAll();
+        List<IdentificationTypeJpaEntity> idTypes = idTypeRepo.findAll();
+        snapshot = new Snapshot(
+                index(genders, GenderJpaEntity::getCode, GenderJpaEntity::getId),
+                index(genders, GenderJpaEntity::getId, GenderJpaEntity::getCode),
+                index(idTypes, IdentificationTypeJpaEntity::getCode, IdentificationTypeJpaEntity::getId),
+                index(idTypes, IdentificationTypeJpaEntity::getId, IdentificationTypeJpaEntity::getCode));
+        lastRefreshNanos.set(System.nanoTime());
+    }
+
+    public Optional<Long> genderId(String code) {
+        return lookup(code, s -> s.genderIdsByCode);
+    }
+
+    public Optional<String> genderCode(Long id) {
+        return lookup(id, s -> s.genderCodesById);
+    }
+
+    public Optional<Long> identificationTypeId(String code) {
+        return lookup(code, s -> s.idTypeIdsByCode);
+    }
+
+    public Optional<String> identificationTypeCode(Long id) {
+        return lookup(id, s -> s.idTypeCodesById);
+    }
+
+    // Se consulta el snapshot vigente; ante un fallo se refresca una vez si pasó el intervalo mínimo
+    private <K, V> Optional<V> lookup(K key, Function<Snapshot, Map<K, V>> index) {
+        if (key == null) return Optional.empty();
+        V value = index.apply(snapshot).get(key);
+        if (value == null && tryClaimMissRefresh()) {
+            refresh();
+            value = index.apply(snapshot).get(key);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    private boolean tryClaimMissRefresh() {
+        long last = lastRefreshNanos.get();
+        long now = System.nanoTime();
+        return now - last >= missRefreshIntervalNanos && lastRefreshNanos.compareAndSet(last, now);
+    }
+
+    private static <E, K, V> Map<K, V> index(List<E> rows, Function<E, K> key, Function<E, V> value) {
+        return rows.stream().collect(Collectors.toUnmodifiableMap(key, value));
+    }
+
+    private record Snapshot(Map<String, Long> genderIdsByCode,
+                            Map<Long, String> genderCodesById,
+                            Map<String, Long> idTypeIdsByCode,
+                            Map<Long, String> idTypeCodesById) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,66 @@
+package com.devsu.user.infrastructure.persistence.adapter;
+
+import com.devsu.user.application.port.ClientChangeLog;
+import com.devsu.user.application.result.ChangeCursor;
+import com.devsu.user.application.result.ClientChange;
+import com.devsu.user.domain.client.ClientChangeType;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptador JDBC del outbox client_changes (V7).
+ * - record se une a la transacción del caso de uso (MANDATORY): la fila toma el txid de esa transacción.
+ * - findAfter ordena por (txid, id) y descarta transacciones que aún pueden estar en curso
+ *   (txid >= xmin del snapshot), para que un cambio que confirme tarde no quede detrás del cursor.
+ */
+@Observed(name = "repository")
+@Repository
+@RequiredArgsConstructor
+public class JdbcClientChangeLogAdapter implements ClientChangeLog {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO client_changes (client_id, change_type)
+            VALUES (:clientId, :type)
+            """;
+
+    // El xid8 se envía y se lee como texto (no hay cast directo desde bigint)
+    private static final String FIND_AFTER_SQL = """
+            SELECT txid::text AS txid, id, client_id, change_type, changed_at
+            FROM client_changes
+            WHERE (txid, id) > (CAST(CAST(:txid AS TEXT) AS XID8), :id)
+              AND txid < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY txid, id
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String clientId, ClientChangeType type) {
+        jdbcTemplate.update(INSERT_SQL, Map.of("clientId", clientId, "type", type.name()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientChange> findAfter(ChangeCursor after, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("txid", after.txid())
+                .addValue("id", after.id())
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_AFTER_SQL, params, (rs, rowNum) -> new ClientChange(
+                new ChangeCursor(Long.parseLong(rs.getString("txid")), rs.getLong("id")),
+                rs.getString("client_id"),
+                ClientChangeType.valueOf(rs.getString("change_type")),
+                rs.getObject("changed_at", Timestamp.class).toInstant()));
+    }
+}
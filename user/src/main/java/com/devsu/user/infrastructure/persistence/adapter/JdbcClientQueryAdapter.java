@@ -0,0 +1,147 @@
+package com.devsu.user.infrastructure.persistence.adapter;
+
+import com.devsu.user.application.port.ClientQueryPort;
+import com.devsu.user.application.result.ClientResult;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Adaptador de lectura de clientes con SQL directo a ClientResult (una consulta por caso de uso).
+ * - Se seleccionan solo las columnas expuestas (nunca password_hash) y sin contexto de persistencia.
+ * - Los códigos de catálogo se resuelven con la caché, sin unir genders/identification_types.
+ * - Paginación por keyset sobre clients.id; las consultas por clientId usan su índice único.
+ * - La versión del agregado (ETag) es clients.version + persons.version: ambas solo crecen.
+ */
+@Observed(name = "repository")
+@Repository
+@RequiredArgsConstructor
+public class JdbcClientQueryAdapter implements ClientQueryPort {
+
+    // Con menos de 3 caracteres no hay trigramas completos: se busca por prefijo
+    static final int MIN_CONTAINS_LENGTH = 3;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT c.id, p.first_name, p.last_name, p.gender_id, p.birth_date, p.identification_type_id,
+                   p.identification_number, p.address, p.phone, c.client_id, c.active,
+                   c.version + p.version AS version
+            FROM clients c
+            JOIN persons p ON p.id = c.person_id
+            """;
+
+    private static final String LIST_SQL = SELECT_COLUMNS + """
+            WHERE c.id > :afterId
+            ORDER BY c.id
+            LIMIT :limit
+            """;
+
+    // lower(...) LIKE usa los índices GIN por trigramas (V5); la identificación usa su índice único
+    private static final String SEARCH_SQL = SELECT_COLUMNS + """
+            WHERE c.id > :afterId
+              AND (lower(p.first_name) LIKE :pattern
+                   OR lower(p.last_name) LIKE :pattern
+                   OR p.identification_number = :query)
+            ORDER BY c.id
+            LIMIT :limit
+            """;
+
+    private static final String BY_ID_SQL = SELECT_COLUMNS + "WHERE c.id = :id";
+
+    private static final String BY_CLIENT_ID_SQL = SELECT_COLUMNS + "WHERE c.client_id = :clientId";
+
+    private static final String BY_CLIENT_IDS_SQL = SELECT_COLUMNS + "WHERE c.client_id IN (:clientIds)";
+
+    private static final String VERSION_COLUMNS = """
+            SELECT c.version + p.version
+            FROM clients c
+            JOIN persons p ON p.id = c.person_id
+            """;
+
+    private static final String VERSION_BY_ID_SQL = VERSION_COLUMNS + "WHERE c.id = :id";
+
+    private static final String VERSION_BY_CLIENT_ID_SQL = VERSION_COLUMNS + "WHERE c.client_id = :clientId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CatalogCache catalogCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientResult> search(String query, long afterId, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        if (query == null) {
+            return jdbcTemplate.query(LIST_SQL, params, rowMapper());
+        }
+        params.addValue("query", query).addValue("pattern", pattern(query));
+        return jdbcTemplate.query(SEARCH_SQL, params, rowMapper());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ClientResult> findById(Long id) {
+        return jdbcTemplate.query(BY_ID_SQL, Map.of("id", id), rowMapper())
+                .stream().findFirst();
+    }
+
+    // Lectura más frecuente (la usa el servicio de transacciones): una consulta indexada por uk_clients_client_id
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ClientResult> findByClientId(String clientId) {
+        return jdbcTemplate.query(BY_CLIENT_ID_SQL, Map.of("clientId", clientId), rowMapper())
+                .stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientResult> findByClientIds(Collection<String> clientIds) {
+        if (clientIds.isEmpty()) return List.of();
+        return jdbcTemplate.query(BY_CLIENT_IDS_SQL, Map.of("clientIds", clientIds), rowMapper());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersionById(Long id) {
+        return jdbcTemplate.queryForList(VERSION_BY_ID_SQL, Map.of("id", id), Long.class)
+                .stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersionByClientId(String clientId) {
+        return jdbcTemplate.queryForList(VERSION_BY_CLIENT_ID_SQL, Map.of("clientId", clientId), Long.class)
+                .stream().findFirst();
+    }
+
+    // Se escapan los comodines de LIKE y se arma el patrón de prefijo o de contenido
+    static String pattern(String query) {
+        String escaped = query.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return query.length() < MIN_CONTAINS_LENGTH ? escaped + "%" : "%" + escaped + "%";
+    }
+
+    private RowMapper<ClientResult> rowMapper() {
+        return (rs, rowNum) -> new ClientResult(
+                rs.getLong("id"),
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                catalogCache.genderCode(rs.getLong("gender_id")).orElse(null),
+                rs.getObject("birth_date", LocalDate.class),
+                catalogCache.identificationTypeCode(rs.getLong("identification_type_id")).orElse(null),
+                rs.getString("identification_number"),
+                rs.getString("address"),
+                rs.getString("phone"),
+                rs.getString("client_id"),
+                rs.getBoolean("active"),
+                rs.getLong("version"));
+    }
+}
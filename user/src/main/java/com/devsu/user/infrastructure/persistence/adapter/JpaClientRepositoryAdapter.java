@@ -1,45 +1,83 @@
 package com.devsu.user.infrastructure.persistence.adapter;
 
+import com.devsu.user.application.exception.DuplicateIdentificationException;
 import com.devsu.user.domain.client.Client;
 import com.devsu.user.domain.client.ClientRepository;
+import com.devsu.user.domain.person.Gender;
+import com.devsu.user.domain.person.IdentificationType;
 import com.devsu.user.infrastructure.persistence.entity.ClientJpaEntity;
-import com.devsu.user.infrastructure.persistence.entity.GenderJpaEntity;
-import com.devsu.user.infrastructure.persistence.entity.IdentificationTypeJpaEntity;
+import com.devsu.user.infrastructure.persistence.entity.PersonJpaEntity;
 import com.devsu.user.infrastructure.persistence.mapper.ClientPersistenceMapper;
 import com.devsu.user.infrastructure.persistence.repository.ClientJpaRepository;
 import com.devsu.user.infrastructure.persistence.repository.GenderJpaRepository;
 import com.devsu.user.infrastructure.persistence.repository.IdentificationTypeJpaRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Adaptador JPA que persiste el agregado Client (Client + Person) con un único save().
  * - CREATE: mapea el grafo completo y hace clientRepo.save(...).
- * - UPDATE: trae el agregado con person (join fetch) y hace un único clientRepo.save(...).
+ * - UPDATE: modifica el agregado gestionado; con @DynamicUpdate y dirty checking el UPDATE
+ *   solo incluye las tablas y columnas que realmente cambiaron.
  * No contiene reglas de negocio; solo mapea y delega.
+ * Los catálogos se resuelven con la caché (referencias por id, sin consultar sus tablas).
+ * Las cargas masivas usan JDBC en lote (saveAllNew) en lugar de JPA.
  */
+@Observed(name = "repository")
 @Repository
 @Transactional
 @RequiredArgsConstructor
 public class JpaClientRepositoryAdapter implements ClientRepository {
 
+    // Índice único que garantiza la unicidad del número de identificación (V3)
+    static final String UK_IDENTIFICATION_NUMBER = "uk_persons_identification_number";
+
+    private static final String EXISTING_IDENTIFICATIONS_SQL =
+            "SELECT identification_number FROM persons WHERE identification_number IN (:numbers)";
+
+    private static final String INSERT_PERSON_SQL = """
+            INSERT INTO persons (first_name, last_name, birth_date, address, phone,
+                                 identification_number, gender_id, identification_type_id)
+            VALUES (:firstName, :lastName, :birthDate, :address, :phone,
+                    :identificationNumber, :genderId, :identificationTypeId)
+            ON CONFLICT (identification_number) DO NOTHING
+            """;
+
+    private static final String INSERT_CLIENT_SQL = """
+            INSERT INTO clients (person_id, client_id, password_hash, active)
+            VALUES (:personId, :clientId, :passwordHash, :active)
+            ON CONFLICT (client_id) DO NOTHING
+            """;
+
+    private static final String DELETE_PERSONS_SQL = "DELETE FROM persons WHERE id IN (:ids)";
+
     private final ClientJpaRepository clientRepo;
     private final GenderJpaRepository genderRepo;
     private final IdentificationTypeJpaRepository idTypeRepo;
+    private final CatalogCache catalogCache;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Client> findById(Long id) {
-        return clientRepo.findByIdWithPerson(id).map(ClientPersistenceMapper::toDomain);
+        return clientRepo.findByIdWithPerson(id).map(this::toDomain);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Client> findByClientId(String clientId) {
-        return clientRepo.findByClientIdWithPerson(clientId).map(ClientPersistenceMapper::toDomain);
+        return clientRepo.findByClientIdWithPerson(clientId).map(this::toDomain);
     }
 
     @Override
@@ -48,28 +86,159 @@ public class JpaClientRepositoryAdapter implements ClientRepository {
         return clientRepo.existsByPersonIdentificationNumber(identificationNumber);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingIdentifications(Collection<String> identificationNumbers) {
+        if (identificationNumbers.isEmpty()) return Set.of();
+        return new HashSet<>(jdbcTemplate.queryForList(EXISTING_IDENTIFICATIONS_SQL,
+                Map.of("numbers", identificationNumbers), String.class));
+    }
+
+    /**
+     * Inserción masiva por JDBC (sin contexto de persistencia): un batch para persons y otro para clients.
+     * ON CONFLICT DO NOTHING evita que un choque aborte el lote; las claves generadas se asocian por
+     * identificación / person_id. Las personas cuyo cliente no se insertó (clientId repetido) se eliminan.
+     */
+    @Override
+    public List<Client> saveAllNew(List<Client> clients) {
+        if (clients.isEmpty()) return List.of();
+
+        // 1) persons: identification_number -> id generado
+        SqlParameterSource[] personParams = clients.stream()
+                .map(c -> new MapSqlParameterSource()
+                        .addValue("firstName", c.getFirstName())
+                        .addValue("lastName", c.getLastName())
+                        .addValue("birthDate", c.getBirthDate())
+                        .addValue("address", c.getAddress())
+                        .addValue("phone", c.getPhone())
+                        .addValue("identificationNumber", c.getIdentificationNumber())
+                        .addValue("genderId", genderId(c))
+                        .addValue("identificationTypeId", identificationTypeId(c)))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder personKeys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_PERSON_SQL, personParams, personKeys,
+                new String[]{"id", "identification_number"});
+        Map<String, Long> personIds = new HashMap<>();
+        for (Map<String, Object> row : personKeys.getKeyList()) {
+            personIds.put((String) row.get("identification_number"), ((Number) row.get("id")).longValue());
+        }
+
+        // 2) clients de las personas insertadas: person_id -> id generado
+        List<Client> withPerson = clients.stream()
+                .filter(c -> personIds.containsKey(c.getIdentificationNumber()))
+                .toList();
+        if (withPerson.isEmpty()) return List.of();
+        SqlParameterSource[] clientParams = withPerson.stream()
+                .map(c -> new MapSqlParameterSource()
+                        .addValue("personId", personIds.get(c.getIdentificationNumber()))
+                        .addValue("clientId", c.getClientId())
+                        .addValue("passwordHash", c.getPassword())
+                        .addValue("active", c.isActive()))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder clientKeys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_CLIENT_SQL, clientParams, clientKeys, new String[]{"id", "person_id"});
+        Map<Long, Long> clientIdsByPerson = new HashMap<>();
+        for (Map<String, Object> row : clientKeys.getKeyList()) {
+            clientIdsByPerson.put(((Number) row.get("person_id")).longValue(), ((Number) row.get("id")).longValue());
+        }
+
+        // 3) se eliminan las personas sin cliente y se arma el resultado
+        List<Long> orphans = personIds.values().stream()
+                .filter(personId -> !clientIdsByPerson.containsKey(personId))
+                .toList();
+        if (!orphans.isEmpty()) {
+            jdbcTemplate.update(DELETE_PERSONS_SQL, Map.of("ids", orphans));
+        }
+        List<Client> saved = new ArrayList<>(clientIdsByPerson.size());
+        for (Client c : withPerson) {
+            Long personId = personIds.get(c.getIdentificationNumber());
+            Long id = clientIdsByPerson.get(personId);
+            if (id == null) continue;
+            saved.add(Client.fromPersistence(id, personId, c.getFirstName(), c.getLastName(), c.getGender(),
+                    c.getBirthDate(), c.getIdentificationType(), c.getIdentificationNumber(), c.getAddress(),
+                    c.getPhone(), c.getClientId(), c.getPassword(), c.isActive()));
+        }
+        return saved;
+    }
+
     @Override
     public Client save(Client client) {
-        // Referencias de catálogo (ya validadas en aplicación)
-        GenderJpaEntity genderRef = genderRepo.findByCode(client.getGender().name())
+        // saveAndFlush/flush: la violación de unicidad se detecta aquí (y no al hacer commit) para poder traducirla
+        ClientJpaEntity persisted;
+        try {
+            if (client.getId() == null) {
+                // CREATE: se arma el grafo completo (client + person) y se hace un único save
+                persisted = clientRepo.saveAndFlush(ClientPersistenceMapper.toEntityGraphForCreate(client,
+                        genderRepo.getReferenceById(genderId(client)),
+                        idTypeRepo.getReferenceById(identificationTypeId(client))));
+            } else {
+                // UPDATE: se modifican las entidades gestionadas y el dirty checking emite solo las columnas cambiadas
+                persisted = applyChanges(client);
+                clientRepo.flush();
+            }
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, UK_IDENTIFICATION_NUMBER)) {
+                throw new DuplicateIdentificationException(
+                        "Identification already registered: " + client.getIdentificationNumber());
+            }
+            throw ex;
+        }
+        return toDomain(persisted);
+    }
+
+    // Se carga el agregado gestionado y se le copian los cambios del dominio.
+    // findById (em.find) reutiliza la instancia del contexto de persistencia si el servicio ya lo leyó
+    // en la misma transacción, así que no se repite el SELECT; tampoco se hace merge del grafo.
+    private ClientJpaEntity applyChanges(Client client) {
+        ClientJpaEntity managed = clientRepo.findById(client.getId())
+                .orElseThrow(() -> new IllegalStateException("Client not found id=" + client.getId()));
+        PersonJpaEntity person = managed.getPerson();
+
+        // Las referencias de catálogo solo se reemplazan si cambió el id (getId no inicializa el proxy)
+        Long genderId = genderId(client);
+        if (!genderId.equals(person.getGender().getId())) {
+            person.setGender(genderRepo.getReferenceById(genderId));
+        }
+        Long idTypeId = identificationTypeId(client);
+        if (!idTypeId.equals(person.getIdentificationType().getId())) {
+            person.setIdentificationType(idTypeRepo.getReferenceById(idTypeId));
+        }
+
+        ClientPersistenceMapper.copyToPersonEntity(client, person);
+        ClientPersistenceMapper.copyToClientEntity(client, managed);
+        return managed;
+    }
+
+    // Ids de catálogo desde la caché (los códigos ya fueron validados en aplicación)
+    private Long genderId(Client client) {
+        return catalogCache.genderId(client.getGender().name())
                 .orElseThrow(() -> new IllegalStateException("Gender not seeded: " + client.getGender().name()));
-        IdentificationTypeJpaEntity idTypeRef = idTypeRepo.findByCode(client.getIdentificationType().name())
+    }
+
+    private Long identificationTypeId(Client client) {
+        return catalogCache.identificationTypeId(client.getIdentificationType().name())
                 .orElseThrow(() -> new IllegalStateException("IdentificationType not seeded: " + client.getIdentificationType().name()));
+    }
+
+    // Se identifica la restricción violada por nombre (Hibernate lo extrae del error de PostgreSQL)
+    static boolean violates(Throwable ex, String constraint) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve
+                    && constraint.equalsIgnoreCase(cve.getConstraintName())) return true;
+            if (t.getMessage() != null && t.getMessage().contains(constraint)) return true;
+        }
+        return false;
+    }
 
-        ClientJpaEntity toPersist;
-
-//        if (client.getId() == null) {
-            // CREATE: se arma el grafo completo (client + person) y se hace un único save
-            toPersist = ClientPersistenceMapper.toEntityGraphForCreate(client, genderRef, idTypeRef);
-//        } else {
-//            // UPDATE: se carga el agregado con la persona y se copian cambios (un único save)
-//            ClientJpaEntity managed = clientRepo.findByIdWithPerson(client.getId())
-//                    .orElseThrow(() -> new IllegalStateException("Client not found id=" + client.getId()));
-//            ClientPersistenceMapper.copyToAggregate(client, genderRef, idTypeRef, managed);
-//            toPersist = managed;
-//        }
-
-        ClientJpaEntity persisted = clientRepo.save(toPersist);
-        return ClientPersistenceMapper.toDomain(persisted);
+    // Se resuelven los códigos de catálogo por id desde la caché, sin inicializar los proxies
+    private Client toDomain(ClientJpaEntity entity) {
+        PersonJpaEntity p = entity.getPerson();
+        Long genderId = p.getGender().getId();
+        Long idTypeId = p.getIdentificationType().getId();
+        return ClientPersistenceMapper.toDomain(entity,
+                Gender.valueOf(catalogCache.genderCode(genderId)
+                        .orElseThrow(() -> new IllegalStateException("Gender not seeded id=" + genderId))),
+                IdentificationType.valueOf(catalogCache.identificationTypeCode(idTypeId)
+                        .orElseThrow(() -> new IllegalStateException("IdentificationType not seeded id=" + idTypeId))));
     }
 }
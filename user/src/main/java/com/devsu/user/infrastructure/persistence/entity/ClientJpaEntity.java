@@ -4,8 +4,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate // el UPDATE incluye solo las columnas modificadas
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,4 +31,9 @@ public class ClientJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
+    // Se incrementa en cada UPDATE de la fila (bloqueo optimista y ETag del cliente)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
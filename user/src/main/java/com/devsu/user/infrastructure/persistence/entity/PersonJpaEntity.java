@@ -4,10 +4,12 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
 @Entity
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -51,4 +53,9 @@ public class PersonJpaEntity {
             foreignKey = @ForeignKey(name = "fk_persons_ident_type")
     )
     private IdentificationTypeJpaEntity identificationType;
+
+    // Se incrementa en cada UPDATE de la fila (bloqueo optimista y ETag del cliente)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -42,23 +42,21 @@ public final class ClientPersistenceMapper {
                 domain.getPhone(),
                 domain.getIdentificationNumber(),
                 genderRef,
-                idTypeRef
+                idTypeRef,
+                null
         );
     }
 
-    // Se actualiza una entidad PersonJpaEntity existente con datos del dominio
-    public static void copyToPersonEntity(Client domain,
-                                          GenderJpaEntity genderRef,
-                                          IdentificationTypeJpaEntity idTypeRef,
-                                          PersonJpaEntity target) {
+    // Se actualiza una entidad PersonJpaEntity gestionada con los datos escalares del dominio.
+    // Los catálogos los resuelve el adaptador (solo cuando cambian); el dirty checking de Hibernate
+    // compara por valor, así que los campos sin cambios no se incluyen en el UPDATE.
+    public static void copyToPersonEntity(Client domain, PersonJpaEntity target) {
         target.setFirstName(domain.getFirstName());
         target.setLastName(domain.getLastName());
         target.setBirthDate(domain.getBirthDate());
         target.setAddress(domain.getAddress());
         target.setPhone(domain.getPhone());
         target.setIdentificationNumber(domain.getIdentificationNumber());
-        target.setGender(genderRef);
-        target.setIdentificationType(idTypeRef);
     }
 
     // Se construye una entidad ClientJpaEntity a partir del dominio y la persona persistida
@@ -68,28 +66,36 @@ public final class ClientPersistenceMapper {
                 person,
                 domain.getClientId(),
                 domain.getPassword(),
-                domain.isActive()
+                domain.isActive(),
+                null
         );
     }
 
-    // Se actualiza una entidad ClientJpaEntity existente con datos del dominio
+    // Se actualiza una entidad ClientJpaEntity gestionada con datos del dominio (clientId no es actualizable)
     public static void copyToClientEntity(Client domain, ClientJpaEntity target) {
-        target.setClientId(domain.getClientId());
         target.setPasswordHash(domain.getPassword()); // se asume ya hasheado
         target.setActive(domain.isActive());
     }
 
     // Se transforma ClientJpaEntity (y su Person asociada) al dominio
     public static Client toDomain(ClientJpaEntity entity) {
+        var p = entity.getPerson();
+        return toDomain(entity,
+                Gender.valueOf(p.getGender().getCode()),
+                IdentificationType.valueOf(p.getIdentificationType().getCode()));
+    }
+
+    // Variante con los catálogos ya resueltos (evita inicializar las referencias lazy de la persona)
+    public static Client toDomain(ClientJpaEntity entity, Gender gender, IdentificationType identificationType) {
         var p = entity.getPerson();
         return Client.fromPersistence(
                 entity.getId(),
                 p.getId(),
                 p.getFirstName(),
                 p.getLastName(),
-                Gender.valueOf(p.getGender().getCode()),
+                gender,
                 p.getBirthDate(),
-                IdentificationType.valueOf(p.getIdentificationType().getCode()),
+                identificationType,
                 p.getIdentificationNumber(),
                 p.getAddress(),
                 p.getPhone(),
@@ -0,0 +1,46 @@
+package com.devsu.user.infrastructure.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Se elige el costo de BCrypt para que un hash tarde a lo sumo el tiempo objetivo en este host.
+ * Cada punto de costo duplica el trabajo, por lo que se sube mientras el doble del tiempo medido
+ * siga dentro del objetivo. El resultado queda acotado entre el mínimo y el máximo configurados.
+ */
+final class BCryptCostCalibrator {
+
+    private static final String SAMPLE = "calibration-sample";
+
+    private BCryptCostCalibrator() {}
+
+    static int calibrate(Duration target, int minCost, int maxCost) {
+        return calibrate(BCryptCostCalibrator::measureNanos, target, minCost, maxCost);
+    }
+
+    // Variante con la medición inyectada (nanos por hash para un costo dado)
+    static int calibrate(IntToLongFunction nanosAtCost, Duration target, int minCost, int maxCost) {
+        long targetNanos = target.toNanos();
+        int cost = minCost;
+        long elapsed = nanosAtCost.applyAsLong(cost);
+        while (cost < maxCost && elapsed * 2 <= targetNanos) {
+            cost++;
+            elapsed = nanosAtCost.applyAsLong(cost);
+        }
+        return cost;
+    }
+
+    // Se toma el mejor de dos hashes para descartar el calentamiento del JIT
+    private static long measureNanos(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
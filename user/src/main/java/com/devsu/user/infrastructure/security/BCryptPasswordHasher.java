@@ -1,20 +1,192 @@
 package com.devsu.user.infrastructure.security;
 
+import com.devsu.user.application.exception.PasswordHashingUnavailableException;
 import com.devsu.user.application.port.PasswordHasher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Implementación de PasswordHasher usando BCrypt.
+ * - El hash se calcula en un pool dedicado y acotado (hilos y cola), no en el hilo de la solicitud,
+ *   para que una carga masiva no consuma toda la CPU del servicio.
+ * - Si la cola está llena o la espera supera el timeout se descarta con PasswordHashingUnavailableException (503).
+ * - Las cargas masivas ocupan a lo sumo bulk-concurrency hilos (por defecto todos menos uno), así el
+ *   tráfico interactivo no espera detrás de una importación.
+ * - El costo es fijo o se calibra al iniciar según el tiempo objetivo; como BCrypt guarda el costo
+ *   en el propio hash ($2a$NN$...), needsRehash detecta los hashes con costo menor al vigente.
+ * - Métricas: password.hash.duration, password.hash.queue.depth, password.hash.active y password.hash.rejected.
  */
 @Component
 public class BCryptPasswordHasher implements PasswordHasher {
 
-    // Se delega el hashing a BCryptPasswordEncoder
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore bulkPermits;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    @Autowired
+    public BCryptPasswordHasher(@Value("${password.hashing.cost:10}") int cost,
+                                @Value("${password.hashing.calibrate:false}") boolean calibrate,
+                                @Value("${password.hashing.target-time:PT0.25S}") Duration targetTime,
+                                @Value("${password.hashing.min-cost:10}") int minCost,
+                                @Value("${password.hashing.max-cost:14}") int maxCost,
+                                @Value("${password.hashing.threads:0}") int threads,
+                                @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                @Value("${password.hashing.bulk-concurrency:0}") int bulkConcurrency,
+                                @Value("${password.hashing.timeout:PT5S}") Duration timeout,
+                                @Value("${password.hashing.retry-after:PT1S}") Duration retryAfter,
+                                MeterRegistry registry) {
+        this(resolveCost(cost, calibrate, targetTime, minCost, maxCost), threads, queueCapacity,
+                bulkConcurrency, timeout, retryAfter, registry);
+    }
+
+    private BCryptPasswordHasher(int cost, int threads, int queueCapacity, int bulkConcurrency,
+                                 Duration timeout, Duration retryAfter, MeterRegistry registry) {
+        this(new BCryptPasswordEncoder(cost), cost, threads, queueCapacity, bulkConcurrency, timeout, retryAfter, registry);
+    }
+
+    // Constructor con el encoder inyectado (pruebas)
+    BCryptPasswordHasher(PasswordEncoder encoder, int cost, int threads, int queueCapacity, int bulkConcurrency,
+                         Duration timeout, Duration retryAfter, MeterRegistry registry) {
+        this.encoder = encoder;
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkPermits = new Semaphore(bulkConcurrency > 0 ? bulkConcurrency : Math.max(1, poolSize - 1));
+
+        this.hashTimer = Timer.builder("password.hash.duration")
+                .description("Tiempo de cálculo de un hash BCrypt")
+                .tag("cost", String.valueOf(cost))
+                .register(registry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Solicitudes de hashing descartadas por saturación o timeout")
+                .register(registry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashes en espera en la cola del pool")
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes en cálculo")
+                .register(registry);
+    }
 
     @Override
     public String hash(String raw) {
-        return encoder.encode(raw);
+        Future<String> future;
+        try {
+            future = executor.submit(() -> hashTimer.record(() -> encoder.encode(raw)));
+        } catch (RejectedExecutionException ex) {
+            throw unavailable("Password hashing queue is full");
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw unavailable("Password hashing timed out");
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw unavailable("Password hashing interrupted");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Hashing masivo: una tarea por contraseña, con a lo sumo bulk-concurrency tareas en el pool a la vez
+     * (entre todas las importaciones en curso). Cada hash interactivo espera como mucho un hash masivo.
+     * Si el pool rechaza una tarea (cola ocupada por tráfico interactivo) se calcula en el hilo
+     * llamador: la importación se frena en vez de descartarse.
+     */
+    @Override
+    public List<String> hashAll(List<String> raws) {
+        if (raws.isEmpty()) return List.of();
+        String[] hashes = new String[raws.size()];
+        List<Future<?>> futures = new ArrayList<>(raws.size());
+        try {
+            for (int i = 0; i < raws.size(); i++) {
+                int index = i;
+                bulkPermits.acquire();
+                // done() corre al terminar, fallar o cancelarse: el permiso se devuelve siempre
+                FutureTask<Void> task = new FutureTask<>(
+                        () -> hashes[index] = hashTimer.record(() -> encoder.encode(raws.get(index))), null) {
+                    @Override
+                    protected void done() {
+                        bulkPermits.release();
+                    }
+                };
+                futures.add(task);
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException ex) {
+                    task.run();
+                }
+            }
+            for (Future<?> future : futures) future.get();
+        } catch (InterruptedException ex) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw unavailable("Password hashing interrupted");
+        } catch (ExecutionException ex) {
+            futures.forEach(f -> f.cancel(true));
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(ex.getCause());
+        }
+        return Arrays.asList(hashes);
+    }
+
+    @Override
+    public boolean needsRehash(String hash) {
+        try {
+            return encoder.upgradeEncoding(hash);
+        } catch (IllegalArgumentException ex) {
+            // No es un hash BCrypt reconocible: se debe regenerar
+            return true;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private PasswordHashingUnavailableException unavailable(String message) {
+        rejected.increment();
+        return new PasswordHashingUnavailableException(message, retryAfterSeconds);
+    }
+
+    // Se calibra el costo solo si se pidió explícitamente (la medición toma unos cientos de ms al iniciar)
+    private static int resolveCost(int cost, boolean calibrate, Duration targetTime, int minCost, int maxCost) {
+        return calibrate ? BCryptCostCalibrator.calibrate(targetTime, minCost, maxCost) : cost;
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
     }
 }
@@ -0,0 +1,72 @@
+package com.devsu.user.infrastructure.timing;
+
+/**
+ * Acumulador de tiempos de la solicitud en curso (uno por hilo, reutilizado entre solicitudes).
+ * - db: ejecución de sentencias JDBC, commits/rollbacks y espera de conexión del pool.
+ * - json: serialización Jackson del cuerpo de la respuesta.
+ * - app: el resto (validación, dominio, mapeos, framework).
+ * Fuera de una solicitud (schedulers, arranque) no hay contexto activo y no se acumula nada.
+ */
+public final class RequestTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTiming> CURRENT = ThreadLocal.withInitial(RequestTiming::new);
+
+    private boolean active;
+    private long startedAt;
+    private long dbNanos;
+    private long jsonNanos;
+
+    private RequestTiming() {}
+
+    // Se reinicia el acumulador del hilo para una nueva solicitud
+    static RequestTiming begin() {
+        RequestTiming timing = CURRENT.get();
+        timing.active = true;
+        timing.startedAt = System.nanoTime();
+        timing.dbNanos = 0;
+        timing.jsonNanos = 0;
+        return timing;
+    }
+
+    void end() {
+        active = false;
+    }
+
+    // Se devuelve el acumulador de la solicitud en curso, o null si el hilo no atiende una solicitud
+    public static RequestTiming current() {
+        RequestTiming timing = CURRENT.get();
+        return timing.active ? timing : null;
+    }
+
+    public static void addDb(long nanos) {
+        RequestTiming timing = current();
+        if (timing != null) timing.dbNanos += nanos;
+    }
+
+    void addJson(long nanos) {
+        jsonNanos += nanos;
+    }
+
+    long dbNanos() { return dbNanos; }
+    long jsonNanos() { return jsonNanos; }
+    long totalNanos() { return System.nanoTime() - startedAt; }
+    long appNanos(long totalNanos) { return Math.max(0, totalNanos - dbNanos - jsonNanos); }
+
+    // Se arma el valor del header (p. ej. "db;dur=3.2, json;dur=0.4, app;dur=1.1, total;dur=4.7")
+    String headerValue() {
+        long total = totalNanos();
+        StringBuilder sb = new StringBuilder(80);
+        append(sb, "db", dbNanos).append(", ");
+        append(sb, "json", jsonNanos).append(", ");
+        append(sb, "app", appNanos(total)).append(", ");
+        return append(sb, "total", total).toString();
+    }
+
+    // Milisegundos con un decimal, sin String.format
+    private static StringBuilder append(StringBuilder sb, String name, long nanos) {
+        long tenths = nanos / 100_000;
+        return sb.append(name).append(";dur=").append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
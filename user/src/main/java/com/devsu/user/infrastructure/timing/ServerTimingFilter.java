@@ -0,0 +1,56 @@
+package com.devsu.user.infrastructure.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abre el acumulador de tiempos por solicitud y, al terminar, registra cada componente en
+ * http.server.timing (tag component=db|json|app). Las respuestas JSON llevan el header Server-Timing
+ * desde TimedJacksonHttpMessageConverter; a las demás (sin cuerpo, 304) se les agrega aquí si aún
+ * no se enviaron.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final Timer db;
+    private final Timer json;
+    private final Timer app;
+
+    public ServerTimingFilter(MeterRegistry registry) {
+        this.db = timer(registry, "db");
+        this.json = timer(registry, "json");
+        this.app = timer(registry, "app");
+    }
+
+    private static Timer timer(MeterRegistry registry, String component) {
+        return Timer.builder("http.server.timing")
+                .tag("component", component)
+                .description("Tiempo por componente de cada solicitud HTTP")
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            chain.doFilter(request, response);
+            if (!response.isCommitted() && !response.containsHeader(RequestTiming.HEADER)) {
+                response.setHeader(RequestTiming.HEADER, timing.headerValue());
+            }
+        } finally {
+            long total = timing.totalNanos();
+            db.record(timing.dbNanos(), TimeUnit.NANOSECONDS);
+            json.record(timing.jsonNanos(), TimeUnit.NANOSECONDS);
+            app.record(timing.appNanos(total), TimeUnit.NANOSECONDS);
+            timing.end();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.devsu.user.infrastructure.timing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que suma al acumulador de la solicitud el tiempo de JDBC: espera de conexión del pool,
+ * execute* de las sentencias y commit/rollback. Extiende DelegatingDataSource para que Actuator siga
+ * viendo el pool (Hikari) detrás.
+ */
+public class TimedDataSource extends DelegatingDataSource {
+
+    public TimedDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long started = System.nanoTime();
+        Connection connection = super.getConnection();
+        RequestTiming.addDb(System.nanoTime() - started);
+        return proxy(Connection.class, connection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long started = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        RequestTiming.addDb(System.nanoTime() - started);
+        return proxy(Connection.class, connection);
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(TimedDataSource.class.getClassLoader(), new Class<?>[]{type},
+                new TimingHandler(target)));
+    }
+
+    private record TimingHandler(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) return proxy == args[0];
+            if (name.equals("hashCode")) return System.identityHashCode(proxy);
+            boolean timed = name.startsWith("execute") || name.equals("commit") || name.equals("rollback");
+            long started = timed ? System.nanoTime() : 0;
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (timed) RequestTiming.addDb(System.nanoTime() - started);
+            }
+            // Las sentencias creadas por la conexión también se miden
+            if (result instanceof CallableStatement cs) return proxy(CallableStatement.class, cs);
+            if (result instanceof PreparedStatement ps) return proxy(PreparedStatement.class, ps);
+            if (result instanceof Statement st && !name.equals("getStatement")) return proxy(Statement.class, st);
+            return result;
+        }
+    }
+}
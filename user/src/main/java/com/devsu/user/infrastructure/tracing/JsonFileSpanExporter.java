@@ -0,0 +1,159 @@
+package com.devsu.user.infrastructure.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exportador de spans a un archivo local: una línea JSON por span, con los campos de OTLP
+ * (traceId, spanId, parentSpanId, kind, startTimeUnixNano...). Permite revisar las trazas sin un backend.
+ * Al superar maxBytes el archivo se rota a "&lt;archivo&gt;.1" (se conserva una sola copia).
+ * Lo invoca el BatchSpanProcessor desde su hilo; los métodos se sincronizan igualmente.
+ */
+@Slf4j
+public class JsonFileSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final Path file;
+    private final Path rotated;
+    private final long maxBytes;
+    private final ObjectMapper objectMapper;
+
+    private BufferedWriter writer;
+    private long written;
+    private boolean shutdown;
+
+    public JsonFileSpanExporter(Path file, long maxBytes, ObjectMapper objectMapper) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes debe ser > 0");
+        }
+        this.file = file.toAbsolutePath();
+        this.rotated = this.file.resolveSibling(this.file.getFileName() + ".1");
+        this.maxBytes = maxBytes;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (shutdown) {
+            return CompletableResultCode.ofFailure();
+        }
+        try {
+            for (SpanData span : spans) {
+                String line = objectMapper.writeValueAsString(toJson(span)) + System.lineSeparator();
+                int bytes = line.getBytes(StandardCharsets.UTF_8).length;
+                openOrRotate(bytes);
+                writer.write(line);
+                written += bytes;
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            // Se reabre en la siguiente tanda; estos spans se pierden
+            log.warn("No se pudieron exportar {} spans a {}: {}", spans.size(), file, e.getMessage());
+            closeWriter();
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            if (writer != null) {
+                writer.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        shutdown = true;
+        closeWriter();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    // El archivo se abre con la primera exportación: sin spans muestreados no se crea nada
+    private void openOrRotate(int nextBytes) throws IOException {
+        if (writer != null && written > 0 && written + nextBytes > maxBytes) {
+            closeWriter();
+            Files.move(file, rotated, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (writer == null) {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            written = Files.size(file);
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.debug("Error cerrando {}: {}", file, e.getMessage());
+        }
+        writer = null;
+    }
+
+    private static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("service", span.getResource().getAttribute(SERVICE_NAME));
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startTimeUnixNano", span.getStartEpochNanos());
+        json.put("endTimeUnixNano", span.getEndEpochNanos());
+        json.put("durationMs", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000_000.0);
+        json.put("status", span.getStatus().getStatusCode().name());
+        json.put("attributes", toMap(span.getAttributes()));
+        if (!span.getEvents().isEmpty()) {
+            List<Map<String, Object>> events = new ArrayList<>(span.getEvents().size());
+            for (EventData event : span.getEvents()) {
+                Map<String, Object> e = new LinkedHashMap<>();
+                e.put("name", event.getName());
+                e.put("timeUnixNano", event.getEpochNanos());
+                e.put("attributes", toMap(event.getAttributes()));
+                events.add(e);
+            }
+            json.put("events", events);
+        }
+        return json;
+    }
+
+    private static Map<String, Object> toMap(Attributes attributes) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        attributes.forEach((key, value) -> map.put(key.getKey(), value));
+        return map;
+    }
+}
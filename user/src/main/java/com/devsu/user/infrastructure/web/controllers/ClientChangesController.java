@@ -0,0 +1,33 @@
+package com.devsu.user.infrastructure.web.controllers;
+
+import com.devsu.user.application.service.GetClientChangesService;
+import com.devsu.user.infrastructure.web.dto.ClientChangesResponse;
+import com.devsu.user.infrastructure.web.mappers.ClientWebMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST del feed de cambios de clientes (outbox).
+ * Los consumidores (p. ej. el servicio de transacciones) lo consultan periódicamente
+ * para invalidar sus copias locales de clientes.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/clientes/changes")
+public class ClientChangesController {
+
+    private final GetClientChangesService getClientChangesService;
+    private final ClientWebMapper mapper;
+
+    // Se expone GET /clientes/changes?since=&limit=; sin since se lee desde el inicio del feed
+    @GetMapping
+    public ResponseEntity<ClientChangesResponse> changes(@RequestParam(required = false) String since,
+                                                         @RequestParam(defaultValue = "" + GetClientChangesService.DEFAULT_LIMIT) int limit) {
+        var result = getClientChangesService.execute(since, limit);
+        return ResponseEntity.ok(mapper.toChangesResponse(result));
+    }
+}
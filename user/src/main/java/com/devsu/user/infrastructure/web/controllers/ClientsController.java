@@ -1,15 +1,30 @@
 package com.devsu.user.infrastructure.web.controllers;
 
 import com.devsu.user.application.service.*;
+import com.devsu.user.infrastructure.web.dto.ClientLookupRequest;
+import com.devsu.user.infrastructure.web.dto.ClientPageResponse;
 import com.devsu.user.infrastructure.web.dto.ClientResponse;
 import com.devsu.user.infrastructure.web.dto.CreateClientRequest;
+import com.devsu.user.infrastructure.web.dto.ImportClientsResponse;
 import com.devsu.user.infrastructure.web.dto.UpdateClientRequest;
+import com.devsu.user.infrastructure.web.importing.ClientImportReader;
 import com.devsu.user.infrastructure.web.mappers.ClientWebMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Controlador REST para recursos de clientes.
@@ -25,8 +40,13 @@ public class ClientsController {
     private final UpdateClientService updateClientService;
     private final GetClientByIdService getClientByIdService;
     private final GetClientByClientIdService getClientByClientIdService;
+    private final GetClientsByClientIdsService getClientsByClientIdsService;
     private final DeleteClientService deleteClientService;
+    private final ImportClientsService importClientsService;
+    private final SearchClientsService searchClientsService;
     private final ClientWebMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     // Se expone POST /clientes
     @PostMapping
@@ -46,18 +66,53 @@ public class ClientsController {
         return ResponseEntity.ok(mapper.toResponse(result));
     }
 
-    //Endpoint que recupera un cliente por su identificador.
+    /**
+     * Endpoint de listado y búsqueda con paginación por keyset.
+     * query busca por nombre/apellido o identificación exacta; cursor es el nextCursor de la página anterior.
+     */
+    @GetMapping
+    public ResponseEntity<ClientPageResponse> search(@RequestParam(required = false) String query,
+                                                     @RequestParam(required = false) Long cursor,
+                                                     @RequestParam(defaultValue = "" + SearchClientsService.DEFAULT_PAGE_SIZE) int size) {
+        var result = searchClientsService.execute(query, cursor, size);
+        return ResponseEntity.ok(mapper.toPageResponse(result));
+    }
+
+    //Endpoint que recupera un cliente por su identificador (con ETag; 304 si If-None-Match coincide).
     @GetMapping("/{id}")
-    public ResponseEntity<ClientResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<ClientResponse> getById(@PathVariable Long id, WebRequest request) {
+        if (notModified(request, () -> getClientByIdService.currentVersion(id))) return null;
         var result = getClientByIdService.execute(id);
-        return ResponseEntity.ok(mapper.toResponse(result));
+        return okWithETag(result.version()).body(mapper.toResponse(result));
     }
 
-    //Endpoint que recupera un cliente por su clientId.
+    //Endpoint que recupera un cliente por su clientId (con ETag; 304 si If-None-Match coincide).
     @GetMapping("/clientId/{clientId}")
-    public ResponseEntity<ClientResponse> getById(@PathVariable String clientId) {
+    public ResponseEntity<ClientResponse> getById(@PathVariable String clientId, WebRequest request) {
+        if (notModified(request, () -> getClientByClientIdService.currentVersion(clientId))) return null;
         var result = getClientByClientIdService.execute(clientId);
-        return ResponseEntity.ok(mapper.toResponse(result));
+        return okWithETag(result.version()).body(mapper.toResponse(result));
+    }
+
+    //Endpoint que recupera varios clientes por clientId; los inexistentes se omiten.
+    @PostMapping("/lookup")
+    public ResponseEntity<List<ClientResponse>> lookup(@Valid @RequestBody ClientLookupRequest request) {
+        var results = getClientsByClientIdsService.execute(request.clientIds());
+        return ResponseEntity.ok(mapper.toResponses(results));
+    }
+
+    /**
+     * Endpoint de importación masiva (CSV con encabezado o NDJSON).
+     * El cuerpo se lee en streaming por lotes; retorna totales y errores por fila.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportClientsResponse> importClients(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                               InputStream body) throws IOException {
+        try (var rows = ClientImportReader.open(body, MediaType.parseMediaType(contentType),
+                objectMapper, validator, mapper::toCommand)) {
+            var result = importClientsService.execute(rows);
+            return ResponseEntity.ok(mapper.toImportResponse(result));
+        }
     }
 
     /**
@@ -69,4 +124,27 @@ public class ClientsController {
         deleteClientService.execute(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Se valida If-None-Match consultando solo la versión del cliente.
+     * Si coincide, checkNotModified deja la respuesta en 304 con el ETag y el handler retorna null;
+     * si el cliente no existe se continúa para responder 404 por el camino normal.
+     */
+    private static boolean notModified(WebRequest request, Supplier<Optional<Long>> currentVersion) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) return false;
+        return currentVersion.get()
+                .map(version -> request.checkNotModified(etag(version)))
+                .orElse(false);
+    }
+
+    // Se agrega el ETag solo si el resultado trae versión
+    private static ResponseEntity.BodyBuilder okWithETag(Long version) {
+        var ok = ResponseEntity.ok();
+        return version == null ? ok : ok.eTag(etag(version));
+    }
+
+    // ETag fuerte con la versión del agregado
+    private static String etag(long version) {
+        return "\"" + version + "\"";
+    }
 }
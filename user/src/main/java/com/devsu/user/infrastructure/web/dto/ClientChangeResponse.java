@@ -0,0 +1,13 @@
+package com.devsu.user.infrastructure.web.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO de salida de un cambio de cliente en el feed (type: UPDATED o DEACTIVATED).
+ */
+public record ClientChangeResponse(
+        String cursor,
+        String clientId,
+        String type,
+        Instant changedAt
+) {}
@@ -0,0 +1,12 @@
+package com.devsu.user.infrastructure.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO de salida del feed de cambios de clientes.
+ * nextCursor se envía como since en la siguiente consulta (se mantiene si no hay cambios nuevos).
+ */
+public record ClientChangesResponse(
+        List<ClientChangeResponse> items,
+        String nextCursor
+) {}
@@ -0,0 +1,19 @@
+package com.devsu.user.infrastructure.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO de entrada para consultar varios clientes por clientId en una sola llamada.
+ */
+public record ClientLookupRequest(
+        @NotEmpty
+        @Size(max = ClientLookupRequest.MAX_CLIENT_IDS)
+        List<@NotBlank String> clientIds
+) {
+    // Se limita el tamaño para mantener acotada la lista de parámetros del IN
+    public static final int MAX_CLIENT_IDS = 5000;
+}
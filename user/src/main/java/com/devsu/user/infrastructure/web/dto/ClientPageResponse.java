@@ -0,0 +1,12 @@
+package com.devsu.user.infrastructure.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO de salida de la búsqueda paginada de clientes.
+ * nextCursor se envía como cursor para obtener la siguiente página; null si no hay más.
+ */
+public record ClientPageResponse(
+        List<ClientResponse> items,
+        Long nextCursor
+) {}
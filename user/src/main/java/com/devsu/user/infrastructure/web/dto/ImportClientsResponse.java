@@ -0,0 +1,13 @@
+package com.devsu.user.infrastructure.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO de salida de la importación masiva: totales y errores por fila.
+ */
+public record ImportClientsResponse(
+        long total,
+        long imported,
+        long failed,
+        List<ImportRowErrorResponse> errors
+) {}
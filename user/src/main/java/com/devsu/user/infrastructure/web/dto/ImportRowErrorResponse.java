@@ -0,0 +1,10 @@
+package com.devsu.user.infrastructure.web.dto;
+
+/**
+ * Error de una fila de importación (línea del archivo, identificación si se pudo leer y motivo).
+ */
+public record ImportRowErrorResponse(
+        long line,
+        String identificationNumber,
+        String error
+) {}
@@ -3,11 +3,16 @@ package com.devsu.user.infrastructure.web.exception;
 import com.devsu.user.application.exception.ClientNotFoundException;
 import com.devsu.user.application.exception.DuplicateIdentificationException;
 import com.devsu.user.application.exception.InvalidCatalogCodeException;
+import com.devsu.user.application.exception.InvalidChangeCursorException;
+import com.devsu.user.application.exception.InvalidImportFileException;
+import com.devsu.user.application.exception.PasswordHashingUnavailableException;
 import com.devsu.user.infrastructure.web.dto.ErrorResponse;
 import com.devsu.user.infrastructure.web.dto.FieldViolation;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -60,6 +65,13 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.CONFLICT, "Conflict with database constraints", request);
     }
 
+    // Actualización concurrente del mismo cliente (versión desfasada) -> 409
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(OptimisticLockingFailureException ex,
+                                                              HttpServletRequest request) {
+        return build(HttpStatus.CONFLICT, "Client was modified concurrently", request);
+    }
+
     // Tipos inválidos en path/query
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex,
@@ -124,6 +136,30 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.CONFLICT, ex.getMessage(), request);
     }
 
+    // Archivo de importación sin encabezado, con columnas faltantes o formato no soportado
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportFile(InvalidImportFileException ex,
+                                                                 HttpServletRequest request) {
+        return badRequest(ex.getMessage(), request);
+    }
+
+    // Cursor del feed de cambios con formato inválido
+    @ExceptionHandler(InvalidChangeCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidChangeCursor(InvalidChangeCursorException ex,
+                                                                   HttpServletRequest request) {
+        return badRequest(ex.getMessage(), request);
+    }
+
+    // Pool de hashing saturado -> 503 con Retry-After para que el cliente reintente
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleHashingUnavailable(PasswordHashingUnavailableException ex,
+                                                                  HttpServletRequest request) {
+        ResponseEntity<ErrorResponse> response = build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     // Helpers
     private ResponseEntity<ErrorResponse> badRequest(String msg, HttpServletRequest req) {
         return build(HttpStatus.BAD_REQUEST, msg, req);
@@ -0,0 +1,197 @@
+package com.devsu.user.infrastructure.web.importing;
+
+import com.devsu.user.application.command.CreateClientCommand;
+import com.devsu.user.application.command.ImportClientRow;
+import com.devsu.user.application.exception.InvalidImportFileException;
+import com.devsu.user.infrastructure.web.dto.CreateClientRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lector incremental de archivos de importación de clientes (CSV con encabezado o NDJSON).
+ * Se lee una línea por vez y cada una se convierte en una ImportClientRow, validada con las mismas
+ * reglas de CreateClientRequest; una fila inválida no detiene la lectura sino que se reporta.
+ */
+public final class ClientImportReader implements Iterator<ImportClientRow>, Closeable {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    // Columnas esperadas en el encabezado CSV (el orden puede variar)
+    static final List<String> CSV_COLUMNS = List.of(
+            "firstName", "lastName", "gender", "birthDate", "identificationType",
+            "identificationNumber", "address", "phone", "password");
+
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final ObjectReader jsonReader;
+    private final Validator validator;
+    private final Function<CreateClientRequest, CreateClientCommand> toCommand;
+
+    private int[] columnIndex;
+    private long lineNumber;
+    private ImportClientRow next;
+
+    private ClientImportReader(BufferedReader reader, boolean csv, ObjectMapper objectMapper,
+                               Validator validator, Function<CreateClientRequest, CreateClientCommand> toCommand) {
+        this.reader = reader;
+        this.csv = csv;
+        this.jsonReader = objectMapper.readerFor(CreateClientRequest.class);
+        this.validator = validator;
+        this.toCommand = toCommand;
+    }
+
+    // Se abre el lector según el Content-Type (text/csv o application/x-ndjson)
+    public static ClientImportReader open(InputStream body, MediaType contentType, ObjectMapper objectMapper,
+                                          Validator validator,
+                                          Function<CreateClientRequest, CreateClientCommand> toCommand) {
+        boolean csv = TEXT_CSV.includes(contentType);
+        if (!csv && !MediaType.APPLICATION_NDJSON.includes(contentType)) {
+            throw new InvalidImportFileException("Unsupported import format: " + contentType);
+        }
+        var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        var importReader = new ClientImportReader(reader, csv, objectMapper, validator, toCommand);
+        if (csv) importReader.readHeader();
+        return importReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) next = readRow();
+        return next != null;
+    }
+
+    @Override
+    public ImportClientRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ImportClientRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() {
+        String header = readLine();
+        if (header == null) throw new InvalidImportFileException("CSV header is missing");
+        List<String> names = parseCsvLine(header);
+        columnIndex = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            int index = indexOfIgnoreCase(names, CSV_COLUMNS.get(i));
+            if (index < 0) throw new InvalidImportFileException("CSV column is missing: " + CSV_COLUMNS.get(i));
+            columnIndex[i] = index;
+        }
+    }
+
+    // Se lee la siguiente fila no vacía; null al terminar el archivo
+    private ImportClientRow readRow() {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) return null;
+        } while (line.isBlank());
+        return csv ? fromCsv(line) : fromJson(line);
+    }
+
+    private ImportClientRow fromCsv(String line) {
+        List<String> fields = parseCsvLine(line);
+        String[] values = new String[CSV_COLUMNS.size()];
+        for (int i = 0; i < values.length; i++) {
+            int index = columnIndex[i];
+            values[i] = index < fields.size() ? emptyToNull(fields.get(index)) : null;
+        }
+        LocalDate birthDate;
+        try {
+            birthDate = values[3] == null ? null : LocalDate.parse(values[3]);
+        } catch (DateTimeParseException ex) {
+            return ImportClientRow.invalid(lineNumber, values[5], "birthDate: invalid date " + values[3]);
+        }
+        return toRow(new CreateClientRequest(values[0], values[1], values[2], birthDate, values[4],
+                values[5], values[6], values[7], values[8]));
+    }
+
+    private ImportClientRow fromJson(String line) {
+        try {
+            return toRow(jsonReader.readValue(line));
+        } catch (JsonProcessingException ex) {
+            return ImportClientRow.invalid(lineNumber, null, "Malformed JSON");
+        }
+    }
+
+    // Se aplican las validaciones del DTO y se mapea al comando
+    private ImportClientRow toRow(CreateClientRequest request) {
+        Set<ConstraintViolation<CreateClientRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return ImportClientRow.invalid(lineNumber, request.identificationNumber(), error);
+        }
+        return ImportClientRow.valid(lineNumber, toCommand.apply(request));
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) lineNumber++;
+            return line;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // CSV simple (RFC 4180 sin saltos de línea dentro de comillas): separador coma, comillas dobles y "" como escape
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    private static int indexOfIgnoreCase(List<String> names, String name) {
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).equalsIgnoreCase(name)) return i;
+        }
+        return -1;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
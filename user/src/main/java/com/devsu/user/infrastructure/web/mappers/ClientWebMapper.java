@@ -2,13 +2,22 @@ package com.devsu.user.infrastructure.web.mappers;
 
 import com.devsu.user.application.command.CreateClientCommand;
 import com.devsu.user.application.command.UpdateClientCommand;
+import com.devsu.user.application.result.ChangeCursor;
+import com.devsu.user.application.result.ClientChangesResult;
+import com.devsu.user.application.result.ClientPageResult;
 import com.devsu.user.application.result.ClientResult;
+import com.devsu.user.application.result.ImportClientsResult;
+import com.devsu.user.infrastructure.web.dto.ClientChangesResponse;
+import com.devsu.user.infrastructure.web.dto.ClientPageResponse;
 import com.devsu.user.infrastructure.web.dto.ClientResponse;
 import com.devsu.user.infrastructure.web.dto.CreateClientRequest;
+import com.devsu.user.infrastructure.web.dto.ImportClientsResponse;
 import com.devsu.user.infrastructure.web.dto.UpdateClientRequest;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
 public interface ClientWebMapper {
 
@@ -17,4 +26,17 @@ public interface ClientWebMapper {
     UpdateClientCommand toCommand(Long id, UpdateClientRequest request);
 
     ClientResponse toResponse(ClientResult result);
+
+    List<ClientResponse> toResponses(List<ClientResult> results);
+
+    ClientPageResponse toPageResponse(ClientPageResult result);
+
+    ImportClientsResponse toImportResponse(ImportClientsResult result);
+
+    ClientChangesResponse toChangesResponse(ClientChangesResult result);
+
+    // El cursor se expone como texto opaco "txid.id"
+    default String toCursor(ChangeCursor cursor) {
+        return cursor.toString();
+    }
 }
@@ -0,0 +1,12 @@
+-- Búsqueda de clientes por nombre/apellido (GET /clientes?query=)
+-- pg_trgm permite que LIKE 'abc%' y LIKE '%abc%' usen índice (GIN por trigramas)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS ix_persons_first_name_trgm
+  ON persons USING gin (lower(first_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS ix_persons_last_name_trgm
+  ON persons USING gin (lower(last_name) gin_trgm_ops);
+
+-- La coincidencia exacta por identificación usa uk_persons_identification_number (V3)
+-- y la paginación por keyset usa la PK de clients; el join clients -> persons usa uk_clients_person_id (V4)
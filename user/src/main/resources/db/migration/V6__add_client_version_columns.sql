@@ -0,0 +1,6 @@
+-- Versión para bloqueo optimista y ETags de GET /clientes/{id} y /clientes/clientId/{clientId}.
+-- Hibernate incrementa cada columna cuando su fila se actualiza (@Version); el ETag del
+-- cliente es la suma de ambas, así que cambia ante cualquier modificación de clients o persons.
+ALTER TABLE clients ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE persons ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
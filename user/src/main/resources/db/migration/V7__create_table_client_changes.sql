@@ -0,0 +1,15 @@
+-- Outbox de cambios de clientes (feed GET /clientes/changes).
+-- Cada fila se inserta en la misma transacción que el cambio y guarda el id de esa transacción
+-- (txid). El feed solo entrega filas con txid menor al xmin del snapshot actual, es decir, de
+-- transacciones ya terminadas: así el cursor (txid, id) nunca salta una fila que confirme tarde.
+CREATE TABLE IF NOT EXISTS client_changes (
+  id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  txid XID8 NOT NULL DEFAULT pg_current_xact_id(),
+  client_id VARCHAR(60) NOT NULL,
+  change_type VARCHAR(20) NOT NULL,
+  changed_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Orden y búsqueda por cursor
+CREATE INDEX IF NOT EXISTS ix_client_changes_txid_id
+  ON client_changes(txid, id);
@@ -29,7 +29,7 @@ import static org.mockito.Mockito.*;
 /**
  * Este test se basa en el código real del proyecto.
  * - Verifica validación de catálogos vía CatalogQueryPort.
- * - Verifica unicidad por identificación vía ClientRepository.existsByIdentification(...).
+ * - Verifica que la unicidad por identificación se delega al guardado (sin consulta previa).
  * - Verifica generación de clientId vía AccountNumberGenerator.
  * - Verifica hashing de la contraseña vía PasswordHasher.
  * - Verifica mapeo a ClientResult.
@@ -72,9 +72,6 @@ class CreateClientServiceTest {
         when(catalogQuery.genderExists("FEMALE")).thenReturn(true);
         when(catalogQuery.identificationTypeExists("CC")).thenReturn(true);
 
-        // --- Y: identificación NO existe ---
-        when(repository.existsByIdentification("1234567890")).thenReturn(false);
-
         // --- Y: se genera un clientId y se hashea el password ---
         when(accountNumberGenerator.generate()).thenReturn("ANA-001");
         when(passwordHasher.hash("pass123")).thenReturn("{bcrypt}HASHED");
@@ -115,8 +112,8 @@ class CreateClientServiceTest {
         verify(catalogQuery, times(1)).genderExists("FEMALE");
         verify(catalogQuery, times(1)).identificationTypeExists("CC");
 
-        // --- Y: se validó unicidad por identificación ---
-        verify(repository, times(1)).existsByIdentification("1234567890");
+        // --- Y: no se consulta la unicidad antes de insertar ---
+        verify(repository, never()).existsByIdentification(anyString());
 
         // --- Y: se generó clientId y se hasheó el password ---
         verify(accountNumberGenerator, times(1)).generate();
@@ -171,20 +168,25 @@ class CreateClientServiceTest {
     }
 
     @Test
-    @DisplayName("No debe crear cliente si la identificación ya existe")
+    @DisplayName("No debe crear cliente si la identificación ya existe (violación detectada al insertar)")
     void shouldFail_WhenIdentificationAlreadyExists() {
         var cmd = validCommand();
 
         when(catalogQuery.genderExists("FEMALE")).thenReturn(true);
         when(catalogQuery.identificationTypeExists("CC")).thenReturn(true);
-        when(repository.existsByIdentification("1234567890")).thenReturn(true);
+        when(accountNumberGenerator.generate()).thenReturn("ANA-001");
+        when(passwordHasher.hash("pass123")).thenReturn("{bcrypt}HASHED");
+        when(repository.save(any(Client.class)))
+                .thenThrow(new DuplicateIdentificationException("Identification already registered: 1234567890"));
 
         assertThrows(DuplicateIdentificationException.class, () -> service.execute(cmd));
 
-        verify(repository, times(1)).existsByIdentification("1234567890");
-        verify(accountNumberGenerator, never()).generate();
-        verify(passwordHasher, never()).hash(anyString());
-        verify(repository, never()).save(any());
+        verify(repository, never()).existsByIdentification(anyString());
+        verify(repository, times(1)).save(any(Client.class));
+        verify(catalogQuery, times(1)).genderExists("FEMALE");
+        verify(catalogQuery, times(1)).identificationTypeExists("CC");
+        verify(accountNumberGenerator, times(1)).generate();
+        verify(passwordHasher, times(1)).hash("pass123");
         verifyNoMoreInteractions(repository, passwordHasher, catalogQuery, accountNumberGenerator);
     }
 }
@@ -1,7 +1,9 @@
 package com.devsu.user.application.service;
 
 import com.devsu.user.application.exception.ClientNotFoundException;
+import com.devsu.user.application.port.ClientChangeLog;
 import com.devsu.user.domain.client.Client;
+import com.devsu.user.domain.client.ClientChangeType;
 import com.devsu.user.domain.client.ClientRepository;
 import com.devsu.user.domain.person.Gender;
 import com.devsu.user.domain.person.IdentificationType;
@@ -33,6 +35,9 @@ class DeleteClientServiceTest {
     @Mock
     private ClientRepository repository;
 
+    @Mock
+    private ClientChangeLog changeLog;
+
     @InjectMocks
     private DeleteClientService service;
 
@@ -84,7 +89,9 @@ class DeleteClientServiceTest {
         assertThat(toPersist).isNotNull();
         assertThat(toPersist.isActive()).isFalse();
 
-        verifyNoMoreInteractions(repository);
+        // --- Y: la baja queda registrada en el feed de cambios ---
+        verify(changeLog).record("ANA-001", ClientChangeType.DEACTIVATED);
+        verifyNoMoreInteractions(repository, changeLog);
     }
 
     @Test
@@ -101,6 +108,7 @@ class DeleteClientServiceTest {
         verify(repository, times(1)).findById(11L);
         verify(repository, never()).save(any(Client.class));
         verifyNoMoreInteractions(repository);
+        verifyNoInteractions(changeLog);
     }
 
     @Test
@@ -116,5 +124,6 @@ class DeleteClientServiceTest {
         verify(repository, times(1)).findById(99L);
         verify(repository, never()).save(any(Client.class));
         verifyNoMoreInteractions(repository);
+        verifyNoInteractions(changeLog);
     }
 }
@@ -1,11 +1,8 @@
 package com.devsu.user.application.service;
 
 import com.devsu.user.application.exception.ClientNotFoundException;
+import com.devsu.user.application.port.ClientQueryPort;
 import com.devsu.user.application.result.ClientResult;
-import com.devsu.user.domain.client.Client;
-import com.devsu.user.domain.client.ClientRepository;
-import com.devsu.user.domain.person.Gender;
-import com.devsu.user.domain.person.IdentificationType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,33 +19,31 @@ import static org.mockito.Mockito.*;
 
 /**
  * Este test valida el caso de uso de consulta por clientId (string).
- * - Si existe, retorna un ClientResult con el mapeo correcto.
+ * - Si existe, retorna el ClientResult proyectado por ClientQueryPort (sin cargar el agregado).
  * - Si no existe, lanza ClientNotFoundException.
  */
 @ExtendWith(MockitoExtension.class)
 class GetClientByClientIdServiceTest {
 
     @Mock
-    private ClientRepository repository;
+    private ClientQueryPort clientQuery;
 
     @InjectMocks
     private GetClientByClientIdService service;
 
-    // Utilidad para construir un agregado Client "desde persistencia" con datos coherentes
-    private Client persistedClient(Long id, boolean active) {
-        return Client.fromPersistence(
+    // Utilidad para construir la proyección que retorna el modelo de lectura
+    private ClientResult projectedClient(Long id, boolean active) {
+        return new ClientResult(
                 id,
-                200L,                      // id de la persona
                 "Ana",
                 "Gómez",
-                Gender.FEMALE,
+                "FEMALE",
                 LocalDate.parse("2000-01-01"),
-                IdentificationType.CC,
+                "CC",
                 "1234567890",
                 "Calle 1 # 2-3",
                 "3001234567",
                 "ANA-001",
-                "{bcrypt}HASHED",
                 active
         );
     }
@@ -56,15 +51,15 @@ class GetClientByClientIdServiceTest {
     @Test
     @DisplayName("Debe retornar ClientResult cuando existe el clientId")
     void shouldReturnResult_WhenClientIdExists() {
-        // --- Dado: el repositorio encuentra el agregado por clientId ---
-        var client = persistedClient(10L, true);
-        when(repository.findByClientId("ANA-001")).thenReturn(Optional.of(client));
+        // --- Dado: el modelo de lectura encuentra el cliente por clientId ---
+        var client = projectedClient(10L, true);
+        when(clientQuery.findByClientId("ANA-001")).thenReturn(Optional.of(client));
 
         // --- Cuando: se ejecuta el caso de uso ---
         ClientResult result = service.execute("ANA-001");
 
-        // --- Entonces: el resultado refleja el agregado encontrado ---
-        assertThat(result).isNotNull();
+        // --- Entonces: se retorna la proyección tal cual ---
+        assertThat(result).isSameAs(client);
         assertThat(result.id()).isEqualTo(10L);
         assertThat(result.clientId()).isEqualTo("ANA-001");
         assertThat(result.firstName()).isEqualTo("Ana");
@@ -77,21 +72,32 @@ class GetClientByClientIdServiceTest {
         assertThat(result.status()).isTrue();
 
         // --- Y: se verifica la interacción mínima ---
-        verify(repository, times(1)).findByClientId("ANA-001");
-        verifyNoMoreInteractions(repository);
+        verify(clientQuery, times(1)).findByClientId("ANA-001");
+        verifyNoMoreInteractions(clientQuery);
     }
 
     @Test
     @DisplayName("Debe lanzar ClientNotFoundException cuando no existe el clientId")
     void shouldThrow_WhenClientIdNotFound() {
-        // --- Dado: el repositorio no encuentra el agregado ---
-        when(repository.findByClientId("NO-EXISTE")).thenReturn(Optional.empty());
+        // --- Dado: el modelo de lectura no encuentra el cliente ---
+        when(clientQuery.findByClientId("NO-EXISTE")).thenReturn(Optional.empty());
 
         // --- Cuando/Entonces: se espera excepción ---
         assertThrows(ClientNotFoundException.class, () -> service.execute("NO-EXISTE"));
 
         // --- Y: no hay más interacciones ---
-        verify(repository, times(1)).findByClientId("NO-EXISTE");
-        verifyNoMoreInteractions(repository);
+        verify(clientQuery, times(1)).findByClientId("NO-EXISTE");
+        verifyNoMoreInteractions(clientQuery);
+    }
+
+    @Test
+    @DisplayName("Debe retornar solo la versión actual para validar If-None-Match")
+    void shouldReturnCurrentVersion() {
+        when(clientQuery.findVersionByClientId("ANA-001")).thenReturn(Optional.of(4L));
+
+        assertThat(service.currentVersion("ANA-001")).contains(4L);
+
+        // --- Y: no se lee el cliente completo ---
+        verify(clientQuery, never()).findByClientId(any());
     }
 }
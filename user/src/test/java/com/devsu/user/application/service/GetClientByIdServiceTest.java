@@ -1,11 +1,8 @@
 package com.devsu.user.application.service;
 
 import com.devsu.user.application.exception.ClientNotFoundException;
+import com.devsu.user.application.port.ClientQueryPort;
 import com.devsu.user.application.result.ClientResult;
-import com.devsu.user.domain.client.Client;
-import com.devsu.user.domain.client.ClientRepository;
-import com.devsu.user.domain.person.Gender;
-import com.devsu.user.domain.person.IdentificationType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,49 +19,48 @@ import static org.mockito.Mockito.*;
 
 /**
  * Este test valida el caso de uso de consulta por ID.
- * - Si el cliente existe, debe retornar un ClientResult correctamente mapeado.
- * - Si no existe, debe lanzar ClientNotFoundException.
+ * - Si existe, retorna el ClientResult proyectado por ClientQueryPort (sin cargar el agregado).
+ * - Si no existe, lanza ClientNotFoundException.
  */
 @ExtendWith(MockitoExtension.class)
 class GetClientByIdServiceTest {
 
     @Mock
-    private ClientRepository repository;
+    private ClientQueryPort clientQuery;
 
     @InjectMocks
     private GetClientByIdService service;
 
-    // Utilidad para construir un agregado Client "desde persistencia" con datos consistentes
-    private Client persistedClient(Long id, boolean active) {
-        return Client.fromPersistence(
+    // Utilidad para construir la proyección que retorna el modelo de lectura
+    private ClientResult projectedClient(Long id, boolean active) {
+        return new ClientResult(
                 id,
-                200L,                      // id de person
                 "Ana",
                 "Gómez",
-                Gender.FEMALE,
+                "FEMALE",
                 LocalDate.parse("2000-01-01"),
-                IdentificationType.CC,
+                "CC",
                 "1234567890",
                 "Calle 1 # 2-3",
                 "3001234567",
                 "ANA-001",
-                "{bcrypt}HASHED",
-                active
+                active,
+                3L
         );
     }
 
     @Test
-    @DisplayName("Debe retornar ClientResult cuando el cliente existe")
+    @DisplayName("Debe retornar ClientResult (con versión) cuando el cliente existe")
     void shouldReturnResult_WhenClientExists() {
-        // --- Dado: repositorio retorna el agregado existente ---
-        var client = persistedClient(10L, true);
-        when(repository.findById(10L)).thenReturn(Optional.of(client));
+        // --- Dado: el modelo de lectura encuentra el cliente por id ---
+        var client = projectedClient(10L, true);
+        when(clientQuery.findById(10L)).thenReturn(Optional.of(client));
 
         // --- Cuando: se ejecuta el caso de uso ---
         ClientResult result = service.execute(10L);
 
-        // --- Entonces: el resultado refleja el agregado ---
-        assertThat(result).isNotNull();
+        // --- Entonces: se retorna la proyección tal cual ---
+        assertThat(result).isSameAs(client);
         assertThat(result.id()).isEqualTo(10L);
         assertThat(result.clientId()).isEqualTo("ANA-001");
         assertThat(result.firstName()).isEqualTo("Ana");
@@ -75,23 +71,35 @@ class GetClientByIdServiceTest {
         assertThat(result.address()).isEqualTo("Calle 1 # 2-3");
         assertThat(result.phone()).isEqualTo("3001234567");
         assertThat(result.status()).isTrue();
+        assertThat(result.version()).isEqualTo(3L);
 
-        // --- Y: se verifican interacciones mínimas ---
-        verify(repository, times(1)).findById(10L);
-        verifyNoMoreInteractions(repository);
+        // --- Y: se verifica la interacción mínima ---
+        verify(clientQuery, times(1)).findById(10L);
+        verifyNoMoreInteractions(clientQuery);
     }
 
     @Test
     @DisplayName("Debe lanzar ClientNotFoundException si el cliente no existe")
     void shouldThrow_WhenClientNotFound() {
-        // --- Dado: repositorio no encuentra el cliente ---
-        when(repository.findById(99L)).thenReturn(Optional.empty());
+        // --- Dado: el modelo de lectura no encuentra el cliente ---
+        when(clientQuery.findById(99L)).thenReturn(Optional.empty());
 
         // --- Cuando/Entonces: se espera excepción ---
         assertThrows(ClientNotFoundException.class, () -> service.execute(99L));
 
         // --- Y: no hay más interacciones ---
-        verify(repository, times(1)).findById(99L);
-        verifyNoMoreInteractions(repository);
+        verify(clientQuery, times(1)).findById(99L);
+        verifyNoMoreInteractions(clientQuery);
+    }
+
+    @Test
+    @DisplayName("Debe retornar solo la versión actual para validar If-None-Match")
+    void shouldReturnCurrentVersion() {
+        when(clientQuery.findVersionById(10L)).thenReturn(Optional.of(4L));
+
+        assertThat(service.currentVersion(10L)).contains(4L);
+
+        // --- Y: no se lee el cliente completo ---
+        verify(clientQuery, never()).findById(any());
     }
 }
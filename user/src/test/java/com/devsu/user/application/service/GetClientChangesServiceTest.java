@@ -0,0 +1,84 @@
+package com.devsu.user.application.service;
+
+import com.devsu.user.application.exception.InvalidChangeCursorException;
+import com.devsu.user.application.port.ClientChangeLog;
+import com.devsu.user.application.result.ChangeCursor;
+import com.devsu.user.application.result.ClientChange;
+import com.devsu.user.domain.client.ClientChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Este test valida el feed de cambios de clientes.
+ * - El cursor "txid.id" se interpreta y se pasa al outbox; sin since se lee desde el inicio.
+ * - nextCursor es la posición del último cambio, o el mismo cursor si no hay cambios nuevos.
+ * - Un cursor mal formado lanza InvalidChangeCursorException.
+ */
+@ExtendWith(MockitoExtension.class)
+class GetClientChangesServiceTest {
+
+    @Mock
+    private ClientChangeLog changeLog;
+
+    @InjectMocks
+    private GetClientChangesService service;
+
+    private static ClientChange change(long txid, long id, String clientId, ClientChangeType type) {
+        return new ClientChange(new ChangeCursor(txid, id), clientId, type, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Sin since se lee desde el inicio y nextCursor apunta al último cambio")
+    void shouldReadFromStart_andAdvanceCursor() {
+        when(changeLog.findAfter(ChangeCursor.START, 500)).thenReturn(List.of(
+                change(740L, 1L, "ANA-001", ClientChangeType.UPDATED),
+                change(742L, 3L, "LUIS-002", ClientChangeType.DEACTIVATED)));
+
+        var result = service.execute(null, GetClientChangesService.DEFAULT_LIMIT);
+
+        assertThat(result.items()).extracting(ClientChange::clientId).containsExactly("ANA-001", "LUIS-002");
+        assertThat(result.nextCursor()).isEqualTo("742.3");
+    }
+
+    @Test
+    @DisplayName("Sin cambios nuevos se conserva el cursor recibido")
+    void shouldKeepCursor_whenNoNewChanges() {
+        when(changeLog.findAfter(new ChangeCursor(742L, 3L), 500)).thenReturn(List.of());
+
+        var result = service.execute("742.3", 500);
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.nextCursor()).isEqualTo("742.3");
+    }
+
+    @Test
+    @DisplayName("El límite se acota a MAX_LIMIT")
+    void shouldCapLimit() {
+        when(changeLog.findAfter(ChangeCursor.START, GetClientChangesService.MAX_LIMIT)).thenReturn(List.of());
+
+        service.execute("", 50_000);
+
+        verify(changeLog).findAfter(ChangeCursor.START, GetClientChangesService.MAX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Un cursor mal formado lanza InvalidChangeCursorException")
+    void shouldRejectInvalidCursor() {
+        assertThrows(InvalidChangeCursorException.class, () -> service.execute("abc", 500));
+        assertThrows(InvalidChangeCursorException.class, () -> service.execute("12", 500));
+        assertThrows(InvalidChangeCursorException.class, () -> service.execute("-1.4", 500));
+
+        verifyNoInteractions(changeLog);
+    }
+}
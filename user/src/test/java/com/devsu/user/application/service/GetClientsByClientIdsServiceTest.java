@@ -0,0 +1,62 @@
+package com.devsu.user.application.service;
+
+import com.devsu.user.application.port.ClientQueryPort;
+import com.devsu.user.application.result.ClientResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Este test valida la consulta por lote de clientes por clientId.
+ * - Se consulta el modelo de lectura una sola vez con los clientIds sin duplicados.
+ * - Los clientIds inexistentes simplemente no aparecen en el resultado.
+ */
+@ExtendWith(MockitoExtension.class)
+class GetClientsByClientIdsServiceTest {
+
+    @Mock
+    private ClientQueryPort clientQuery;
+
+    @InjectMocks
+    private GetClientsByClientIdsService service;
+
+    private ClientResult projectedClient(Long id, String clientId) {
+        return new ClientResult(
+                id,
+                "Ana",
+                "Gómez",
+                "FEMALE",
+                LocalDate.parse("2000-01-01"),
+                "CC",
+                "12345678" + id,
+                "Calle 1 # 2-3",
+                "3001234567",
+                clientId,
+                true
+        );
+    }
+
+    @Test
+    @DisplayName("Debe consultar una sola vez con clientIds distintos y omitir los inexistentes")
+    void shouldQueryOnceWithDistinctIds() {
+        var distinct = new LinkedHashSet<>(List.of("ANA-001", "NOPE", "ANA-002"));
+        when(clientQuery.findByClientIds(distinct))
+                .thenReturn(List.of(projectedClient(1L, "ANA-001"), projectedClient(2L, "ANA-002")));
+
+        List<ClientResult> results = service.execute(List.of("ANA-001", "NOPE", "ANA-001", "ANA-002"));
+
+        assertThat(results).extracting(ClientResult::clientId).containsExactly("ANA-001", "ANA-002");
+        verify(clientQuery, times(1)).findByClientIds(distinct);
+        verifyNoMoreInteractions(clientQuery);
+    }
+}
@@ -0,0 +1,129 @@
+package com.devsu.user.application.service;
+
+import com.devsu.user.application.command.CreateClientCommand;
+import com.devsu.user.application.command.ImportClientRow;
+import com.devsu.user.application.port.AccountNumberGenerator;
+import com.devsu.user.application.port.CatalogQueryPort;
+import com.devsu.user.application.port.PasswordHasher;
+import com.devsu.user.application.result.ImportClientsResult.RowError;
+import com.devsu.user.domain.client.ClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Este test valida la importación masiva por lotes:
+ * - Filas inválidas, repetidas en el archivo o ya registradas quedan en el reporte con su línea.
+ * - La unicidad se consulta una vez por lote y el hashing se hace en bloque.
+ * - Una fila no insertada se reintenta con otro clientId, salvo que la identificación ya exista.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImportClientsServiceTest {
+
+    @Mock private ClientRepository repository;
+    @Mock private PasswordHasher passwordHasher;
+    @Mock private CatalogQueryPort catalogQuery;
+    @Mock private AccountNumberGenerator accountNumberGenerator;
+
+    private ImportClientsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportClientsService(repository, passwordHasher, catalogQuery, accountNumberGenerator, 2);
+        lenient().when(catalogQuery.genderExists(anyString())).thenReturn(true);
+        lenient().when(catalogQuery.identificationTypeExists(anyString())).thenReturn(true);
+        lenient().when(passwordHasher.hashAll(anyList())).thenAnswer(inv -> ((List<String>) inv.getArgument(0))
+                .stream().map(raw -> "hash(" + raw + ")").toList());
+        lenient().when(accountNumberGenerator.generate(anyInt())).thenAnswer(inv -> IntStream
+                .range(0, inv.<Integer>getArgument(0)).mapToObj(i -> "CLI-" + i).toList());
+    }
+
+    private static ImportClientRow row(long line, String identificationNumber) {
+        return ImportClientRow.valid(line, new CreateClientCommand("Ana", "Gómez", "FEMALE",
+                LocalDate.parse("2000-01-01"), "CC", identificationNumber,
+                "Calle 1 # 2-3", "3001234567", "secret" + line));
+    }
+
+    @Test
+    @DisplayName("Debe importar por lotes y reportar las filas rechazadas")
+    void shouldImportInChunksAndReportRejectedRows() {
+        when(repository.findExistingIdentifications(List.of("100"))).thenReturn(Set.of());
+        when(repository.findExistingIdentifications(List.of("200"))).thenReturn(Set.of());
+        when(repository.findExistingIdentifications(List.of("300"))).thenReturn(Set.of("300"));
+        when(repository.saveAllNew(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        var result = service.execute(List.of(
+                row(2, "100"),
+                ImportClientRow.invalid(3, null, "Malformed JSON"),
+                row(4, "200"),
+                row(5, "100"),
+                row(6, "300")).iterator());
+
+        assertThat(result.total()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.errors()).extracting(RowError::line).containsExactly(3L, 5L, 6L);
+        assertThat(result.errors().get(1).error()).isEqualTo("Identification repeated in file: 100");
+        assertThat(result.errors().get(2).error()).isEqualTo("Identification already registered: 300");
+        verify(passwordHasher).hashAll(List.of("secret2"));
+        verify(passwordHasher).hashAll(List.of("secret4"));
+        verify(repository, times(2)).saveAllNew(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la fila con catálogo inexistente sin consultar la base")
+    void shouldRejectUnknownCatalog() {
+        when(catalogQuery.genderExists("FEMALE")).thenReturn(false);
+
+        var result = service.execute(List.of(row(2, "100")).iterator());
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.errors()).singleElement()
+                .extracting(RowError::error).isEqualTo("Gender code not found: FEMALE");
+        verifyNoInteractions(repository, passwordHasher, accountNumberGenerator);
+    }
+
+    @Test
+    @DisplayName("Debe reintentar con otro clientId cuando la fila no se insertó por colisión")
+    void shouldRetryWithNewClientNumber() {
+        when(repository.findExistingIdentifications(List.of("100"))).thenReturn(Set.of());
+        when(repository.saveAllNew(anyList()))
+                .thenReturn(List.of())
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        var result = service.execute(List.of(row(2, "100")).iterator());
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).isEmpty();
+        verify(accountNumberGenerator, times(2)).generate(1);
+        verify(passwordHasher, times(1)).hashAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe reportar como duplicada la identificación registrada por una carga concurrente")
+    void shouldReportConcurrentDuplicate() {
+        when(repository.findExistingIdentifications(List.of("100")))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("100"));
+        when(repository.saveAllNew(anyList())).thenReturn(List.of());
+
+        var result = service.execute(List.of(row(2, "100")).iterator());
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.errors()).singleElement()
+                .extracting(RowError::error).isEqualTo("Identification already registered: 100");
+        verify(repository, times(1)).saveAllNew(anyList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.devsu.user.application.service;
+
+import com.devsu.user.application.port.ClientQueryPort;
+import com.devsu.user.application.result.ClientResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Este test valida la paginación por keyset de la búsqueda de clientes:
+ * - Se pide una fila extra para saber si hay página siguiente y el cursor es el último id entregado.
+ * - El query en blanco se trata como listado y el tamaño se acota a MAX_PAGE_SIZE.
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchClientsServiceTest {
+
+    @Mock private ClientQueryPort clientQuery;
+
+    @InjectMocks
+    private SearchClientsService service;
+
+    private static List<ClientResult> results(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new ClientResult(id, "Ana", "Gómez", "FEMALE", LocalDate.parse("2000-01-01"),
+                        "CC", String.valueOf(id), "Calle 1", "3001234567", "CLI-" + id, true))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Debe retornar la página y el cursor cuando hay más resultados")
+    void shouldReturnNextCursorWhenMoreRows() {
+        when(clientQuery.search("ana", 10L, 3)).thenReturn(results(11, 13));
+
+        var page = service.execute(" ana ", 10L, 2);
+
+        assertThat(page.items()).extracting(ClientResult::id).containsExactly(11L, 12L);
+        assertThat(page.nextCursor()).isEqualTo(12L);
+        verify(clientQuery).search("ana", 10L, 3);
+        verifyNoMoreInteractions(clientQuery);
+    }
+
+    @Test
+    @DisplayName("Debe retornar cursor null en la última página")
+    void shouldReturnNullCursorOnLastPage() {
+        when(clientQuery.search(null, 0L, 21)).thenReturn(results(1, 5));
+
+        var page = service.execute("  ", null, 20);
+
+        assertThat(page.items()).hasSize(5);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe acotar el tamaño de página")
+    void shouldClampPageSize() {
+        when(clientQuery.search(null, 0L, SearchClientsService.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+        service.execute(null, null, 10_000);
+
+        verify(clientQuery).search(null, 0L, SearchClientsService.MAX_PAGE_SIZE + 1);
+    }
+}
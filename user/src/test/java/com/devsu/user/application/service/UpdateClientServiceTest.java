@@ -5,9 +5,11 @@ import com.devsu.user.application.exception.ClientNotFoundException;
 import com.devsu.user.application.exception.DuplicateIdentificationException;
 import com.devsu.user.application.exception.InvalidCatalogCodeException;
 import com.devsu.user.application.port.CatalogQueryPort;
+import com.devsu.user.application.port.ClientChangeLog;
 import com.devsu.user.application.port.PasswordHasher;
 import com.devsu.user.application.result.ClientResult;
 import com.devsu.user.domain.client.Client;
+import com.devsu.user.domain.client.ClientChangeType;
 import com.devsu.user.domain.client.ClientRepository;
 import com.devsu.user.domain.person.Gender;
 import com.devsu.user.domain.person.IdentificationType;
@@ -40,6 +42,7 @@ class UpdateClientServiceTest {
     @Mock private ClientRepository repository;
     @Mock private CatalogQueryPort catalogQuery;
     @Mock private PasswordHasher passwordHasher;
+    @Mock private ClientChangeLog changeLog;
 
     @InjectMocks
     private UpdateClientService service;
@@ -109,7 +112,8 @@ class UpdateClientServiceTest {
         verify(repository).findById(10L);
         verify(catalogQuery).genderExists("FEMALE");
         verify(catalogQuery).identificationTypeExists("CC");
-        verifyNoMoreInteractions(repository, catalogQuery, passwordHasher);
+        verify(changeLog).record("ANA-001", ClientChangeType.UPDATED);
+        verifyNoMoreInteractions(repository, catalogQuery, passwordHasher, changeLog);
     }
 
     @Test
@@ -139,7 +143,8 @@ class UpdateClientServiceTest {
         verify(repository).findById(10L);
         verify(catalogQuery).genderExists("FEMALE");
         verify(catalogQuery).identificationTypeExists("CC");
-        verifyNoMoreInteractions(repository, catalogQuery, passwordHasher);
+        verify(changeLog).record("ANA-001", ClientChangeType.UPDATED);
+        verifyNoMoreInteractions(repository, catalogQuery, passwordHasher, changeLog);
     }
 
     @Test
@@ -170,7 +175,8 @@ class UpdateClientServiceTest {
         verify(repository).findById(10L);
         verify(catalogQuery).genderExists("FEMALE");
         verify(catalogQuery).identificationTypeExists("CC");
-        verifyNoMoreInteractions(repository, catalogQuery, passwordHasher);
+        verify(changeLog).record("ANA-001", ClientChangeType.UPDATED);
+        verifyNoMoreInteractions(repository, catalogQuery, passwordHasher, changeLog);
     }
 
     @Test
@@ -193,6 +199,7 @@ class UpdateClientServiceTest {
         verify(repository).existsByIdentification("9999999999");
         verify(repository, never()).save(any());
         verify(passwordHasher, never()).hash(any());
+        verifyNoInteractions(changeLog);
         verifyNoMoreInteractions(repository, catalogQuery, passwordHasher);
     }
 
@@ -210,6 +217,7 @@ class UpdateClientServiceTest {
         verify(repository).findById(99L);
         verify(repository, never()).save(any());
         verify(passwordHasher, never()).hash(any());
+        verifyNoInteractions(changeLog);
         verifyNoMoreInteractions(repository, catalogQuery, passwordHasher);
     }
 
@@ -231,6 +239,7 @@ class UpdateClientServiceTest {
         verify(repository, never()).existsByIdentification(anyString());
         verify(repository, never()).save(any());
         verify(passwordHasher, never()).hash(any());
+        verifyNoInteractions(changeLog);
         verifyNoMoreInteractions(repository, catalogQuery, passwordHasher);
     }
 
@@ -253,6 +262,7 @@ class UpdateClientServiceTest {
         verify(repository, never()).existsByIdentification(anyString());
         verify(repository, never()).save(any());
         verify(passwordHasher, never()).hash(any());
+        verifyNoInteractions(changeLog);
         verifyNoMoreInteractions(repository, catalogQuery, passwordHasher);
     }
 }
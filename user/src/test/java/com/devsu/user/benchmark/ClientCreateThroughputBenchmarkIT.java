@@ -0,0 +1,145 @@
+package com.devsu.user.benchmark;
+
+import com.devsu.user.UserApplication;
+import com.devsu.user.application.command.CreateClientCommand;
+import com.devsu.user.application.exception.DuplicateIdentificationException;
+import com.devsu.user.application.port.PasswordHasher;
+import com.devsu.user.application.service.CreateClientService;
+import com.devsu.user.domain.client.ClientRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark de creación de clientes concurrente.
+ * - "pre-check": se emula el flujo anterior (existsByIdentification + INSERT), un viaje extra por creación.
+ * - "insert": flujo actual, la unicidad la resuelve el INSERT y se traduce la violación.
+ * También se verifica que una carrera sobre la misma identificación deje un solo cliente
+ * y el resto reciba DuplicateIdentificationException.
+ * El hashing se mockea para medir solo el acceso a datos.
+ * Parámetros: -Dbenchmark.threads (16) y -Dbenchmark.seconds (10).
+ */
+@SpringBootTest(classes = UserApplication.class, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=40"
+})
+@ActiveProfiles("it")
+@Testcontainers
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+class ClientCreateThroughputBenchmarkIT {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 10));
+    private static final AtomicLong SEQ = new AtomicLong(5_000_000_000L);
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private CreateClientService createClientService;
+    @Autowired private ClientRepository clientRepository;
+
+    @MockitoBean private PasswordHasher passwordHasher;
+
+    @Test
+    @DisplayName("Throughput de creación: pre-check vs insert con traducción de la violación")
+    void createThroughput() throws Exception {
+        when(passwordHasher.hash(anyString())).thenReturn("{bench}HASH");
+
+        // Calentamiento (JIT, pool de conexiones, caché de catálogos)
+        runCreates(false, Duration.ofSeconds(2));
+
+        long before = runCreates(true, DURATION);
+        long after = runCreates(false, DURATION);
+        double beforePerSecond = before / (double) DURATION.toSeconds();
+        double afterPerSecond = after / (double) DURATION.toSeconds();
+
+        System.out.printf("%n== Creación de clientes (%d hilos, %ds por escenario) ==%n", THREADS, DURATION.toSeconds());
+        System.out.printf("pre-check  creates/s=%9.1f%n", beforePerSecond);
+        System.out.printf("insert     creates/s=%9.1f  speedup=x%.2f%n", afterPerSecond, afterPerSecond / beforePerSecond);
+    }
+
+    @Test
+    @DisplayName("Carrera sobre la misma identificación: un solo cliente y el resto DuplicateIdentificationException")
+    void concurrentDuplicatesAreTranslated() throws Exception {
+        when(passwordHasher.hash(anyString())).thenReturn("{bench}HASH");
+        String identification = String.valueOf(SEQ.getAndIncrement());
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        createClientService.execute(command(identification));
+                        created.incrementAndGet();
+                    } catch (DuplicateIdentificationException ex) {
+                        duplicates.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> w : workers) w.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(duplicates.get()).isEqualTo(THREADS - 1);
+    }
+
+    private long runCreates(boolean preCheck, Duration duration) throws Exception {
+        AtomicLong ok = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(pool.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        String identification = String.valueOf(SEQ.getAndIncrement());
+                        if (preCheck && clientRepository.existsByIdentification(identification)) continue;
+                        createClientService.execute(command(identification));
+                        ok.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> w : workers) w.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        return ok.get();
+    }
+
+    private static CreateClientCommand command(String identification) {
+        return new CreateClientCommand("Bench", "Client", "MALE", LocalDate.of(1990, 1, 1),
+                "CC", identification, "Street 1", "3000000000", "secret!");
+    }
+}
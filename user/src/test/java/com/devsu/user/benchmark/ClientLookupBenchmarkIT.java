@@ -0,0 +1,144 @@
+package com.devsu.user.benchmark;
+
+import com.devsu.user.UserApplication;
+import com.devsu.user.application.mapper.ClientAppMapper;
+import com.devsu.user.application.service.GetClientByClientIdService;
+import com.devsu.user.domain.client.ClientRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Benchmark de GET /clientes/clientId/{clientId}.
+ * - "entidad": camino anterior (ClientJpaEntity + person, dominio y ClientAppMapper.toResult).
+ * - "proyección": consulta SQL directa a ClientResult (GetClientByClientIdService).
+ * - "http": endpoint completo con MockMvc sobre la proyección.
+ * Parámetros: -Dbenchmark.threads (16), -Dbenchmark.seconds (10) y -Dbenchmark.rows (100000).
+ */
+@SpringBootTest(classes = UserApplication.class, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=40"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+@Testcontainers
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClientLookupBenchmarkIT {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 10));
+    private static final long ROWS = Long.getLong("benchmark.rows", 100_000L);
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private GetClientByClientIdService getClientByClientIdService;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private MockMvc mockMvc;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO persons (first_name, last_name, birth_date, address, phone,
+                                     identification_number, gender_id, identification_type_id)
+                SELECT 'Bench', 'Client ' || g, DATE '1990-01-01', 'Street ' || g, '3000000000', 'L' || g,
+                       (SELECT id FROM genders ORDER BY id LIMIT 1),
+                       (SELECT id FROM identification_types ORDER BY id LIMIT 1)
+                FROM generate_series(1, ?) AS g
+                """, ROWS);
+        jdbcTemplate.update("""
+                INSERT INTO clients (person_id, client_id, password_hash, active)
+                SELECT id, 'LOOKUP-' || identification_number, '$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234', true
+                FROM persons WHERE identification_number LIKE 'L%'
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("Throughput de consulta por clientId: entidad vs proyección")
+    void lookupThroughput() throws Exception {
+        var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Lookup entity = clientId -> readOnly.execute(tx -> ClientAppMapper.toResult(
+                clientRepository.findByClientId(clientId).orElseThrow()));
+        Lookup projection = getClientByClientIdService::execute;
+        Lookup http = clientId -> mockMvc.perform(get("/clientes/clientId/{clientId}", clientId))
+                .andExpect(status().isOk());
+
+        // Calentamiento (JIT, pool de conexiones, caché de catálogos)
+        run(entity, Duration.ofSeconds(2));
+        run(projection, Duration.ofSeconds(2));
+        run(http, Duration.ofSeconds(2));
+
+        double entityPerSecond = run(entity, DURATION) / (double) DURATION.toSeconds();
+        double projectionPerSecond = run(projection, DURATION) / (double) DURATION.toSeconds();
+        double httpPerSecond = run(http, DURATION) / (double) DURATION.toSeconds();
+
+        System.out.printf("%n== Consulta por clientId (%d hilos, %ds por escenario, %,d clientes) ==%n",
+                THREADS, DURATION.toSeconds(), ROWS);
+        System.out.printf("entidad     lookups/s=%9.1f%n", entityPerSecond);
+        System.out.printf("proyección  lookups/s=%9.1f  speedup=x%.2f%n", projectionPerSecond, projectionPerSecond / entityPerSecond);
+        System.out.printf("http        lookups/s=%9.1f%n", httpPerSecond);
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        void apply(String clientId) throws Exception;
+    }
+
+    private long run(Lookup lookup, Duration duration) throws Exception {
+        AtomicLong ok = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(pool.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long n = 1 + ThreadLocalRandom.current().nextLong(ROWS);
+                        lookup.apply("LOOKUP-L" + n);
+                        ok.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> w : workers) w.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        return ok.get();
+    }
+}
@@ -0,0 +1,154 @@
+package com.devsu.user.benchmark;
+
+import com.devsu.user.UserApplication;
+import com.devsu.user.application.result.ClientPageResult;
+import com.devsu.user.application.service.SearchClientsService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de GET /clientes?query=&cursor= sobre una tabla persons grande (10M filas por defecto).
+ * Escenarios: listado (primera página y página profunda por keyset vs. OFFSET), prefijo de nombre
+ * frecuente, contenido poco frecuente (índice por trigramas) e identificación exacta.
+ * Se imprime la latencia p50/p95/p99 y el plan de cada consulta.
+ * Parámetros: -Dbenchmark.rows (10000000) y -Dbenchmark.iterations (200).
+ */
+@SpringBootTest(classes = UserApplication.class, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=40"
+})
+@ActiveProfiles("it")
+@Testcontainers
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClientSearchBenchmarkIT {
+
+    private static final long ROWS = Long.getLong("benchmark.rows", 10_000_000L);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200);
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "shared_buffers=512MB", "-c", "maintenance_work_mem=512MB");
+
+    @Autowired private SearchClientsService searchClientsService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // Se cargan las filas con generate_series; los índices por trigramas se recrean después de la carga
+    // (mismo DDL que V5) porque mantener un GIN durante 10M inserciones es mucho más lento
+    @BeforeAll
+    void seed() {
+        long start = System.nanoTime();
+        jdbcTemplate.execute("DROP INDEX IF EXISTS ix_persons_first_name_trgm");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS ix_persons_last_name_trgm");
+        jdbcTemplate.update("""
+                INSERT INTO persons (first_name, last_name, birth_date, address, phone,
+                                     identification_number, gender_id, identification_type_id)
+                SELECT (ARRAY['Ana','Luis','Carlos','María','Jorge','Lucía','Pedro','Sofía','Diego','Valentina'])[1 + g % 10],
+                       (ARRAY['Gómez','Pérez','Rodríguez','López','Martínez'])[1 + (g / 10) % 5] || '-' || substr(md5(g::text), 1, 8),
+                       DATE '1960-01-01' + (g % 15000)::int,
+                       'Calle ' || (g % 200) || ' # ' || (g % 97),
+                       '300' || lpad((g % 10000000)::text, 7, '0'),
+                       'B' || g,
+                       (SELECT id FROM genders ORDER BY id LIMIT 1),
+                       (SELECT id FROM identification_types ORDER BY id LIMIT 1)
+                FROM generate_series(1, ?) AS g
+                """, ROWS);
+        jdbcTemplate.update("""
+                INSERT INTO clients (person_id, client_id, password_hash, active)
+                SELECT id, 'BENCH-' || id, '{bench}HASH', true FROM persons
+                """);
+        jdbcTemplate.execute("CREATE INDEX ix_persons_first_name_trgm ON persons USING gin (lower(first_name) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX ix_persons_last_name_trgm ON persons USING gin (lower(last_name) gin_trgm_ops)");
+        jdbcTemplate.execute("ANALYZE persons");
+        jdbcTemplate.execute("ANALYZE clients");
+        System.out.printf("%n== Carga de %,d clientes en %.1fs ==%n", ROWS, (System.nanoTime() - start) / 1e9);
+    }
+
+    @Test
+    @DisplayName("Latencia de búsqueda y listado con keyset sobre una tabla grande")
+    void searchLatency() {
+        long middleId = jdbcTemplate.queryForObject("SELECT min(id) + (max(id) - min(id)) / 2 FROM clients", Long.class);
+        String rareFragment = jdbcTemplate.queryForObject("SELECT substr(md5('4242'), 1, 8)", String.class);
+
+        System.out.printf("%n== Búsqueda de clientes (%,d filas, %d iteraciones por escenario) ==%n", ROWS, ITERATIONS);
+        measure("listado primera página", () -> searchClientsService.execute(null, null, 20));
+        measure("listado keyset página media", () -> searchClientsService.execute(null, middleId, 20));
+        measureOffset("listado OFFSET página media", ROWS / 2);
+        measure("prefijo frecuente 'an'", () -> searchClientsService.execute("an", null, 20));
+        measure("contenido poco frecuente", () -> searchClientsService.execute(rareFragment, null, 20));
+        measure("identificación exacta", () -> searchClientsService.execute("B" + (ROWS / 3), null, 20));
+
+        assertThat(searchClientsService.execute(rareFragment, null, 20).items()).isNotEmpty();
+        assertThat(searchClientsService.execute("B" + (ROWS / 3), null, 20).items()).hasSize(1);
+
+        printPlan("contenido poco frecuente", "%" + rareFragment + "%", rareFragment);
+        printPlan("identificación exacta", "%b" + (ROWS / 3) + "%", "B" + (ROWS / 3));
+    }
+
+    private void measure(String scenario, Supplier<ClientPageResult> call) {
+        for (int i = 0; i < Math.min(20, ITERATIONS); i++) call.get(); // calentamiento
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        print(scenario, nanos);
+    }
+
+    // Referencia: la misma página con OFFSET recorre y descarta todas las filas anteriores
+    private void measureOffset(String scenario, long offset) {
+        String sql = """
+                SELECT c.id, p.first_name, p.last_name FROM clients c JOIN persons p ON p.id = c.person_id
+                ORDER BY c.id LIMIT 21 OFFSET ?
+                """;
+        int iterations = Math.max(1, ITERATIONS / 20);
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            jdbcTemplate.queryForList(sql, offset);
+            nanos[i] = System.nanoTime() - start;
+        }
+        print(scenario + " (" + iterations + " it.)", nanos);
+    }
+
+    private static void print(String scenario, long[] nanos) {
+        Arrays.sort(nanos);
+        System.out.printf("%-36s p50=%8.2fms  p95=%8.2fms  p99=%8.2fms%n", scenario,
+                percentile(nanos, 0.50), percentile(nanos, 0.95), percentile(nanos, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private void printPlan(String scenario, String pattern, String query) {
+        var plan = jdbcTemplate.queryForList("""
+                EXPLAIN SELECT c.id FROM clients c JOIN persons p ON p.id = c.person_id
+                WHERE c.id > 0 AND (lower(p.first_name) LIKE ? OR lower(p.last_name) LIKE ? OR p.identification_number = ?)
+                ORDER BY c.id LIMIT 21
+                """, String.class, pattern, pattern, query);
+        System.out.printf("%nPlan (%s):%n", scenario);
+        plan.forEach(line -> System.out.println("  " + line));
+    }
+}
@@ -0,0 +1,153 @@
+package com.devsu.user.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de arranque en frío: levanta el bootJar en un proceso aparte contra PostgreSQL efímero y mide
+ * - time-to-ready: desde el lanzamiento del proceso hasta que /actuator/health/readiness responde 200.
+ * - primera petición: latencia de GET /clientes/clientId/{clientId} (404, recorre MVC + JDBC) ya con la app lista.
+ * Cada variante es una lista de perfiles (-Dbenchmark.startup.variants, por defecto "dev;prod").
+ * El jar y los flags de la JVM se configuran con -Dbenchmark.startup.jar y -Dbenchmark.startup.jvm-args; la JVM
+ * corre en el directorio del jar (p. ej. el extraído en build/cds con "-XX:SharedArchiveFile=application.jsa").
+ * La primera corrida aplica las migraciones y se descarta; luego se repite -Dbenchmark.runs veces (5).
+ */
+@Testcontainers
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARK", matches = "true")
+class StartupBenchmarkIT {
+
+    private static final int RUNS = Integer.getInteger("benchmark.runs", 5);
+    private static final Path JAR = Path.of(System.getProperty("benchmark.startup.jar", "build/libs/user-0.0.1-SNAPSHOT.jar"));
+    private static final List<String> JVM_ARGS = split(System.getProperty("benchmark.startup.jvm-args", ""), " ");
+    private static final List<String> VARIANTS = split(System.getProperty("benchmark.startup.variants", "dev;prod"), ";");
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(120);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    @DisplayName("Arranque en frío: time-to-ready y latencia de la primera petición por variante")
+    void startup() throws Exception {
+        assertThat(JAR).as("bootJar (./gradlew bootJar)").exists();
+
+        // Corrida descartada: Flyway crea el esquema y el SO cachea el jar
+        start(VARIANTS.get(0));
+
+        System.out.printf("%n== Arranque en frío de %s (%d corridas por variante) ==%n", JAR.getFileName(), RUNS);
+        System.out.printf("jvm-args: %s%n", JVM_ARGS.isEmpty() ? "(ninguno)" : String.join(" ", JVM_ARGS));
+        for (String profiles : VARIANTS) {
+            List<Long> ready = new ArrayList<>(RUNS);
+            List<Long> first = new ArrayList<>(RUNS);
+            for (int i = 0; i < RUNS; i++) {
+                long[] sample = start(profiles);
+                ready.add(sample[0]);
+                first.add(sample[1]);
+            }
+            System.out.printf("%-12s ready ms p50=%6d min=%6d max=%6d | primera petición ms p50=%5d min=%5d max=%5d%n",
+                    profiles, median(ready), min(ready), max(ready), median(first), min(first), max(first));
+        }
+    }
+
+    // Se lanza la app, se espera readiness y se mide la primera petición; devuelve {readyMs, firstRequestMs}
+    private long[] start(String profiles) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(JVM_ARGS);
+        command.addAll(List.of("-jar", JAR.toAbsolutePath().toString(),
+                "--server.port=" + port,
+                "--spring.profiles.active=" + profiles,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword()));
+
+        File log = Files.createTempFile("startup-" + profiles.replace(',', '-'), ".log").toFile();
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(JAR.toAbsolutePath().getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            long readyMs = awaitReady(process, port, launchedAt, log);
+
+            long requestedAt = System.nanoTime();
+            HttpResponse<Void> response = http.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/clientes/clientId/STARTUP-404")).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            long firstMs = Duration.ofNanos(System.nanoTime() - requestedAt).toMillis();
+            assertThat(response.statusCode()).isEqualTo(404);
+            return new long[]{readyMs, firstMs};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+        }
+    }
+
+    private long awaitReady(Process process, int port, long launchedAt, File log) throws Exception {
+        HttpRequest readiness = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/actuator/health/readiness")).build();
+        long deadline = launchedAt + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("La app terminó antes de estar lista, ver " + log);
+            }
+            try {
+                if (http.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - launchedAt).toMillis();
+                }
+            } catch (IOException notListeningYet) {
+                // Tomcat aún no acepta conexiones
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("La app no estuvo lista en " + READY_TIMEOUT + ", ver " + log);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static List<String> split(String value, String separator) {
+        return Arrays.stream(value.split(separator)).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    private static long median(List<Long> values) {
+        return values.stream().sorted().toList().get(values.size() / 2);
+    }
+
+    private static long min(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+
+    private static long max(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+}
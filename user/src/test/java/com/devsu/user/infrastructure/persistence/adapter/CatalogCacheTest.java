@@ -0,0 +1,83 @@
+package com.devsu.user.infrastructure.persistence.adapter;
+
+import com.devsu.user.infrastructure.persistence.entity.GenderJpaEntity;
+import com.devsu.user.infrastructure.persistence.entity.IdentificationTypeJpaEntity;
+import com.devsu.user.infrastructure.persistence.repository.GenderJpaRepository;
+import com.devsu.user.infrastructure.persistence.repository.IdentificationTypeJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Este test valida la caché de catálogos:
+ * - Se resuelven códigos e ids en memoria tras la carga inicial.
+ * - Un código desconocido provoca un refresco, acotado por el intervalo mínimo.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheTest {
+
+    @Mock private GenderJpaRepository genderRepo;
+    @Mock private IdentificationTypeJpaRepository idTypeRepo;
+
+    private static GenderJpaEntity gender(long id, String code) {
+        var g = new GenderJpaEntity();
+        g.setId(id);
+        g.setCode(code);
+        g.setName(code);
+        return g;
+    }
+
+    private static IdentificationTypeJpaEntity idType(long id, String code) {
+        var t = new IdentificationTypeJpaEntity();
+        t.setId(id);
+        t.setCode(code);
+        t.setName(code);
+        return t;
+    }
+
+    @Test
+    @DisplayName("Debe resolver códigos e ids sin volver a consultar los repositorios")
+    void shouldResolveFromMemoryAfterLoad() {
+        when(genderRepo.findAll()).thenReturn(List.of(gender(1, "MALE"), gender(2, "FEMALE")));
+        when(idTypeRepo.findAll()).thenReturn(List.of(idType(10, "CC")));
+        var cache = new CatalogCache(genderRepo, idTypeRepo, Duration.ofHours(1));
+
+        cache.refresh();
+
+        assertThat(cache.genderId("FEMALE")).contains(2L);
+        assertThat(cache.genderCode(1L)).contains("MALE");
+        assertThat(cache.identificationTypeId("CC")).contains(10L);
+        assertThat(cache.identificationTypeCode(10L)).contains("CC");
+        verify(genderRepo, times(1)).findAll();
+        verify(idTypeRepo, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Debe refrescar ante un código nuevo y no volver a hacerlo dentro del intervalo")
+    void shouldRefreshOnMissAtMostOncePerInterval() {
+        when(genderRepo.findAll())
+                .thenReturn(List.of(gender(1, "MALE")))
+                .thenReturn(List.of(gender(1, "MALE"), gender(3, "OTHER")));
+        when(idTypeRepo.findAll()).thenReturn(List.of(idType(10, "CC")));
+        var cache = new CatalogCache(genderRepo, idTypeRepo, Duration.ZERO);
+        cache.refresh();
+
+        // El catálogo cambió después de la carga: el fallo provoca un refresco
+        assertThat(cache.genderId("OTHER")).contains(3L);
+        verify(genderRepo, times(2)).findAll();
+
+        // Con un intervalo mínimo largo, un código inexistente no vuelve a consultar
+        var throttled = new CatalogCache(genderRepo, idTypeRepo, Duration.ofHours(1));
+        throttled.refresh();
+        assertThat(throttled.genderId("NOPE")).isEmpty();
+        verify(genderRepo, times(3)).findAll();
+    }
+}
@@ -0,0 +1,146 @@
+package com.devsu.user.infrastructure.persistence.adapter;
+
+import com.devsu.user.application.exception.DuplicateIdentificationException;
+import com.devsu.user.domain.client.Client;
+import com.devsu.user.domain.person.Gender;
+import com.devsu.user.domain.person.IdentificationType;
+import com.devsu.user.infrastructure.persistence.entity.ClientJpaEntity;
+import com.devsu.user.infrastructure.persistence.entity.GenderJpaEntity;
+import com.devsu.user.infrastructure.persistence.entity.IdentificationTypeJpaEntity;
+import com.devsu.user.infrastructure.persistence.entity.PersonJpaEntity;
+import com.devsu.user.infrastructure.persistence.repository.ClientJpaRepository;
+import com.devsu.user.infrastructure.persistence.repository.GenderJpaRepository;
+import com.devsu.user.infrastructure.persistence.repository.IdentificationTypeJpaRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Este test valida el guardado de clientes en el adaptador JPA:
+ * - uk_persons_identification_number -> DuplicateIdentificationException.
+ * - Cualquier otra violación se propaga sin cambios.
+ * - La actualización modifica las entidades gestionadas (sin merge) y solo reemplaza catálogos que cambian.
+ */
+@ExtendWith(MockitoExtension.class)
+class JpaClientRepositoryAdapterTest {
+
+    @Mock private ClientJpaRepository clientRepo;
+    @Mock private GenderJpaRepository genderRepo;
+    @Mock private IdentificationTypeJpaRepository idTypeRepo;
+    @Mock private CatalogCache catalogCache;
+
+    @InjectMocks
+    private JpaClientRepositoryAdapter adapter;
+
+    private final Client newClient = Client.create(
+            "Ana", "Gómez", Gender.FEMALE, LocalDate.parse("2000-01-01"),
+            IdentificationType.CC, "1234567890", "Calle 1 # 2-3", "3001234567",
+            "ANA-001", "{bcrypt}HASHED");
+
+    @BeforeEach
+    void setUp() {
+        when(catalogCache.genderId("FEMALE")).thenReturn(Optional.of(2L));
+        when(catalogCache.identificationTypeId("CC")).thenReturn(Optional.of(1L));
+    }
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        var cause = new ConstraintViolationException(
+                "duplicate key value violates unique constraint \"" + constraint + "\"",
+                new SQLException("duplicate key", "23505"), constraint);
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+
+    @Test
+    @DisplayName("Debe traducir la violación de identificación duplicada")
+    void shouldTranslateDuplicateIdentification() {
+        when(clientRepo.saveAndFlush(any(ClientJpaEntity.class)))
+                .thenThrow(violation(JpaClientRepositoryAdapter.UK_IDENTIFICATION_NUMBER));
+
+        assertThrows(DuplicateIdentificationException.class, () -> adapter.save(newClient));
+    }
+
+    @Test
+    @DisplayName("Debe propagar otras violaciones de integridad")
+    void shouldPropagateOtherViolations() {
+        var other = violation("uk_clients_client_id");
+        when(clientRepo.saveAndFlush(any(ClientJpaEntity.class))).thenThrow(other);
+
+        var thrown = assertThrows(DataIntegrityViolationException.class, () -> adapter.save(newClient));
+        assertSame(other, thrown);
+    }
+
+    // Se arma el agregado tal como quedaría gestionado tras el findById del servicio
+    private static ClientJpaEntity managedAggregate(long genderId) {
+        var gender = new GenderJpaEntity();
+        gender.setId(genderId);
+        var idType = new IdentificationTypeJpaEntity();
+        idType.setId(1L);
+        var person = new PersonJpaEntity(20L, "Ana", "Gómez", LocalDate.parse("2000-01-01"),
+                "Calle 1 # 2-3", "3001234567", "1234567890", gender, idType, 0L);
+        return new ClientJpaEntity(10L, person, "ANA-001", "{bcrypt}HASHED", true, 0L);
+    }
+
+    private static Client existing(String phone, boolean active) {
+        return Client.fromPersistence(10L, 20L, "Ana", "Gómez", Gender.FEMALE,
+                LocalDate.parse("2000-01-01"), IdentificationType.CC, "1234567890",
+                "Calle 1 # 2-3", phone, "ANA-001", "{bcrypt}HASHED", active);
+    }
+
+    @Test
+    @DisplayName("Debe actualizar el agregado gestionado sin merge ni nuevas referencias de catálogo")
+    void shouldUpdateManagedAggregateInPlace() {
+        var managed = managedAggregate(2L);
+        when(clientRepo.findById(10L)).thenReturn(Optional.of(managed));
+        when(catalogCache.genderCode(2L)).thenReturn(Optional.of("FEMALE"));
+        when(catalogCache.identificationTypeCode(1L)).thenReturn(Optional.of("CC"));
+
+        var saved = adapter.save(existing("3109999999", false));
+
+        assertEquals("3109999999", managed.getPerson().getPhone());
+        assertFalse(managed.isActive());
+        assertEquals("3109999999", saved.getPhone());
+        verify(clientRepo).flush();
+        verify(clientRepo, never()).saveAndFlush(any());
+        verifyNoInteractions(genderRepo, idTypeRepo);
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar la referencia de catálogo solo cuando cambia")
+    void shouldReplaceCatalogReferenceWhenChanged() {
+        var managed = managedAggregate(1L);
+        var femaleRef = new GenderJpaEntity();
+        femaleRef.setId(2L);
+        when(clientRepo.findById(10L)).thenReturn(Optional.of(managed));
+        when(genderRepo.getReferenceById(2L)).thenReturn(femaleRef);
+        when(catalogCache.genderCode(2L)).thenReturn(Optional.of("FEMALE"));
+        when(catalogCache.identificationTypeCode(1L)).thenReturn(Optional.of("CC"));
+
+        adapter.save(existing("3001234567", true));
+
+        assertSame(femaleRef, managed.getPerson().getGender());
+        verifyNoInteractions(idTypeRepo);
+    }
+
+    @Test
+    @DisplayName("Debe traducir la violación de identificación duplicada al actualizar")
+    void shouldTranslateDuplicateIdentificationOnUpdate() {
+        when(clientRepo.findById(10L)).thenReturn(Optional.of(managedAggregate(2L)));
+        doThrow(violation(JpaClientRepositoryAdapter.UK_IDENTIFICATION_NUMBER)).when(clientRepo).flush();
+
+        assertThrows(DuplicateIdentificationException.class, () -> adapter.save(existing("3001234567", true)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.devsu.user.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Este test valida la elección del costo de BCrypt con una medición simulada
+ * (1 ms en costo 4, duplicando por cada punto).
+ */
+class BCryptCostCalibratorTest {
+
+    private static final IntToLongFunction DOUBLING = cost -> Duration.ofMillis(1).toNanos() << (cost - 4);
+
+    @Test
+    @DisplayName("Debe elegir el mayor costo cuyo tiempo no supera el objetivo")
+    void shouldPickHighestCostWithinTarget() {
+        // costo 8 = 16 ms; costo 9 = 32 ms > 20 ms
+        assertEquals(8, BCryptCostCalibrator.calibrate(DOUBLING, Duration.ofMillis(20), 4, 14));
+    }
+
+    @Test
+    @DisplayName("Debe respetar los límites mínimo y máximo")
+    void shouldClampToBounds() {
+        assertEquals(10, BCryptCostCalibrator.calibrate(DOUBLING, Duration.ofMillis(1), 10, 14));
+        assertEquals(6, BCryptCostCalibrator.calibrate(DOUBLING, Duration.ofSeconds(10), 4, 6));
+    }
+}
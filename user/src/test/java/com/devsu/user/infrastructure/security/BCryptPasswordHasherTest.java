@@ -0,0 +1,164 @@
+package com.devsu.user.infrastructure.security;
+
+import com.devsu.user.application.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Este test valida el pool acotado de hashing:
+ * - El hash se calcula fuera del hilo llamador y se registra su latencia.
+ * - Con la cola llena, o al vencer el timeout, se descarta con PasswordHashingUnavailableException.
+ * - needsRehash detecta hashes con costo menor al vigente.
+ * - hashAll reparte la carga en el pool y conserva el orden de entrada.
+ * - Una importación en curso deja hilos libres para el hashing interactivo.
+ */
+class BCryptPasswordHasherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BCryptPasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) hasher.shutdown();
+    }
+
+    // Encoder que bloquea hasta que el test lo libera, para ocupar el pool de forma determinista
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence raw) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash(" + raw + ")";
+            }
+
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                return encoded.equals("hash(" + raw + ")");
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Debe calcular el hash en el pool y registrar la latencia")
+    void shouldHashOnPoolAndRecordLatency() {
+        var encoder = new BCryptPasswordEncoder(4);
+        hasher = new BCryptPasswordHasher(encoder, 4, 1, 4, 0,
+                Duration.ofSeconds(5), Duration.ofSeconds(1), registry);
+
+        String hash = hasher.hash("secret");
+
+        assertTrue(encoder.matches("secret", hash));
+        assertEquals(1, registry.get("password.hash.duration").tag("cost", "4").timer().count());
+        assertEquals(0.0, registry.get("password.hash.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe descartar con 503 cuando la cola está llena")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        var started = new CountDownLatch(1);
+        hasher = new BCryptPasswordHasher(blockingEncoder(started), 4, 1, 1, 0,
+                Duration.ofSeconds(5), Duration.ofSeconds(2), registry);
+
+        var running = CompletableFuture.supplyAsync(() -> hasher.hash("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        var queued = CompletableFuture.supplyAsync(() -> hasher.hash("b"));
+        while (registry.get("password.hash.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        var ex = assertThrows(PasswordHashingUnavailableException.class, () -> hasher.hash("c"));
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals(1.0, registry.get("password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hash(a)", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash(b)", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Debe descartar con 503 cuando la espera supera el timeout")
+    void shouldRejectOnTimeout() {
+        hasher = new BCryptPasswordHasher(blockingEncoder(new CountDownLatch(1)), 4, 1, 1, 0,
+                Duration.ofMillis(50), Duration.ofSeconds(1), registry);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> hasher.hash("a"));
+        assertEquals(1.0, registry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe pedir rehash de hashes con costo menor o formato desconocido")
+    void shouldDetectHashesToUpgrade() {
+        hasher = new BCryptPasswordHasher(new BCryptPasswordEncoder(5), 5, 1, 1, 0,
+                Duration.ofSeconds(5), Duration.ofSeconds(1), registry);
+
+        assertTrue(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("x")));
+        assertFalse(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("x")));
+        assertTrue(hasher.needsRehash("plain-text"));
+    }
+
+    @Test
+    @DisplayName("Debe hashear en lote conservando el orden")
+    void shouldHashAllPreservingOrder() {
+        var encoder = new BCryptPasswordEncoder(4);
+        hasher = new BCryptPasswordHasher(encoder, 4, 2, 1, 0,
+                Duration.ofSeconds(5), Duration.ofSeconds(1), registry);
+        var raws = List.of("a1", "b2", "c3", "d4", "e5");
+
+        var hashes = hasher.hashAll(raws);
+
+        assertEquals(raws.size(), hashes.size());
+        for (int i = 0; i < raws.size(); i++) {
+            assertTrue(encoder.matches(raws.get(i), hashes.get(i)));
+        }
+        assertEquals(5, registry.get("password.hash.duration").timer().count());
+    }
+
+    @Test
+    @DisplayName("Una importación en curso no hace esperar al hashing interactivo")
+    void shouldKeepAThreadForInteractiveHashesDuringBulk() throws Exception {
+        var started = new CountDownLatch(1);
+        PasswordEncoder blocking = blockingEncoder(started);
+        // Solo los hashes de la importación quedan bloqueados
+        PasswordEncoder encoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence raw) {
+                return raw.toString().startsWith("bulk") ? blocking.encode(raw) : "hash(" + raw + ")";
+            }
+
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                return encoded.equals("hash(" + raw + ")");
+            }
+        };
+        hasher = new BCryptPasswordHasher(encoder, 4, 2, 4, 0,
+                Duration.ofMillis(500), Duration.ofSeconds(1), registry);
+
+        var bulk = CompletableFuture.supplyAsync(() -> hasher.hashAll(List.of("bulk1", "bulk2", "bulk3")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals("hash(x)", hasher.hash("x"));
+        assertEquals(0.0, registry.get("password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertEquals(List.of("hash(bulk1)", "hash(bulk2)", "hash(bulk3)"), bulk.get(5, TimeUnit.SECONDS));
+    }
+}
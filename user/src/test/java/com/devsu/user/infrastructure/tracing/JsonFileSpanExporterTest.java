@@ -0,0 +1,90 @@
+package com.devsu.user.infrastructure.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas unitarias del exportador de spans a archivo: una línea JSON por span, relación padre-hijo y rotación.
+ */
+class JsonFileSpanExporterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @TempDir
+    Path dir;
+
+    private void trace(JsonFileSpanExporter exporter) {
+        try (var provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()) {
+            Tracer tracer = provider.get("test");
+            Span server = tracer.spanBuilder("http get /clientes/{id}").setSpanKind(SpanKind.SERVER).startSpan();
+            try (Scope ignored = server.makeCurrent()) {
+                tracer.spanBuilder("query")
+                        .setSpanKind(SpanKind.CLIENT)
+                        .setAttribute("jdbc.query[0]", "SELECT 1")
+                        .startSpan()
+                        .end();
+            } finally {
+                server.end();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cada span es una línea JSON; el hijo referencia al padre dentro de la misma traza")
+    void export_writesOneLinePerSpan() throws Exception {
+        Path file = dir.resolve("traces/spans.jsonl");
+
+        trace(new JsonFileSpanExporter(file, 1024 * 1024, objectMapper));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode query = objectMapper.readTree(lines.get(0));
+        JsonNode server = objectMapper.readTree(lines.get(1));
+
+        assertThat(server.get("kind").asText()).isEqualTo("SERVER");
+        assertThat(server.has("parentSpanId")).isFalse();
+        assertThat(query.get("traceId").asText()).isEqualTo(server.get("traceId").asText());
+        assertThat(query.get("parentSpanId").asText()).isEqualTo(server.get("spanId").asText());
+        assertThat(query.get("attributes").get("jdbc.query[0]").asText()).isEqualTo("SELECT 1");
+        assertThat(query.get("endTimeUnixNano").asLong()).isGreaterThanOrEqualTo(query.get("startTimeUnixNano").asLong());
+    }
+
+    @Test
+    @DisplayName("Al superar el tamaño máximo el archivo se rota a <archivo>.1")
+    void export_rotatesWhenFull() throws Exception {
+        Path file = dir.resolve("spans.jsonl");
+
+        trace(new JsonFileSpanExporter(file, 1, objectMapper));
+
+        assertThat(Files.readAllLines(file)).hasSize(1);
+        assertThat(Files.readAllLines(dir.resolve("spans.jsonl.1"))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Sin spans exportados no se crea el archivo")
+    void export_createsFileLazily() {
+        Path file = dir.resolve("spans.jsonl");
+
+        new JsonFileSpanExporter(file, 1024, objectMapper).shutdown();
+
+        assertThat(file).doesNotExist();
+    }
+}
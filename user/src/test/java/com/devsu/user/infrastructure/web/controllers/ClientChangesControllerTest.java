@@ -0,0 +1,89 @@
+package com.devsu.user.infrastructure.web.controllers;
+
+import com.devsu.user.application.exception.InvalidChangeCursorException;
+import com.devsu.user.application.result.ClientChangesResult;
+import com.devsu.user.application.service.GetClientChangesService;
+import com.devsu.user.infrastructure.web.dto.ClientChangeResponse;
+import com.devsu.user.infrastructure.web.dto.ClientChangesResponse;
+import com.devsu.user.infrastructure.web.exception.GlobalExceptionHandler;
+import com.devsu.user.infrastructure.web.mappers.ClientWebMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Este test cubre el feed GET /clientes/changes:
+ * - 200 OK con los cambios y el siguiente cursor.
+ * - Límite por defecto cuando no se envía limit.
+ * - 400 Bad Request cuando el cursor no tiene el formato "txid.id".
+ */
+@WebMvcTest(controllers = ClientChangesController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class ClientChangesControllerTest {
+
+    private static final String BASE = "/clientes/changes";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean private GetClientChangesService getClientChangesService;
+    @MockitoBean private ClientWebMapper clientWebMapper;
+
+    @Test
+    @DisplayName("GET /clientes/changes?since= -> 200 OK con cambios y nextCursor")
+    void changes_shouldReturn200() throws Exception {
+        var result = new ClientChangesResult(List.of(), "742.3");
+        var response = new ClientChangesResponse(List.of(
+                new ClientChangeResponse("742.3", "ANA-001", "DEACTIVATED", Instant.parse("2025-01-01T00:00:00Z"))),
+                "742.3");
+        Mockito.when(getClientChangesService.execute("740.1", 100)).thenReturn(result);
+        Mockito.when(clientWebMapper.toChangesResponse(result)).thenReturn(response);
+
+        mockMvc.perform(get(BASE).param("since", "740.1").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(1)))
+                .andExpect(jsonPath("$.items[0].clientId", is("ANA-001")))
+                .andExpect(jsonPath("$.items[0].type", is("DEACTIVATED")))
+                .andExpect(jsonPath("$.nextCursor", is("742.3")));
+    }
+
+    @Test
+    @DisplayName("GET /clientes/changes -> lee desde el inicio con el límite por defecto")
+    void changes_shouldUseDefaults() throws Exception {
+        var result = new ClientChangesResult(List.of(), "0.0");
+        Mockito.when(getClientChangesService.execute(null, GetClientChangesService.DEFAULT_LIMIT)).thenReturn(result);
+        Mockito.when(clientWebMapper.toChangesResponse(result)).thenReturn(new ClientChangesResponse(List.of(), "0.0"));
+
+        mockMvc.perform(get(BASE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor", is("0.0")));
+    }
+
+    @Test
+    @DisplayName("GET /clientes/changes?since=abc -> 400 Bad Request")
+    void changes_shouldReturn400_onInvalidCursor() throws Exception {
+        Mockito.when(getClientChangesService.execute("abc", GetClientChangesService.DEFAULT_LIMIT))
+                .thenThrow(new InvalidChangeCursorException("Invalid change cursor: abc"));
+
+        mockMvc.perform(get(BASE).param("since", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid change cursor: abc")));
+
+        verifyNoInteractions(clientWebMapper);
+    }
+}
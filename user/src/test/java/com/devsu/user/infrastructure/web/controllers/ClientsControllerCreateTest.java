@@ -2,11 +2,15 @@ package com.devsu.user.infrastructure.web.controllers;
 
 import com.devsu.user.application.command.CreateClientCommand;
 import com.devsu.user.application.exception.InvalidCatalogCodeException;
+import com.devsu.user.application.exception.PasswordHashingUnavailableException;
 import com.devsu.user.application.result.ClientResult;
 import com.devsu.user.application.service.CreateClientService;
 import com.devsu.user.application.service.DeleteClientService;
 import com.devsu.user.application.service.GetClientByClientIdService;
 import com.devsu.user.application.service.GetClientByIdService;
+import com.devsu.user.application.service.GetClientsByClientIdsService;
+import com.devsu.user.application.service.ImportClientsService;
+import com.devsu.user.application.service.SearchClientsService;
 import com.devsu.user.application.service.UpdateClientService;
 import com.devsu.user.infrastructure.web.dto.ClientResponse;
 import com.devsu.user.infrastructure.web.dto.CreateClientRequest;
@@ -39,7 +43,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 /**
  * Este test cubre el endpoint POST /clientes del ClientsController,
  * verificando estados 201, 400 (validación), 400 (JSON malformado),
- * 404 (catálogo inválido), 409 (violación de integridad) y 500 (genérico).
+ * 404 (catálogo inválido), 409 (violación de integridad), 503 (hashing saturado) y 500 (genérico).
  */
 @WebMvcTest(controllers = ClientsController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -55,7 +59,10 @@ class ClientsControllerCreateTest {
     @MockitoBean private UpdateClientService updateClientService;
     @MockitoBean private GetClientByIdService getClientByIdService;
     @MockitoBean private GetClientByClientIdService getClientByClientIdService;
+    @MockitoBean private GetClientsByClientIdsService getClientsByClientIdsService;
     @MockitoBean private DeleteClientService deleteClientService;
+    @MockitoBean private ImportClientsService importClientsService;
+    @MockitoBean private SearchClientsService searchClientsService;
     @MockitoBean private ClientWebMapper clientWebMapper;
 
     @Test
@@ -250,4 +257,35 @@ class ClientsControllerCreateTest {
                 .andExpect(jsonPath("$.message", is("Unexpected server error")))
                 .andExpect(jsonPath("$.path", is(BASE)));
     }
+
+    @Test
+    @DisplayName("POST /clientes -> 503 Service Unavailable con Retry-After si el hashing está saturado")
+    void should_return_503_when_hashing_is_saturated() throws Exception {
+        var req = new CreateClientRequest(
+                "Ana","Gómez","FEMALE",
+                LocalDate.parse("2000-01-01"),
+                "CC","1234567890",
+                "Calle 1 # 2-3","3001234567","pass123"
+        );
+        var cmd = new CreateClientCommand(
+                "Ana","Gómez","FEMALE",
+                LocalDate.parse("2000-01-01"),
+                "CC","1234567890",
+                "Calle 1 # 2-3","3001234567","pass123"
+        );
+
+        Mockito.when(clientWebMapper.toCommand(any(CreateClientRequest.class))).thenReturn(cmd);
+        Mockito.when(createClientService.execute(eq(cmd)))
+                .thenThrow(new PasswordHashingUnavailableException("Password hashing queue is full", 2));
+
+        mockMvc.perform(post(BASE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status", is(503)))
+                .andExpect(jsonPath("$.error", is("SERVICE_UNAVAILABLE")))
+                .andExpect(jsonPath("$.message", is("Password hashing queue is full")));
+    }
 }
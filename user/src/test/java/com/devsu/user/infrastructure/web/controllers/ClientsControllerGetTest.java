@@ -1,12 +1,17 @@
 package com.devsu.user.infrastructure.web.controllers;
 
 import com.devsu.user.application.exception.ClientNotFoundException;
+import com.devsu.user.application.result.ClientPageResult;
 import com.devsu.user.application.result.ClientResult;
 import com.devsu.user.application.service.CreateClientService;
 import com.devsu.user.application.service.DeleteClientService;
 import com.devsu.user.application.service.GetClientByClientIdService;
 import com.devsu.user.application.service.GetClientByIdService;
+import com.devsu.user.application.service.GetClientsByClientIdsService;
+import com.devsu.user.application.service.ImportClientsService;
+import com.devsu.user.application.service.SearchClientsService;
 import com.devsu.user.application.service.UpdateClientService;
+import com.devsu.user.infrastructure.web.dto.ClientPageResponse;
 import com.devsu.user.infrastructure.web.dto.ClientResponse;
 import com.devsu.user.infrastructure.web.exception.GlobalExceptionHandler;
 import com.devsu.user.infrastructure.web.mappers.ClientWebMapper;
@@ -17,22 +22,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * Esta clase valida los dos endpoints GET del ClientsController:
  * - GET /clientes/{id}
  * - GET /clientes/clientId/{clientId}
+ * (incluido ETag / If-None-Match), la consulta por lote POST /clientes/lookup y la búsqueda paginada GET /clientes.
  */
 @WebMvcTest(controllers = ClientsController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -48,7 +61,10 @@ class ClientsControllerGetTest {
     @MockitoBean private UpdateClientService updateClientService;
     @MockitoBean private GetClientByIdService getClientByIdService;
     @MockitoBean private GetClientByClientIdService getClientByClientIdService;
+    @MockitoBean private GetClientsByClientIdsService getClientsByClientIdsService;
     @MockitoBean private DeleteClientService deleteClientService;
+    @MockitoBean private ImportClientsService importClientsService;
+    @MockitoBean private SearchClientsService searchClientsService;
     @MockitoBean private ClientWebMapper clientWebMapper;
 
     @Test
@@ -150,4 +166,165 @@ class ClientsControllerGetTest {
 
         verifyNoInteractions(clientWebMapper);
     }
+
+    @Test
+    @DisplayName("GET /clientes/{id} -> 200 OK con ETag igual a la versión del cliente")
+    void getById_shouldReturnETag() throws Exception {
+        var result = versionedResult(7L);
+        Mockito.when(getClientByIdService.execute(10L)).thenReturn(result);
+        Mockito.when(clientWebMapper.toResponse(result)).thenReturn(response());
+
+        mockMvc.perform(get(BASE + "/{id}", 10L).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                .andExpect(jsonPath("$.clientId", is("ANA-001")));
+
+        // Sin If-None-Match no se consulta la versión por separado
+        verify(getClientByIdService, never()).currentVersion(any());
+    }
+
+    @Test
+    @DisplayName("GET /clientes/{id} con If-None-Match vigente -> 304 sin leer el cliente")
+    void getById_shouldReturn304_whenETagMatches() throws Exception {
+        Mockito.when(getClientByIdService.currentVersion(10L)).thenReturn(Optional.of(7L));
+
+        mockMvc.perform(get(BASE + "/{id}", 10L).header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                .andExpect(content().string(""));
+
+        verify(getClientByIdService, never()).execute(any());
+        verifyNoInteractions(clientWebMapper);
+    }
+
+    @Test
+    @DisplayName("GET /clientes/clientId/{clientId} con If-None-Match desactualizado -> 200 con el nuevo ETag")
+    void getByClientId_shouldReturn200_whenETagIsStale() throws Exception {
+        var result = versionedResult(8L);
+        Mockito.when(getClientByClientIdService.currentVersion("ANA-001")).thenReturn(Optional.of(8L));
+        Mockito.when(getClientByClientIdService.execute("ANA-001")).thenReturn(result);
+        Mockito.when(clientWebMapper.toResponse(result)).thenReturn(response());
+
+        mockMvc.perform(get(BASE + "/clientId/{clientId}", "ANA-001").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8\""))
+                .andExpect(jsonPath("$.clientId", is("ANA-001")));
+    }
+
+    @Test
+    @DisplayName("GET /clientes/clientId/{clientId} con If-None-Match de un cliente inexistente -> 404")
+    void getByClientId_shouldReturn404_whenRevalidatingMissingClient() throws Exception {
+        Mockito.when(getClientByClientIdService.currentVersion("NOPE")).thenReturn(Optional.empty());
+        Mockito.when(getClientByClientIdService.execute("NOPE")).thenThrow(new ClientNotFoundException("NOPE"));
+
+        mockMvc.perform(get(BASE + "/clientId/{clientId}", "NOPE").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotFound());
+    }
+
+    private static ClientResult versionedResult(long version) {
+        return new ClientResult(
+                10L, "Ana", "Gómez", "FEMALE",
+                LocalDate.parse("2000-01-01"),
+                "CC", "1234567890",
+                "Calle 1 # 2-3", "3001234567",
+                "ANA-001", true, version
+        );
+    }
+
+    private static ClientResponse response() {
+        return new ClientResponse(
+                10L, "Ana", "Gómez", "FEMALE",
+                LocalDate.parse("2000-01-01"), "CC", "1234567890",
+                "Calle 1 # 2-3", "3001234567",
+                "ANA-001", true
+        );
+    }
+
+    @Test
+    @DisplayName("POST /clientes/lookup -> 200 OK solo con los clientes encontrados")
+    void lookup_shouldReturn200WithFoundClients() throws Exception {
+        var result = new ClientResult(
+                22L, "Carlos", "López", "MALE",
+                LocalDate.parse("1995-05-05"),
+                "CE", "88888888",
+                "Av. 123", "3021112233",
+                "CAR-123", true
+        );
+        var resp = new ClientResponse(
+                22L, "Carlos", "López", "MALE",
+                LocalDate.parse("1995-05-05"), "CE", "88888888",
+                "Av. 123", "3021112233",
+                "CAR-123", true
+        );
+
+        Mockito.when(getClientsByClientIdsService.execute(List.of("CAR-123", "NOPE"))).thenReturn(List.of(result));
+        Mockito.when(clientWebMapper.toResponses(List.of(result))).thenReturn(List.of(resp));
+
+        mockMvc.perform(post(BASE + "/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"clientIds\": [\"CAR-123\", \"NOPE\"] }"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].clientId", is("CAR-123")));
+    }
+
+    @Test
+    @DisplayName("POST /clientes/lookup -> 400 Bad Request cuando la lista está vacía")
+    void lookup_shouldReturn400_whenEmpty() throws Exception {
+        mockMvc.perform(post(BASE + "/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"clientIds\": [] }"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(getClientsByClientIdsService, clientWebMapper);
+    }
+
+    @Test
+    @DisplayName("GET /clientes?query=&cursor= -> 200 OK con la página y el siguiente cursor")
+    void search_shouldReturn200WithPage() throws Exception {
+        var result = new ClientResult(
+                22L, "Carlos", "López", "MALE",
+                LocalDate.parse("1995-05-05"),
+                "CE", "88888888",
+                "Av. 123", "3021112233",
+                "CAR-123", true
+        );
+        var resp = new ClientResponse(
+                22L, "Carlos", "López", "MALE",
+                LocalDate.parse("1995-05-05"), "CE", "88888888",
+                "Av. 123", "3021112233",
+                "CAR-123", true
+        );
+        var page = new ClientPageResult(List.of(result), 22L);
+
+        Mockito.when(searchClientsService.execute("car", 10L, 1)).thenReturn(page);
+        Mockito.when(clientWebMapper.toPageResponse(page)).thenReturn(new ClientPageResponse(List.of(resp), 22L));
+
+        mockMvc.perform(get(BASE).param("query", "car").param("cursor", "10").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].clientId", is("CAR-123")))
+                .andExpect(jsonPath("$.nextCursor", is(22)));
+    }
+
+    @Test
+    @DisplayName("GET /clientes -> usa el tamaño de página por defecto sin query ni cursor")
+    void search_shouldUseDefaults() throws Exception {
+        var page = new ClientPageResult(List.of(), null);
+        Mockito.when(searchClientsService.execute(null, null, SearchClientsService.DEFAULT_PAGE_SIZE)).thenReturn(page);
+        Mockito.when(clientWebMapper.toPageResponse(page)).thenReturn(new ClientPageResponse(List.of(), null));
+
+        mockMvc.perform(get(BASE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(0)));
+    }
+
+    @Test
+    @DisplayName("GET /clientes?cursor=abc -> 400 Bad Request cuando el cursor no es numérico")
+    void search_shouldReturn400_onInvalidCursor() throws Exception {
+        mockMvc.perform(get(BASE).param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid value for parameter 'cursor'")));
+
+        verifyNoInteractions(searchClientsService);
+    }
 }
@@ -0,0 +1,143 @@
+package com.devsu.user.infrastructure.web.controllers;
+
+import com.devsu.user.application.command.CreateClientCommand;
+import com.devsu.user.application.command.ImportClientRow;
+import com.devsu.user.application.result.ImportClientsResult;
+import com.devsu.user.application.service.CreateClientService;
+import com.devsu.user.application.service.DeleteClientService;
+import com.devsu.user.application.service.GetClientByClientIdService;
+import com.devsu.user.application.service.GetClientByIdService;
+import com.devsu.user.application.service.GetClientsByClientIdsService;
+import com.devsu.user.application.service.ImportClientsService;
+import com.devsu.user.application.service.SearchClientsService;
+import com.devsu.user.application.service.UpdateClientService;
+import com.devsu.user.infrastructure.web.dto.CreateClientRequest;
+import com.devsu.user.infrastructure.web.dto.ImportClientsResponse;
+import com.devsu.user.infrastructure.web.dto.ImportRowErrorResponse;
+import com.devsu.user.infrastructure.web.exception.GlobalExceptionHandler;
+import com.devsu.user.infrastructure.web.mappers.ClientWebMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Este test cubre el endpoint POST /clientes/import del ClientsController:
+ * - CSV con encabezado y NDJSON se leen fila por fila (con número de línea) y se validan como CreateClientRequest.
+ * - 400 cuando al CSV le falta una columna requerida.
+ */
+@WebMvcTest(controllers = ClientsController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class ClientsControllerImportTest {
+
+    private static final String BASE = "/clientes/import";
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private CreateClientService createClientService;
+    @MockitoBean private UpdateClientService updateClientService;
+    @MockitoBean private GetClientByIdService getClientByIdService;
+    @MockitoBean private GetClientByClientIdService getClientByClientIdService;
+    @MockitoBean private GetClientsByClientIdsService getClientsByClientIdsService;
+    @MockitoBean private DeleteClientService deleteClientService;
+    @MockitoBean private ImportClientsService importClientsService;
+    @MockitoBean private SearchClientsService searchClientsService;
+    @MockitoBean private ClientWebMapper clientWebMapper;
+
+    private final List<ImportClientRow> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(clientWebMapper.toCommand(any(CreateClientRequest.class))).thenAnswer(inv -> {
+            CreateClientRequest r = inv.getArgument(0);
+            return new CreateClientCommand(r.firstName(), r.lastName(), r.gender(), r.birthDate(),
+                    r.identificationType(), r.identificationNumber(), r.address(), r.phone(), r.password());
+        });
+        // Se consume el iterador como lo haría el servicio y se retiene lo leído
+        Mockito.when(importClientsService.execute(any())).thenAnswer(inv -> {
+            Iterator<ImportClientRow> rows = inv.getArgument(0);
+            rows.forEachRemaining(received::add);
+            return new ImportClientsResult(received.size(), 1, received.size() - 1, List.of());
+        });
+        Mockito.when(clientWebMapper.toImportResponse(any(ImportClientsResult.class))).thenReturn(
+                new ImportClientsResponse(2, 1, 1, List.of(new ImportRowErrorResponse(3, "200", "firstName: must not be blank"))));
+    }
+
+    @Test
+    @DisplayName("POST /clientes/import (CSV) -> 200 con filas validadas y reporte")
+    void should_import_csv() throws Exception {
+        String csv = """
+                identificationNumber,firstName,lastName,gender,birthDate,identificationType,address,phone,password
+                100,Ana,Gómez,FEMALE,2000-01-01,CC,"Calle 1, # 2-3",3001234567,secret1
+
+                200,,Pérez,MALE,1990-05-05,CC,Calle 9,3000000000,secret2
+                """;
+
+        mockMvc.perform(post(BASE)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.errors[0].line", is(3)));
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).line()).isEqualTo(2);
+        assertThat(received.get(0).command().address()).isEqualTo("Calle 1, # 2-3");
+        assertThat(received.get(0).command().birthDate()).isEqualTo(LocalDate.parse("2000-01-01"));
+        assertThat(received.get(1).line()).isEqualTo(4);
+        assertThat(received.get(1).command()).isNull();
+        assertThat(received.get(1).identificationNumber()).isEqualTo("200");
+        assertThat(received.get(1).error()).startsWith("firstName:");
+    }
+
+    @Test
+    @DisplayName("POST /clientes/import (NDJSON) -> 200 y las líneas mal formadas se reportan")
+    void should_import_ndjson() throws Exception {
+        String ndjson = """
+                {"firstName":"Ana","lastName":"Gómez","gender":"FEMALE","birthDate":"2000-01-01","identificationType":"CC","identificationNumber":"100","address":"Calle 1","phone":"3001234567","password":"secret1"}
+                {"firstName":
+                """;
+
+        mockMvc.perform(post(BASE)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk());
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).command().identificationNumber()).isEqualTo("100");
+        assertThat(received.get(1).line()).isEqualTo(2);
+        assertThat(received.get(1).error()).isEqualTo("Malformed JSON");
+    }
+
+    @Test
+    @DisplayName("POST /clientes/import (CSV) -> 400 cuando falta una columna")
+    void should_return_400_when_csv_column_is_missing() throws Exception {
+        mockMvc.perform(post(BASE)
+                        .contentType("text/csv")
+                        .content("firstName,lastName\nAna,Gómez\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.message", is("CSV column is missing: gender")));
+
+        Mockito.verifyNoInteractions(importClientsService);
+    }
+}
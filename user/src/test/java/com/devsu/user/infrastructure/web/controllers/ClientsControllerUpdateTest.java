@@ -9,6 +9,9 @@ import com.devsu.user.application.service.CreateClientService;
 import com.devsu.user.application.service.DeleteClientService;
 import com.devsu.user.application.service.GetClientByClientIdService;
 import com.devsu.user.application.service.GetClientByIdService;
+import com.devsu.user.application.service.GetClientsByClientIdsService;
+import com.devsu.user.application.service.ImportClientsService;
+import com.devsu.user.application.service.SearchClientsService;
 import com.devsu.user.application.service.UpdateClientService;
 import com.devsu.user.infrastructure.web.dto.ClientResponse;
 import com.devsu.user.infrastructure.web.dto.UpdateClientRequest;
@@ -56,7 +59,10 @@ class ClientsControllerUpdateTest {
     @MockitoBean private UpdateClientService updateClientService;
     @MockitoBean private GetClientByIdService getClientByIdService;
     @MockitoBean private GetClientByClientIdService getClientByClientIdService;
+    @MockitoBean private GetClientsByClientIdsService getClientsByClientIdsService;
     @MockitoBean private DeleteClientService deleteClientService;
+    @MockitoBean private ImportClientsService importClientsService;
+    @MockitoBean private SearchClientsService searchClientsService;
     @MockitoBean private ClientWebMapper clientWebMapper;
 
     @Test
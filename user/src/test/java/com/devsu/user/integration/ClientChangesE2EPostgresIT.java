@@ -0,0 +1,172 @@
+package com.devsu.user.integration;
+
+import com.devsu.user.UserApplication;
+import com.devsu.user.application.port.CatalogQueryPort;
+import com.devsu.user.application.port.PasswordHasher;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas E2E del feed GET /clientes/changes (outbox client_changes).
+ * Se valida que PUT y DELETE registren sus cambios en orden, que el cursor avance sin repetir
+ * cambios y que una actualización rechazada (rollback) no deje rastro en el feed.
+ * Se habilita explícitamente con RUN_E2E=true.
+ */
+@Tag("e2e")
+@EnabledIfEnvironmentVariable(named = "RUN_E2E", matches = "true")
+@SpringBootTest(classes = UserApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+@Testcontainers
+class ClientChangesE2EPostgresIT {
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper mapper;
+
+    @MockitoBean private PasswordHasher passwordHasher;
+    @MockitoBean private CatalogQueryPort catalogQuery;
+
+    private static final String BASE = "/clientes";
+    private static final AtomicLong SEQ = new AtomicLong(4_000_000_000L); // números de identificación únicos
+
+    @BeforeEach
+    void setup() {
+        when(passwordHasher.hash(anyString())).thenAnswer(inv -> "hash(" + inv.getArgument(0) + ")");
+        when(catalogQuery.genderExists(anyString())).thenReturn(true);
+        when(catalogQuery.identificationTypeExists(anyString())).thenReturn(true);
+    }
+
+    private record Created(long id, String clientId, String identificationNumber) {}
+
+    private ObjectNode body(String identificationNumber) {
+        var node = mapper.createObjectNode();
+        node.put("firstName", "Ana");
+        node.put("lastName", "Gómez");
+        node.put("gender", "FEMALE");
+        node.put("birthDate", "2000-01-01");
+        node.put("identificationType", "CC");
+        node.put("identificationNumber", identificationNumber);
+        node.put("address", "Calle 1 # 2-3");
+        node.put("phone", "3001234567");
+        return node;
+    }
+
+    private Created crearCliente() throws Exception {
+        String identification = String.valueOf(SEQ.getAndIncrement());
+        String response = mockMvc.perform(post(BASE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(body(identification).put("password", "superSecret!"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode tree = mapper.readTree(response);
+        return new Created(tree.get("id").asLong(), tree.get("clientId").asText(), identification);
+    }
+
+    private JsonNode changes(String since) throws Exception {
+        var request = get(BASE + "/changes").param("limit", "2");
+        if (since != null) request.param("since", since);
+        return mapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    // Se recorre el feed página a página desde since; retorna los cambios y el cursor final
+    private List<JsonNode> drain(String since, String[] cursorOut) throws Exception {
+        List<JsonNode> items = new ArrayList<>();
+        String cursor = since;
+        while (true) {
+            JsonNode page = changes(cursor);
+            page.get("items").forEach(items::add);
+            cursor = page.get("nextCursor").asText();
+            if (page.get("items").isEmpty()) break;
+        }
+        cursorOut[0] = cursor;
+        return items;
+    }
+
+    @Test
+    @DisplayName("PUT y DELETE se publican en orden; el cursor no repite cambios")
+    void updateAndDelete_arePublishedInOrder() throws Exception {
+        var client = crearCliente();
+        String[] head = new String[1];
+        drain(null, head);
+
+        mockMvc.perform(put(BASE + "/{id}", client.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(body(client.identificationNumber()).put("phone", "3118887766"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete(BASE + "/{id}", client.id()))
+                .andExpect(status().isNoContent());
+        // Segunda baja: idempotente, no publica nada
+        mockMvc.perform(delete(BASE + "/{id}", client.id()))
+                .andExpect(status().isNoContent());
+
+        String[] next = new String[1];
+        List<JsonNode> items = drain(head[0], next);
+
+        assertThat(items).extracting(i -> i.get("clientId").asText()).containsOnly(client.clientId());
+        assertThat(items).extracting(i -> i.get("type").asText()).containsExactly("UPDATED", "DEACTIVATED");
+        assertThat(next[0]).isEqualTo(items.get(1).get("cursor").asText());
+
+        // Desde el último cursor no hay cambios nuevos y el cursor se conserva
+        JsonNode empty = changes(next[0]);
+        assertThat(empty.get("items")).isEmpty();
+        assertThat(empty.get("nextCursor").asText()).isEqualTo(next[0]);
+    }
+
+    @Test
+    @DisplayName("Una actualización rechazada (409) no publica cambios")
+    void rejectedUpdate_isNotPublished() throws Exception {
+        var existing = crearCliente();
+        var client = crearCliente();
+        String[] head = new String[1];
+        drain(null, head);
+
+        mockMvc.perform(put(BASE + "/{id}", client.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(body(existing.identificationNumber()))))
+                .andExpect(status().isConflict());
+
+        String[] next = new String[1];
+        assertThat(drain(head[0], next)).isEmpty();
+        assertThat(next[0]).isEqualTo(head[0]);
+    }
+
+    @Test
+    @DisplayName("GET /clientes/changes?since=abc → 400 Bad Request")
+    void invalidCursor_returns400() throws Exception {
+        mockMvc.perform(get(BASE + "/changes").param("since", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -5,6 +5,7 @@ import com.devsu.user.application.port.CatalogQueryPort;
 import com.devsu.user.application.port.PasswordHasher;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -14,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -22,6 +24,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -30,12 +33,14 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * Pruebas E2E del consumo de los endpoints GET de ClientsController:
  * - GET /clientes/{id}
- * - GET /clientes/clientId/{clientId}
+ * - GET /clientes/clientId/{clientId} (incluido ETag / If-None-Match)
+ * - GET /clientes?query=&cursor= (búsqueda con paginación por keyset)
  *
  * Se levanta el contexto completo con PostgreSQL efímero (Testcontainers).
  * Se mockean únicamente puertos externos (PasswordHasher y CatalogQueryPort).
@@ -114,6 +119,8 @@ class ClientsGetE2EPostgresIT {
         mockMvc.perform(get(BASE + "/{id}", ids.id()))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("Server-Timing",
+                        matchesPattern("db;dur=\\d+\\.\\d, json;dur=\\d+\\.\\d, app;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d")))
                 .andExpect(jsonPath("$.id", is((int) ids.id())))
                 .andExpect(jsonPath("$.clientId", is(ids.clientId())))
                 .andExpect(jsonPath("$.firstName", is("Ana")));
@@ -158,4 +165,79 @@ class ClientsGetE2EPostgresIT {
                 .andExpect(jsonPath("$.status", is(404)))
                 .andExpect(jsonPath("$.error", is("NOT_FOUND")));
     }
+
+    @Test
+    @DisplayName("GET /clientes?query= → pagina por keyset los clientes que coinciden por apellido")
+    void search_pagesByKeyset() throws Exception {
+        String lastName = "Keyset" + SEQ.getAndIncrement();
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post(BASE)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(jsonCreate(Map.of("lastName", lastName))))
+                    .andExpect(status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(get(BASE).param("query", lastName.toLowerCase()).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.items[0].lastName", is(lastName)))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        long cursor = mapper.readTree(firstPage).get("nextCursor").asLong();
+
+        mockMvc.perform(get(BASE).param("query", lastName).param("size", "2").param("cursor", String.valueOf(cursor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(1)))
+                .andExpect(jsonPath("$.items[0].id", greaterThan((int) cursor)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /clientes?query= → coincidencia exacta por número de identificación")
+    void search_byIdentificationNumber() throws Exception {
+        var ids = crearCliente();
+        String identification = mapper.readTree(mockMvc.perform(get(BASE + "/{id}", ids.id()))
+                .andReturn().getResponse().getContentAsString()).get("identificationNumber").asText();
+
+        mockMvc.perform(get(BASE).param("query", identification))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(1)))
+                .andExpect(jsonPath("$.items[0].clientId", is(ids.clientId())))
+                .andExpect(jsonPath("$.items[0].gender", is("FEMALE")));
+    }
+
+    @Test
+    @DisplayName("GET con If-None-Match → 304 mientras no cambie; tras un PUT → 200 con nuevo ETag")
+    void conditionalGet_revalidatesWithETag() throws Exception {
+        var ids = crearCliente();
+
+        var first = mockMvc.perform(get(BASE + "/clientId/{clientId}", ids.clientId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        // Mismo ETag en ambos endpoints y 304 sin cuerpo
+        mockMvc.perform(get(BASE + "/{id}", ids.id()))
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get(BASE + "/clientId/{clientId}", ids.clientId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string("Server-Timing", startsWith("db;dur=")))
+                .andExpect(content().string(""));
+
+        // Se modifica el teléfono: la versión de persons sube y el ETag cambia
+        var update = (ObjectNode) mapper.readTree(first.getContentAsString());
+        update.remove(List.of("id", "clientId", "status"));
+        update.put("phone", "3119998877");
+        mockMvc.perform(put(BASE + "/{id}", ids.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(BASE + "/clientId/{clientId}", ids.clientId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.phone", is("3119998877")));
+    }
 }
@@ -0,0 +1,98 @@
+package com.devsu.user.integration;
+
+import com.devsu.user.UserApplication;
+import com.devsu.user.application.port.CatalogQueryPort;
+import com.devsu.user.application.port.PasswordHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prueba E2E de POST /clientes/import contra PostgreSQL efímero (Testcontainers).
+ * Se verifica la inserción en batches JDBC (persons + clients con sus claves generadas)
+ * y el reporte de filas rechazadas por identificación ya registrada o repetida.
+ * Se habilita explícitamente con RUN_E2E=true.
+ */
+@Tag("e2e")
+@EnabledIfEnvironmentVariable(named = "RUN_E2E", matches = "true")
+@SpringBootTest(classes = UserApplication.class, properties = "clients.import.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+@Testcontainers
+class ClientsImportE2EPostgresIT {
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private PasswordHasher passwordHasher;
+    @MockitoBean private CatalogQueryPort catalogQuery;
+
+    @BeforeEach
+    void setup() {
+        when(passwordHasher.hash(anyString())).thenAnswer(inv -> "hash(" + inv.getArgument(0) + ")");
+        when(passwordHasher.hashAll(anyList())).thenAnswer(inv -> ((List<String>) inv.getArgument(0))
+                .stream().map(raw -> "hash(" + raw + ")").toList());
+        when(catalogQuery.genderExists(anyString())).thenReturn(true);
+        when(catalogQuery.identificationTypeExists(anyString())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("POST /clientes/import → inserta en lote y reporta duplicadas")
+    void import_csv_insertsInBatchesAndReportsDuplicates() throws Exception {
+        String csv = """
+                firstName,lastName,gender,birthDate,identificationType,identificationNumber,address,phone,password
+                Ana,Gómez,FEMALE,2000-01-01,CC,4000000001,Calle 1,3001234567,secret1
+                Luis,Pérez,MALE,1990-05-05,CC,4000000002,Calle 2,3001234568,secret2
+                Eva,Ruiz,FEMALE,1985-02-02,CE,4000000003,Calle 3,3001234569,secret3
+                Eva,Ruiz,FEMALE,1985-02-02,CE,4000000003,Calle 3,3001234569,secret3
+                """;
+
+        mockMvc.perform(post("/clientes/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(4)))
+                .andExpect(jsonPath("$.imported", is(3)))
+                .andExpect(jsonPath("$.errors[0].line", is(5)))
+                .andExpect(jsonPath("$.errors[0].error", is("Identification repeated in file: 4000000003")));
+
+        // Reimportar el mismo archivo: todas las filas ya existen
+        mockMvc.perform(post("/clientes/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(0)))
+                .andExpect(jsonPath("$.failed", is(4)));
+
+        Integer clients = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM clients c JOIN persons p ON p.id = c.person_id
+                WHERE p.identification_number LIKE '400000000%' AND c.password_hash LIKE 'hash(%' AND c.active
+                """, Integer.class);
+        assertThat(clients).isEqualTo(3);
+    }
+}
@@ -0,0 +1,153 @@
+package com.devsu.user.integration;
+
+import com.devsu.user.UserApplication;
+import com.devsu.user.application.port.CatalogQueryPort;
+import com.devsu.user.application.port.PasswordHasher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas E2E de PUT y DELETE /clientes/{id} con conteo de sentencias SQL.
+ * Se fija que la actualización lea el agregado una sola vez y emita un UPDATE mínimo
+ * (solo la tabla y las columnas modificadas), sin SELECT/merge adicionales.
+ * Se habilita explícitamente con RUN_E2E=true.
+ */
+@Tag("e2e")
+@EnabledIfEnvironmentVariable(named = "RUN_E2E", matches = "true")
+@SpringBootTest(classes = UserApplication.class, properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.devsu.user.integration.SqlStatementRecorder")
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+@Testcontainers
+class ClientsUpdateE2EPostgresIT {
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper mapper;
+
+    @MockitoBean private PasswordHasher passwordHasher;
+    @MockitoBean private CatalogQueryPort catalogQuery;
+
+    private static final String BASE = "/clientes";
+    private static final AtomicLong SEQ = new AtomicLong(3_000_000_000L); // números de identificación únicos
+
+    @BeforeEach
+    void setup() {
+        when(passwordHasher.hash(anyString())).thenAnswer(inv -> "hash(" + inv.getArgument(0) + ")");
+        when(catalogQuery.genderExists(anyString())).thenReturn(true);
+        when(catalogQuery.identificationTypeExists(anyString())).thenReturn(true);
+    }
+
+    private ObjectNode body(String identificationNumber) {
+        var node = mapper.createObjectNode();
+        node.put("firstName", "Ana");
+        node.put("lastName", "Gómez");
+        node.put("gender", "FEMALE");
+        node.put("birthDate", "2000-01-01");
+        node.put("identificationType", "CC");
+        node.put("identificationNumber", identificationNumber);
+        node.put("address", "Calle 1 # 2-3");
+        node.put("phone", "3001234567");
+        return node;
+    }
+
+    private long crearCliente(String identificationNumber) throws Exception {
+        var json = body(identificationNumber).put("password", "superSecret!");
+        String response = mockMvc.perform(post(BASE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(json)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return mapper.readTree(response).get("id").asLong();
+    }
+
+    @Test
+    @DisplayName("PUT /clientes/{id} cambiando solo el teléfono → 1 SELECT + UPDATE persons(phone)")
+    void update_onlyPhone_emitsMinimalUpdate() throws Exception {
+        String identification = String.valueOf(SEQ.getAndIncrement());
+        long id = crearCliente(identification);
+
+        SqlStatementRecorder.reset();
+        mockMvc.perform(put(BASE + "/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(body(identification).put("phone", "3109999999"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phone", is("3109999999")));
+
+        assertThat(SqlStatementRecorder.statements("select")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("update"))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql)
+                        .startsWith("update persons set phone=")
+                        .contains("version=") // @Version: se incrementa y se valida en el WHERE
+                        .doesNotContain("first_name", "address", "identification_number", "gender_id"));
+        assertThat(SqlStatementRecorder.statements()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("PUT /clientes/{id} sin cambios → solo el SELECT, ningún UPDATE")
+    void update_noChanges_emitsNoUpdate() throws Exception {
+        String identification = String.valueOf(SEQ.getAndIncrement());
+        long id = crearCliente(identification);
+
+        SqlStatementRecorder.reset();
+        mockMvc.perform(put(BASE + "/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(body(identification))))
+                .andExpect(status().isOk());
+
+        assertThat(SqlStatementRecorder.statements()).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("update")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DELETE /clientes/{id} → 1 SELECT + UPDATE clients(active)")
+    void delete_emitsSingleFlagUpdate() throws Exception {
+        long id = crearCliente(String.valueOf(SEQ.getAndIncrement()));
+
+        SqlStatementRecorder.reset();
+        mockMvc.perform(delete(BASE + "/{id}", id))
+                .andExpect(status().isNoContent());
+
+        assertThat(SqlStatementRecorder.statements("select")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("update"))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql)
+                        .startsWith("update clients set active=")
+                        .doesNotContain("password_hash"));
+        assertThat(SqlStatementRecorder.statements()).hasSize(2);
+
+        mockMvc.perform(get(BASE + "/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is(false)));
+    }
+}
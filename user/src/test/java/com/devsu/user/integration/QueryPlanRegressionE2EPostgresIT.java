@@ -0,0 +1,152 @@
+package com.devsu.user.integration;
+
+import com.devsu.user.UserApplication;
+import com.devsu.user.infrastructure.persistence.repository.ClientJpaRepository;
+import com.devsu.user.support.QueryPlanBaseline;
+import com.devsu.user.support.QueryPlans;
+import com.devsu.user.support.QueryPlans.QueryPlan;
+import com.devsu.user.support.SqlStatementCounter;
+import com.devsu.user.support.SqlStatementCounter.Execution;
+import com.devsu.user.support.SqlStatementCounterConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regresión de planes de ejecución de las consultas de ClientJpaRepository.
+ * - Se siembran personas y clientes con la distribución de catálogos sesgada (la mayoría con el primer
+ *   género y tipo de identificación), como en los datos reales.
+ * - Cada método del repositorio se ejecuta una vez para capturar el SQL que genera Hibernate con sus
+ *   parámetros, y luego se repite con EXPLAIN (ANALYZE, BUFFERS) en una transacción que se revierte.
+ * - Se compara contra src/test/resources/query-plans/baseline.json: Seq Scan fuera de la lista permitida,
+ *   sorts de más o en disco, un índice esperado que deja de usarse o un presupuesto excedido fallan la prueba.
+ * Los planes quedan en build/query-plans. Se habilita explícitamente con RUN_E2E=true.
+ */
+@Tag("e2e")
+@EnabledIfEnvironmentVariable(named = "RUN_E2E", matches = "true")
+@SpringBootTest(classes = UserApplication.class)
+@Import(SqlStatementCounterConfiguration.class)
+@ActiveProfiles("it")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionE2EPostgresIT {
+
+    private static final int CLIENTS = 200_000;
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private ClientJpaRepository clientRepo;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private QueryPlanBaseline baseline;
+
+    private long clientId;
+    private String clientBusinessId;
+    private String identificationNumber;
+
+    @BeforeAll
+    void seed() {
+        // Nueve de cada diez personas con el primer género y tipo de identificación del catálogo
+        jdbcTemplate.update("""
+                INSERT INTO persons (first_name, last_name, birth_date, address, phone,
+                                     identification_number, gender_id, identification_type_id)
+                SELECT (ARRAY['Ana','Luis','Carlos','María','Jorge','Lucía','Pedro','Sofía','Diego','Valentina'])[1 + g % 10],
+                       (ARRAY['Gómez','Pérez','Rodríguez','López','Martínez'])[1 + (g / 10) % 5] || '-' || substr(md5(g::text), 1, 8),
+                       DATE '1960-01-01' + (g % 15000)::int,
+                       'Calle ' || (g % 200) || ' # ' || (g % 97),
+                       '300' || lpad((g % 10000000)::text, 7, '0'),
+                       'PLAN' || g,
+                       CASE WHEN g % 10 = 0 THEN (SELECT max(id) FROM genders) ELSE (SELECT min(id) FROM genders) END,
+                       CASE WHEN g % 10 = 0 THEN (SELECT max(id) FROM identification_types) ELSE (SELECT min(id) FROM identification_types) END
+                FROM generate_series(1, ?) AS g
+                """, CLIENTS);
+        jdbcTemplate.update("""
+                INSERT INTO clients (person_id, client_id, password_hash, active)
+                SELECT id, 'PLAN-' || id, '{plan}HASH', id % 20 <> 0 FROM persons WHERE identification_number LIKE 'PLAN%'
+                """);
+        jdbcTemplate.execute("ANALYZE persons");
+        jdbcTemplate.execute("ANALYZE clients");
+
+        clientId = jdbcTemplate.queryForObject("SELECT min(id) + (max(id) - min(id)) / 2 FROM clients", Long.class);
+        clientBusinessId = jdbcTemplate.queryForObject("SELECT client_id FROM clients WHERE id = ?", String.class, clientId);
+        identificationNumber = jdbcTemplate.queryForObject("""
+                SELECT p.identification_number FROM persons p JOIN clients c ON c.person_id = p.id WHERE c.id = ?
+                """, String.class, clientId);
+
+        baseline = QueryPlanBaseline.load("query-plans/baseline.json", Path.of("build", "query-plans"));
+    }
+
+    @AfterAll
+    void writeObserved() {
+        if (baseline != null) baseline.writeObserved();
+    }
+
+    Stream<Arguments> queries() {
+        return Stream.of(
+                query("ClientJpaRepository.findByIdWithPerson", () -> clientRepo.findByIdWithPerson(clientId)),
+                query("ClientJpaRepository.findByClientIdWithPerson", () -> clientRepo.findByClientIdWithPerson(clientBusinessId)),
+                query("ClientJpaRepository.existsByPersonIdentificationNumber",
+                        () -> clientRepo.existsByPersonIdentificationNumber(identificationNumber)),
+                // Sin entity graph: la persona (EAGER) se carga con una segunda consulta por id
+                query("ClientJpaRepository.findByClientId", () -> clientRepo.findByClientId(clientBusinessId)));
+    }
+
+    private static Arguments query(String name, Runnable call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void planMatchesBaseline(String name, Runnable call) {
+        List<QueryPlan> plans = explain(capture(call));
+
+        assertThat(baseline.violations(name, plans))
+                .as(() -> plans.stream().map(p -> p.sql() + "\n" + p.shape()).reduce("", String::concat))
+                .isEmpty();
+    }
+
+    // Se ejecuta el método del repositorio solo para capturar sus sentencias; la transacción se revierte
+    private List<Execution> capture(Runnable call) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return SqlStatementCounter.count(call).executions();
+        });
+    }
+
+    private List<QueryPlan> explain(List<Execution> executions) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return jdbcTemplate.execute((ConnectionCallback<List<QueryPlan>>) connection -> {
+                List<QueryPlan> plans = new ArrayList<>();
+                for (Execution execution : executions) plans.add(QueryPlans.explain(connection, execution));
+                return plans;
+            });
+        });
+    }
+}
@@ -0,0 +1,197 @@
+package com.devsu.user.integration;
+
+import com.devsu.user.UserApplication;
+import com.devsu.user.application.command.CreateClientCommand;
+import com.devsu.user.application.command.ImportClientRow;
+import com.devsu.user.application.command.UpdateClientCommand;
+import com.devsu.user.application.port.CatalogQueryPort;
+import com.devsu.user.application.port.PasswordHasher;
+import com.devsu.user.application.result.ClientResult;
+import com.devsu.user.application.service.CreateClientService;
+import com.devsu.user.application.service.DeleteClientService;
+import com.devsu.user.application.service.GetClientByClientIdService;
+import com.devsu.user.application.service.GetClientByIdService;
+import com.devsu.user.application.service.GetClientChangesService;
+import com.devsu.user.application.service.GetClientsByClientIdsService;
+import com.devsu.user.application.service.ImportClientsService;
+import com.devsu.user.application.service.SearchClientsService;
+import com.devsu.user.application.service.UpdateClientService;
+import com.devsu.user.support.SqlStatementCounter;
+import com.devsu.user.support.SqlStatementCounter.Statements;
+import com.devsu.user.support.SqlStatementCounterConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Presupuesto de sentencias JDBC por caso de uso (com.devsu.user.application.service).
+ * Se invoca cada servicio directamente y se fija cuántas sentencias ejecuta y de qué tipo;
+ * una relación perezosa, un N+1 o un SELECT extra antes de un UPDATE rompen la prueba.
+ * Si un cambio mejora o empeora el conteo de forma intencional, se actualiza el número aquí.
+ * Se habilita explícitamente con RUN_E2E=true.
+ */
+@Tag("e2e")
+@EnabledIfEnvironmentVariable(named = "RUN_E2E", matches = "true")
+@SpringBootTest(classes = UserApplication.class)
+@Import(SqlStatementCounterConfiguration.class)
+@ActiveProfiles("it")
+@Testcontainers
+class SqlStatementCountE2EPostgresIT {
+
+    @ServiceConnection
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private CreateClientService createClient;
+    @Autowired private UpdateClientService updateClient;
+    @Autowired private DeleteClientService deleteClient;
+    @Autowired private GetClientByIdService getClientById;
+    @Autowired private GetClientByClientIdService getClientByClientId;
+    @Autowired private GetClientsByClientIdsService getClientsByClientIds;
+    @Autowired private SearchClientsService searchClients;
+    @Autowired private GetClientChangesService getClientChanges;
+    @Autowired private ImportClientsService importClients;
+
+    @MockitoBean private PasswordHasher passwordHasher;
+    @MockitoBean private CatalogQueryPort catalogQuery;
+
+    private static final AtomicLong SEQ = new AtomicLong(5_000_000_000L); // números de identificación únicos
+
+    @BeforeEach
+    void setup() {
+        when(passwordHasher.hash(anyString())).thenAnswer(inv -> "hash(" + inv.getArgument(0) + ")");
+        when(passwordHasher.hashAll(anyList())).thenAnswer(inv -> ((List<String>) inv.getArgument(0))
+                .stream().map(raw -> "hash(" + raw + ")").toList());
+        when(catalogQuery.genderExists(anyString())).thenReturn(true);
+        when(catalogQuery.identificationTypeExists(anyString())).thenReturn(true);
+    }
+
+    private static CreateClientCommand createCommand(String identificationNumber) {
+        return new CreateClientCommand("Ana", "Gómez", "FEMALE", LocalDate.of(2000, 1, 1), "CC",
+                identificationNumber, "Calle 1 # 2-3", "3001234567", "superSecret!");
+    }
+
+    private static UpdateClientCommand updateCommand(ClientResult client, String identificationNumber, String phone) {
+        return new UpdateClientCommand(client.id(), client.firstName(), client.lastName(), client.gender(),
+                client.birthDate(), client.identificationType(), identificationNumber, client.address(), phone, null);
+    }
+
+    private ClientResult nuevoCliente() {
+        return createClient.execute(createCommand(String.valueOf(SEQ.getAndIncrement())));
+    }
+
+    @Test
+    @DisplayName("CreateClientService → INSERT persons + INSERT clients (catálogos desde la caché)")
+    void createClient() {
+        Statements statements = SqlStatementCounter.count(
+                () -> createClient.execute(createCommand(String.valueOf(SEQ.getAndIncrement()))));
+
+        assertThat(statements.total()).as(statements.toString()).isEqualTo(2);
+        assertThat(statements.inserts()).as(statements.toString()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("UpdateClientService cambiando el teléfono → SELECT + UPDATE persons + INSERT client_changes")
+    void updateClient_phoneOnly() {
+        ClientResult client = nuevoCliente();
+
+        Statements statements = SqlStatementCounter.count(() -> updateClient.execute(
+                updateCommand(client, client.identificationNumber(), "3109999999")));
+
+        assertThat(statements.total()).as(statements.toString()).isEqualTo(3);
+        assertThat(statements.selects()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.updates()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.inserts()).as(statements.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UpdateClientService cambiando la identificación → además el SELECT de unicidad")
+    void updateClient_identificationChanged() {
+        ClientResult client = nuevoCliente();
+
+        Statements statements = SqlStatementCounter.count(() -> updateClient.execute(
+                updateCommand(client, String.valueOf(SEQ.getAndIncrement()), client.phone())));
+
+        assertThat(statements.total()).as(statements.toString()).isEqualTo(4);
+        assertThat(statements.selects()).as(statements.toString()).isEqualTo(2);
+        assertThat(statements.updates()).as(statements.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DeleteClientService → SELECT + UPDATE clients + INSERT client_changes; si ya está inactivo solo el SELECT")
+    void deleteClient() {
+        ClientResult client = nuevoCliente();
+
+        Statements first = SqlStatementCounter.count(() -> deleteClient.execute(client.id()));
+        Statements second = SqlStatementCounter.count(() -> deleteClient.execute(client.id()));
+
+        assertThat(first.total()).as(first.toString()).isEqualTo(3);
+        assertThat(first.updates()).as(first.toString()).isEqualTo(1);
+        assertThat(second.total()).as(second.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Lecturas por id, clientId, versión y lote → una sentencia cada una")
+    void reads_singleStatement() {
+        ClientResult a = nuevoCliente();
+        ClientResult b = nuevoCliente();
+
+        assertThat(SqlStatementCounter.count(() -> getClientById.execute(a.id())).total()).isEqualTo(1);
+        assertThat(SqlStatementCounter.count(() -> getClientById.currentVersion(a.id())).total()).isEqualTo(1);
+        assertThat(SqlStatementCounter.count(() -> getClientByClientId.execute(a.clientId())).total()).isEqualTo(1);
+        assertThat(SqlStatementCounter.count(() -> getClientByClientId.currentVersion(a.clientId())).total()).isEqualTo(1);
+        // El lote resuelve todos los clientIds en una consulta (sin N+1)
+        assertThat(SqlStatementCounter.count(
+                () -> getClientsByClientIds.execute(List.of(a.clientId(), b.clientId(), a.clientId()))).total())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SearchClientsService y GetClientChangesService → una sentencia por página")
+    void pages_singleStatement() {
+        ClientResult client = nuevoCliente();
+        deleteClient.execute(client.id());
+
+        assertThat(SqlStatementCounter.count(() -> searchClients.execute(null, null, 20)).total()).isEqualTo(1);
+        assertThat(SqlStatementCounter.count(() -> searchClients.execute("Gómez", null, 20)).total()).isEqualTo(1);
+        assertThat(SqlStatementCounter.count(() -> getClientChanges.execute(null, 100)).total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ImportClientsService → por chunk: SELECT de existentes + batch persons + batch clients")
+    void importClients() {
+        ClientResult existing = nuevoCliente();
+        List<ImportClientRow> rows = List.of(
+                ImportClientRow.valid(2, createCommand(String.valueOf(SEQ.getAndIncrement()))),
+                ImportClientRow.valid(3, createCommand(String.valueOf(SEQ.getAndIncrement()))),
+                ImportClientRow.valid(4, createCommand(String.valueOf(SEQ.getAndIncrement()))),
+                ImportClientRow.valid(5, createCommand(existing.identificationNumber())));
+
+        Statements statements = SqlStatementCounter.count(() -> importClients.execute(rows.iterator()));
+
+        // executeBatch cuenta como una sentencia: el costo no crece con las filas del chunk
+        assertThat(statements.total()).as(statements.toString()).isEqualTo(3);
+        assertThat(statements.selects()).as(statements.toString()).isEqualTo(1);
+        assertThat(statements.inserts()).as(statements.toString()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,36 @@
+package com.devsu.user.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * StatementInspector de Hibernate para pruebas: registra cada SQL que se prepara.
+ * Se habilita con la propiedad spring.jpa.properties.hibernate.session_factory.statement_inspector
+ * y permite fijar cuántas sentencias (y cuáles columnas) emite cada caso de uso.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    // Se filtran las sentencias por prefijo (select, update, insert, ...)
+    public static List<String> statements(String prefix) {
+        return STATEMENTS.stream().filter(s -> s.startsWith(prefix)).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.devsu.user.support;
+
+import com.devsu.user.support.QueryPlans.QueryPlan;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Planes esperados por consulta (src/test/resources/query-plans/baseline.json).
+ * - Por sentencia: índices que deben aparecer, sorts permitidos y tablas en las que se tolera un Seq Scan
+ *   (catálogos de pocas filas). Un sort en disco nunca se tolera.
+ * - Por consulta: presupuesto de tiempo de ejecución (ms) y de buffers compartidos (hit + read).
+ * Los planes observados se escriben en build/query-plans (JSON completo, forma y un baseline.json
+ * con lo observado) para adjuntarlos al cambio cuando un plan cambia a propósito.
+ */
+public final class QueryPlanBaseline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public record Expected(double budgetMs, long maxBuffers, List<StatementExpectation> statements) {
+    }
+
+    public record StatementExpectation(List<String> indexes, int sorts, List<String> seqScans) {
+    }
+
+    private final Map<String, Expected> queries;
+    private final Map<String, Expected> observed = new TreeMap<>();
+    private final Path outputDir;
+
+    private QueryPlanBaseline(Map<String, Expected> queries, Path outputDir) {
+        this.queries = queries;
+        this.outputDir = outputDir;
+    }
+
+    public static QueryPlanBaseline load(String resource, Path outputDir) {
+        try (InputStream in = QueryPlanBaseline.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) throw new IllegalStateException("No existe el recurso " + resource);
+            Map<String, Expected> queries = MAPPER.readValue(in, new TypeReference<TreeMap<String, Expected>>() {});
+            Files.createDirectories(outputDir);
+            return new QueryPlanBaseline(queries, outputDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Compara los planes de una consulta con su baseline; retorna las diferencias (vacío = ok). */
+    public List<String> violations(String query, List<QueryPlan> plans) {
+        record(query, plans);
+        Expected expected = queries.get(query);
+        if (expected == null) return List.of(query + ": no tiene baseline");
+
+        List<String> violations = new ArrayList<>();
+        if (plans.size() != expected.statements().size()) {
+            violations.add("%s: %d sentencias, baseline %d".formatted(query, plans.size(), expected.statements().size()));
+            return violations;
+        }
+        for (int i = 0; i < plans.size(); i++) {
+            QueryPlan plan = plans.get(i);
+            StatementExpectation statement = expected.statements().get(i);
+            String prefix = "%s[%d]: ".formatted(query, i);
+            plan.seqScans().stream()
+                    .filter(relation -> !statement.seqScans().contains(relation))
+                    .forEach(relation -> violations.add(prefix + "Seq Scan sobre " + relation));
+            if (plan.sorts() > statement.sorts())
+                violations.add(prefix + plan.sorts() + " sorts, baseline " + statement.sorts());
+            if (plan.diskSorts() > 0)
+                violations.add(prefix + "sort en disco");
+            statement.indexes().stream()
+                    .filter(index -> !plan.indexes().contains(index))
+                    .forEach(index -> violations.add(prefix + "no usa " + index + " (usa " + plan.indexes() + ")"));
+        }
+        double millis = plans.stream().mapToDouble(QueryPlan::executionMillis).sum();
+        long buffers = plans.stream().mapToLong(QueryPlan::sharedBuffers).sum();
+        if (millis > expected.budgetMs())
+            violations.add("%s: %.2f ms, presupuesto %.2f ms".formatted(query, millis, expected.budgetMs()));
+        if (buffers > expected.maxBuffers())
+            violations.add("%s: %d buffers, presupuesto %d".formatted(query, buffers, expected.maxBuffers()));
+        return violations;
+    }
+
+    /** Escribe build/query-plans/baseline.json con lo observado (conserva los presupuestos vigentes). */
+    public void writeObserved() {
+        try {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(outputDir.resolve("baseline.json").toFile(), observed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void record(String query, List<QueryPlan> plans) {
+        Expected current = queries.get(query);
+        long buffers = plans.stream().mapToLong(QueryPlan::sharedBuffers).sum();
+        observed.put(query, new Expected(
+                current == null ? Math.ceil(plans.stream().mapToDouble(QueryPlan::executionMillis).sum() * 4) : current.budgetMs(),
+                current == null ? buffers * 4 : current.maxBuffers(),
+                plans.stream()
+                        .map(plan -> new StatementExpectation(List.copyOf(plan.indexes()), plan.sorts(), plan.seqScans()))
+                        .toList()));
+        try {
+            StringBuilder shapes = new StringBuilder();
+            List<Object> json = new ArrayList<>();
+            for (QueryPlan plan : plans) {
+                shapes.append(plan.sql()).append(System.lineSeparator()).append(plan.shape()).append(System.lineSeparator());
+                json.add(plan.root());
+            }
+            Files.writeString(outputDir.resolve(query + ".txt"), shapes);
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(outputDir.resolve(query + ".json").toFile(), json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.devsu.user.support;
+
+import com.devsu.user.support.SqlStatementCounter.Execution;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Planes de ejecución para pruebas: repite una sentencia capturada por SqlStatementCounter con
+ * EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) y resume lo que se vigila (scans secuenciales, sorts,
+ * índices usados, tiempo y buffers).
+ * ANALYZE ejecuta la sentencia: se debe llamar dentro de una transacción que se revierta.
+ */
+public final class QueryPlans {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private QueryPlans() {}
+
+    public record QueryPlan(String sql, JsonNode root) {
+
+        private JsonNode plan() {
+            return root.get("Plan");
+        }
+
+        public double executionMillis() {
+            return root.path("Execution Time").asDouble();
+        }
+
+        // Buffers compartidos del nodo raíz (incluye los de sus hijos): hit + read
+        public long sharedBuffers() {
+            return plan().path("Shared Hit Blocks").asLong() + plan().path("Shared Read Blocks").asLong();
+        }
+
+        public List<String> seqScans() {
+            List<String> relations = new ArrayList<>();
+            visit(plan(), node -> {
+                if (node.path("Node Type").asText().equals("Seq Scan")) relations.add(node.path("Relation Name").asText());
+            });
+            return relations;
+        }
+
+        public int sorts() {
+            int[] sorts = {0};
+            visit(plan(), node -> {
+                if (node.path("Node Type").asText().endsWith("Sort")) sorts[0]++;
+            });
+            return sorts[0];
+        }
+
+        // Sorts que no cupieron en work_mem (external merge)
+        public int diskSorts() {
+            int[] sorts = {0};
+            visit(plan(), node -> {
+                if (node.path("Sort Space Type").asText().equals("Disk")) sorts[0]++;
+            });
+            return sorts[0];
+        }
+
+        public Set<String> indexes() {
+            Set<String> indexes = new TreeSet<>();
+            visit(plan(), node -> {
+                if (node.has("Index Name")) indexes.add(node.get("Index Name").asText());
+            });
+            return indexes;
+        }
+
+        /** Forma del plan sin costos ni tiempos (con las filas reales): un nodo por línea, indentado. */
+        public String shape() {
+            StringBuilder out = new StringBuilder();
+            shape(plan(), 0, out);
+            return out.toString();
+        }
+
+        private static void shape(JsonNode node, int depth, StringBuilder out) {
+            out.append("  ".repeat(depth)).append(node.path("Node Type").asText());
+            if (node.path("Scan Direction").asText().equals("Backward")) out.append(" Backward");
+            if (node.has("Index Name")) out.append(" using ").append(node.get("Index Name").asText());
+            if (node.has("Relation Name")) out.append(" on ").append(node.get("Relation Name").asText());
+            out.append(String.format(" (rows=%d loops=%d)%n",
+                    node.path("Actual Rows").asLong(), node.path("Actual Loops").asLong()));
+            node.path("Plans").forEach(child -> shape(child, depth + 1, out));
+        }
+
+        private static void visit(JsonNode node, Consumer<JsonNode> visitor) {
+            visitor.accept(node);
+            node.path("Plans").forEach(child -> visit(child, visitor));
+        }
+    }
+
+    public static QueryPlan explain(Connection connection, Execution execution) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + execution.sql())) {
+            execution.bind(statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return new QueryPlan(execution.sql(), MAPPER.readTree(rs.getString(1)).get(0));
+            } catch (JsonProcessingException e) {
+                throw new SQLException("Plan JSON inválido", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.devsu.user.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource del contexto con SqlStatementCounter. Se importa desde la prueba
+ * (@Import(SqlStatementCounterConfiguration.class)); sin count() activo el proxy solo delega.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlStatementCounterConfiguration {
+
+    @Bean
+    static BeanPostProcessor sqlStatementCounterPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ds ? SqlStatementCounter.wrap(ds) : bean;
+            }
+        };
+    }
+}